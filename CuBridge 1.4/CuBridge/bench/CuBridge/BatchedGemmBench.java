@@ -0,0 +1,84 @@
+package CuBridge;
+
+/**
+ * BatchedGemmBench: Strided-batched products of {@link CpuGemm}, one batched
+ * call against one call per matrix.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java --add-modules jdk.incubator.vector -Xmx2g -cp out CuBridge.BatchedGemmBench
+ * </pre>
+ *
+ * <p>
+ * Covers {@code [B, n, n] x [B, n, n]} and the broadcast
+ * {@code [B, n, n] x [n, n]}, with many small matrices (16 to 64, the
+ * attention-like case) and a few large ones.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class BatchedGemmBench {
+
+	private static final int[][] CASES = { { 4096, 16 }, { 4096, 32 }, { 1024, 64 }, { 16, 256 }, { 4, 512 } };
+
+	private BatchedGemmBench() {
+	}
+
+	public static void main(String[] args) {
+		System.out.println("SIMD : " + (CpuSimd.ENABLED ? "enabled" : "disabled"));
+		System.out.println("Threads : " + CpuParallel.threads());
+		System.out.printf("%-26s %16s %16s%n", "shape", "per-matrix", "batched");
+
+		java.util.Random r = new java.util.Random(42);
+		for (int[] c : CASES) {
+			int nb = c[0], n = c[1];
+			float[] a = random(r, nb * n * n);
+			float[] b = random(r, nb * n * n);
+			int[] s3 = { nb, n, n }, s2 = { n, n };
+			double flops = 2.0 * nb * n * n * n;
+			int reps = Math.max(3, (int) Math.min(50, 2_000_000_000L / (long) flops));
+
+			for (boolean shared : new boolean[] { false, true }) {
+				int[] sb = shared ? s2 : s3;
+				int[] out = CpuGemm.matmulShape(s3, sb);
+
+				double each = time(reps, () -> {
+					for (int i = 0; i < nb; i++) {
+						float[] ai = java.util.Arrays.copyOfRange(a, i * n * n, (i + 1) * n * n);
+						float[] bi = shared ? b : java.util.Arrays.copyOfRange(b, i * n * n, (i + 1) * n * n);
+						CpuGemm.matmul(ai, s2, false, bi, s2, false, s2);
+					}
+				});
+				double batched = time(reps, () -> CpuGemm.matmul(a, s3, false, b, sb, false, out));
+
+				System.out.printf("%-26s %10.1f GF/s %10.1f GF/s%n",
+						java.util.Arrays.toString(s3) + " x " + java.util.Arrays.toString(sb), flops / each,
+						flops / batched);
+			}
+		}
+	}
+
+	private static float[] random(java.util.Random r, int n) {
+		float[] x = new float[n];
+		for (int i = 0; i < n; i++)
+			x[i] = r.nextFloat();
+		return x;
+	}
+
+	/**
+	 * Best wall time in nanoseconds of {@code reps} runs after the same number of
+	 * warm-up runs.
+	 */
+	private static double time(int reps, Runnable body) {
+		for (int i = 0; i < reps; i++)
+			body.run();
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < reps; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best;
+	}
+}
@@ -0,0 +1,64 @@
+package CuBridge;
+
+/**
+ * BigTensorBench: Throughput of the chunked {@link BigTensor} kernels against
+ * the same kernels on one {@link Tensor} array.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx4g -Dcubridge.chunk=4194304 -cp out CuBridge.BigTensorBench [rows] [cols]
+ * </pre>
+ *
+ * <p>
+ * The data fits in a Tensor so both paths can run; a small
+ * {@code -Dcubridge.chunk} splits the BigTensor into many chunks, so the cost
+ * of streaming across chunk boundaries shows. Tensor timings call the CPU
+ * kernels directly, without the engine queue.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class BigTensorBench {
+
+	private BigTensorBench() {
+	}
+
+	public static void main(String[] args) {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 19;
+		int cols = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+		Tensor t = Tensor.rand(rows, cols);
+		Tensor w = Tensor.randn(cols, 16);
+		BigTensor b = BigTensor.of(t);
+		float[] x = t.toArray(), wa = w.toArray();
+		int[] s = { rows, cols }, sw = { cols, 16 }, so = { rows, 16 };
+
+		double gb = 4.0 * rows * cols / 1e9;
+		System.out.println("data : " + rows + " x " + cols + ", " + b.getChunkCount() + " chunks");
+		System.out.printf("%-8s %14s %14s%n", "op", "Tensor GB/s", "BigTensor GB/s");
+
+		for (int round = 0; round < 2; round++) {
+			double tu = time(() -> CpuUnary.apply(CpuUnary.Op.EXP, x));
+			double bu = time(() -> b.unary("exp"));
+			double tr = time(() -> CpuAxis.reduce(CpuAxis.Reduce.SUM, x, s, 0));
+			double br = time(() -> b.reduceAll("sum"));
+			double tm = time(() -> CpuGemm.matmul(x, s, false, wa, sw, false, so));
+			double bm = time(() -> b.matmul(w));
+			if (round == 0)
+				continue;
+			System.out.printf("%-8s %14.2f %14.2f%n", "exp", gb / tu, gb / bu);
+			System.out.printf("%-8s %14.2f %14.2f%n", "sum", gb / tr, gb / br);
+			System.out.printf("%-8s %14.2f %14.2f%n", "matmul", gb / tm, gb / bm);
+		}
+	}
+
+	/** Best wall time in seconds over a few runs. */
+	private static double time(Runnable body) {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best / 1e9;
+	}
+}
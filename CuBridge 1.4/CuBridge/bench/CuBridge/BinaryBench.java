@@ -0,0 +1,109 @@
+package CuBridge;
+
+/**
+ * BinaryBench: Broadcast binary ops through the stride plan of
+ * {@link CpuBinary} against per-element index arithmetic.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java --add-modules jdk.incubator.vector -Xmx2g -cp out CuBridge.BinaryBench
+ * java -Dcubridge.simd=false -Xmx2g -cp out CuBridge.BinaryBench
+ * </pre>
+ *
+ * <p>
+ * Covers same-shape, tensor-scalar, row, column and multiple-of-size
+ * ({@code {M, N}} against {@code {1, 2N}}) broadcasts. Run it once with and
+ * once without SIMD to compare the two kernels.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class BinaryBench {
+
+	private static final int[][][] CASES = {
+			{ { 4096, 1024 }, { 4096, 1024 } },
+			{ { 4096, 1024 }, { 1 } },
+			{ { 4096, 1024 }, { 1024 } },
+			{ { 4096, 1024 }, { 4096, 1 } },
+			{ { 4096, 1024 }, { 1, 2048 } },
+			{ { 64, 64, 1024 }, { 64, 1, 1024 } } };
+
+	private static final CpuBinary.Op[] OPS = { CpuBinary.Op.ADD, CpuBinary.Op.MUL, CpuBinary.Op.GT, CpuBinary.Op.POW };
+
+	private BinaryBench() {
+	}
+
+	public static void main(String[] args) {
+		System.out.println("SIMD : " + (CpuSimd.ENABLED ? "enabled" : "disabled"));
+		System.out.println("Threads : " + CpuParallel.threads());
+		System.out.printf("%-5s %-28s %10s %22s %22s%n", "op", "shapes", "n", "index arithmetic", "stride plan");
+
+		java.util.Random r = new java.util.Random(42);
+		for (int[][] c : CASES) {
+			int[] out = CpuBinary.broadcastShape(c[0], c[1], true, true);
+			float[] a = random(r, CpuBinary.len(c[0]));
+			float[] b = random(r, CpuBinary.len(c[1]));
+			int n = CpuBinary.len(out);
+			String shapes = java.util.Arrays.toString(c[0]) + " " + java.util.Arrays.toString(c[1]);
+
+			for (CpuBinary.Op op : OPS) {
+				double base = time(5, () -> indexed(op, a, c[0], b, c[1], out));
+				double plan = time(5, () -> CpuBinary.apply(op, a, c[0], b, c[1], out));
+				System.out.printf("%-5s %-28s %10d %22s %22s%n", op, shapes, n, cell(base, n), cell(plan, n));
+			}
+		}
+	}
+
+	/**
+	 * The pre-plan kernel: decomposes every output index into coordinates.
+	 */
+	private static float[] indexed(CpuBinary.Op op, float[] a, int[] sa, float[] b, int[] sb, int[] outShape) {
+		int n = CpuBinary.len(outShape);
+		int rank = outShape.length;
+		int[] stA = CpuBinary.tileStrides(sa, rank), stB = CpuBinary.tileStrides(sb, rank);
+		int[] dimA = CpuBinary.alignedDims(sa, rank), dimB = CpuBinary.alignedDims(sb, rank);
+		float[] o = new float[n];
+
+		CpuParallel.forRange(n, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				int rem = i, ia = 0, ib = 0;
+				for (int d = rank - 1; d >= 0; d--) {
+					int c = rem % outShape[d];
+					rem /= outShape[d];
+					ia += (c % dimA[d]) * stA[d];
+					ib += (c % dimB[d]) * stB[d];
+				}
+				CpuBinary.run(op, a, ia, true, b, ib, true, o, i, 0, 1);
+			}
+		});
+		return o;
+	}
+
+	private static float[] random(java.util.Random r, int n) {
+		float[] x = new float[n];
+		for (int i = 0; i < n; i++)
+			x[i] = r.nextFloat() * 4.0f;
+		return x;
+	}
+
+	/**
+	 * Best wall time in nanoseconds of {@code reps} runs after the same number of
+	 * warm-up runs.
+	 */
+	private static double time(int reps, Runnable body) {
+		for (int i = 0; i < reps; i++)
+			body.run();
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < reps; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best;
+	}
+
+	private static String cell(double ns, int n) {
+		return String.format("%.3fns/elem", ns / n);
+	}
+}
@@ -0,0 +1,122 @@
+package CuBridge;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.Scanner;
+
+/**
+ * CsvBench: Loading a numeric CSV with {@link Tensor#readCSV(String)} against
+ * the v1.4 {@code Scanner}/{@code String.split}/{@code ArrayList<Float>} loader.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx4g -cp out CuBridge.CsvBench [rows] [columns]
+ * </pre>
+ *
+ * <p>
+ * Writes a temporary file of {@code rows} x {@code columns} random values
+ * (plus a header), loads it a few times with each loader and reports the best
+ * time, the throughput in MB/s and the heap in use right after loading, which
+ * for the old loader includes the boxed list it built.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class CsvBench {
+
+	private CsvBench() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int cols = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+
+		Path file = Files.createTempFile("csvbench", ".csv");
+		try {
+			Random r = new Random(1);
+			try (Writer w = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+				for (int c = 0; c < cols; c++)
+					w.write((c == 0 ? "c" : ",c") + c);
+				w.write('\n');
+				for (int i = 0; i < rows; i++) {
+					for (int c = 0; c < cols; c++) {
+						if (c > 0)
+							w.write(',');
+						w.write(Float.toString((float) r.nextGaussian()));
+					}
+					w.write('\n');
+				}
+			}
+			double mb = Files.size(file) / 1e6;
+			System.out.printf("file : %d x %d, %.1f MB, %d threads%n", rows, cols, mb, CpuParallel.threads());
+			System.out.printf("%-10s %10s %10s %12s%n", "loader", "ms", "MB/s", "heap MB");
+
+			for (int round = 0; round < 2; round++) {
+				double[] old = time(() -> legacy(file.toString()));
+				double[] now = time(() -> {
+					try {
+						return Tensor.readCSV(file.toString()).getSize();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				if (round == 0)
+					continue;
+				System.out.printf("%-10s %10.1f %10.1f %12.1f%n", "Scanner", old[0] * 1e3, mb / old[0], old[1]);
+				System.out.printf("%-10s %10.1f %10.1f %12.1f%n", "readCSV", now[0] * 1e3, mb / now[0], now[1]);
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/** The v1.4 {@code Tensor(String)} loop, returning the number of values. */
+	private static int legacy(String path) {
+		ArrayList<Float> list = new ArrayList<>();
+		try (Scanner sc = new Scanner(new BufferedInputStream(new FileInputStream(path)))) {
+			int row = sc.nextLine().split(",", -1).length;
+			while (sc.hasNextLine()) {
+				String[] tmp = sc.nextLine().split(",", -1);
+				for (int c = 0; c < row; c++)
+					list.add(tmp[c].isEmpty() ? 0.0f : Float.parseFloat(tmp[c]));
+			}
+		} catch (FileNotFoundException e) {
+			throw new UncheckedIOException(e);
+		}
+		heap = used();
+		float[] data = new float[list.size()];
+		for (int i = 0; i < data.length; i++)
+			data[i] = list.get(i);
+		return data.length;
+	}
+
+	private static double heap;
+
+	private static double used() {
+		Runtime rt = Runtime.getRuntime();
+		return (rt.totalMemory() - rt.freeMemory()) / 1e6;
+	}
+
+	interface Load {
+		int run();
+	}
+
+	/** Best wall time in seconds over a few runs, and the heap in use at the end of the last one. */
+	private static double[] time(Load body) {
+		long best = Long.MAX_VALUE;
+		double mem = 0;
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			heap = -1;
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+			mem = heap >= 0 ? heap : used();
+		}
+		return new double[] { best / 1e9, mem };
+	}
+}
@@ -0,0 +1,106 @@
+package CuBridge;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * DatasetBench: Shuffled mini-batches from an on-disk {@link Dataset} through a
+ * {@link Dataset.Sampler}, against building a new {@link Tensor} per batch from
+ * per-row copies.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx1g -cp out CuBridge.DatasetBench [GB] [batch]
+ * </pre>
+ *
+ * <p>
+ * Writes a dataset of {@code GB} gigabytes (default 2) of 784-float rows with
+ * a label dataset beside it, then draws batches of {@code batch} rows (default
+ * 256) for a few seconds with each method, putting every batch into the
+ * engine. It reports batches per second, the read throughput and the heap
+ * allocated per batch (the engine's own copy of each batch included). A
+ * dataset that fits in the page cache measures gathering; a larger one
+ * measures the disk.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class DatasetBench {
+
+	private DatasetBench() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		double gb = args.length > 0 ? Double.parseDouble(args[0]) : 2;
+		int batch = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+		int cols = 784, block = 16384;
+		long rows = (long) (gb * 1e9 / 4 / cols);
+		CuBridge cb = CuBridge.getInstance();
+
+		Path root = Files.createTempDirectory("datasetbench");
+		try {
+			long t0 = System.nanoTime();
+			try (Dataset.Writer x = Dataset.create(root.resolve("x").toString(), 1 << 16, cols);
+					Dataset.Writer y = Dataset.create(root.resolve("y").toString(), 1 << 16)) {
+				for (long r = 0; r < rows; r += block) {
+					int k = (int) Math.min(block, rows - r);
+					x.append(Tensor.rand(k, cols));
+					y.append(Tensor.arange(r, r + k, 1));
+				}
+			}
+			Dataset x = Dataset.open(root.resolve("x").toString());
+			Dataset y = Dataset.open(root.resolve("y").toString());
+			System.out.printf("dataset : %s, written in %.1f s, batch %d, %d threads%n", x,
+					(System.nanoTime() - t0) / 1e9, batch, CpuParallel.threads());
+			System.out.printf("%-10s %12s %10s %16s%n", "method", "batches/s", "MB/s", "alloc B/batch");
+
+			Dataset.Sampler s = new Dataset.Sampler(batch, 1, x, y);
+			double[] sampled = run(() -> {
+				s.next();
+				cb.put(s.batch(0), "x").put(s.batch(1), "y").clear();
+			});
+
+			// 행마다 Tensor 를 만들어 새 배치 배열에 복사하는 방식
+			Random r = new Random(1);
+			double[] naive = run(() -> {
+				float[] bx = new float[batch * cols], by = new float[batch];
+				for (int i = 0; i < batch; i++) {
+					long row = (long) (r.nextDouble() * rows);
+					System.arraycopy(x.rows(row, 1).toArray(), 0, bx, i * cols, cols);
+					by[i] = y.rows(row, 1).toArray()[0];
+				}
+				cb.put(new Tensor(bx, batch, cols), "x").put(new Tensor(by, batch), "y").clear();
+			});
+			print("sampler", sampled, batch, cols);
+			print("per-row", naive, batch, cols);
+			System.out.println("sampler gather only: " + s);
+		} finally {
+			try (Stream<Path> files = Files.walk(root)) {
+				files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+			}
+		}
+	}
+
+	private static void print(String name, double[] r, int batch, int cols) {
+		System.out.printf("%-10s %12.0f %10.1f %16.0f%n", name, r[0], r[0] * batch * (cols + 1) * 4 / 1e6, r[1]);
+	}
+
+	/** Batches per second over about three seconds, and heap bytes allocated per batch. */
+	private static double[] run(Runnable step) {
+		com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long id = Thread.currentThread().getId();
+		long a0 = mx.getThreadAllocatedBytes(id);
+		long t0 = System.nanoTime(), n = 0;
+		while (System.nanoTime() - t0 < 3_000_000_000L) {
+			step.run();
+			n++;
+		}
+		double s = (System.nanoTime() - t0) / 1e9;
+		return new double[] { n / s, (double) (mx.getThreadAllocatedBytes(id) - a0) / n };
+	}
+}
@@ -0,0 +1,118 @@
+package CuBridge;
+
+import java.math.BigDecimal;
+
+/**
+ * DoubleBench: Accuracy and throughput of FLOAT64 reductions, element-wise
+ * kernels and GEMM against float32.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx4g --add-modules jdk.incubator.vector -cp out CuBridge.DoubleBench [n] [gemm size]
+ * </pre>
+ *
+ * <p>
+ * The accuracy part sums, takes the variance of, and accumulates {@code n}
+ * values {@code 1e6 + u} ({@code u} uniform in [0, 1)), generated in double
+ * and stored once in each type, and reports the relative error against an
+ * exact reference. For float32 most of the error of sum and accumulate is
+ * already in the rounding of the stored values, which is the point: the
+ * data cannot even be held in float32.
+ * </p>
+ * <p>
+ * Timings call the CPU kernels directly, without the engine queue. Element-wise
+ * kernels are in elements per nanosecond, the GEMM in GFLOP/s; double moves
+ * twice the bytes and fits half the lanes per vector.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class DoubleBench {
+
+	private DoubleBench() {
+	}
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 24;
+		int g = args.length > 1 ? Integer.parseInt(args[1]) : 512;
+
+		java.util.Random r = new java.util.Random(42);
+		double[] xd = new double[n];
+		for (int i = 0; i < n; i++)
+			xd[i] = 1e6 + r.nextDouble();
+		float[] xf = CpuDouble.narrow(xd);
+		int[] s1 = { n };
+
+		// 정확한 기준값: 합은 BigDecimal, 분산은 정확한 평균에 대한 편차 제곱합
+		BigDecimal exact = BigDecimal.ZERO;
+		for (double v : xd)
+			exact = exact.add(new BigDecimal(v));
+		double sum = exact.doubleValue(), mean = exact.divide(BigDecimal.valueOf(n), java.math.MathContext.DECIMAL128)
+				.doubleValue();
+		double m2 = 0.0;
+		for (double v : xd)
+			m2 += (v - mean) * (v - mean);
+		double var = m2 / n;
+
+		System.out.println("n : " + n + ", values 1e6 + U[0, 1), gemm : " + g + " x " + g);
+		System.out.printf("%-8s %14s %14s %16s%n", "dtype", "sum rel.err", "var rel.err", "accum last rel.err");
+		double ff = CpuAxis.reduce(CpuAxis.Reduce.SUM, xf, s1, 0)[0];
+		double fv = CpuAxis.reduce(CpuAxis.Reduce.VAR, xf, s1, 0)[0];
+		float[] fa = CpuAxis.scan(xf, s1, 0, false, false);
+		double df = CpuDouble.reduce(CpuAxis.Reduce.SUM, xd, s1, 0)[0];
+		double dv = CpuDouble.reduce(CpuAxis.Reduce.VAR, xd, s1, 0)[0];
+		double[] da = CpuDouble.scan(xd, s1, 0, false, false);
+		System.out.printf("%-8s %14.3e %14.3e %16.3e%n", DType.FLOAT32, rel(ff, sum), rel(fv, var),
+				rel(fa[n - 1], sum));
+		System.out.printf("%-8s %14.3e %14.3e %16.3e%n", DType.FLOAT64, rel(df, sum), rel(dv, var),
+				rel(da[n - 1], sum));
+
+		float[] yf = Tensor.randn(n).toArray();
+		double[] yd = CpuDouble.widen(yf);
+		float[] af = Tensor.randn(g, g).toArray(), bf = Tensor.randn(g, g).toArray();
+		double[] ad = CpuDouble.widen(af), bd = CpuDouble.widen(bf);
+		int[] sg = { g, g };
+		double flops = 2.0 * g * g * g;
+
+		System.out.println();
+		System.out.printf("%-8s %10s %10s %10s %10s %10s %14s%n", "dtype", "add", "exp", "sum", "var", "accum",
+				"matmul GFLOP/s");
+		for (int round = 0; round < 2; round++) {
+			double tAdd = time(() -> CpuBinary.apply(CpuBinary.Op.ADD, xf, s1, yf, s1, s1));
+			double tExp = time(() -> CpuUnary.apply(CpuUnary.Op.EXP, yf));
+			double tSum = time(() -> CpuAxis.reduce(CpuAxis.Reduce.SUM, xf, s1, 0));
+			double tVar = time(() -> CpuAxis.reduce(CpuAxis.Reduce.VAR, xf, s1, 0));
+			double tAcc = time(() -> CpuAxis.scan(xf, s1, 0, false, false));
+			double tMm = time(() -> CpuGemm.matmul(af, sg, false, bf, sg, false, sg));
+			if (round > 0)
+				System.out.printf("%-8s %10.3f %10.3f %10.3f %10.3f %10.3f %14.2f%n", DType.FLOAT32, n / tAdd / 1e9,
+						n / tExp / 1e9, n / tSum / 1e9, n / tVar / 1e9, n / tAcc / 1e9, flops / tMm / 1e9);
+
+			tAdd = time(() -> CpuDouble.binary(CpuBinary.Op.ADD, xd, s1, yd, s1, s1));
+			tExp = time(() -> CpuDouble.unary(CpuUnary.Op.EXP, yd));
+			tSum = time(() -> CpuDouble.reduce(CpuAxis.Reduce.SUM, xd, s1, 0));
+			tVar = time(() -> CpuDouble.reduce(CpuAxis.Reduce.VAR, xd, s1, 0));
+			tAcc = time(() -> CpuDouble.scan(xd, s1, 0, false, false));
+			tMm = time(() -> CpuDoubleGemm.matmul(ad, sg, false, bd, sg, false, sg));
+			if (round > 0)
+				System.out.printf("%-8s %10.3f %10.3f %10.3f %10.3f %10.3f %14.2f%n", DType.FLOAT64, n / tAdd / 1e9,
+						n / tExp / 1e9, n / tSum / 1e9, n / tVar / 1e9, n / tAcc / 1e9, flops / tMm / 1e9);
+		}
+		System.out.println("(element-wise columns in elements/ns)");
+	}
+
+	private static double rel(double got, double want) {
+		return Math.abs(got - want) / Math.abs(want);
+	}
+
+	/** Best wall time in seconds over a few runs. */
+	private static double time(Runnable body) {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best / 1e9;
+	}
+}
@@ -0,0 +1,115 @@
+package CuBridge;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * GemmBench: GFLOPS of {@link CpuGemm} against the FMA peak of this machine.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java --add-modules jdk.incubator.vector -Xmx2g -cp out CuBridge.GemmBench [sizes...]
+ * </pre>
+ *
+ * <p>
+ * The peak is measured, not looked up: every pool thread runs independent
+ * chains of vector FMAs on registers only, which is the ceiling any GEMM on
+ * this JVM can reach. Sizes default to 256, 512 and 1024 (square); each is run
+ * plain and with either operand carrying the transpose flag.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class GemmBench {
+
+	private GemmBench() {
+	}
+
+	public static void main(String[] args) {
+		int[] sizes = { 256, 512, 1024 };
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++)
+				sizes[i] = Integer.parseInt(args[i]);
+		}
+
+		double peak = peak();
+		System.out.println("SIMD : " + (CpuSimd.ENABLED ? "enabled" : "disabled") + ", MR x NR = " + CpuGemm.MR + " x "
+				+ CpuGemm.NR);
+		System.out.println("Threads : " + CpuParallel.threads());
+		System.out.printf("FMA peak : %.1f GFLOPS%n", peak);
+		System.out.printf("%6s %-8s %12s %9s%n", "n", "layout", "GFLOPS", "of peak");
+
+		java.util.Random r = new java.util.Random(42);
+		for (int n : sizes) {
+			float[] a = new float[n * n], b = new float[n * n];
+			for (int i = 0; i < a.length; i++) {
+				a[i] = r.nextFloat();
+				b[i] = r.nextFloat();
+			}
+			int[] s = { n, n };
+			int reps = Math.max(3, (int) Math.min(50, 4_000_000_000L / ((long) n * n * n)));
+
+			for (int t = 0; t < 3; t++) {
+				boolean ta = t == 1, tb = t == 2;
+				double ns = time(reps, () -> CpuGemm.matmul(a, s, ta, b, s, tb, s));
+				double gflops = 2.0 * n * n * n / ns;
+				System.out.printf("%6d %-8s %12.1f %8.0f%%%n", n, ta ? "A^T * B" : tb ? "A * B^T" : "A * B", gflops,
+						100.0 * gflops / peak);
+			}
+		}
+	}
+
+	/**
+	 * Register-only FMA throughput of the pool in GFLOPS.
+	 */
+	private static double peak() {
+		int threads = CpuParallel.threads();
+		int iters = 20_000_000;
+		float[] sink = new float[threads];
+
+		double ns = time(3, () -> CpuParallel.forRange(threads, 1, (from, to) -> {
+			for (int t = from; t < to; t++)
+				sink[t] = fmaChains(iters);
+		}));
+		return 2.0 * 10 * FloatVector.SPECIES_PREFERRED.length() * iters * threads / ns;
+	}
+
+	private static float fmaChains(int iters) {
+		VectorSpecies<Float> sp = FloatVector.SPECIES_PREFERRED;
+		FloatVector x = FloatVector.broadcast(sp, 1.0f), y = FloatVector.broadcast(sp, 0.999999f);
+		FloatVector c0 = x, c1 = x, c2 = x, c3 = x, c4 = x, c5 = x, c6 = x, c7 = x, c8 = x, c9 = x;
+		for (int i = 0; i < iters; i++) {
+			c0 = c0.fma(y, x);
+			c1 = c1.fma(y, x);
+			c2 = c2.fma(y, x);
+			c3 = c3.fma(y, x);
+			c4 = c4.fma(y, x);
+			c5 = c5.fma(y, x);
+			c6 = c6.fma(y, x);
+			c7 = c7.fma(y, x);
+			c8 = c8.fma(y, x);
+			c9 = c9.fma(y, x);
+		}
+		return c0.add(c1).add(c2).add(c3).add(c4).add(c5).add(c6).add(c7).add(c8).add(c9)
+				.reduceLanes(VectorOperators.ADD);
+	}
+
+	/**
+	 * Best wall time in nanoseconds of {@code reps} runs after the same number of
+	 * warm-up runs.
+	 */
+	private static double time(int reps, Runnable body) {
+		for (int i = 0; i < reps; i++)
+			body.run();
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < reps; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best;
+	}
+}
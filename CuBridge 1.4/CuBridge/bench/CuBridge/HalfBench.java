@@ -0,0 +1,73 @@
+package CuBridge;
+
+/**
+ * HalfBench: Throughput of the element-wise and GEMM kernels on float32 against
+ * FP16 and BF16 storage.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx4g -cp out CuBridge.HalfBench [n] [gemm size]
+ * </pre>
+ *
+ * <p>
+ * Timings call the CPU kernels directly, without the engine queue. GB/s counts
+ * the bytes of the stored operands and result, so the half types move half as
+ * much for the same number of values; element-wise kernels over data far larger
+ * than the caches are bandwidth-bound, which is where the half types gain. The
+ * GEMM column is in GFLOP/s: the product is compute-bound, and the half types
+ * only add the cost of widening the operands.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class HalfBench {
+
+	private HalfBench() {
+	}
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 25;
+		int g = args.length > 1 ? Integer.parseInt(args[1]) : 512;
+		float[] x = Tensor.randn(n).toArray(), y = Tensor.randn(n).toArray();
+		float[] a = Tensor.randn(g, g).toArray(), b = Tensor.randn(g, g).toArray();
+		int[] sg = { g, g };
+		double flops = 2.0 * g * g * g;
+
+		System.out.println("n : " + n + ", gemm : " + g + " x " + g);
+		System.out.printf("%-10s %12s %12s %14s%n", "dtype", "relu GB/s", "add GB/s", "matmul GFLOP/s");
+
+		for (int round = 0; round < 2; round++) {
+			double ur = time(() -> CpuUnary.apply(CpuUnary.Op.RELU, x));
+			double ba = time(() -> CpuBinary.apply(CpuBinary.Op.ADD, x, new int[] { n }, y, new int[] { n },
+					new int[] { n }));
+			double mm = time(() -> CpuGemm.matmul(a, sg, false, b, sg, false, sg));
+			if (round > 0)
+				System.out.printf("%-10s %12.2f %12.2f %14.2f%n", DType.FLOAT32, 8.0 * n / ur / 1e9,
+						12.0 * n / ba / 1e9, flops / mm / 1e9);
+
+			for (DType t : new DType[] { DType.FLOAT16, DType.BFLOAT16 }) {
+				short[] hx = CpuHalf.narrow(x, t), hy = CpuHalf.narrow(y, t);
+				short[] ha = CpuHalf.narrow(a, t), hb = CpuHalf.narrow(b, t);
+				double hr = time(() -> CpuHalf.unary(CpuUnary.Op.RELU, hx, t));
+				double hs = time(() -> CpuHalf.binary(CpuBinary.Op.ADD, hx, hy, n, t));
+				// 엔진과 같이 두 피연산자를 한 번 넓힌 뒤 float 로 누적
+				double hm = time(() -> CpuHalf.narrow(
+						CpuGemm.matmul(CpuHalf.widen(ha, t), sg, false, CpuHalf.widen(hb, t), sg, false, sg), t));
+				if (round > 0)
+					System.out.printf("%-10s %12.2f %12.2f %14.2f%n", t, 4.0 * n / hr / 1e9, 6.0 * n / hs / 1e9,
+							flops / hm / 1e9);
+			}
+		}
+	}
+
+	/** Best wall time in seconds over a few runs. */
+	private static double time(Runnable body) {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best / 1e9;
+	}
+}
@@ -0,0 +1,133 @@
+package CuBridge;
+
+/**
+ * Im2colBench: {@link CpuNN#im2col} and {@link CpuNN#col2im} against the
+ * previous per-element bounds-checked kernels.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java --add-modules jdk.incubator.vector -Xmx3g -cp out CuBridge.Im2colBench
+ * </pre>
+ *
+ * <p>
+ * Covers a strided 7x7 stem with padding, padded 3x3 layers, and a 1x1
+ * layer. Bandwidth counts one read and one write of the column matrix.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class Im2colBench {
+
+	// N, C, H, W, FH, FW, pad, stride
+	private static final int[][] CASES = {
+			{ 16, 3, 224, 224, 7, 7, 3, 2 },
+			{ 16, 64, 56, 56, 3, 3, 1, 1 },
+			{ 16, 256, 14, 14, 3, 3, 1, 1 },
+			{ 16, 256, 28, 28, 1, 1, 0, 1 } };
+
+	private Im2colBench() {
+	}
+
+	public static void main(String[] args) {
+		System.out.println("Threads : " + CpuParallel.threads());
+		System.out.printf("%-30s %-7s %16s %16s%n", "input / filter", "op", "previous", "CpuNN");
+
+		java.util.Random r = new java.util.Random(42);
+		for (int[] c : CASES) {
+			int N = c[0], C = c[1], H = c[2], W = c[3], FH = c[4], FW = c[5], pad = c[6], stride = c[7];
+			float[] x = new float[N * C * H * W];
+			for (int i = 0; i < x.length; i++)
+				x[i] = r.nextFloat();
+			float[] col = CpuNN.im2col(x, N, C, H, W, FH, FW, pad, pad, stride, stride);
+			String name = String.format("[%d, %d, %d, %d] %dx%d/%d", N, C, H, W, FH, FW, stride);
+
+			double a0 = time(3, () -> oldIm2col(x, N, C, H, W, FH, FW, pad, pad, stride, stride));
+			double a1 = time(3, () -> CpuNN.im2col(x, N, C, H, W, FH, FW, pad, pad, stride, stride));
+			System.out.printf("%-30s %-7s %11.1f GB/s %11.1f GB/s%n", name, "im2col", 8.0 * col.length / a0,
+					8.0 * col.length / a1);
+
+			double b0 = time(3, () -> oldCol2im(col, N, C, H, W, FH, FW, pad, pad, stride, stride));
+			double b1 = time(3, () -> CpuNN.col2im(col, N, C, H, W, FH, FW, pad, pad, stride, stride));
+			System.out.printf("%-30s %-7s %11.1f GB/s %11.1f GB/s%n", name, "col2im", 8.0 * col.length / b0,
+					8.0 * col.length / b1);
+		}
+	}
+
+	/** The previous im2col: one bounds check per copied element. */
+	private static float[] oldIm2col(float[] x, int N, int C, int H, int W, int FH, int FW, int padH, int padW,
+			int strideH, int strideW) {
+		int OH = CpuNN.outSize(H, FH, padH, strideH);
+		int OW = CpuNN.outSize(W, FW, padW, strideW);
+		int cols = C * FH * FW;
+		float[] o = new float[N * OH * OW * cols];
+
+		CpuParallel.forRange(N * OH * OW, Math.max(1, CpuParallel.GRAIN / Math.max(1, cols)), (from, to) -> {
+			for (int row = from; row < to; row++) {
+				int ow = row % OW;
+				int oh = (row / OW) % OH;
+				int n = row / (OW * OH);
+				int dst = row * cols;
+
+				for (int c = 0; c < C; c++) {
+					int plane = (n * C + c) * H * W;
+					for (int fh = 0; fh < FH; fh++) {
+						int h = oh * strideH + fh - padH;
+						for (int fw = 0; fw < FW; fw++, dst++) {
+							int w = ow * strideW + fw - padW;
+							o[dst] = (h >= 0 && h < H && w >= 0 && w < W) ? x[plane + h * W + w] : 0.0f;
+						}
+					}
+				}
+			}
+		});
+		return o;
+	}
+
+	/** The previous col2im: one task per (n, c) plane, bounds-checked scatter. */
+	private static float[] oldCol2im(float[] col, int N, int C, int H, int W, int FH, int FW, int padH, int padW,
+			int strideH, int strideW) {
+		int OH = CpuNN.outSize(H, FH, padH, strideH);
+		int OW = CpuNN.outSize(W, FW, padW, strideW);
+		int cols = C * FH * FW;
+		float[] o = new float[N * C * H * W];
+
+		CpuParallel.forRange(N * C, Math.max(1, CpuParallel.GRAIN / Math.max(1, OH * OW * FH * FW)), (from, to) -> {
+			for (int p = from; p < to; p++) {
+				int n = p / C;
+				int c = p % C;
+				int plane = p * H * W;
+
+				for (int oh = 0; oh < OH; oh++)
+					for (int ow = 0; ow < OW; ow++) {
+						int src = ((n * OH + oh) * OW + ow) * cols + c * FH * FW;
+						for (int fh = 0; fh < FH; fh++) {
+							int h = oh * strideH + fh - padH;
+							for (int fw = 0; fw < FW; fw++, src++) {
+								int w = ow * strideW + fw - padW;
+								if (h >= 0 && h < H && w >= 0 && w < W)
+									o[plane + h * W + w] += col[src];
+							}
+						}
+					}
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Best wall time in nanoseconds of {@code reps} runs after the same number of
+	 * warm-up runs.
+	 */
+	private static double time(int reps, Runnable body) {
+		for (int i = 0; i < reps; i++)
+			body.run();
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < reps; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best;
+	}
+}
@@ -0,0 +1,104 @@
+package CuBridge;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * LoaderBench: A training loop fed by a {@link DataLoader}, against the same
+ * loop gathering every batch itself with a {@link Dataset.Sampler}.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx1g -cp out CuBridge.LoaderBench [GB] [batch] [workers] [depth]
+ * </pre>
+ *
+ * <p>
+ * Writes a dataset of {@code GB} gigabytes (default 1) of 784-float rows with a
+ * label dataset beside it. Each step takes a batch of {@code batch} rows
+ * (default 256), puts it into the engine and multiplies it by a 784 x 784
+ * weight. The loop runs for a few seconds with each source and reports steps
+ * per second and the share of the time the compute thread spent waiting for
+ * data. With enough cores the loader hides the gathering behind the multiply;
+ * on one core both loops share it and the gain is the copy saved by handing
+ * over a ready buffer.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class LoaderBench {
+
+	private LoaderBench() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		double gb = args.length > 0 ? Double.parseDouble(args[0]) : 1;
+		int batch = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+		int workers = args.length > 2 ? Integer.parseInt(args[2]) : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		int depth = args.length > 3 ? Integer.parseInt(args[3]) : workers + 2;
+		int cols = 784, block = 16384;
+		long rows = (long) (gb * 1e9 / 4 / cols);
+		CuBridge cb = CuBridge.getInstance();
+
+		Path root = Files.createTempDirectory("loaderbench");
+		try {
+			try (Dataset.Writer x = Dataset.create(root.resolve("x").toString(), 1 << 16, cols);
+					Dataset.Writer y = Dataset.create(root.resolve("y").toString(), 1 << 16)) {
+				for (long r = 0; r < rows; r += block) {
+					int k = (int) Math.min(block, rows - r);
+					x.append(Tensor.rand(k, cols));
+					y.append(Tensor.arange(r, r + k, 1));
+				}
+			}
+			Dataset x = Dataset.open(root.resolve("x").toString());
+			Dataset y = Dataset.open(root.resolve("y").toString());
+			Tensor w = Tensor.rand(cols, cols);
+			System.out.printf("dataset : %s, batch %d, %d cores%n", x, batch, Runtime.getRuntime().availableProcessors());
+			System.out.printf("%-22s %10s %10s%n", "source", "steps/s", "waiting");
+
+			// 동기: 배치마다 계산 스레드가 직접 모음
+			Dataset.Sampler s = new Dataset.Sampler(batch, 1, x, y);
+			long[] gather = new long[1];
+			double sync = run(() -> {
+				long t0 = System.nanoTime();
+				s.next();
+				gather[0] += System.nanoTime() - t0;
+				step(cb, s.batch(0), s.batch(1), w);
+			});
+			System.out.printf("%-22s %10.1f %9.1f%%%n", "sampler", sync, 100.0 * gather[0] / 3e9);
+
+			try (DataLoader loader = new DataLoader(batch, 1, workers, depth, x, y)) {
+				double async = run(() -> {
+					loader.next();
+					step(cb, loader.batch(0), loader.batch(1), w);
+				});
+				System.out.printf("%-22s %10.1f %9.1f%%%n", "loader " + workers + "w x " + depth, async,
+						100.0 * loader.getWaitSeconds() / 3);
+				System.out.println("loader: " + loader);
+			}
+		} finally {
+			try (Stream<Path> files = Files.walk(root)) {
+				files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+			}
+		}
+	}
+
+	/** One training step: the batch into the engine, a multiply, the result back. */
+	private static void step(CuBridge cb, Tensor bx, Tensor by, Tensor w) {
+		cb.put(bx, "x").put(by, "y").put(w, "w").matmul("x", "w", "h");
+		cb.get("h");
+		cb.clear();
+	}
+
+	/** Steps per second over about three seconds. */
+	private static double run(Runnable step) {
+		long t0 = System.nanoTime(), n = 0;
+		while (System.nanoTime() - t0 < 3_000_000_000L) {
+			step.run();
+			n++;
+		}
+		return n / ((System.nanoTime() - t0) / 1e9);
+	}
+}
@@ -0,0 +1,84 @@
+package CuBridge;
+
+/**
+ * MaskBench: Bit-packed BOOL masks ({@link CpuMask}) against float32 0/1
+ * masks.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx2g --add-modules jdk.incubator.vector -cp out CuBridge.MaskBench [n]
+ * </pre>
+ *
+ * <p>
+ * For {@code n} elements it times a comparison ({@code a > b}), a chain of
+ * three {@code and}s over masks, a {@code not}, a product with a mask and a
+ * select, each through the float kernels ({@link CpuBinary},
+ * {@link CpuUnary}) and the mask kernels. Times are in milliseconds; the last
+ * line gives the bytes held by one mask of each kind.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class MaskBench {
+
+	private MaskBench() {
+	}
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 24;
+		int[] s = { n };
+
+		float[] a = Tensor.randn(n).toArray(), b = Tensor.randn(n).toArray(), x = Tensor.randn(n).toArray();
+		float[] fa = CpuBinary.apply(CpuBinary.Op.GT, a, s, b, s, s);
+		float[] fb = CpuBinary.apply(CpuBinary.Op.GT, b, s, x, s, s);
+		float[] fc = CpuBinary.apply(CpuBinary.Op.GT, x, s, a, s, s);
+		long[] ma = CpuMask.compare(CpuBinary.Op.GT, a, s, b, s, s);
+		long[] mb = CpuMask.compare(CpuBinary.Op.GT, b, s, x, s, s);
+		long[] mc = CpuMask.compare(CpuBinary.Op.GT, x, s, a, s, s);
+
+		System.out.println("n : " + n + (CpuSimd.ENABLED ? " (SIMD)" : " (scalar)"));
+		System.out.printf("%-8s %9s %9s %9s %9s %9s%n", "mask", "a > b", "and x3", "not", "x * m", "select");
+		for (int round = 0; round < 2; round++) {
+			double fCmp = time(() -> CpuBinary.apply(CpuBinary.Op.GT, a, s, b, s, s));
+			double fAnd = time(() -> {
+				float[] t = CpuBinary.apply(CpuBinary.Op.AND, fa, s, fb, s, s);
+				t = CpuBinary.apply(CpuBinary.Op.AND, t, s, fc, s, s);
+				CpuBinary.apply(CpuBinary.Op.AND, t, s, fa, s, s);
+			});
+			double fNot = time(() -> CpuUnary.apply(CpuUnary.Op.NOT, fa));
+			double fMul = time(() -> CpuBinary.apply(CpuBinary.Op.MUL, x, s, fa, s, s));
+			// float 마스크의 select 는 x * m + y * (1 - m) 과 같은 비용의 두 번 곱과 한 번 더하기
+			double fSel = time(() -> {
+				float[] p = CpuBinary.apply(CpuBinary.Op.MUL, x, s, fa, s, s);
+				float[] q = CpuBinary.apply(CpuBinary.Op.MUL, a, s, CpuUnary.apply(CpuUnary.Op.NOT, fa), s, s);
+				CpuBinary.apply(CpuBinary.Op.ADD, p, s, q, s, s);
+			});
+
+			double bCmp = time(() -> CpuMask.compare(CpuBinary.Op.GT, a, s, b, s, s));
+			double bAnd = time(() -> CpuMask.and(CpuMask.and(CpuMask.and(ma, mb), mc), ma));
+			double bNot = time(() -> CpuMask.not(ma, n));
+			double bMul = time(() -> CpuMask.mul(ma, x, false, n));
+			double bSel = time(() -> CpuMask.select(ma, x, false, a, false, n));
+
+			if (round == 0)
+				continue;
+			System.out.printf("%-8s %9.2f %9.2f %9.2f %9.2f %9.2f%n", "float", fCmp * 1e3, fAnd * 1e3, fNot * 1e3,
+					fMul * 1e3, fSel * 1e3);
+			System.out.printf("%-8s %9.2f %9.2f %9.2f %9.2f %9.2f%n", "bits", bCmp * 1e3, bAnd * 1e3, bNot * 1e3,
+					bMul * 1e3, bSel * 1e3);
+		}
+		System.out.printf("(milliseconds, best of 5; one mask holds %d bytes as float, %d bytes as bits)%n", 4L * n,
+				8L * CpuMask.words(n));
+	}
+
+	/** Best wall time in seconds over a few runs. */
+	private static double time(Runnable body) {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best / 1e9;
+	}
+}
@@ -0,0 +1,121 @@
+package CuBridge;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * NpyBench: Reading a NumPy array with {@link Tensor#readNPY(String)} and
+ * {@link Tensor#readNPZ(String)} against the same values as CSV text.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx4g -cp out CuBridge.NpyBench [rows] [columns]
+ * </pre>
+ *
+ * <p>
+ * Writes a {@code rows} x {@code columns} float32 tensor as CSV, as {@code .npy}
+ * ({@link Tensor#writeNPY}) and as a stored and a deflated {@code .npz}, then
+ * reports the best time and throughput (MB of values per second) of reading
+ * each back.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class NpyBench {
+
+	private NpyBench() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int cols = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+
+		Tensor t = Tensor.randn(rows, cols);
+		Path csv = Files.createTempFile("npybench", ".csv");
+		Path npy = Files.createTempFile("npybench", ".npy");
+		Path stored = Files.createTempFile("npybench", ".npz");
+		Path deflated = Files.createTempFile("npybench", ".npz");
+		try {
+			float[] v = t.toArray();
+			try (Writer w = Files.newBufferedWriter(csv, StandardCharsets.US_ASCII)) {
+				for (int c = 0; c < cols; c++)
+					w.write((c == 0 ? "c" : ",c") + c);
+				w.write('\n');
+				for (int r = 0; r < rows; r++) {
+					for (int c = 0; c < cols; c++) {
+						if (c > 0)
+							w.write(',');
+						w.write(Float.toString(v[r * cols + c]));
+					}
+					w.write('\n');
+				}
+			}
+			Tensor.writeNPY(t, npy.toString());
+			zip(npy, stored, false);
+			zip(npy, deflated, true);
+
+			double mb = 4.0 * rows * cols / 1e6;
+			System.out.printf("tensor : %d x %d, %.1f MB of values%n", rows, cols, mb);
+			System.out.printf("%-14s %10s %10s %10s%n", "format", "file MB", "read ms", "MB/s");
+			for (int round = 0; round < 2; round++) {
+				double c = time(() -> Tensor.readCSV(csv.toString()));
+				double n = time(() -> Tensor.readNPY(npy.toString()));
+				double s = time(() -> Tensor.readNPZ(stored.toString()));
+				double d = time(() -> Tensor.readNPZ(deflated.toString()));
+				if (round == 0)
+					continue;
+				row("csv", csv, c, mb);
+				row(".npy", npy, n, mb);
+				row(".npz stored", stored, s, mb);
+				row(".npz deflated", deflated, d, mb);
+			}
+		} finally {
+			Files.deleteIfExists(csv);
+			Files.deleteIfExists(npy);
+			Files.deleteIfExists(stored);
+			Files.deleteIfExists(deflated);
+		}
+	}
+
+	private static void row(String name, Path file, double seconds, double mb) throws IOException {
+		System.out.printf("%-14s %10.1f %10.1f %10.1f%n", name, Files.size(file) / 1e6, seconds * 1e3, mb / seconds);
+	}
+
+	/** An archive of one entry, {@code x.npy}, as {@code np.savez} or {@code np.savez_compressed} writes it. */
+	private static void zip(Path npy, Path out, boolean deflate) throws IOException {
+		byte[] data = Files.readAllBytes(npy);
+		try (ZipOutputStream z = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(out)))) {
+			ZipEntry e = new ZipEntry("x.npy");
+			if (!deflate) {
+				CRC32 crc = new CRC32();
+				crc.update(data);
+				e.setMethod(ZipEntry.STORED);
+				e.setSize(data.length);
+				e.setCrc(crc.getValue());
+			}
+			z.putNextEntry(e);
+			z.write(data);
+			z.closeEntry();
+		}
+	}
+
+	interface Body {
+		Object run() throws IOException;
+	}
+
+	/** Best wall time in seconds over a few runs. */
+	private static double time(Body body) throws IOException {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 3; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best / 1e9;
+	}
+}
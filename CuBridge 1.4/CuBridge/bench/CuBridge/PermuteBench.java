@@ -0,0 +1,136 @@
+package CuBridge;
+
+/**
+ * PermuteBench: One-pass {@link CpuPermute#permute} against the chain of
+ * two-axis transposes it replaces, each run by the previous row-gather kernel.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java --add-modules jdk.incubator.vector -Xmx2g -cp out CuBridge.PermuteBench
+ * </pre>
+ *
+ * <p>
+ * Covers NCHW to NHWC and back (3 and 64 channels), a full axis reversal, and
+ * the plain and batched 2-D transpose.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class PermuteBench {
+
+	private static final int[][][] CASES = {
+			{ { 32, 3, 224, 224 }, { 0, 2, 3, 1 } },
+			{ { 32, 64, 56, 56 }, { 0, 2, 3, 1 } },
+			{ { 32, 56, 56, 64 }, { 0, 3, 1, 2 } },
+			{ { 16, 32, 64, 48 }, { 3, 2, 1, 0 } },
+			{ { 4096, 4096 }, { 1, 0 } },
+			{ { 64, 512, 512 }, { 0, 2, 1 } } };
+
+	private PermuteBench() {
+	}
+
+	public static void main(String[] args) {
+		System.out.println("Threads : " + CpuParallel.threads());
+		System.out.printf("%-20s %-14s %6s %16s %16s%n", "shape", "order", "swaps", "chained", "permute");
+
+		java.util.Random r = new java.util.Random(42);
+		for (int[][] c : CASES) {
+			int[] shape = c[0], order = c[1];
+			float[] x = new float[CpuAxis.prod(shape, 0, shape.length)];
+			for (int i = 0; i < x.length; i++)
+				x[i] = r.nextFloat();
+
+			int[][] swaps = swaps(order);
+			double chained = time(3, () -> {
+				float[] y = x;
+				int[] s = shape;
+				for (int[] sw : swaps) {
+					y = gather(y, s, sw[0], sw[1]);
+					s = s.clone();
+					int t = s[sw[0]];
+					s[sw[0]] = s[sw[1]];
+					s[sw[1]] = t;
+				}
+			});
+			double once = time(3, () -> CpuPermute.permute(x, shape, order));
+			System.out.printf("%-20s %-14s %6d %11.1f GB/s %11.1f GB/s%n", java.util.Arrays.toString(shape),
+					java.util.Arrays.toString(order), swaps.length, 8.0 * x.length / chained, 8.0 * x.length / once);
+		}
+	}
+
+	/** Two-axis swaps that realise {@code order}, as a caller of transpose would chain them. */
+	private static int[][] swaps(int[] order) {
+		int[] cur = new int[order.length];
+		for (int d = 0; d < cur.length; d++)
+			cur[d] = d;
+		java.util.List<int[]> out = new java.util.ArrayList<>();
+		for (int d = 0; d < order.length; d++) {
+			if (cur[d] == order[d])
+				continue;
+			int e = d + 1;
+			while (cur[e] != order[d])
+				e++;
+			out.add(new int[] { d, e });
+			cur[e] = cur[d];
+			cur[d] = order[d];
+		}
+		return out.toArray(new int[0][]);
+	}
+
+	/**
+	 * The previous transpose kernel: one output row per step, gathering it from
+	 * the input with the source stride.
+	 */
+	private static float[] gather(float[] x, int[] shape, int axis1, int axis2) {
+		int rank = shape.length;
+		int[] outShape = shape.clone();
+		outShape[axis1] = shape[axis2];
+		outShape[axis2] = shape[axis1];
+
+		int[] inStride = new int[rank];
+		for (int d = rank - 1, s = 1; d >= 0; d--) {
+			inStride[d] = s;
+			s *= shape[d];
+		}
+		int[] srcStride = inStride.clone();
+		srcStride[axis1] = inStride[axis2];
+		srcStride[axis2] = inStride[axis1];
+
+		float[] o = new float[x.length];
+		int lastDim = outShape[rank - 1];
+		int rows = x.length / Math.max(1, lastDim);
+
+		CpuParallel.forRange(rows, Math.max(1, CpuParallel.GRAIN / Math.max(1, lastDim)), (from, to) -> {
+			for (int row = from; row < to; row++) {
+				int rem = row;
+				int src = 0;
+				for (int d = rank - 2; d >= 0; d--) {
+					src += (rem % outShape[d]) * srcStride[d];
+					rem /= outShape[d];
+				}
+				int dst = row * lastDim;
+				int st = srcStride[rank - 1];
+				for (int j = 0; j < lastDim; j++)
+					o[dst + j] = x[src + j * st];
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Best wall time in nanoseconds of {@code reps} runs after the same number of
+	 * warm-up runs.
+	 */
+	private static double time(int reps, Runnable body) {
+		for (int i = 0; i < reps; i++)
+			body.run();
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < reps; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best;
+	}
+}
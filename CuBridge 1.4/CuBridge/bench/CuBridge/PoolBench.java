@@ -0,0 +1,77 @@
+package CuBridge;
+
+/**
+ * PoolBench: Bytes allocated per immediate-mode call in a steady loop with
+ * fixed shapes, with and without the {@link TensorPool}.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx3g -cp out CuBridge.PoolBench [n] [iterations]
+ * </pre>
+ *
+ * <p>
+ * Each iteration runs {@code expI(addI(a, b))} on the CPU engine (run it
+ * without the native driver). The plain loop drops its results; the scoped
+ * loop closes a {@link TensorPool.Scope} per iteration; the into loop writes
+ * both results into tensors allocated once. Bytes are reported in multiples
+ * of one operand, per iteration. Without any pooling an iteration allocated 5x
+ * (an engine copy of every operand plus both results); the plain loop still allocates
+ * its two results.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class PoolBench {
+
+	private PoolBench() {
+	}
+
+	// 스코프는 닫히면서 결과를 돌려주는 것이 목적이라 본문에서 쓰지 않음
+	@SuppressWarnings("try")
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 16;
+		int iters = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+		Tensor a = Tensor.rand(n), b = Tensor.rand(n);
+		Tensor sum = Tensor.zeros(n), out = Tensor.zeros(n);
+		CuBridge cb = CuBridge.getInstance();
+
+		double payload = 4.0 * n * iters;
+		System.out.println("n : " + n + ", iterations : " + iters);
+		System.out.printf("%-10s %18s %14s%n", "loop", "bytes / operand", "time / iter");
+
+		for (int round = 0; round < 2; round++) {
+			long[] plain = measure(() -> {
+				for (int i = 0; i < iters; i++)
+					cb.expI(cb.addI(a, b));
+			});
+			long[] scoped = measure(() -> {
+				for (int i = 0; i < iters; i++)
+					try (TensorPool.Scope s = TensorPool.scope()) {
+						cb.expI(cb.addI(a, b));
+					}
+			});
+			long[] into = measure(() -> {
+				for (int i = 0; i < iters; i++)
+					cb.expI(cb.addI(a, b, sum), out);
+			});
+			if (round == 0)
+				continue;
+			System.out.printf("%-10s %17.2fx %11.1f us%n", "plain", plain[0] / payload, plain[1] / 1e3 / iters);
+			System.out.printf("%-10s %17.2fx %11.1f us%n", "scoped", scoped[0] / payload, scoped[1] / 1e3 / iters);
+			System.out.printf("%-10s %17.2fx %11.1f us%n", "into", into[0] / payload, into[1] / 1e3 / iters);
+		}
+	}
+
+	/**
+	 * Bytes allocated by this thread and wall time, in nanoseconds, of one run.
+	 */
+	private static long[] measure(Runnable body) {
+		com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory
+				.getThreadMXBean();
+		long b0 = mx.getCurrentThreadAllocatedBytes();
+		long t0 = System.nanoTime();
+		body.run();
+		long t = System.nanoTime() - t0;
+		return new long[] { mx.getCurrentThreadAllocatedBytes() - b0, t };
+	}
+}
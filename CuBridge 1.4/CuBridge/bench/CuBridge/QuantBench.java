@@ -0,0 +1,81 @@
+package CuBridge;
+
+/**
+ * QuantBench: Accuracy and throughput of the int8 {@link QTensor} affine against
+ * the float affine path.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java --add-modules jdk.incubator.vector -cp out CuBridge.QuantBench [K] [N]
+ * </pre>
+ *
+ * <p>
+ * For batch sizes 1, 16 and 256 it runs {@code relu(x · w + b)} with a
+ * {@code [K, N]} weight: in float32 through the kernels of the CPU engine
+ * ({@link CpuGemm}, {@link CpuNN}), and in int8 with a float result and with an
+ * int8 result. The weight is quantized per column once, as for inference; the
+ * activation is quantized per call and that time is included. The error column
+ * is the RMS error of the int8 result relative to the RMS of the float result.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class QuantBench {
+
+	private QuantBench() {
+	}
+
+	public static void main(String[] args) {
+		int K = args.length > 0 ? Integer.parseInt(args[0]) : 1024;
+		int N = args.length > 1 ? Integer.parseInt(args[1]) : 1024;
+		Tensor w = Tensor.randn(0.0f, 0.05f, K, N), b = Tensor.randn(0.0f, 0.1f, N);
+		float[] wa = w.toArray(), ba = b.toArray();
+		QTensor qw = QTensor.quantize(w, 1);
+
+		System.out.println("weight : " + K + " x " + N + ", float " + (4L * K * N >> 10) + " KB, int8 "
+				+ ((long) K * N >> 10) + " KB");
+		System.out.printf("%-6s %14s %14s %14s %10s%n", "batch", "float GMAC/s", "int8->f GMAC/s", "int8->q GMAC/s",
+				"rel. err");
+
+		for (int round = 0; round < 2; round++)
+			for (int M : new int[] { 1, 16, 256 }) {
+				Tensor x = Tensor.rand(M, K);
+				float[] xa = x.toArray();
+				int[] sx = { M, K }, sw = { K, N }, so = { M, N };
+
+				float[] ref = affine(xa, sx, wa, sw, ba, so);
+				float[] got = QTensor.quantize(x).affine(qw, b, true).toArray();
+				double err = 0.0, norm = 0.0;
+				for (int i = 0; i < ref.length; i++) {
+					err += (got[i] - ref[i]) * (double) (got[i] - ref[i]);
+					norm += ref[i] * (double) ref[i];
+				}
+
+				double tf = time(() -> affine(xa, sx, wa, sw, ba, so));
+				double tq = time(() -> QTensor.quantize(x).affine(qw, b, true));
+				double tqq = time(() -> QTensor.quantize(x).affine(qw, b, true, 0.02f, -128));
+				if (round == 0)
+					continue;
+				double macs = (double) M * K * N / 1e9;
+				System.out.printf("%-6d %14.2f %14.2f %14.2f %10.4f%n", M, macs / tf, macs / tq, macs / tqq,
+						Math.sqrt(err / Math.max(norm, 1e-30)));
+			}
+	}
+
+	private static float[] affine(float[] x, int[] sx, float[] w, int[] sw, float[] b, int[] so) {
+		float[] y = CpuGemm.matmul(x, sx, false, w, sw, false, so);
+		CpuNN.addBias(y, so[1], b);
+		return CpuUnary.apply(CpuUnary.Op.RELU, y);
+	}
+
+	/** Best wall time in seconds over a few runs. */
+	private static double time(Runnable body) {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 20; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best / 1e9;
+	}
+}
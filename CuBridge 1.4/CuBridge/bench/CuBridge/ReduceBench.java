@@ -0,0 +1,164 @@
+package CuBridge;
+
+/**
+ * ReduceBench: Accuracy and throughput of the {@link CpuAxis} reductions on
+ * 10^8 elements.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java --add-modules jdk.incubator.vector -Xmx3g -cp out CuBridge.ReduceBench [n]
+ * </pre>
+ *
+ * <p>
+ * The data is {@code 10000 + N(0, 1)}, which makes a float running sum lose
+ * most of its digits and a one-pass {@code E[x^2] - E[x]^2} variance useless.
+ * The reference is a compensated (Neumaier) double sum with a two-pass
+ * variance. Timings cover a full reduction ({@code axis = 0}) and
+ * {@code sqrt(n)} rows reduced along the last axis, against the previous
+ * row-serial kernel.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class ReduceBench {
+
+	private ReduceBench() {
+	}
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+		float[] x = new float[n];
+		java.util.SplittableRandom r = new java.util.SplittableRandom(42);
+		for (int i = 0; i < n; i++)
+			x[i] = (float) (10000.0 + gaussian(r));
+
+		System.out.println("SIMD : " + (CpuSimd.ENABLED ? "enabled" : "disabled"));
+		System.out.println("Threads : " + CpuParallel.threads());
+		System.out.println("n : " + n);
+
+		double refSum = neumaier(x, 0.0, false);
+		double refMean = refSum / n;
+		double refVar = neumaier(x, refMean, true) / n;
+
+		float naiveSum = 0.0f;
+		float naiveSq = 0.0f;
+		for (float v : x) {
+			naiveSum += v;
+			naiveSq += v * v;
+		}
+		float naiveMean = naiveSum / n;
+		float naiveVar = naiveSq / n - naiveMean * naiveMean;
+
+		int[] flat = { n };
+		float sum = CpuAxis.reduce(CpuAxis.Reduce.SUM, x, flat, 0)[0];
+		float var = CpuAxis.reduce(CpuAxis.Reduce.VAR, x, flat, 0)[0];
+
+		System.out.println();
+		System.out.printf("%-5s %22s %22s %22s%n", "", "reference", "float one-pass", "CpuAxis");
+		System.out.printf("%-5s %22.6f %22.6f %22.6f%n", "sum", refSum, naiveSum, sum);
+		System.out.printf("%-5s %22s %22.3e %22.3e%n", "err", "", rel(naiveSum, refSum), rel(sum, refSum));
+		System.out.printf("%-5s %22.9f %22.9f %22.9f%n", "var", refVar, naiveVar, var);
+		System.out.printf("%-5s %22s %22.3e %22.3e%n", "err", "", rel(naiveVar, refVar), rel(var, refVar));
+
+		int rows = (int) Math.sqrt(n);
+		int[] matrix = { rows, n / rows };
+		System.out.println();
+		System.out.printf("%-5s %-14s %16s %16s%n", "op", "shape", "row-serial", "CpuAxis");
+		for (CpuAxis.Reduce op : CpuAxis.Reduce.values())
+			for (int[] shape : new int[][] { flat, matrix }) {
+				int axis = shape.length - 1;
+				double base = time(3, () -> rowSerial(op, x, shape, axis));
+				double now = time(3, () -> CpuAxis.reduce(op, x, shape, axis));
+				System.out.printf("%-5s %-14s %11.1f GB/s %11.1f GB/s%n", op, java.util.Arrays.toString(shape),
+						4.0 * n / base, 4.0 * n / now);
+			}
+	}
+
+	/**
+	 * The previous kernel: one task per kept row, double accumulation, two
+	 * passes for var/std.
+	 */
+	private static float[] rowSerial(CpuAxis.Reduce op, float[] x, int[] shape, int axis) {
+		int outer = CpuAxis.prod(shape, 0, axis);
+		int inner = CpuAxis.prod(shape, axis, shape.length);
+		float[] o = new float[outer];
+
+		CpuParallel.forRange(outer, Math.max(1, CpuParallel.GRAIN / Math.max(1, inner)), (from, to) -> {
+			for (int row = from; row < to; row++) {
+				int off = row * inner;
+				double s = 0.0;
+				switch (op) {
+				case MAX: {
+					float m = Float.NEGATIVE_INFINITY;
+					for (int i = 0; i < inner; i++)
+						m = Math.max(m, x[off + i]);
+					o[row] = m;
+					continue;
+				}
+				case MIN: {
+					float m = Float.POSITIVE_INFINITY;
+					for (int i = 0; i < inner; i++)
+						m = Math.min(m, x[off + i]);
+					o[row] = m;
+					continue;
+				}
+				default:
+					for (int i = 0; i < inner; i++)
+						s += x[off + i];
+				}
+				if (op == CpuAxis.Reduce.SUM || op == CpuAxis.Reduce.MEAN) {
+					o[row] = (float) (op == CpuAxis.Reduce.SUM ? s : s / inner);
+					continue;
+				}
+				double mean = s / inner, ss = 0.0;
+				for (int i = 0; i < inner; i++) {
+					double d = x[off + i] - mean;
+					ss += d * d;
+				}
+				o[row] = (float) (op == CpuAxis.Reduce.VAR ? ss / inner : Math.sqrt(ss / inner));
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Neumaier-compensated sum of {@code x - shift}, or of its squares.
+	 */
+	private static double neumaier(float[] x, double shift, boolean square) {
+		double s = 0.0, c = 0.0;
+		for (float v : x) {
+			double d = v - shift;
+			double t = square ? d * d : d;
+			double u = s + t;
+			c += Math.abs(s) >= Math.abs(t) ? (s - u) + t : (t - u) + s;
+			s = u;
+		}
+		return s + c + (square ? 0.0 : shift * x.length);
+	}
+
+	private static double gaussian(java.util.SplittableRandom r) {
+		double u = r.nextDouble(), v = r.nextDouble();
+		return Math.sqrt(-2.0 * Math.log(1.0 - u)) * Math.cos(2.0 * Math.PI * v);
+	}
+
+	private static double rel(double v, double ref) {
+		return Math.abs(v - ref) / Math.abs(ref);
+	}
+
+	/**
+	 * Best wall time in nanoseconds of {@code reps} runs after the same number of
+	 * warm-up runs.
+	 */
+	private static double time(int reps, Runnable body) {
+		for (int i = 0; i < reps; i++)
+			body.run();
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < reps; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best;
+	}
+}
@@ -0,0 +1,79 @@
+package CuBridge;
+
+/**
+ * RoundTripBench: Bytes moved by an immediate-mode op, {@code addI(a, b)},
+ * through the current put/get path against the previous cloning path.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx3g -cp out CuBridge.RoundTripBench [n]
+ * </pre>
+ *
+ * <p>
+ * Every copy allocates a fresh array, so the bytes allocated by the calling
+ * thread count the bytes moved, reported in multiples of one operand. The
+ * previous path is replayed on a private CPU engine with the copies the JNI
+ * driver made: {@code toArray()} plus the engine's own copy per operand, then a
+ * copy out of the engine plus the clone in {@code new Tensor(data, shape)}.
+ * The current path is the facade itself, on the CPU engine (run it without the
+ * native driver). Both include the result array the add itself produces, so
+ * the floor is 3x: one transfer per operand in, one result out.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class RoundTripBench {
+
+	private RoundTripBench() {
+	}
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 22;
+		Tensor a = Tensor.rand(n), b = Tensor.rand(n);
+		CuBridge cb = CuBridge.getInstance();
+		CuBridgeCPU engine = new CuBridgeCPU();
+
+		double payload = 4.0 * n;
+		System.out.println("n : " + n + " (" + (long) payload / (1 << 20) + " MB per operand)");
+		System.out.printf("%-10s %18s %14s%n", "path", "bytes / operand", "time");
+
+		for (int round = 0; round < 2; round++) {
+			long[] prev = measure(() -> previous(engine, a, b));
+			long[] now = measure(() -> cb.addI(a, b));
+			if (round == 0)
+				continue;
+			System.out.printf("%-10s %17.1fx %11.2f ms%n", "previous", prev[0] / payload, prev[1] / 1e6);
+			System.out.printf("%-10s %17.1fx %11.2f ms%n", "current", now[0] / payload, now[1] / 1e6);
+		}
+	}
+
+	/** The pre-ownership round trip. */
+	private static Tensor previous(CuBridgeCPU engine, Tensor a, Tensor b) {
+		engine.put(a.toArray(), a.getShape(), a.getSize(), a.getAxis(), 1, "a", false);
+		engine.put(b.toArray(), b.getShape(), b.getSize(), b.getAxis(), 1, "b", false);
+		engine.add("a", "b", "c");
+		engine.pop("c");
+		float[] data = engine.getData("c").clone();
+		int[] shape = engine.getShape("c");
+		engine.bufferClean();
+		return new Tensor(data, shape);
+	}
+
+	/**
+	 * Bytes allocated by this thread and best wall time, in nanoseconds, over a
+	 * few runs.
+	 */
+	private static long[] measure(Runnable body) {
+		com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory
+				.getThreadMXBean();
+		long bytes = Long.MAX_VALUE, best = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			long b0 = mx.getCurrentThreadAllocatedBytes();
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+			bytes = Math.min(bytes, mx.getCurrentThreadAllocatedBytes() - b0);
+		}
+		return new long[] { bytes, best };
+	}
+}
@@ -0,0 +1,91 @@
+package CuBridge;
+
+/**
+ * ScanBench: Prefix sums of {@link CpuAxis#scan} along a 10^7-long axis
+ * against the previous one-line-at-a-time kernel.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java --add-modules jdk.incubator.vector -Xmx3g -cp out CuBridge.ScanBench [n]
+ * </pre>
+ *
+ * <p>
+ * Covers the axis alone, with a few short axes after it (strided lines) and
+ * before it (several contiguous lines), plus the exclusive and reverse
+ * variants of the first case.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class ScanBench {
+
+	private ScanBench() {
+	}
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		int[][] shapes = { { n }, { n, 4 }, { n, 8 }, { 4, n } };
+		int[] axes = { 0, 0, 0, 1 };
+
+		System.out.println("SIMD : " + (CpuSimd.ENABLED ? "enabled" : "disabled"));
+		System.out.println("Threads : " + CpuParallel.threads());
+		System.out.printf("%-14s %-5s %-20s %16s %16s%n", "shape", "axis", "variant", "line-serial", "CpuAxis");
+
+		java.util.Random r = new java.util.Random(42);
+		for (int c = 0; c < shapes.length; c++) {
+			int[] shape = shapes[c];
+			int axis = axes[c];
+			float[] x = new float[CpuAxis.prod(shape, 0, shape.length)];
+			for (int i = 0; i < x.length; i++)
+				x[i] = r.nextFloat();
+
+			for (int v = 0; v < (c == 0 ? 4 : 1); v++) {
+				boolean exclusive = (v & 1) != 0, reverse = (v & 2) != 0;
+				double base = time(3, () -> lineSerial(x, shape, axis));
+				double now = time(3, () -> CpuAxis.scan(x, shape, axis, exclusive, reverse));
+				System.out.printf("%-14s %-5d %-20s %11.1f GB/s %11.1f GB/s%n", java.util.Arrays.toString(shape), axis,
+						(exclusive ? "exclusive" : "inclusive") + (reverse ? ", reverse" : ""), 8.0 * x.length / base,
+						8.0 * x.length / now);
+			}
+		}
+	}
+
+	/**
+	 * The previous kernel: one task per line, a serial float running sum.
+	 */
+	private static float[] lineSerial(float[] x, int[] shape, int axis) {
+		int outer = CpuAxis.prod(shape, 0, axis);
+		int n = shape[axis];
+		int inner = CpuAxis.prod(shape, axis + 1, shape.length);
+		float[] o = new float[x.length];
+
+		CpuParallel.forRange(outer * inner, Math.max(1, CpuParallel.GRAIN / Math.max(1, n)), (from, to) -> {
+			for (int line = from; line < to; line++) {
+				int base = (line / inner) * n * inner + line % inner;
+				float s = 0.0f;
+				for (int k = 0; k < n; k++) {
+					s += x[base + k * inner];
+					o[base + k * inner] = s;
+				}
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Best wall time in nanoseconds of {@code reps} runs after the same number of
+	 * warm-up runs.
+	 */
+	private static double time(int reps, Runnable body) {
+		for (int i = 0; i < reps; i++)
+			body.run();
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < reps; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best;
+	}
+}
@@ -0,0 +1,82 @@
+package CuBridge;
+
+import java.util.Random;
+
+/**
+ * SparseBench: Sparse-dense products and sparsity-keeping element-wise
+ * operations of {@link CpuSparse} against the dense kernels.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx2g --add-modules jdk.incubator.vector -cp out CuBridge.SparseBench [M] [K] [N]
+ * </pre>
+ *
+ * <p>
+ * For densities 10%, 1% and 0.1% of an {@code [M, K]} feature matrix it times
+ * {@code X · W} ({@code W [K, N]}), {@code X · v}, {@code A · X}
+ * ({@code A [N, M]}), {@code relu(X)} and {@code X * row} with the dense
+ * kernels of the CPU engine ({@link CpuGemm}, {@link CpuUnary},
+ * {@link CpuBinary}) and with the sparse ones. Times are in milliseconds; the
+ * last column is the dense-to-sparse speedup of {@code X · W}.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class SparseBench {
+
+	private SparseBench() {
+	}
+
+	public static void main(String[] args) {
+		int M = args.length > 0 ? Integer.parseInt(args[0]) : 4096;
+		int K = args.length > 1 ? Integer.parseInt(args[1]) : 8192;
+		int N = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+
+		float[] w = Tensor.randn(K, N).toArray(), v = Tensor.randn(K).toArray(), a = Tensor.randn(N, M).toArray();
+		float[] row = Tensor.randn(K).toArray();
+		int[] sx = { M, K }, sw = { K, N }, sv = { K, 1 }, sa = { N, M }, sr = { K };
+
+		System.out.println("X : " + M + " x " + K + ", W : " + K + " x " + N + ", A : " + N + " x " + M);
+		System.out.printf("%-8s %-7s %9s %9s %9s %9s %9s %9s%n", "density", "kernel", "X.W", "X.v", "A.X", "relu",
+				"X*row", "X.W gain");
+
+		for (double density : new double[] { 0.1, 0.01, 0.001 }) {
+			Random r = new Random(7);
+			float[] x = new float[M * K];
+			for (int i = 0; i < x.length; i++)
+				if (r.nextDouble() < density)
+					x[i] = (float) r.nextGaussian();
+			SparseTensor s = CpuSparse.fromDense(x, M, K);
+
+			double dW = time(() -> CpuGemm.matmul(x, sx, false, w, sw, false, new int[] { M, N }));
+			double dV = time(() -> CpuGemm.matmul(x, sx, false, v, sv, false, new int[] { M, 1 }));
+			double dA = time(() -> CpuGemm.matmul(a, sa, false, x, sx, false, new int[] { N, K }));
+			double dR = time(() -> CpuUnary.apply(CpuUnary.Op.RELU, x));
+			double dM = time(() -> CpuBinary.apply(CpuBinary.Op.MUL, x, sx, row, sr, sx));
+
+			double pW = time(() -> CpuSparse.spmm(s, w, N));
+			double pV = time(() -> CpuSparse.spmm(s, v, 1));
+			double pA = time(() -> CpuSparse.dsmm(a, N, s));
+			double pR = time(() -> CpuSparse.unary(CpuUnary.Op.RELU, s));
+			double pM = time(() -> CpuSparse.mul(s, row, sr));
+
+			String d = String.format("%.1f%%", density * 100);
+			System.out.printf("%-8s %-7s %9.2f %9.2f %9.2f %9.2f %9.2f%n", d, "dense", dW * 1e3, dV * 1e3, dA * 1e3,
+					dR * 1e3, dM * 1e3);
+			System.out.printf("%-8s %-7s %9.2f %9.2f %9.2f %9.2f %9.2f %8.1fx%n", d, "sparse", pW * 1e3, pV * 1e3,
+					pA * 1e3, pR * 1e3, pM * 1e3, dW / pW);
+		}
+		System.out.println("(milliseconds, best of 5)");
+	}
+
+	/** Best wall time in seconds over a few runs. */
+	private static double time(Runnable body) {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best / 1e9;
+	}
+}
@@ -0,0 +1,140 @@
+package CuBridge;
+
+import java.io.*;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * TensorFileBench: Saving and loading tensors in the {@link TensorFile} binary
+ * format against CSV text.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx4g -cp out CuBridge.TensorFileBench [rows] [columns] [big GB]
+ * </pre>
+ *
+ * <p>
+ * For a {@code rows} x {@code columns} float32 tensor it times writing and
+ * reading it as CSV ({@link Tensor#readCSV(String)}) and as a tensor file
+ * ({@link Tensor#save}, {@link Tensor#load}), then handing the loaded tensor to
+ * {@link CuBridge#put(Tensor)}. It then writes a file of {@code big GB} (default
+ * 10, 0 to skip) and times {@link TensorFile#open(String)} and putting random
+ * blocks of rows read from the cold mapping.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class TensorFileBench {
+
+	private TensorFileBench() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int cols = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+		double gb = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+		CuBridge cb = CuBridge.getInstance();
+
+		Tensor t = Tensor.randn(rows, cols);
+		Path csv = Files.createTempFile("filebench", ".csv");
+		Path bin = Files.createTempFile("filebench", ".cbt");
+		try {
+			float[] v = t.toArray();
+			long t0 = System.nanoTime();
+			try (Writer w = Files.newBufferedWriter(csv, StandardCharsets.US_ASCII)) {
+				for (int c = 0; c < cols; c++)
+					w.write((c == 0 ? "c" : ",c") + c);
+				w.write('\n');
+				for (int r = 0; r < rows; r++) {
+					for (int c = 0; c < cols; c++) {
+						if (c > 0)
+							w.write(',');
+						w.write(Float.toString(v[r * cols + c]));
+					}
+					w.write('\n');
+				}
+			}
+			double csvSave = (System.nanoTime() - t0) / 1e9;
+
+			System.out.printf("tensor : %d x %d, csv %.1f MB, binary %.1f MB%n", rows, cols, Files.size(csv) / 1e6,
+					4.0 * rows * cols / 1e6);
+			System.out.printf("%-8s %10s %10s %10s%n", "format", "save ms", "load ms", "put ms");
+			for (int round = 0; round < 2; round++) {
+				double csvLoad = time(() -> Tensor.readCSV(csv.toString()));
+				double save = time(() -> {
+					Tensor.save(t, bin.toString());
+					return t;
+				});
+				double load = time(() -> Tensor.load(bin.toString()));
+				Tensor mapped = Tensor.load(bin.toString());
+				double put = time(() -> {
+					cb.put(mapped, "m");
+					return cb.get("m");
+				});
+				if (round == 0)
+					continue;
+				System.out.printf("%-8s %10.1f %10.1f %10s%n", "csv", csvSave * 1e3, csvLoad * 1e3, "-");
+				System.out.printf("%-8s %10.1f %10.3f %10.1f%n", "binary", save * 1e3, load * 1e3, put * 1e3);
+			}
+		} finally {
+			Files.deleteIfExists(csv);
+			Files.deleteIfExists(bin);
+		}
+
+		if (gb > 0)
+			big(cb, gb);
+	}
+
+	/** Opens a file of {@code gb} GB and puts random blocks of rows from it. */
+	private static void big(CuBridge cb, double gb) throws IOException {
+		int cols = 64, block = 4096;
+		long rows = (long) (gb * 1e9 / 4 / cols);
+		Path bin = Files.createTempFile("filebench", ".cbt");
+		try {
+			long t0 = System.nanoTime();
+			TensorFile.write(bin.toString(), DType.FLOAT32, new long[] { rows, cols }, (first, dst, at, n) -> {
+				FloatBuffer f = (FloatBuffer) dst;
+				for (int i = 0; i < n; i++)
+					f.put(at + i, (float) ((first + i) % 1000));
+			});
+			double write = (System.nanoTime() - t0) / 1e9;
+
+			t0 = System.nanoTime();
+			TensorFile f = TensorFile.open(bin.toString());
+			double open = (System.nanoTime() - t0) / 1e9;
+
+			Random r = new Random(1);
+			int puts = 64;
+			t0 = System.nanoTime();
+			for (int i = 0; i < puts; i++) {
+				cb.put(f.rows((long) (r.nextDouble() * (rows - block)), block), "b");
+				cb.get("b");
+			}
+			double put = (System.nanoTime() - t0) / 1e9 / puts;
+
+			System.out.printf("big    : %s, %.1f GB%n", f, Files.size(bin) / 1e9);
+			System.out.printf("write %.1f s, open %.3f ms, put of %d random rows %.2f ms%n", write, open * 1e3, block,
+					put * 1e3);
+		} finally {
+			Files.deleteIfExists(bin);
+		}
+	}
+
+	interface Body {
+		Object run() throws IOException;
+	}
+
+	/** Best wall time in seconds over a few runs. */
+	private static double time(Body body) throws IOException {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 3; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best / 1e9;
+	}
+}
@@ -0,0 +1,88 @@
+package CuBridge;
+
+/**
+ * UnaryBench: Throughput of the CPU unary kernels, scalar versus SIMD, on one
+ * thread and on the whole pool.
+ *
+ * <p>
+ * Compile against {@code src} and run with the Vector API module resolved:
+ * </p>
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java --add-modules jdk.incubator.vector -Xmx4g -cp out CuBridge.UnaryBench [sizes...]
+ * </pre>
+ *
+ * <p>
+ * Sizes default to 1K, 1M and 100M elements. Each line reports the best of
+ * several timed runs in ns/element and GB/s (one read and one write per element).
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class UnaryBench {
+
+	private static final CpuUnary.Op[] OPS = { CpuUnary.Op.ABS, CpuUnary.Op.RELU, CpuUnary.Op.SQUARE,
+			CpuUnary.Op.SQRT, CpuUnary.Op.EXP, CpuUnary.Op.SIGMOID, CpuUnary.Op.TANH, CpuUnary.Op.ROUND };
+
+	private UnaryBench() {
+	}
+
+	public static void main(String[] args) {
+		int[] sizes = { 1_000, 1_000_000, 100_000_000 };
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++)
+				sizes[i] = Integer.parseInt(args[i]);
+		}
+
+		System.out.println("SIMD : " + (CpuSimd.ENABLED ? "enabled" : "disabled (--add-modules jdk.incubator.vector)"));
+		System.out.println("Threads : " + CpuParallel.threads());
+		System.out.printf("%-8s %11s %18s %18s %18s %18s%n", "op", "n", "scalar x1", "scalar xN", "simd x1", "simd xN");
+
+		for (int n : sizes) {
+			float[] x = new float[n];
+			float[] o = new float[n];
+			java.util.Random r = new java.util.Random(42);
+			for (int i = 0; i < n; i++)
+				x[i] = r.nextFloat() * 8.0f - 4.0f;
+
+			int reps = (int) Math.max(3, Math.min(2_000, 50_000_000L / n));
+
+			for (CpuUnary.Op op : OPS) {
+				double s1 = time(reps, () -> CpuUnary.run(op, x, o, 0, n));
+				double sN = time(reps, () -> CpuParallel.forRange(n, (from, to) -> CpuUnary.run(op, x, o, from, to)));
+				double v1 = Double.NaN, vN = Double.NaN;
+				if (CpuSimd.ENABLED) {
+					v1 = time(reps, () -> CpuUnarySimd.run(op, x, o, 0, n));
+					vN = time(reps, () -> CpuParallel.forRange(n, (from, to) -> CpuUnarySimd.run(op, x, o, from, to)));
+				}
+				System.out.printf("%-8s %11d %18s %18s %18s %18s%n", op, n, cell(s1, n), cell(sN, n), cell(v1, n),
+						cell(vN, n));
+			}
+		}
+	}
+
+	/**
+	 * Best wall time in nanoseconds of {@code reps} runs after the same number of
+	 * warm-up runs.
+	 */
+	private static double time(int reps, Runnable body) {
+		for (int i = 0; i < reps; i++)
+			body.run();
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < reps; i++) {
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+		}
+		return best;
+	}
+
+	private static String cell(double ns, int n) {
+		if (Double.isNaN(ns))
+			return "-";
+		return String.format("%.3fns %5.1fGB/s", ns / n, 8.0 * n / ns);
+	}
+}
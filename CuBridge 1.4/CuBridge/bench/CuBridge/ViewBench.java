@@ -0,0 +1,79 @@
+package CuBridge;
+
+/**
+ * ViewBench: Bytes moved to put one mini-batch of a larger tensor, through a
+ * {@link Tensor#narrow} view against copying the batch out first.
+ *
+ * <pre>
+ * javac --add-modules jdk.incubator.vector -d out src/CuBridge/*.java bench/CuBridge/*.java
+ * java -Xmx3g -cp out CuBridge.ViewBench [rows] [cols] [batch]
+ * </pre>
+ *
+ * <p>
+ * The copy path is what a caller had to do before views existed: slice the
+ * batch out of {@code toArray()} into a new tensor and put that. The view path
+ * puts the narrowed view, and a channel path puts a stepped slice (every other
+ * column), which the engine gathers. Bytes are reported in multiples of one
+ * batch; the floor is 1x, the engine's own copy.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class ViewBench {
+
+	private ViewBench() {
+	}
+
+	public static void main(String[] args) {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 16;
+		int cols = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+		int batch = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+		Tensor data = Tensor.rand(rows, cols);
+		CuBridge cb = CuBridge.getInstance();
+
+		double payload = 4.0 * batch * cols;
+		System.out.println("data : " + rows + " x " + cols + ", batch : " + batch + " rows");
+		System.out.printf("%-10s %16s %14s%n", "path", "bytes / batch", "time");
+
+		for (int round = 0; round < 2; round++) {
+			long[] copy = measure(() -> {
+				float[] all = data.toArray();
+				float[] part = new float[batch * cols];
+				System.arraycopy(all, 7 * cols, part, 0, part.length);
+				cb.put(Tensor.wrap(part, batch, cols), "b");
+				cb.clear();
+			});
+			long[] view = measure(() -> {
+				cb.put(Tensor.narrow(data, 0, 7, batch), "b");
+				cb.clear();
+			});
+			long[] step = measure(() -> {
+				cb.put(Tensor.slice(Tensor.narrow(data, 0, 7, batch * 2), 1, 0, cols, 2), "b");
+				cb.clear();
+			});
+			if (round == 0)
+				continue;
+			System.out.printf("%-10s %15.1fx %11.3f ms%n", "copy", copy[0] / payload, copy[1] / 1e6);
+			System.out.printf("%-10s %15.1fx %11.3f ms%n", "view", view[0] / payload, view[1] / 1e6);
+			System.out.printf("%-10s %15.1fx %11.3f ms%n", "stepped", step[0] / payload, step[1] / 1e6);
+		}
+	}
+
+	/**
+	 * Bytes allocated by this thread and best wall time, in nanoseconds, over a
+	 * few runs.
+	 */
+	private static long[] measure(Runnable body) {
+		com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory
+				.getThreadMXBean();
+		long bytes = Long.MAX_VALUE, best = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			long b0 = mx.getCurrentThreadAllocatedBytes();
+			long t0 = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - t0);
+			bytes = Math.min(bytes, mx.getCurrentThreadAllocatedBytes() - b0);
+		}
+		return new long[] { bytes, best };
+	}
+}
@@ -0,0 +1,499 @@
+package CuBridge;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * BigTensor: A dense float tensor whose element count may exceed 2^31 - 1.
+ *
+ * <p>
+ * {@link Tensor} keeps its values in one {@code float[]} indexed by {@code int},
+ * which caps it at about 2.1 billion elements (8 GB). A BigTensor has a
+ * {@code long} shape and size, and stores its values in chunks:
+ * </p>
+ * <ul>
+ *   <li>Every chunk is a {@code float[]} holding whole slabs of axis 0 (rows of a
+ *       matrix, tables of an embedding batch), so no row is ever split between
+ *       two chunks. A chunk holds at most {@code -Dcubridge.chunk} elements
+ *       (default 2^27, 512 MB) unless a single slab is larger.</li>
+ *   <li>All shape arithmetic is overflow-checked: a shape whose size does not fit
+ *       in a {@code long}, or whose slab does not fit in one array, is rejected.</li>
+ *   <li>Element-wise, reduction and matrix-product kernels stream over the chunks,
+ *       running the same kernels as the CPU engine on every piece.</li>
+ * </ul>
+ * <p>
+ * A BigTensor lives on the Java side only: the engine queue holds
+ * {@code int}-sized tensors. Use {@link #rows(long, int)} to hand a block of rows
+ * to {@link CuBridge#put(Tensor)} without copying it. {@link #save(String)} writes
+ * it to a {@link TensorFile}, whose rows can then be mapped back on demand.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * BigTensor table = BigTensor.rand(3_000_000_000L / 64, 64); // 3e9 floats
+ * BigTensor proj = table.matmul(Tensor.randn(64, 16)).unary("relu");
+ * double total = proj.reduceAll("sum");
+ * }</pre>
+ *
+ * @since v1.5
+ */
+public final class BigTensor {
+
+	/** Largest number of elements in one chunk, unless one slab is larger. */
+	static final int CHUNK = Math.max(1, Integer.getInteger("cubridge.chunk", 1 << 27));
+
+	/** Largest array the JVM reliably allocates. */
+	static final int MAX_ARRAY = Integer.MAX_VALUE - 8;
+
+	private final long[] shape;
+	private final long size;
+	/** Elements per index of axis 0. */
+	private final int slab;
+	/** Indices of axis 0 per chunk; the last chunk may hold fewer. */
+	private final int rowsPerChunk;
+	private final float[][] chunks;
+
+	/**
+	 * Creates a tensor with the given chunk geometry; the chunks are allocated
+	 * (zero-filled) only if {@code allocate} is set.
+	 */
+	BigTensor(long[] shape, int rowsPerChunk, boolean allocate) {
+		this.shape = shape.clone();
+		this.size = sizeOf(shape);
+		this.slab = slabOf(shape);
+		this.rowsPerChunk = rowsPerChunk;
+
+		long rows = shape[0];
+		int n = (int) ((rows + rowsPerChunk - 1) / rowsPerChunk);
+		this.chunks = new float[n][];
+		if (allocate)
+			for (int c = 0; c < n; c++)
+				chunks[c] = new float[chunkLength(c)];
+	}
+
+	/**
+	 * Product of {@code shape}, failing instead of overflowing.
+	 *
+	 * @throws IllegalArgumentException if a dimension is negative or the product
+	 *                                  exceeds {@code Long.MAX_VALUE}
+	 */
+	static long sizeOf(long[] shape) {
+		if (shape.length == 0)
+			throw new IllegalArgumentException("shape must have at least one axis");
+		long n = 1;
+		for (long d : shape) {
+			if (d < 0)
+				throw new IllegalArgumentException("negative dimension in " + Arrays.toString(shape));
+			try {
+				n = Math.multiplyExact(n, d);
+			} catch (ArithmeticException e) {
+				throw new IllegalArgumentException("shape " + Arrays.toString(shape) + " overflows a long size");
+			}
+		}
+		return n;
+	}
+
+	private static int slabOf(long[] shape) {
+		long s = 1;
+		for (int d = 1; d < shape.length; d++) {
+			s *= shape[d];
+			if (s > MAX_ARRAY)
+				throw new IllegalArgumentException("one index of axis 0 of " + Arrays.toString(shape)
+						+ " exceeds the largest array; put the long axis first");
+		}
+		return (int) s;
+	}
+
+	/**
+	 * Default number of axis-0 indices per chunk for {@code shape}.
+	 */
+	static int rowsPerChunk(long[] shape) {
+		int slab = slabOf(shape);
+		long rows = Math.max(1, Math.min(shape[0], CHUNK / Math.max(1, slab)));
+		return (int) Math.min(rows, MAX_ARRAY / Math.max(1, slab));
+	}
+
+	// ===================== 생성 =====================
+
+	/**
+	 * Creates a zero-filled tensor.
+	 *
+	 * @param shape the tensor shape
+	 * @return a new tensor filled with 0.0
+	 * @throws IllegalArgumentException if the shape is invalid (see {@link BigTensor})
+	 */
+	public static BigTensor zeros(long... shape) {
+		return new BigTensor(shape, rowsPerChunk(shape), true);
+	}
+
+	/**
+	 * Creates a tensor filled with the specified constant value.
+	 *
+	 * @param value the constant value to fill
+	 * @param shape the tensor shape
+	 * @return a new tensor filled with {@code value}
+	 */
+	public static BigTensor filled(float value, long... shape) {
+		BigTensor t = zeros(shape);
+		for (float[] c : t.chunks)
+			CpuParallel.forRange(c.length, (from, to) -> Arrays.fill(c, from, to, value));
+		return t;
+	}
+
+	/**
+	 * Creates a tensor filled with random values in the range [0.0, 1.0).
+	 *
+	 * @param shape the tensor shape
+	 * @return a new tensor with uniformly distributed random values
+	 */
+	public static BigTensor rand(long... shape) {
+		BigTensor t = zeros(shape);
+		for (float[] c : t.chunks)
+			CpuParallel.forRange(c.length, (from, to) -> {
+				ThreadLocalRandom r = ThreadLocalRandom.current();
+				for (int i = from; i < to; i++)
+					c[i] = r.nextFloat();
+			});
+		return t;
+	}
+
+	/**
+	 * Copies a {@link Tensor} (view or not) into a new BigTensor of the same shape.
+	 *
+	 * @param src the tensor to copy
+	 * @return a new BigTensor
+	 */
+	public static BigTensor of(Tensor src) {
+		int[] s = src.getShape();
+		long[] shape = new long[s.length];
+		for (int d = 0; d < s.length; d++)
+			shape[d] = s[d];
+
+		BigTensor t = new BigTensor(shape, rowsPerChunk(shape), false);
+		float[] all = src.toArray();
+		for (int c = 0; c < t.chunks.length; c++) {
+			int from = (int) t.chunkStart(c);
+			t.chunks[c] = Arrays.copyOfRange(all, from, from + t.chunkLength(c));
+		}
+		return t;
+	}
+
+	/**
+	 * Reads a float32 file written by {@link #save(String)} or
+	 * {@link Tensor#save(Tensor, String)} into a new BigTensor, chunk by chunk.
+	 * To read rows on demand instead, see {@link TensorFile#rows(long, int)}.
+	 *
+	 * @param path file path
+	 * @return a new BigTensor of the file's shape
+	 * @throws IOException              if the file cannot be read or is not a
+	 *                                  tensor file
+	 * @throws IllegalArgumentException if the file is not float32
+	 */
+	public static BigTensor load(String path) throws IOException {
+		TensorFile f = TensorFile.open(path);
+		if (f.getDType() != DType.FLOAT32)
+			throw new IllegalArgumentException(path + " holds " + f.getDType() + ", not FLOAT32");
+		long[] shape = f.getShape();
+		BigTensor t = new BigTensor(shape, rowsPerChunk(shape), false);
+		for (int c = 0; c < t.chunks.length; c++) {
+			t.chunks[c] = new float[t.chunkLength(c)];
+			f.read(t.chunkStart(c), t.chunks[c]);
+		}
+		return t;
+	}
+
+	/**
+	 * Writes the tensor to a float32 file in the {@link TensorFile} format, which
+	 * {@link #load(String)} and {@link TensorFile#open(String)} read back.
+	 *
+	 * @param path file path; an existing file is replaced
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(String path) throws IOException {
+		TensorFile.write(this, path);
+	}
+
+	// ===================== 구조 =====================
+
+	/**
+	 * Returns the total number of elements.
+	 *
+	 * @return the product of the shape
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the shape of the tensor.
+	 *
+	 * @return cloned array representing tensor dimensions
+	 */
+	public long[] getShape() {
+		return shape.clone();
+	}
+
+	/**
+	 * Returns the number of axes (dimensions) of the tensor.
+	 *
+	 * @return the number of dimensions
+	 */
+	public int getAxis() {
+		return shape.length;
+	}
+
+	/**
+	 * Returns the number of chunks the values are stored in.
+	 *
+	 * @return chunk count
+	 */
+	public int getChunkCount() {
+		return chunks.length;
+	}
+
+	/**
+	 * Returns chunk {@code c} itself, not a copy: the values from element
+	 * {@link #getChunkStart(int)} on, in row-major order.
+	 *
+	 * @param c chunk index
+	 * @return the chunk's storage
+	 */
+	public float[] getChunk(int c) {
+		return chunks[c];
+	}
+
+	/**
+	 * Returns the flat index of the first element of chunk {@code c}.
+	 *
+	 * @param c chunk index
+	 * @return element index
+	 */
+	public long getChunkStart(int c) {
+		return chunkStart(c);
+	}
+
+	/**
+	 * Returns the element at flat row-major position {@code i}.
+	 *
+	 * @param i element index, {@code 0 <= i < getSize()}
+	 * @return the value
+	 */
+	public float get(long i) {
+		int c = chunkOf(i);
+		return chunks[c][(int) (i - chunkStart(c))];
+	}
+
+	/**
+	 * Sets the element at flat row-major position {@code i}.
+	 *
+	 * @param i     element index, {@code 0 <= i < getSize()}
+	 * @param value the new value
+	 */
+	public void set(long i, float value) {
+		int c = chunkOf(i);
+		chunks[c][(int) (i - chunkStart(c))] = value;
+	}
+
+	/**
+	 * Returns {@code count} consecutive indices of axis 0 as a {@link Tensor} of
+	 * shape {@code [count, shape[1], ...]}. Rows inside one chunk are returned as
+	 * a view sharing the chunk's storage; rows spanning two chunks are copied.
+	 *
+	 * @param start first index of axis 0
+	 * @param count number of indices
+	 * @return the rows
+	 * @throws IllegalArgumentException if the range is outside axis 0 or the rows
+	 *                                  do not fit in a Tensor
+	 */
+	public Tensor rows(long start, int count) {
+		if (start < 0 || count < 1 || start + count > shape[0])
+			throw new IllegalArgumentException("rows [" + start + ", " + (start + count) + ") outside axis 0 of size "
+					+ shape[0]);
+		if ((long) count * slab > MAX_ARRAY)
+			throw new IllegalArgumentException(count + " rows exceed the largest Tensor");
+
+		int[] s = new int[shape.length];
+		for (int d = 1; d < s.length; d++)
+			s[d] = (int) shape[d];
+
+		int c = (int) (start / rowsPerChunk);
+		int first = (int) (start - (long) c * rowsPerChunk);
+		if (first + count <= rowsIn(c)) {
+			s[0] = rowsIn(c);
+			return Tensor.narrow(Tensor.wrap(chunks[c], s), 0, first, count);
+		}
+
+		float[] out = new float[count * slab];
+		CpuChunked.copyOut(this, start * slab, out);
+		s[0] = count;
+		return Tensor.wrap(out, s);
+	}
+
+	/**
+	 * Copies the values into a {@link Tensor} of the same shape.
+	 *
+	 * @return a new Tensor
+	 * @throws IllegalStateException if there are more than 2^31 - 9 elements or a
+	 *                               dimension does not fit in an {@code int}
+	 */
+	public Tensor toTensor() {
+		if (size > MAX_ARRAY)
+			throw new IllegalStateException("BigTensor of " + size + " elements does not fit in a Tensor");
+		int[] s = new int[shape.length];
+		for (int d = 0; d < s.length; d++)
+			s[d] = (int) shape[d];
+
+		float[] out = new float[(int) size];
+		CpuChunked.copyOut(this, 0, out);
+		return Tensor.wrap(out, s);
+	}
+
+	/**
+	 * Returns a string representation of the tensor's shape.
+	 *
+	 * @return a string indicating the tensor's shape and chunking
+	 */
+	@Override
+	public String toString() {
+		return "shape = " + Arrays.toString(shape) + " (" + chunks.length + " chunks)";
+	}
+
+	// ===================== 연산 =====================
+
+	/**
+	 * Applies a unary operation to every element.
+	 *
+	 * @param op the operation, named as in {@link CuBridge} ({@code "abs"},
+	 *           {@code "exp"}, {@code "relu"}, {@code "sigmoid"}, ...)
+	 * @return a new tensor of the same shape
+	 * @throws IllegalArgumentException if {@code op} is unknown
+	 */
+	public BigTensor unary(String op) {
+		return CpuChunked.unary(CpuUnary.Op.valueOf(opName(op)), this);
+	}
+
+	/**
+	 * Applies a binary operation element-wise with a tensor of the same shape.
+	 *
+	 * @param op the operation, named as in {@link CuBridge} ({@code "add"},
+	 *           {@code "mul"}, {@code "gt"}, ...)
+	 * @param b  the second operand
+	 * @return a new tensor of the same shape
+	 * @throws IllegalArgumentException if {@code op} is unknown or the shapes differ
+	 */
+	public BigTensor binary(String op, BigTensor b) {
+		if (!Arrays.equals(shape, b.shape))
+			throw new IllegalArgumentException("shape mismatch: " + Arrays.toString(shape) + " vs "
+					+ Arrays.toString(b.shape));
+		return CpuChunked.binary(CpuBinary.Op.valueOf(opName(op)), this, b);
+	}
+
+	/**
+	 * Applies a binary operation with {@code b} broadcast over axis 0: {@code b}
+	 * holds either one value or one slab ({@code shape[1] * shape[2] * ...}
+	 * values, e.g. a bias row).
+	 *
+	 * @param op the operation, named as in {@link CuBridge}
+	 * @param b  the second operand
+	 * @return a new tensor of the same shape
+	 * @throws IllegalArgumentException if {@code op} is unknown or {@code b} has
+	 *                                  another size
+	 */
+	public BigTensor binary(String op, Tensor b) {
+		if (b.getSize() != 1 && b.getSize() != slab)
+			throw new IllegalArgumentException("operand of " + b.getSize() + " elements, expected 1 or " + slab);
+		return CpuChunked.binary(CpuBinary.Op.valueOf(opName(op)), this, b.toArray());
+	}
+
+	/**
+	 * Cascaded reduction from {@code axis} to the last axis, as in
+	 * {@link CuBridge#sum(String, String, int)}: the result keeps the leading
+	 * {@code axis} axes, or is a single value for axis 0.
+	 *
+	 * @param op   {@code "sum"}, {@code "mean"}, {@code "var"}, {@code "std"},
+	 *             {@code "max"} or {@code "min"}
+	 * @param axis first reduced axis
+	 * @return a new tensor
+	 * @throws IllegalArgumentException if {@code op} or {@code axis} is invalid
+	 */
+	public BigTensor reduce(String op, int axis) {
+		if (axis < 0 || axis >= shape.length)
+			throw new IllegalArgumentException("axis " + axis + " out of range for rank " + shape.length);
+		CpuAxis.Reduce r = CpuAxis.Reduce.valueOf(opName(op));
+		if (axis == 0) {
+			BigTensor t = new BigTensor(new long[] { 1 }, 1, true);
+			t.chunks[0][0] = (float) CpuChunked.reduceAll(r, this);
+			return t;
+		}
+		return CpuChunked.reduce(r, this, axis);
+	}
+
+	/**
+	 * Reduces every element to one value, accumulated in double.
+	 *
+	 * @param op {@code "sum"}, {@code "mean"}, {@code "var"}, {@code "std"},
+	 *           {@code "max"} or {@code "min"}
+	 * @return the reduced value
+	 * @throws IllegalArgumentException if {@code op} is unknown
+	 */
+	public double reduceAll(String op) {
+		return CpuChunked.reduceAll(CpuAxis.Reduce.valueOf(opName(op)), this);
+	}
+
+	/**
+	 * Matrix product {@code this · w} of a {@code [M, K]} tensor and a
+	 * {@code [K, N]} Tensor, streaming over the rows of {@code this}.
+	 *
+	 * @param w the right operand
+	 * @return a new {@code [M, N]} tensor
+	 * @throws IllegalArgumentException if the shapes are not compatible
+	 */
+	public BigTensor matmul(Tensor w) {
+		int[] sw = w.getShape();
+		if (shape.length != 2 || sw.length != 2 || sw[0] != shape[1])
+			throw new IllegalArgumentException("matmul shape mismatch: " + Arrays.toString(shape) + " · "
+					+ Arrays.toString(sw));
+		return CpuChunked.matmul(this, w.toArray(), sw[1]);
+	}
+
+	private static String opName(String op) {
+		String n = op.toUpperCase(Locale.ROOT);
+		if (n.equals("LEAKYRELU"))
+			n = "LEAKRELU";
+		return n;
+	}
+
+	// ===================== 청크 배치 =====================
+
+	int slab() {
+		return slab;
+	}
+
+	int rowsPerChunk() {
+		return rowsPerChunk;
+	}
+
+	float[][] chunks() {
+		return chunks;
+	}
+
+	/** Indices of axis 0 stored in chunk {@code c}. */
+	int rowsIn(int c) {
+		return (int) Math.min(rowsPerChunk, shape[0] - (long) c * rowsPerChunk);
+	}
+
+	int chunkLength(int c) {
+		return rowsIn(c) * slab;
+	}
+
+	long chunkStart(int c) {
+		return (long) c * rowsPerChunk * slab;
+	}
+
+	int chunkOf(long i) {
+		if (i < 0 || i >= size)
+			throw new IndexOutOfBoundsException("index " + i + " out of bounds for size " + size);
+		return (int) (i / slab / rowsPerChunk);
+	}
+}
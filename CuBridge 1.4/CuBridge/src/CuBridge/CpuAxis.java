@@ -0,0 +1,492 @@
+package CuBridge;
+
+/**
+ * CpuAxis: Axis operations of the pure-Java engine.
+ *
+ * <ul>
+ *   <li><b>Cascaded-Axis</b> (sum, mean, var, std, max, min): reduce the given
+ *       axis together with every axis after it. The result keeps the leading
+ *       axes only; reducing from axis 0 yields a single value.</li>
+ *   <li><b>Single-Axis</b> (accumulate, compress, expand, argMax, argMin,
+ *       axisMax, axisMin): work along one axis and keep every other axis.</li>
+ *   <li><b>Transpose</b>: swaps two axes.</li>
+ * </ul>
+ *
+ * <p>
+ * A tensor is viewed as {@code [outer, n, inner]} around the working axis so
+ * every kernel runs over flat, contiguous rows.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuAxis {
+
+	enum Reduce {
+		SUM, MEAN, VAR, STD, MAX, MIN
+	}
+
+	enum Single {
+		ACCUMULATE, COMPRESS, ARGMAX, ARGMIN, AXISMAX, AXISMIN
+	}
+
+	/** Elements per parallel reduction segment. */
+	static final int SEGMENT = 1 << 16;
+
+	/** Elements per exact mean/M2 block inside a var/std segment. */
+	static final int BLOCK = 1 << 10;
+
+	private CpuAxis() {
+	}
+
+	static int prod(int[] shape, int from, int to) {
+		int p = 1;
+		for (int d = from; d < to; d++)
+			p *= shape[d];
+		return p;
+	}
+
+	/**
+	 * Output shape of a cascaded reduction starting at {@code axis}.
+	 */
+	static int[] reduceShape(int[] shape, int axis) {
+		if (axis == 0)
+			return new int[] { 1 };
+		int[] out = new int[axis];
+		System.arraycopy(shape, 0, out, 0, axis);
+		return out;
+	}
+
+	/**
+	 * Cascaded reduction of {@code x} from {@code axis} to the last axis.
+	 *
+	 * <p>
+	 * The reduced tail of every kept row is cut into segments of {@link #SEGMENT}
+	 * elements and the (row, segment) pairs run in parallel, so a full reduction
+	 * of one huge tensor splits as well as many short rows do. Each segment
+	 * yields a partial (double sum, Welford mean/M2, or max/min), and the
+	 * partials of a row are merged pairwise in a fixed order, which keeps the
+	 * result independent of the thread count.
+	 * </p>
+	 * <ul>
+	 *   <li>sum/mean: double accumulators inside a segment, pairwise across segments.</li>
+	 *   <li>var/std: per {@link #BLOCK} elements an exact two-pass mean/M2 on data
+	 *       in L1, merged with Chan's parallel Welford update; one pass over memory.</li>
+	 *   <li>max/min: lane-wise max/min with a horizontal reduction at the end.</li>
+	 * </ul>
+	 */
+	static float[] reduce(Reduce op, float[] x, int[] shape, int axis) {
+		int outer = prod(shape, 0, axis);
+		int inner = prod(shape, axis, shape.length);
+		int parts = Math.max(1, (inner + SEGMENT - 1) / SEGMENT);
+		int seg = (inner + parts - 1) / parts;
+
+		// 부분 결과: sum / (mean, m2) / max, min
+		double[] p0 = new double[outer * parts];
+		double[] p1 = op == Reduce.VAR || op == Reduce.STD ? new double[outer * parts] : null;
+
+		CpuParallel.forRange(outer * parts, Math.max(1, CpuParallel.GRAIN / Math.max(1, seg)), (from, to) -> {
+			double[] mm = new double[2];
+			for (int t = from; t < to; t++) {
+				int r = t / parts, part = t % parts;
+				int off = r * inner + part * seg;
+				int n = Math.min(seg, inner - part * seg);
+
+				switch (op) {
+				case SUM:
+				case MEAN:
+					p0[t] = CpuSimd.ENABLED ? CpuAxisSimd.sum(x, off, n) : sum(x, off, n);
+					break;
+				case VAR:
+				case STD:
+					moments(x, off, n, mm);
+					p0[t] = mm[0];
+					p1[t] = mm[1];
+					break;
+				case MAX:
+					p0[t] = CpuSimd.ENABLED ? CpuAxisSimd.max(x, off, n) : max(x, off, n);
+					break;
+				case MIN:
+					p0[t] = CpuSimd.ENABLED ? CpuAxisSimd.min(x, off, n) : min(x, off, n);
+					break;
+				}
+			}
+		});
+
+		float[] o = new float[outer];
+		CpuParallel.forRange(outer, Math.max(1, CpuParallel.GRAIN / parts), (from, to) -> {
+			double[] mm = new double[3];
+			for (int r = from; r < to; r++) {
+				int base = r * parts;
+				switch (op) {
+				case SUM:
+					o[r] = (float) pairwise(p0, base, parts);
+					break;
+				case MEAN:
+					o[r] = (float) (pairwise(p0, base, parts) / inner);
+					break;
+				case VAR:
+				case STD: {
+					merge(p0, p1, base, 0, parts, parts, seg, inner - (parts - 1) * seg, mm);
+					double v = mm[2] / inner;
+					o[r] = (float) (op == Reduce.VAR ? v : Math.sqrt(v));
+					break;
+				}
+				case MAX: {
+					double m = p0[base];
+					for (int i = 1; i < parts; i++)
+						m = Math.max(m, p0[base + i]);
+					o[r] = (float) m;
+					break;
+				}
+				case MIN: {
+					double m = p0[base];
+					for (int i = 1; i < parts; i++)
+						m = Math.min(m, p0[base + i]);
+					o[r] = (float) m;
+					break;
+				}
+				}
+			}
+		});
+		return o;
+	}
+
+	/** Pairwise sum of {@code p[off .. off + n)}. */
+	static double pairwise(double[] p, int off, int n) {
+		if (n <= 8) {
+			double s = 0.0;
+			for (int i = 0; i < n; i++)
+				s += p[off + i];
+			return s;
+		}
+		int h = n >>> 1;
+		return pairwise(p, off, h) + pairwise(p, off + h, n - h);
+	}
+
+	/**
+	 * Pairwise Chan merge of the segment moments {@code (mean[i], m2[i])} for
+	 * segments {@code [lo, hi)} of one row starting at {@code off}. Every segment
+	 * holds {@code seg} elements except the last of the row ({@code parts - 1}),
+	 * which holds {@code last}. Writes {@code (count, mean, m2)} into {@code out}.
+	 */
+	static void merge(double[] mean, double[] m2, int off, int lo, int hi, int parts, int seg, int last,
+			double[] out) {
+		if (hi - lo == 1) {
+			out[0] = lo == parts - 1 ? last : seg;
+			out[1] = mean[off + lo];
+			out[2] = m2[off + lo];
+			return;
+		}
+		int mid = (lo + hi) >>> 1;
+		double[] b = new double[3];
+		merge(mean, m2, off, lo, mid, parts, seg, last, out);
+		merge(mean, m2, off, mid, hi, parts, seg, last, b);
+		chan(out, b[0], b[1], b[2]);
+	}
+
+	/**
+	 * Chan et al. parallel update: merges {@code (nb, meanB, m2B)} into
+	 * {@code acc = (count, mean, m2)}.
+	 */
+	static void chan(double[] acc, double nb, double meanB, double m2B) {
+		double na = acc[0], n = na + nb;
+		double d = meanB - acc[1];
+		acc[1] += d * nb / n;
+		acc[2] += m2B + d * d * na * nb / n;
+		acc[0] = n;
+	}
+
+	/**
+	 * Mean and M2 of {@code x[off .. off + n)}, one pass over memory: each
+	 * {@link #BLOCK} is reduced exactly with two passes while it sits in L1, and
+	 * the blocks are merged with {@link #chan}. Writes {@code (mean, m2)}.
+	 */
+	private static void moments(float[] x, int off, int n, double[] out) {
+		double[] acc = { 0.0, 0.0, 0.0 };
+		for (int i = 0; i < n; i += BLOCK) {
+			int len = Math.min(BLOCK, n - i);
+			double mean = (CpuSimd.ENABLED ? CpuAxisSimd.sum(x, off + i, len) : sum(x, off + i, len)) / len;
+			double m2 = CpuSimd.ENABLED ? CpuAxisSimd.sumSq(x, off + i, len, mean) : sumSq(x, off + i, len, mean);
+			chan(acc, len, mean, m2);
+		}
+		out[0] = acc[1];
+		out[1] = acc[2];
+	}
+
+	/** Sum in double with four independent accumulators. */
+	static double sum(float[] x, int off, int n) {
+		double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+		int i = 0;
+		for (; i + 4 <= n; i += 4) {
+			s0 += x[off + i];
+			s1 += x[off + i + 1];
+			s2 += x[off + i + 2];
+			s3 += x[off + i + 3];
+		}
+		for (; i < n; i++)
+			s0 += x[off + i];
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	/** Sum of squared deviations from {@code mean}, in double with four accumulators. */
+	static double sumSq(float[] x, int off, int n, double mean) {
+		double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+		int i = 0;
+		for (; i + 4 <= n; i += 4) {
+			double d0 = x[off + i] - mean, d1 = x[off + i + 1] - mean;
+			double d2 = x[off + i + 2] - mean, d3 = x[off + i + 3] - mean;
+			s0 += d0 * d0;
+			s1 += d1 * d1;
+			s2 += d2 * d2;
+			s3 += d3 * d3;
+		}
+		for (; i < n; i++) {
+			double d = x[off + i] - mean;
+			s0 += d * d;
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	static float max(float[] x, int off, int n) {
+		float m = Float.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++)
+			m = Math.max(m, x[off + i]);
+		return m;
+	}
+
+	static float min(float[] x, int off, int n) {
+		float m = Float.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++)
+			m = Math.min(m, x[off + i]);
+		return m;
+	}
+
+	/**
+	 * Output shape of a single-axis operation.
+	 */
+	static int[] singleShape(Single op, int[] shape, int axis) {
+		int[] out = shape.clone();
+		if (op != Single.ACCUMULATE)
+			out[axis] = 1;
+		return out;
+	}
+
+	/**
+	 * Single-axis operation of {@code x} along {@code axis}.
+	 */
+	static float[] single(Single op, float[] x, int[] shape, int axis) {
+		if (op == Single.ACCUMULATE)
+			return scan(x, shape, axis, false, false);
+
+		int outer = prod(shape, 0, axis);
+		int n = shape[axis];
+		int inner = prod(shape, axis + 1, shape.length);
+		float[] o = new float[op == Single.ACCUMULATE ? x.length : outer * inner];
+		int lines = outer * inner;
+
+		CpuParallel.forRange(lines, Math.max(1, CpuParallel.GRAIN / Math.max(1, n)), (from, to) -> {
+			for (int line = from; line < to; line++) {
+				int ob = line / inner;
+				int ib = line % inner;
+				int base = ob * n * inner + ib;
+
+				switch (op) {
+				case COMPRESS: {
+					double s = 0.0;
+					for (int k = 0; k < n; k++)
+						s += x[base + k * inner];
+					o[line] = (float) (s / n);
+					break;
+				}
+				case ARGMAX:
+				case AXISMAX: {
+					int best = 0;
+					for (int k = 1; k < n; k++)
+						if (x[base + k * inner] > x[base + best * inner])
+							best = k;
+					o[line] = op == Single.ARGMAX ? best : x[base + best * inner];
+					break;
+				}
+				case ARGMIN:
+				case AXISMIN: {
+					int best = 0;
+					for (int k = 1; k < n; k++)
+						if (x[base + k * inner] < x[base + best * inner])
+							best = k;
+					o[line] = op == Single.ARGMIN ? best : x[base + best * inner];
+					break;
+				}
+				}
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Prefix sum of {@code x} along {@code axis}. {@code exclusive} leaves each
+	 * element out of its own sum, {@code reverse} scans from the last index
+	 * down.
+	 *
+	 * <p>
+	 * Reduce-then-scan: when the outer slices alone cannot keep the pool busy,
+	 * the axis is cut into parts of about {@link #SEGMENT} elements. A parallel
+	 * pass sums every part in double, a short serial pass turns those sums into
+	 * an exclusive carry per part, and a second parallel pass scans each part
+	 * from its carry. One step of the scan adds a whole contiguous row of
+	 * {@code inner} values (rows wider than {@link #BLOCK} are split into
+	 * independent column chunks); with {@code inner == 1} a part is one
+	 * contiguous run, scanned inside SIMD registers.
+	 * </p>
+	 */
+	static float[] scan(float[] x, int[] shape, int axis, boolean exclusive, boolean reverse) {
+		int outer = prod(shape, 0, axis);
+		int n = shape[axis];
+		int inner = prod(shape, axis + 1, shape.length);
+		float[] o = new float[x.length];
+		if (o.length == 0)
+			return o;
+
+		int width = Math.min(inner, BLOCK);
+		int chunks = (inner + width - 1) / width;
+		int lines = outer * chunks;
+
+		// 축 분할: 바깥 슬라이스만으로 풀을 채울 수 없을 때만 나눈다
+		int parts = 1;
+		if (CpuParallel.threads() > 1 && lines < CpuParallel.threads() * 4)
+			parts = (int) Math.max(1, Math.min(n, (long) n * width / SEGMENT));
+		int len = (n + parts - 1) / parts;
+		int np = (n + len - 1) / len;
+
+		// 부분합 → 부분별 exclusive carry (같은 자리에 덮어씀)
+		double[] carry = np > 1 ? new double[lines * np * width] : null;
+		if (carry != null) {
+			CpuParallel.forRange(lines * np, (int) Math.max(1, CpuParallel.GRAIN / ((long) len * width)), (from, to) -> {
+				for (int t = from; t < to; t++) {
+					int line = t / np, p = t % np;
+					int j0 = (line % chunks) * width;
+					int w = Math.min(width, inner - j0);
+					int k0 = p * len, k1 = Math.min(n, k0 + len);
+					int base = ((line / chunks) * n + k0) * inner + j0;
+					int c = t * width;
+
+					if (inner == 1) {
+						carry[c] = CpuSimd.ENABLED ? CpuAxisSimd.sum(x, base, k1 - k0) : sum(x, base, k1 - k0);
+						continue;
+					}
+					for (int k = k0; k < k1; k++, base += inner)
+						for (int j = 0; j < w; j++)
+							carry[c + j] += x[base + j];
+				}
+			});
+
+			for (int line = 0; line < lines; line++)
+				for (int j = 0; j < width; j++) {
+					double run = 0.0;
+					for (int q = 0; q < np; q++) {
+						int c = (line * np + (reverse ? np - 1 - q : q)) * width + j;
+						double part = carry[c];
+						carry[c] = run;
+						run += part;
+					}
+				}
+		}
+
+		CpuParallel.forRange(lines * np, (int) Math.max(1, CpuParallel.GRAIN / ((long) len * width)), (from, to) -> {
+			float[] run = new float[width];
+			for (int t = from; t < to; t++) {
+				int line = t / np, p = t % np;
+				int j0 = (line % chunks) * width;
+				int w = Math.min(width, inner - j0);
+				int k0 = p * len, k1 = Math.min(n, k0 + len);
+				int base = ((line / chunks) * n + k0) * inner + j0;
+
+				for (int j = 0; j < w; j++)
+					run[j] = carry == null ? 0.0f : (float) carry[t * width + j];
+
+				if (inner == 1) {
+					if (CpuSimd.ENABLED)
+						CpuAxisSimd.scanLine(x, o, base, k1 - k0, run[0], exclusive, reverse);
+					else
+						scanLine(x, o, base, k1 - k0, run[0], exclusive, reverse);
+					continue;
+				}
+				for (int k = 0; k < k1 - k0; k++) {
+					int b = base + (reverse ? k1 - k0 - 1 - k : k) * inner;
+					if (CpuSimd.ENABLED)
+						CpuAxisSimd.scanRow(x, o, b, run, w, exclusive);
+					else
+						scanRow(x, o, b, run, 0, w, exclusive);
+				}
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Scans the contiguous run {@code x[off .. off + n)} into {@code o}, starting
+	 * from {@code carry}.
+	 */
+	static void scanLine(float[] x, float[] o, int off, int n, float carry, boolean exclusive, boolean reverse) {
+		float s = carry;
+		if (reverse) {
+			for (int i = off + n - 1; i >= off; i--) {
+				float v = x[i];
+				o[i] = exclusive ? s : s + v;
+				s += v;
+			}
+		} else {
+			for (int i = off; i < off + n; i++) {
+				float v = x[i];
+				o[i] = exclusive ? s : s + v;
+				s += v;
+			}
+		}
+	}
+
+	/**
+	 * One scan step over a row: {@code run[j] += x[off + j]} for
+	 * {@code j in [from, w)}, writing the running sums (or the sums before the
+	 * step, when {@code exclusive}) to {@code o}.
+	 */
+	static void scanRow(float[] x, float[] o, int off, float[] run, int from, int w, boolean exclusive) {
+		for (int j = from; j < w; j++) {
+			float r = run[j];
+			float s = r + x[off + j];
+			o[off + j] = exclusive ? r : s;
+			run[j] = s;
+		}
+	}
+
+	/**
+	 * Tiles {@code axis} up to {@code expandN} entries ({@code expandN} must be a
+	 * multiple of the current size).
+	 */
+	static float[] expand(float[] x, int[] shape, int axis, int expandN) {
+		int outer = prod(shape, 0, axis);
+		int n = shape[axis];
+		int inner = prod(shape, axis + 1, shape.length);
+		float[] o = new float[outer * expandN * inner];
+
+		CpuParallel.forRange(outer * expandN, Math.max(1, CpuParallel.GRAIN / Math.max(1, inner)), (from, to) -> {
+			for (int row = from; row < to; row++) {
+				int ob = row / expandN;
+				int k = row % expandN;
+				System.arraycopy(x, (ob * n + k % n) * inner, o, row * inner, inner);
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Swaps {@code axis1} and {@code axis2} of a row-major tensor; a two-axis
+	 * {@link CpuPermute#permute}.
+	 */
+	static float[] transpose(float[] x, int[] shape, int axis1, int axis2) {
+		int[] order = new int[shape.length];
+		for (int d = 0; d < order.length; d++)
+			order[d] = d;
+		order[axis1] = axis2;
+		order[axis2] = axis1;
+		return CpuPermute.permute(x, shape, order);
+	}
+}
@@ -0,0 +1,151 @@
+package CuBridge;
+
+import jdk.incubator.vector.*;
+
+/**
+ * CpuAxisSimd: Vector API kernels of the {@link CpuAxis} reductions and
+ * scans.
+ *
+ * <p>
+ * Sums widen every float vector to two double vectors before accumulating, so
+ * a segment is summed with double precision at SIMD speed. Scans along a
+ * contiguous run shift-and-add inside each vector. Only called when
+ * {@link CpuSimd#ENABLED} is true.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuAxisSimd {
+
+	private static final VectorSpecies<Float> S = FloatVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> D = DoubleVector.SPECIES_PREFERRED;
+
+	private static final int L = S.length();
+	private static final FloatVector ZERO = FloatVector.zero(S);
+	private static final VectorShuffle<Float> FIRST = VectorShuffle.fromOp(S, i -> 0);
+	private static final VectorShuffle<Float> LAST = VectorShuffle.fromOp(S, i -> L - 1);
+
+	private CpuAxisSimd() {
+	}
+
+	/** Sum of {@code x[off .. off + n)} in double lanes. */
+	static double sum(float[] x, int off, int n) {
+		DoubleVector s0 = DoubleVector.zero(D), s1 = s0;
+		int i = 0;
+		for (int bound = S.loopBound(n); i < bound; i += S.length()) {
+			FloatVector v = FloatVector.fromArray(S, x, off + i);
+			s0 = s0.add((DoubleVector) v.convertShape(VectorOperators.F2D, D, 0));
+			s1 = s1.add((DoubleVector) v.convertShape(VectorOperators.F2D, D, 1));
+		}
+		return s0.add(s1).reduceLanes(VectorOperators.ADD) + CpuAxis.sum(x, off + i, n - i);
+	}
+
+	/** Sum of squared deviations from {@code mean}, in double lanes. */
+	static double sumSq(float[] x, int off, int n, double mean) {
+		DoubleVector m = DoubleVector.broadcast(D, mean);
+		DoubleVector s0 = DoubleVector.zero(D), s1 = s0;
+		int i = 0;
+		for (int bound = S.loopBound(n); i < bound; i += S.length()) {
+			FloatVector v = FloatVector.fromArray(S, x, off + i);
+			DoubleVector d0 = ((DoubleVector) v.convertShape(VectorOperators.F2D, D, 0)).sub(m);
+			DoubleVector d1 = ((DoubleVector) v.convertShape(VectorOperators.F2D, D, 1)).sub(m);
+			s0 = d0.fma(d0, s0);
+			s1 = d1.fma(d1, s1);
+		}
+		return s0.add(s1).reduceLanes(VectorOperators.ADD) + CpuAxis.sumSq(x, off + i, n - i, mean);
+	}
+
+	static float max(float[] x, int off, int n) {
+		FloatVector m = FloatVector.broadcast(S, Float.NEGATIVE_INFINITY);
+		int i = 0;
+		for (int bound = S.loopBound(n); i < bound; i += S.length())
+			m = m.max(FloatVector.fromArray(S, x, off + i));
+		return Math.max(m.reduceLanes(VectorOperators.MAX), CpuAxis.max(x, off + i, n - i));
+	}
+
+	static float min(float[] x, int off, int n) {
+		FloatVector m = FloatVector.broadcast(S, Float.POSITIVE_INFINITY);
+		int i = 0;
+		for (int bound = S.loopBound(n); i < bound; i += S.length())
+			m = m.min(FloatVector.fromArray(S, x, off + i));
+		return Math.min(m.reduceLanes(VectorOperators.MIN), CpuAxis.min(x, off + i, n - i));
+	}
+
+	/**
+	 * {@link CpuAxis#scanLine}: each vector is scanned in registers with
+	 * {@code log2(L)} shift-and-add steps, offset by the carry broadcast from the
+	 * previous vector.
+	 */
+	static void scanLine(float[] x, float[] o, int off, int n, float carry, boolean exclusive, boolean reverse) {
+		// 방향별로 나눠야 C2 가 lane 헬퍼를 인라인해 벡터를 박싱하지 않는다
+		if (reverse)
+			scanDown(x, o, off, n, carry, exclusive);
+		else
+			scanUp(x, o, off, n, carry, exclusive);
+	}
+
+	private static void scanUp(float[] x, float[] o, int off, int n, float carry, boolean exclusive) {
+		FloatVector c = FloatVector.broadcast(S, carry);
+		int bound = S.loopBound(n);
+		for (int i = 0; i < bound; i += L) {
+			FloatVector w = prefix(FloatVector.fromArray(S, x, off + i));
+			(exclusive ? ZERO.slice(L - 1, w) : w).add(c).intoArray(o, off + i);
+			c = w.add(c).rearrange(LAST);
+		}
+		CpuAxis.scanLine(x, o, off + bound, n - bound, c.lane(0), exclusive, false);
+	}
+
+	private static void scanDown(float[] x, float[] o, int off, int n, float carry, boolean exclusive) {
+		FloatVector c = FloatVector.broadcast(S, carry);
+		int rest = n - S.loopBound(n);
+		for (int i = off + n - L; i >= off + rest; i -= L) {
+			FloatVector w = suffix(FloatVector.fromArray(S, x, i));
+			(exclusive ? w.slice(1, ZERO) : w).add(c).intoArray(o, i);
+			c = w.add(c).rearrange(FIRST);
+		}
+		CpuAxis.scanLine(x, o, off, rest, c.lane(0), exclusive, true);
+	}
+
+	/** {@link CpuAxis#scanRow}. */
+	static void scanRow(float[] x, float[] o, int off, float[] run, int w, boolean exclusive) {
+		int j = 0;
+		for (int bound = S.loopBound(w); j < bound; j += L) {
+			FloatVector r = FloatVector.fromArray(S, run, j);
+			FloatVector s = r.add(FloatVector.fromArray(S, x, off + j));
+			(exclusive ? r : s).intoArray(o, off + j);
+			s.intoArray(run, j);
+		}
+		CpuAxis.scanRow(x, o, off, run, j, w, exclusive);
+	}
+
+	/**
+	 * Inclusive prefix sum across the lanes of {@code v}. The steps are unrolled
+	 * so every slice origin is a constant; C2 only intrinsifies those.
+	 */
+	private static FloatVector prefix(FloatVector v) {
+		v = v.add(ZERO.slice(L - 1, v));
+		if (L > 2)
+			v = v.add(ZERO.slice(L - 2, v));
+		if (L > 4)
+			v = v.add(ZERO.slice(L - 4, v));
+		if (L > 8)
+			v = v.add(ZERO.slice(L - 8, v));
+		for (int k = 16; k < L; k <<= 1)
+			v = v.add(ZERO.slice(L - k, v));
+		return v;
+	}
+
+	/** Inclusive suffix sum across the lanes of {@code v}, unrolled as {@link #prefix}. */
+	private static FloatVector suffix(FloatVector v) {
+		v = v.add(v.slice(1, ZERO));
+		if (L > 2)
+			v = v.add(v.slice(2, ZERO));
+		if (L > 4)
+			v = v.add(v.slice(4, ZERO));
+		if (L > 8)
+			v = v.add(v.slice(8, ZERO));
+		for (int k = 16; k < L; k <<= 1)
+			v = v.add(v.slice(k, ZERO));
+		return v;
+	}
+}
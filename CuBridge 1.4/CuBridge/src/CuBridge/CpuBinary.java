@@ -0,0 +1,326 @@
+package CuBridge;
+
+/**
+ * CpuBinary: Element-wise binary kernels with CuBridge broadcasting.
+ *
+ * <p>
+ * Shapes are aligned from the last axis. Two sizes on the same axis are
+ * compatible when one is a multiple of the other (size 1 being the usual
+ * special case); the smaller operand is then tiled along that axis. An operand
+ * may only be expanded when it was registered as broadcastable.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuBinary {
+
+	enum Op {
+		ADD, SUB, MUL, DIV, POW, MOD, GT, LT, GE, LE, EQ, NE, AND, OR
+	}
+
+	private CpuBinary() {
+	}
+
+	/**
+	 * Computes the broadcast result shape of two operands.
+	 *
+	 * @param sa     shape of the first operand
+	 * @param sb     shape of the second operand
+	 * @param broadA whether the first operand may be expanded
+	 * @param broadB whether the second operand may be expanded
+	 * @return the output shape, or {@code null} if the shapes are incompatible
+	 */
+	static int[] broadcastShape(int[] sa, int[] sb, boolean broadA, boolean broadB) {
+		int rank = Math.max(sa.length, sb.length);
+		int[] out = new int[rank];
+
+		for (int d = 0; d < rank; d++) {
+			int da = dimFromEnd(sa, rank - 1 - d);
+			int db = dimFromEnd(sb, rank - 1 - d);
+
+			if (da == db) {
+				out[d] = da;
+				continue;
+			}
+
+			int big = Math.max(da, db);
+			int small = Math.min(da, db);
+
+			if (small <= 0 || big % small != 0)
+				return null;
+			if ((da == small && !broadA) || (db == small && !broadB))
+				return null;
+
+			out[d] = big;
+		}
+
+		return out;
+	}
+
+	private static int dimFromEnd(int[] shape, int fromEnd) {
+		int idx = shape.length - 1 - fromEnd;
+		return idx >= 0 ? shape[idx] : 1;
+	}
+
+	static int len(int[] shape) {
+		int n = 1;
+		for (int d : shape)
+			n *= d;
+		return n;
+	}
+
+	/**
+	 * Stride plan of one broadcast: the output is walked as {@code rows} runs of
+	 * {@code inner} contiguous elements. Inside a run an operand is either
+	 * contiguous or a single repeated value; between runs its offset follows the
+	 * outer axes ({@link #dims}, strides {@link #strideA}/{@link #strideB}).
+	 *
+	 * <p>
+	 * A multiple-of-size axis (e.g. 2 tiled to 6) is split into a repeat axis of
+	 * stride 0 and an axis of the operand's own size, size-1 axes are dropped, and
+	 * adjacent axes that are contiguous for both operands are merged. Same-shape,
+	 * tensor-scalar, row ({@code [M, N] + [N]}) and column ({@code [M, N] + [M, 1]})
+	 * broadcasts all end up as a single run or one run per row.
+	 * </p>
+	 */
+	static final class Plan {
+		final int n;
+		final int inner;
+		final boolean repeatA, repeatB;
+		final int[] dims, strideA, strideB;
+
+		private Plan(int n, int inner, boolean repeatA, boolean repeatB, int[] dims, int[] strideA, int[] strideB) {
+			this.n = n;
+			this.inner = inner;
+			this.repeatA = repeatA;
+			this.repeatB = repeatB;
+			this.dims = dims;
+			this.strideA = strideA;
+			this.strideB = strideB;
+		}
+	}
+
+	/**
+	 * Compiles the stride plan broadcasting {@code sa} and {@code sb} to
+	 * {@code outShape} (from {@link #broadcastShape}).
+	 */
+	static Plan plan(int[] sa, int[] sb, int[] outShape) {
+		int rank = outShape.length;
+		int[] dimA = alignedDims(sa, rank), dimB = alignedDims(sb, rank);
+		int[] stA = tileStrides(sa, rank), stB = tileStrides(sb, rank);
+
+		// 축마다 (크기, A stride, B stride), 배수 broadcast 축은 반복 축 + 원래 축으로 분리
+		int[] dims = new int[2 * rank], pa = new int[2 * rank], pb = new int[2 * rank];
+		int k = 0;
+		for (int d = 0; d < rank; d++) {
+			int size = outShape[d];
+			int own = Math.min(dimA[d], dimB[d]);
+			if (own < size) {
+				dims[k] = size / own;
+				pa[k] = dimA[d] == own ? 0 : own * stA[d];
+				pb[k] = dimB[d] == own ? 0 : own * stB[d];
+				k++;
+				size = own;
+			}
+			if (size == 1)
+				continue;
+			dims[k] = size;
+			pa[k] = stA[d];
+			pb[k] = stB[d];
+			k++;
+		}
+
+		// 두 피연산자 모두 연속인 인접 축 병합
+		int m = 0;
+		for (int j = 0; j < k; j++) {
+			if (m > 0 && pa[m - 1] == pa[j] * dims[j] && pb[m - 1] == pb[j] * dims[j]) {
+				dims[m - 1] *= dims[j];
+				pa[m - 1] = pa[j];
+				pb[m - 1] = pb[j];
+				continue;
+			}
+			dims[m] = dims[j];
+			pa[m] = pa[j];
+			pb[m] = pb[j];
+			m++;
+		}
+
+		int n = len(outShape);
+		if (m == 0)
+			return new Plan(n, 1, true, true, new int[0], new int[0], new int[0]);
+
+		return new Plan(n, dims[m - 1], pa[m - 1] == 0, pb[m - 1] == 0, java.util.Arrays.copyOf(dims, m - 1),
+				java.util.Arrays.copyOf(pa, m - 1), java.util.Arrays.copyOf(pb, m - 1));
+	}
+
+	/**
+	 * Applies {@code op} to {@code a} and {@code b}, broadcasting both to
+	 * {@code outShape}.
+	 *
+	 * <p>
+	 * The output is split into contiguous ranges across cores; each range walks
+	 * the outer axes of the {@link Plan} with an odometer and hands every run to
+	 * the contiguous kernel ({@link CpuBinarySimd} when SIMD is enabled).
+	 * </p>
+	 */
+	static float[] apply(Op op, float[] a, int[] sa, float[] b, int[] sb, int[] outShape) {
+		Plan p = plan(sa, sb, outShape);
+		float[] o = TensorPool.take(p.n);
+		int outer = p.dims.length;
+		int inner = p.inner;
+
+		CpuParallel.forRange(p.n, (from, to) -> {
+			int row = from / inner, col = from % inner;
+			int[] ctr = new int[outer];
+			int offA = 0, offB = 0;
+			for (int d = outer - 1; d >= 0; d--) {
+				ctr[d] = row % p.dims[d];
+				row /= p.dims[d];
+				offA += ctr[d] * p.strideA[d];
+				offB += ctr[d] * p.strideB[d];
+			}
+
+			for (int pos = from; pos < to;) {
+				int len = Math.min(inner - col, to - pos);
+				int ia = p.repeatA ? offA : offA + col;
+				int ib = p.repeatB ? offB : offB + col;
+				if (CpuSimd.ENABLED)
+					CpuBinarySimd.run(op, a, ia, p.repeatA, b, ib, p.repeatB, o, pos, len);
+				else
+					run(op, a, ia, p.repeatA, b, ib, p.repeatB, o, pos, 0, len);
+				pos += len;
+				col = 0;
+
+				for (int d = outer - 1; d >= 0; d--) {
+					offA += p.strideA[d];
+					offB += p.strideB[d];
+					if (++ctr[d] < p.dims[d])
+						break;
+					offA -= ctr[d] * p.strideA[d];
+					offB -= ctr[d] * p.strideB[d];
+					ctr[d] = 0;
+				}
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Scalar kernel over one run: {@code o[io + i] = op(x, y)} for
+	 * {@code i} in {@code [from, to)}, where {@code x} is {@code a[ia]} if
+	 * {@code repeatA} and {@code a[ia + i]} otherwise (likewise for {@code y}).
+	 * Each op has its own loop; the repeat flags are loop invariant, so C2
+	 * unswitches them and vectorizes the simple arithmetic.
+	 */
+	static void run(Op op, float[] a, int ia, boolean repeatA, float[] b, int ib, boolean repeatB, float[] o, int io,
+			int from, int to) {
+		float xa = a[ia], yb = b[ib];
+
+		switch (op) {
+		case ADD:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x + y;
+			}
+			break;
+		case SUB:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x - y;
+			}
+			break;
+		case MUL:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x * y;
+			}
+			break;
+		case DIV:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x / y;
+			}
+			break;
+		case POW:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = (float) Math.pow(x, y);
+			}
+			break;
+		case MOD:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x % y;
+			}
+			break;
+		case GT:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x > y ? 1.0f : 0.0f;
+			}
+			break;
+		case LT:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x < y ? 1.0f : 0.0f;
+			}
+			break;
+		case GE:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x >= y ? 1.0f : 0.0f;
+			}
+			break;
+		case LE:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x <= y ? 1.0f : 0.0f;
+			}
+			break;
+		case EQ:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x == y ? 1.0f : 0.0f;
+			}
+			break;
+		case NE:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x != y ? 1.0f : 0.0f;
+			}
+			break;
+		case AND:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = (x != 0.0f && y != 0.0f) ? 1.0f : 0.0f;
+			}
+			break;
+		case OR:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = (x != 0.0f || y != 0.0f) ? 1.0f : 0.0f;
+			}
+			break;
+		}
+	}
+
+	/** Operand dimensions left-padded with 1 to {@code rank}. */
+	static int[] alignedDims(int[] shape, int rank) {
+		int[] dims = new int[rank];
+		for (int d = 0; d < rank; d++)
+			dims[d] = dimFromEnd(shape, rank - 1 - d);
+		return dims;
+	}
+
+	/** Row-major strides of the operand, aligned to {@code rank}. */
+	static int[] tileStrides(int[] shape, int rank) {
+		int[] dims = alignedDims(shape, rank);
+		int[] st = new int[rank];
+		int s = 1;
+		for (int d = rank - 1; d >= 0; d--) {
+			st[d] = s;
+			s *= dims[d];
+		}
+		return st;
+	}
+}
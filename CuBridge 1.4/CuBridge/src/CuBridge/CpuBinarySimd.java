@@ -0,0 +1,123 @@
+package CuBridge;
+
+import jdk.incubator.vector.*;
+
+/**
+ * CpuBinarySimd: Vector API version of the {@link CpuBinary} run kernel.
+ *
+ * <p>
+ * A repeated operand (scalar side of a tensor-scalar, row or column broadcast)
+ * is loaded once as a broadcast vector; a contiguous one is loaded lane by
+ * lane. {@code MOD} has no vector form, and the vector {@code POW} measured
+ * slower than {@code Math.pow}, so both keep the scalar loop. Only called when
+ * {@link CpuSimd#ENABLED} is true.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuBinarySimd {
+
+	private static final VectorSpecies<Float> S = FloatVector.SPECIES_PREFERRED;
+
+	private CpuBinarySimd() {
+	}
+
+	/**
+	 * Vector kernel over one run of {@code n} outputs starting at {@code io}
+	 * (see {@link CpuBinary#run}). The tail shorter than one vector runs the
+	 * scalar kernel.
+	 */
+	static void run(CpuBinary.Op op, float[] a, int ia, boolean repeatA, float[] b, int ib, boolean repeatB, float[] o,
+			int io, int n) {
+		final int L = S.length();
+		final int bound = S.loopBound(n);
+		final FloatVector zero = FloatVector.zero(S);
+		final FloatVector xa = FloatVector.broadcast(S, a[ia]);
+		final FloatVector yb = FloatVector.broadcast(S, b[ib]);
+		int i = 0;
+
+		switch (op) {
+		case ADD:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				x.add(y).intoArray(o, io + i);
+			}
+			break;
+		case SUB:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				x.sub(y).intoArray(o, io + i);
+			}
+			break;
+		case MUL:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				x.mul(y).intoArray(o, io + i);
+			}
+			break;
+		case DIV:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				x.div(y).intoArray(o, io + i);
+			}
+			break;
+		case GT:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0f, x.compare(VectorOperators.GT, y)).intoArray(o, io + i);
+			}
+			break;
+		case LT:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0f, x.compare(VectorOperators.LT, y)).intoArray(o, io + i);
+			}
+			break;
+		case GE:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0f, x.compare(VectorOperators.GE, y)).intoArray(o, io + i);
+			}
+			break;
+		case LE:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0f, x.compare(VectorOperators.LE, y)).intoArray(o, io + i);
+			}
+			break;
+		case EQ:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0f, x.compare(VectorOperators.EQ, y)).intoArray(o, io + i);
+			}
+			break;
+		case NE:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0f, x.compare(VectorOperators.NE, y)).intoArray(o, io + i);
+			}
+			break;
+		case AND:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0f, x.compare(VectorOperators.NE, 0.0f).and(y.compare(VectorOperators.NE, 0.0f))).intoArray(o, io + i);
+			}
+			break;
+		case OR:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0f, x.compare(VectorOperators.NE, 0.0f).or(y.compare(VectorOperators.NE, 0.0f))).intoArray(o, io + i);
+			}
+			break;
+		default:
+			break;
+		}
+
+		if (i < n)
+			CpuBinary.run(op, a, ia, repeatA, b, ib, repeatB, o, io, i, n);
+	}
+
+	private static FloatVector load(float[] x, int i, boolean repeat, FloatVector value) {
+		return repeat ? value : FloatVector.fromArray(S, x, i);
+	}
+}
@@ -0,0 +1,240 @@
+package CuBridge;
+
+import java.util.Arrays;
+
+/**
+ * CpuChunked: Kernels of {@link BigTensor}, streaming over its chunks.
+ *
+ * <p>
+ * Every kernel works piece by piece, where a piece is a range of elements that
+ * lies inside one chunk of every operand; inside a piece the CPU engine's own
+ * kernels run unchanged and spread over the cores through {@link CpuParallel}.
+ * </p>
+ * <ul>
+ *   <li>Element-wise: operands with the same chunk geometry have one piece per
+ *       chunk; otherwise pieces end at every operand's chunk boundary.</li>
+ *   <li>Reductions from axis 0: per {@link CpuAxis#SEGMENT} a double partial
+ *       (sum, mean/M2, or max/min), merged in a fixed order across chunks, so the
+ *       result does not depend on the thread count.</li>
+ *   <li>Reductions from a later axis: every reduced row lies inside a slab, so
+ *       each chunk reduces to one chunk of the result.</li>
+ *   <li>Matrix product: each output chunk accumulates {@code A · W} over the
+ *       row ranges of the input chunks it overlaps, with the blocked GEMM of
+ *       {@link CpuGemm}.</li>
+ * </ul>
+ *
+ * @since v1.5
+ */
+final class CpuChunked {
+
+	private CpuChunked() {
+	}
+
+	/**
+	 * Copies elements {@code [from, from + out.length)} of {@code x} into
+	 * {@code out}.
+	 */
+	static void copyOut(BigTensor x, long from, float[] out) {
+		int done = 0;
+		while (done < out.length) {
+			long i = from + done;
+			int c = x.chunkOf(i);
+			int off = (int) (i - x.chunkStart(c));
+			int n = Math.min(out.length - done, x.chunkLength(c) - off);
+			System.arraycopy(x.chunks()[c], off, out, done, n);
+			done += n;
+		}
+	}
+
+	static BigTensor unary(CpuUnary.Op op, BigTensor x) {
+		BigTensor o = new BigTensor(x.getShape(), x.rowsPerChunk(), true);
+		float[][] xs = x.chunks(), os = o.chunks();
+		for (int c = 0; c < xs.length; c++) {
+			float[] xc = xs[c], oc = os[c];
+			if (CpuSimd.ENABLED)
+				CpuParallel.forRange(xc.length, (from, to) -> CpuUnarySimd.run(op, xc, oc, from, to));
+			else
+				CpuParallel.forRange(xc.length, (from, to) -> CpuUnary.run(op, xc, oc, from, to));
+		}
+		return o;
+	}
+
+	static BigTensor binary(CpuBinary.Op op, BigTensor a, BigTensor b) {
+		BigTensor o = new BigTensor(a.getShape(), a.rowsPerChunk(), true);
+		long size = a.getSize();
+
+		// 세 피연산자의 청크 경계마다 조각을 끊어 같은 커널을 호출
+		for (long i = 0; i < size;) {
+			int ca = a.chunkOf(i), cb = b.chunkOf(i), co = o.chunkOf(i);
+			int ia = (int) (i - a.chunkStart(ca)), ib = (int) (i - b.chunkStart(cb)), io = (int) (i - o.chunkStart(co));
+			int n = Math.min(a.chunkLength(ca) - ia, Math.min(b.chunkLength(cb) - ib, o.chunkLength(co) - io));
+			run(op, a.chunks()[ca], ia, false, b.chunks()[cb], ib, false, o.chunks()[co], io, n);
+			i += n;
+		}
+		return o;
+	}
+
+	/**
+	 * {@code b} repeated over axis 0: a single value, or one slab per index.
+	 */
+	static BigTensor binary(CpuBinary.Op op, BigTensor a, float[] b) {
+		BigTensor o = new BigTensor(a.getShape(), a.rowsPerChunk(), true);
+		int slab = a.slab();
+		boolean scalar = b.length == 1;
+
+		for (int c = 0; c < o.chunks().length; c++) {
+			float[] ac = a.chunks()[c], oc = o.chunks()[c];
+			if (scalar) {
+				run(op, ac, 0, false, b, 0, true, oc, 0, ac.length);
+				continue;
+			}
+			int rows = a.rowsIn(c);
+			CpuParallel.forRange(rows, Math.max(1, CpuParallel.GRAIN / Math.max(1, slab)), (from, to) -> {
+				for (int r = from; r < to; r++)
+					step(op, ac, r * slab, false, b, 0, false, oc, r * slab, slab);
+			});
+		}
+		return o;
+	}
+
+	/** One piece, split over the cores. */
+	private static void run(CpuBinary.Op op, float[] a, int ia, boolean ra, float[] b, int ib, boolean rb, float[] o,
+			int io, int n) {
+		CpuParallel.forRange(n, (from, to) -> step(op, a, ra ? ia : ia + from, ra, b, rb ? ib : ib + from, rb, o,
+				io + from, to - from));
+	}
+
+	/** One run of {@code n} outputs on the calling thread. */
+	private static void step(CpuBinary.Op op, float[] a, int ia, boolean ra, float[] b, int ib, boolean rb, float[] o,
+			int io, int n) {
+		if (CpuSimd.ENABLED)
+			CpuBinarySimd.run(op, a, ia, ra, b, ib, rb, o, io, n);
+		else
+			CpuBinary.run(op, a, ia, ra, b, ib, rb, o, io, 0, n);
+	}
+
+	/**
+	 * Reduces every element of {@code x}; sum and mean/M2 accumulate in double.
+	 */
+	static double reduceAll(CpuAxis.Reduce op, BigTensor x) {
+		long size = x.getSize();
+		if (size == 0)
+			return op == CpuAxis.Reduce.SUM ? 0.0 : Double.NaN;
+
+		int seg = CpuAxis.SEGMENT;
+		boolean moments = op == CpuAxis.Reduce.VAR || op == CpuAxis.Reduce.STD;
+		// 누적: (개수, 합 또는 평균, M2) / 최댓값, 최솟값
+		double[] acc = { 0.0, 0.0, 0.0 };
+		double best = op == CpuAxis.Reduce.MAX ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+		double total = 0.0;
+
+		for (float[] xc : x.chunks()) {
+			int parts = (xc.length + seg - 1) / seg;
+			double[] p0 = new double[parts], p1 = moments ? new double[parts] : null;
+
+			CpuParallel.forRange(parts, 1, (from, to) -> {
+				for (int t = from; t < to; t++) {
+					int off = t * seg, n = Math.min(seg, xc.length - off);
+					switch (op) {
+					case SUM:
+					case MEAN:
+						p0[t] = CpuSimd.ENABLED ? CpuAxisSimd.sum(xc, off, n) : CpuAxis.sum(xc, off, n);
+						break;
+					case VAR:
+					case STD: {
+						double s = CpuSimd.ENABLED ? CpuAxisSimd.sum(xc, off, n) : CpuAxis.sum(xc, off, n);
+						p0[t] = s / n;
+						p1[t] = CpuSimd.ENABLED ? CpuAxisSimd.sumSq(xc, off, n, p0[t])
+								: CpuAxis.sumSq(xc, off, n, p0[t]);
+						break;
+					}
+					case MAX:
+						p0[t] = CpuSimd.ENABLED ? CpuAxisSimd.max(xc, off, n) : CpuAxis.max(xc, off, n);
+						break;
+					case MIN:
+						p0[t] = CpuSimd.ENABLED ? CpuAxisSimd.min(xc, off, n) : CpuAxis.min(xc, off, n);
+						break;
+					}
+				}
+			});
+
+			for (int t = 0; t < parts; t++) {
+				int n = Math.min(seg, xc.length - t * seg);
+				if (op == CpuAxis.Reduce.MAX)
+					best = Math.max(best, p0[t]);
+				else if (op == CpuAxis.Reduce.MIN)
+					best = Math.min(best, p0[t]);
+				else if (moments)
+					chan(acc, n, p0[t], p1[t]);
+				else
+					total += p0[t];
+			}
+		}
+
+		switch (op) {
+		case SUM:
+			return total;
+		case MEAN:
+			return total / size;
+		case VAR:
+			return acc[2] / size;
+		case STD:
+			return Math.sqrt(acc[2] / size);
+		default:
+			return best;
+		}
+	}
+
+	/** Chan's update of {@code (n, mean, M2)} with a partial of {@code nb} elements. */
+	private static void chan(double[] acc, double nb, double meanB, double m2B) {
+		double na = acc[0], n = na + nb;
+		double d = meanB - acc[1];
+		acc[1] += d * nb / n;
+		acc[2] += m2B + d * d * na * nb / n;
+		acc[0] = n;
+	}
+
+	/**
+	 * Cascaded reduction from {@code axis} ≥ 1; the result keeps the chunk rows
+	 * of {@code x}.
+	 */
+	static BigTensor reduce(CpuAxis.Reduce op, BigTensor x, int axis) {
+		long[] shape = x.getShape();
+		long[] outShape = Arrays.copyOf(shape, axis);
+		BigTensor o = new BigTensor(outShape, x.rowsPerChunk(), false);
+
+		int kept = o.slab();
+		int inner = kept == 0 ? 0 : x.slab() / kept;
+		for (int c = 0; c < o.chunks().length; c++) {
+			int outer = x.rowsIn(c) * kept;
+			o.chunks()[c] = inner == 0 ? new float[outer]
+					: CpuAxis.reduce(op, x.chunks()[c], new int[] { outer, inner }, 1);
+		}
+		return o;
+	}
+
+	/**
+	 * {@code [M, K] · [K, N]} with {@code w} row-major.
+	 */
+	static BigTensor matmul(BigTensor a, float[] w, int N) {
+		long M = a.getShape()[0];
+		int K = a.slab();
+		int rows = Math.max(1, Math.min(a.rowsPerChunk(), BigTensor.CHUNK / Math.max(1, N)));
+		BigTensor o = new BigTensor(new long[] { M, N }, rows, true);
+
+		for (int c = 0; c < o.chunks().length; c++) {
+			long r0 = (long) c * o.rowsPerChunk(), r1 = r0 + o.rowsIn(c);
+			// 출력 청크와 겹치는 입력 청크마다 그 행 구간의 곱을 누적
+			for (long r = r0; r < r1;) {
+				int ca = (int) (r / a.rowsPerChunk());
+				long aStart = (long) ca * a.rowsPerChunk();
+				int m = (int) (Math.min(r1, aStart + a.rowsIn(ca)) - r);
+				if (K > 0)
+					CpuGemm.gemm(m, N, K, a.chunks()[ca], (int) (r - aStart) * K, K, 1, w, 0, N, 1, o.chunks()[c],
+							(int) (r - r0) * N, true);
+				r += m;
+			}
+		}
+		return o;
+	}
+}
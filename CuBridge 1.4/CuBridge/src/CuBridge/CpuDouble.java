@@ -0,0 +1,585 @@
+package CuBridge;
+
+/**
+ * CpuDouble: Kernels of the pure-Java engine for {@link DType#FLOAT64} tensors.
+ *
+ * <p>
+ * The float kernels redone in double, with the same structure so both paths
+ * split work and order sums the same way:
+ * </p>
+ * <ul>
+ *   <li>Element-wise unary and binary ops; broadcasting walks the
+ *       {@link CpuBinary.Plan} of the float path.</li>
+ *   <li>Cascaded reductions cut into segments as in {@link CpuAxis#reduce}:
+ *       four accumulators inside a segment, pairwise across segments, and
+ *       block moments merged with Chan's update for var/std.</li>
+ *   <li>Prefix sums with the reduce-then-scan split of {@link CpuAxis#scan}.</li>
+ *   <li>Axis permutations as a strided gather ({@link CpuStrided}).</li>
+ * </ul>
+ * <p>
+ * Matrix products are in {@link CpuDoubleGemm}. With the Vector API the
+ * contiguous loops run in {@link CpuDoubleSimd}, on half as many lanes as the
+ * float kernels.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuDouble {
+
+	/** Negative slope used by leakReLu. */
+	static final double LEAK = 0.01;
+
+	private CpuDouble() {
+	}
+
+	// ===================== 변환 =====================
+
+	/** All values of {@code x} as doubles, converted in parallel. */
+	static double[] widen(float[] x) {
+		double[] o = new double[x.length];
+		CpuParallel.forRange(x.length, (from, to) -> {
+			for (int i = from; i < to; i++)
+				o[i] = x[i];
+		});
+		return o;
+	}
+
+	/** All values of {@code x} rounded to float, converted in parallel. */
+	static float[] narrow(double[] x) {
+		float[] o = new float[x.length];
+		CpuParallel.forRange(x.length, (from, to) -> {
+			for (int i = from; i < to; i++)
+				o[i] = (float) x[i];
+		});
+		return o;
+	}
+
+	// ===================== 원소별 =====================
+
+	/**
+	 * Applies {@code op} to every element of {@code x}.
+	 */
+	static double[] unary(CpuUnary.Op op, double[] x) {
+		double[] o = new double[x.length];
+		if (CpuSimd.ENABLED)
+			CpuParallel.forRange(x.length, (from, to) -> CpuDoubleSimd.unary(op, x, o, from, to));
+		else
+			CpuParallel.forRange(x.length, (from, to) -> unary(op, x, o, from, to));
+		return o;
+	}
+
+	/**
+	 * Scalar kernel over {@code [from, to)}; see {@link CpuUnary#run}.
+	 */
+	static void unary(CpuUnary.Op op, double[] x, double[] o, int from, int to) {
+		switch (op) {
+		case ABS:
+			for (int i = from; i < to; i++) o[i] = Math.abs(x[i]);
+			break;
+		case NEG:
+			for (int i = from; i < to; i++) o[i] = -x[i];
+			break;
+		case SQUARE:
+			for (int i = from; i < to; i++) o[i] = x[i] * x[i];
+			break;
+		case SQRT:
+			for (int i = from; i < to; i++) o[i] = Math.sqrt(x[i]);
+			break;
+		case LOG:
+			for (int i = from; i < to; i++) o[i] = Math.log10(x[i]);
+			break;
+		case LOG2:
+			for (int i = from; i < to; i++) o[i] = Math.log(x[i]) * CpuUnary.INV_LN2;
+			break;
+		case LN:
+			for (int i = from; i < to; i++) o[i] = Math.log(x[i]);
+			break;
+		case RECIPROCAL:
+			for (int i = from; i < to; i++) o[i] = 1.0 / x[i];
+			break;
+		case SIN:
+			for (int i = from; i < to; i++) o[i] = Math.sin(x[i]);
+			break;
+		case COS:
+			for (int i = from; i < to; i++) o[i] = Math.cos(x[i]);
+			break;
+		case TAN:
+			for (int i = from; i < to; i++) o[i] = Math.tan(x[i]);
+			break;
+		case STEP:
+			for (int i = from; i < to; i++) o[i] = x[i] > 0.0 ? 1.0 : 0.0;
+			break;
+		case SIGMOID:
+			for (int i = from; i < to; i++) o[i] = 1.0 / (1.0 + Math.exp(-x[i]));
+			break;
+		case TANH:
+			for (int i = from; i < to; i++) o[i] = Math.tanh(x[i]);
+			break;
+		case RELU:
+			for (int i = from; i < to; i++) o[i] = Math.max(0.0, x[i]);
+			break;
+		case LEAKRELU:
+			for (int i = from; i < to; i++) o[i] = x[i] > 0.0 ? x[i] : LEAK * x[i];
+			break;
+		case SOFTPLUS:
+			for (int i = from; i < to; i++) o[i] = Math.max(x[i], 0.0) + Math.log1p(Math.exp(-Math.abs(x[i])));
+			break;
+		case EXP:
+			for (int i = from; i < to; i++) o[i] = Math.exp(x[i]);
+			break;
+		case ROUND:
+			// 0.5 는 0 에서 먼 쪽으로 (float 경로와 동일)
+			for (int i = from; i < to; i++) o[i] = Math.copySign(Math.floor(Math.abs(x[i]) + 0.5), x[i]);
+			break;
+		case CEIL:
+			for (int i = from; i < to; i++) o[i] = Math.ceil(x[i]);
+			break;
+		case FLOOR:
+			for (int i = from; i < to; i++) o[i] = Math.floor(x[i]);
+			break;
+		case NOT:
+			for (int i = from; i < to; i++) o[i] = x[i] == 0.0 ? 1.0 : 0.0;
+			break;
+		case DEG2RAD:
+			for (int i = from; i < to; i++) o[i] = x[i] * (Math.PI / 180.0);
+			break;
+		case RAD2DEG:
+			for (int i = from; i < to; i++) o[i] = x[i] * (180.0 / Math.PI);
+			break;
+		}
+	}
+
+	/**
+	 * Applies {@code op} to {@code a} and {@code b}, broadcasting both to
+	 * {@code outShape}; see {@link CpuBinary#apply}.
+	 */
+	static double[] binary(CpuBinary.Op op, double[] a, int[] sa, double[] b, int[] sb, int[] outShape) {
+		CpuBinary.Plan p = CpuBinary.plan(sa, sb, outShape);
+		double[] o = new double[p.n];
+		int outer = p.dims.length;
+		int inner = p.inner;
+
+		CpuParallel.forRange(p.n, (from, to) -> {
+			int row = from / inner, col = from % inner;
+			int[] ctr = new int[outer];
+			int offA = 0, offB = 0;
+			for (int d = outer - 1; d >= 0; d--) {
+				ctr[d] = row % p.dims[d];
+				row /= p.dims[d];
+				offA += ctr[d] * p.strideA[d];
+				offB += ctr[d] * p.strideB[d];
+			}
+
+			for (int pos = from; pos < to;) {
+				int len = Math.min(inner - col, to - pos);
+				int ia = p.repeatA ? offA : offA + col;
+				int ib = p.repeatB ? offB : offB + col;
+				if (CpuSimd.ENABLED)
+					CpuDoubleSimd.binary(op, a, ia, p.repeatA, b, ib, p.repeatB, o, pos, len);
+				else
+					binary(op, a, ia, p.repeatA, b, ib, p.repeatB, o, pos, 0, len);
+				pos += len;
+				col = 0;
+
+				for (int d = outer - 1; d >= 0; d--) {
+					offA += p.strideA[d];
+					offB += p.strideB[d];
+					if (++ctr[d] < p.dims[d])
+						break;
+					offA -= ctr[d] * p.strideA[d];
+					offB -= ctr[d] * p.strideB[d];
+					ctr[d] = 0;
+				}
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Scalar kernel over one run; see {@link CpuBinary#run}.
+	 */
+	static void binary(CpuBinary.Op op, double[] a, int ia, boolean repeatA, double[] b, int ib, boolean repeatB,
+			double[] o, int io, int from, int to) {
+		double xa = a[ia], yb = b[ib];
+
+		switch (op) {
+		case ADD:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x + y;
+			}
+			break;
+		case SUB:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x - y;
+			}
+			break;
+		case MUL:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x * y;
+			}
+			break;
+		case DIV:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x / y;
+			}
+			break;
+		case POW:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = Math.pow(x, y);
+			}
+			break;
+		case MOD:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x % y;
+			}
+			break;
+		case GT:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x > y ? 1.0 : 0.0;
+			}
+			break;
+		case LT:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x < y ? 1.0 : 0.0;
+			}
+			break;
+		case GE:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x >= y ? 1.0 : 0.0;
+			}
+			break;
+		case LE:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x <= y ? 1.0 : 0.0;
+			}
+			break;
+		case EQ:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x == y ? 1.0 : 0.0;
+			}
+			break;
+		case NE:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = x != y ? 1.0 : 0.0;
+			}
+			break;
+		case AND:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = (x != 0.0 && y != 0.0) ? 1.0 : 0.0;
+			}
+			break;
+		case OR:
+			for (int i = from; i < to; i++) {
+				double x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				o[io + i] = (x != 0.0 || y != 0.0) ? 1.0 : 0.0;
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Adds a bias of {@code blen} values to every row of {@code y} in place; see
+	 * {@link CpuNN#addBias}.
+	 */
+	static void addBias(double[] y, int cols, double[] bias) {
+		int rows = y.length / cols;
+		int blen = bias.length;
+
+		CpuParallel.forRange(rows, Math.max(1, CpuParallel.GRAIN / Math.max(1, cols)), (from, to) -> {
+			for (int r = from; r < to; r++) {
+				int off = r * cols;
+				for (int j = 0; j < cols; j++)
+					y[off + j] += bias[j % blen];
+			}
+		});
+	}
+
+	// ===================== 축 =====================
+
+	/**
+	 * Cascaded reduction of {@code x} from {@code axis} to the last axis; see
+	 * {@link CpuAxis#reduce}.
+	 */
+	static double[] reduce(CpuAxis.Reduce op, double[] x, int[] shape, int axis) {
+		int outer = CpuAxis.prod(shape, 0, axis);
+		int inner = CpuAxis.prod(shape, axis, shape.length);
+		int parts = Math.max(1, (inner + CpuAxis.SEGMENT - 1) / CpuAxis.SEGMENT);
+		int seg = (inner + parts - 1) / parts;
+
+		double[] p0 = new double[outer * parts];
+		double[] p1 = op == CpuAxis.Reduce.VAR || op == CpuAxis.Reduce.STD ? new double[outer * parts] : null;
+
+		CpuParallel.forRange(outer * parts, Math.max(1, CpuParallel.GRAIN / Math.max(1, seg)), (from, to) -> {
+			double[] mm = new double[2];
+			for (int t = from; t < to; t++) {
+				int r = t / parts, part = t % parts;
+				int off = r * inner + part * seg;
+				int n = Math.min(seg, inner - part * seg);
+
+				switch (op) {
+				case SUM:
+				case MEAN:
+					p0[t] = CpuSimd.ENABLED ? CpuDoubleSimd.sum(x, off, n) : sum(x, off, n);
+					break;
+				case VAR:
+				case STD:
+					moments(x, off, n, mm);
+					p0[t] = mm[0];
+					p1[t] = mm[1];
+					break;
+				case MAX:
+					p0[t] = CpuSimd.ENABLED ? CpuDoubleSimd.max(x, off, n) : max(x, off, n);
+					break;
+				case MIN:
+					p0[t] = CpuSimd.ENABLED ? CpuDoubleSimd.min(x, off, n) : min(x, off, n);
+					break;
+				}
+			}
+		});
+
+		double[] o = new double[outer];
+		CpuParallel.forRange(outer, Math.max(1, CpuParallel.GRAIN / parts), (from, to) -> {
+			double[] mm = new double[3];
+			for (int r = from; r < to; r++) {
+				int base = r * parts;
+				switch (op) {
+				case SUM:
+					o[r] = CpuAxis.pairwise(p0, base, parts);
+					break;
+				case MEAN:
+					o[r] = CpuAxis.pairwise(p0, base, parts) / inner;
+					break;
+				case VAR:
+				case STD: {
+					CpuAxis.merge(p0, p1, base, 0, parts, parts, seg, inner - (parts - 1) * seg, mm);
+					double v = mm[2] / inner;
+					o[r] = op == CpuAxis.Reduce.VAR ? v : Math.sqrt(v);
+					break;
+				}
+				case MAX: {
+					double m = p0[base];
+					for (int i = 1; i < parts; i++)
+						m = Math.max(m, p0[base + i]);
+					o[r] = m;
+					break;
+				}
+				case MIN: {
+					double m = p0[base];
+					for (int i = 1; i < parts; i++)
+						m = Math.min(m, p0[base + i]);
+					o[r] = m;
+					break;
+				}
+				}
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Mean and M2 of {@code x[off .. off + n)}, exact per {@link CpuAxis#BLOCK}
+	 * and merged with {@link CpuAxis#chan}. Writes {@code (mean, m2)}.
+	 */
+	private static void moments(double[] x, int off, int n, double[] out) {
+		double[] acc = { 0.0, 0.0, 0.0 };
+		for (int i = 0; i < n; i += CpuAxis.BLOCK) {
+			int len = Math.min(CpuAxis.BLOCK, n - i);
+			double mean = (CpuSimd.ENABLED ? CpuDoubleSimd.sum(x, off + i, len) : sum(x, off + i, len)) / len;
+			double m2 = CpuSimd.ENABLED ? CpuDoubleSimd.sumSq(x, off + i, len, mean) : sumSq(x, off + i, len, mean);
+			CpuAxis.chan(acc, len, mean, m2);
+		}
+		out[0] = acc[1];
+		out[1] = acc[2];
+	}
+
+	/** Sum with four independent accumulators. */
+	static double sum(double[] x, int off, int n) {
+		double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+		int i = 0;
+		for (; i + 4 <= n; i += 4) {
+			s0 += x[off + i];
+			s1 += x[off + i + 1];
+			s2 += x[off + i + 2];
+			s3 += x[off + i + 3];
+		}
+		for (; i < n; i++)
+			s0 += x[off + i];
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	/** Sum of squared deviations from {@code mean}, with four accumulators. */
+	static double sumSq(double[] x, int off, int n, double mean) {
+		double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+		int i = 0;
+		for (; i + 4 <= n; i += 4) {
+			double d0 = x[off + i] - mean, d1 = x[off + i + 1] - mean;
+			double d2 = x[off + i + 2] - mean, d3 = x[off + i + 3] - mean;
+			s0 += d0 * d0;
+			s1 += d1 * d1;
+			s2 += d2 * d2;
+			s3 += d3 * d3;
+		}
+		for (; i < n; i++) {
+			double d = x[off + i] - mean;
+			s0 += d * d;
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	static double max(double[] x, int off, int n) {
+		double m = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++)
+			m = Math.max(m, x[off + i]);
+		return m;
+	}
+
+	static double min(double[] x, int off, int n) {
+		double m = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++)
+			m = Math.min(m, x[off + i]);
+		return m;
+	}
+
+	/**
+	 * Prefix sum of {@code x} along {@code axis}; see {@link CpuAxis#scan}. The
+	 * per-part carries are exact here, since they are already doubles.
+	 */
+	static double[] scan(double[] x, int[] shape, int axis, boolean exclusive, boolean reverse) {
+		int outer = CpuAxis.prod(shape, 0, axis);
+		int n = shape[axis];
+		int inner = CpuAxis.prod(shape, axis + 1, shape.length);
+		double[] o = new double[x.length];
+		if (o.length == 0)
+			return o;
+
+		int width = Math.min(inner, CpuAxis.BLOCK);
+		int chunks = (inner + width - 1) / width;
+		int lines = outer * chunks;
+
+		int parts = 1;
+		if (CpuParallel.threads() > 1 && lines < CpuParallel.threads() * 4)
+			parts = (int) Math.max(1, Math.min(n, (long) n * width / CpuAxis.SEGMENT));
+		int len = (n + parts - 1) / parts;
+		int np = (n + len - 1) / len;
+		int grain = (int) Math.max(1, CpuParallel.GRAIN / ((long) len * width));
+
+		// 부분합 → 부분별 exclusive carry (같은 자리에 덮어씀)
+		double[] carry = np > 1 ? new double[lines * np * width] : null;
+		if (carry != null) {
+			CpuParallel.forRange(lines * np, grain, (from, to) -> {
+				for (int t = from; t < to; t++) {
+					int line = t / np, p = t % np;
+					int j0 = (line % chunks) * width;
+					int w = Math.min(width, inner - j0);
+					int k0 = p * len, k1 = Math.min(n, k0 + len);
+					int base = ((line / chunks) * n + k0) * inner + j0;
+					int c = t * width;
+
+					if (inner == 1) {
+						carry[c] = CpuSimd.ENABLED ? CpuDoubleSimd.sum(x, base, k1 - k0) : sum(x, base, k1 - k0);
+						continue;
+					}
+					for (int k = k0; k < k1; k++, base += inner)
+						for (int j = 0; j < w; j++)
+							carry[c + j] += x[base + j];
+				}
+			});
+
+			for (int line = 0; line < lines; line++)
+				for (int j = 0; j < width; j++) {
+					double run = 0.0;
+					for (int q = 0; q < np; q++) {
+						int c = (line * np + (reverse ? np - 1 - q : q)) * width + j;
+						double part = carry[c];
+						carry[c] = run;
+						run += part;
+					}
+				}
+		}
+
+		CpuParallel.forRange(lines * np, grain, (from, to) -> {
+			double[] run = new double[width];
+			for (int t = from; t < to; t++) {
+				int line = t / np, p = t % np;
+				int j0 = (line % chunks) * width;
+				int w = Math.min(width, inner - j0);
+				int k0 = p * len, k1 = Math.min(n, k0 + len);
+				int base = ((line / chunks) * n + k0) * inner + j0;
+
+				for (int j = 0; j < w; j++)
+					run[j] = carry == null ? 0.0 : carry[t * width + j];
+
+				if (inner == 1) {
+					scanLine(x, o, base, k1 - k0, run[0], exclusive, reverse);
+					continue;
+				}
+				for (int k = 0; k < k1 - k0; k++) {
+					int b = base + (reverse ? k1 - k0 - 1 - k : k) * inner;
+					for (int j = 0; j < w; j++) {
+						double r = run[j];
+						double s = r + x[b + j];
+						o[b + j] = exclusive ? r : s;
+						run[j] = s;
+					}
+				}
+			}
+		});
+		return o;
+	}
+
+	private static void scanLine(double[] x, double[] o, int off, int n, double carry, boolean exclusive,
+			boolean reverse) {
+		double s = carry;
+		if (reverse) {
+			for (int i = off + n - 1; i >= off; i--) {
+				double v = x[i];
+				o[i] = exclusive ? s : s + v;
+				s += v;
+			}
+		} else {
+			for (int i = off; i < off + n; i++) {
+				double v = x[i];
+				o[i] = exclusive ? s : s + v;
+				s += v;
+			}
+		}
+	}
+
+	/**
+	 * Permutes the axes of a row-major tensor; {@code order} must be
+	 * {@link CpuPermute#valid}. Output axis {@code d} reads input axis
+	 * {@code order[d]}, so this is a gather through permuted strides.
+	 */
+	static double[] permute(double[] x, int[] shape, int[] order) {
+		int[] st = CpuStrided.contiguousStrides(shape);
+		int[] ps = new int[order.length];
+		for (int d = 0; d < order.length; d++)
+			ps[d] = st[order[d]];
+		double[] o = new double[x.length];
+		CpuStrided.gather(x, 0, CpuPermute.permuteShape(shape, order), ps, o, 0);
+		return o;
+	}
+
+	/** Swaps {@code axis1} and {@code axis2}; a two-axis {@link #permute}. */
+	static double[] transpose(double[] x, int[] shape, int axis1, int axis2) {
+		int[] order = new int[shape.length];
+		for (int d = 0; d < order.length; d++)
+			order[d] = d;
+		order[axis1] = axis2;
+		order[axis2] = axis1;
+		return permute(x, shape, order);
+	}
+}
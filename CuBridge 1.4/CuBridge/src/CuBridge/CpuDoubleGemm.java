@@ -0,0 +1,226 @@
+package CuBridge;
+
+/**
+ * CpuDoubleGemm: Matrix products of {@link DType#FLOAT64} operands.
+ *
+ * <p>
+ * The blocked GEMM of {@link CpuGemm} in double: operands are read through a
+ * base offset and row/column strides (so the transpose flag costs nothing), B
+ * is packed per {@code KC x NC} panel into {@code NR}-wide slivers, A per
+ * {@code MC x KC} block into {@code MR}-tall slivers, and the micro-kernel
+ * keeps an {@code MR x NR} tile of C in registers ({@link CpuDoubleSimd} with
+ * the Vector API, a scalar kernel otherwise). Products with few multiply-adds
+ * are computed row by row without packing.
+ * </p>
+ * <p>
+ * Batches run one product after another, each spread over the cores; a
+ * broadcast {@code [K, N]} right operand turns {@code [B, M, K]} into a single
+ * {@code [B * M, K]} product as on the float path.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuDoubleGemm {
+
+	/** Products with at most this many multiply-adds skip packing. */
+	private static final long SMALL = 32 * 32 * 32;
+
+	/** Register tile (rows of A, columns of B) of the micro-kernel. */
+	static final int MR = CpuSimd.ENABLED ? CpuDoubleSimd.MR : 4;
+	static final int NR = CpuSimd.ENABLED ? CpuDoubleSimd.NR : 32;
+
+	/** Cache blocks; a KC x NR sliver of B is as many bytes as on the float path. */
+	static final int KC = 256;
+	static final int MC = MR * 24;
+	static final int NC = 2048;
+
+	private CpuDoubleGemm() {
+	}
+
+	/**
+	 * Batched product into a new {@code outShape} array; see
+	 * {@link CpuGemm#matmul}.
+	 */
+	static double[] matmul(double[] a, int[] sa, boolean transA, double[] b, int[] sb, boolean transB,
+			int[] outShape) {
+		int M = sa[sa.length - 2], K = sa[sa.length - 1];
+		int N = sb[sb.length - 1];
+
+		int rank = outShape.length - 2;
+		int[] batch = java.util.Arrays.copyOf(outShape, rank);
+		int[] bsa = java.util.Arrays.copyOf(sa, sa.length - 2), bsb = java.util.Arrays.copyOf(sb, sb.length - 2);
+		int[] dimA = CpuBinary.alignedDims(bsa, rank), dimB = CpuBinary.alignedDims(bsb, rank);
+		int[] stA = CpuBinary.tileStrides(bsa, rank), stB = CpuBinary.tileStrides(bsb, rank);
+		int nb = CpuBinary.len(batch);
+
+		int rsA = transA ? 1 : K, csA = transA ? M : 1;
+		int rsB = transB ? 1 : N, csB = transB ? K : 1;
+		double[] c = new double[nb * M * N];
+
+		int[] offA = new int[nb], offB = new int[nb];
+		for (int bi = 0; bi < nb; bi++) {
+			int rem = bi, ia = 0, ib = 0;
+			for (int d = rank - 1; d >= 0; d--) {
+				int coord = rem % batch[d];
+				rem /= batch[d];
+				ia += (coord % dimA[d]) * stA[d];
+				ib += (coord % dimB[d]) * stB[d];
+			}
+			offA[bi] = ia * M * K;
+			offB[bi] = ib * K * N;
+		}
+
+		if (nb > 1 && !transA && CpuBinary.len(bsb) == 1 && CpuBinary.len(bsa) == nb) {
+			// {B, M, K} x {K, N}: 배치를 행으로 펼쳐 하나의 곱으로 계산
+			M *= nb;
+			nb = 1;
+		}
+
+		if ((long) M * N * K <= SMALL) {
+			int rows = M, total = nb * M;
+			CpuParallel.forRange(total, Math.max(1, CpuParallel.GRAIN / Math.max(1, N * K)), (from, to) -> {
+				for (int row = from; row < to; row++) {
+					int bi = row / rows;
+					gemmRow(row % rows, N, K, a, offA[bi], rsA, csA, b, offB[bi], rsB, csB, c, row * N);
+				}
+			});
+			return c;
+		}
+
+		for (int bi = 0; bi < nb; bi++)
+			gemm(M, N, K, a, offA[bi], rsA, csA, b, offB[bi], rsB, csB, c, bi * M * N);
+		return c;
+	}
+
+	/**
+	 * One output row {@code C[i, :] = sum_k A[i, k] * B[k, :]}.
+	 */
+	private static void gemmRow(int i, int N, int K, double[] a, int offA, int rsA, int csA, double[] b, int offB,
+			int rsB, int csB, double[] c, int rowC) {
+		for (int k = 0; k < K; k++) {
+			// 0 도 곱함: 0 * Inf, 0 * NaN 은 NaN
+			double aik = a[offA + i * rsA + k * csA];
+			int rowB = offB + k * rsB;
+			for (int j = 0; j < N; j++)
+				c[rowC + j] += aik * b[rowB + j * csB];
+		}
+	}
+
+	/**
+	 * Blocked {@code C += A * B} for one matrix pair, the MC blocks of each
+	 * panel running in parallel; {@code C} is row-major with {@code N} columns
+	 * starting at {@code offC}.
+	 */
+	static void gemm(int M, int N, int K, double[] a, int offA, int rsA, int csA, double[] b, int offB, int rsB,
+			int csB, double[] c, int offC) {
+		double[] bp = new double[KC * round(Math.min(N, NC), NR)];
+		int blocks = (M + MC - 1) / MC;
+
+		for (int jc = 0; jc < N; jc += NC) {
+			int nc = Math.min(NC, N - jc);
+			for (int pc = 0; pc < K; pc += KC) {
+				int kc = Math.min(KC, K - pc);
+				packB(kc, nc, b, offB + pc * rsB + jc * csB, rsB, csB, bp);
+
+				int j0 = jc, p0 = pc;
+				CpuParallel.forRange(blocks, 1, (from, to) -> {
+					double[] ap = new double[round(MC, MR) * kc];
+					for (int blk = from; blk < to; blk++) {
+						int ic = blk * MC;
+						int mc = Math.min(MC, M - ic);
+						packA(mc, kc, a, offA + ic * rsA + p0 * csA, rsA, csA, ap);
+						macro(mc, nc, kc, ap, bp, c, offC + ic * N + j0, N);
+					}
+				});
+			}
+		}
+	}
+
+	private static int round(int n, int r) {
+		return (n + r - 1) / r * r;
+	}
+
+	/**
+	 * Packs {@code A[0..mc, 0..kc]} into MR-tall slivers; rows past {@code mc}
+	 * are zero.
+	 */
+	private static void packA(int mc, int kc, double[] a, int off, int rs, int cs, double[] ap) {
+		int p = 0;
+		for (int ir = 0; ir < mc; ir += MR) {
+			int mr = Math.min(MR, mc - ir);
+			for (int k = 0; k < kc; k++) {
+				int src = off + ir * rs + k * cs;
+				int r = 0;
+				for (; r < mr; r++)
+					ap[p++] = a[src + r * rs];
+				for (; r < MR; r++)
+					ap[p++] = 0.0;
+			}
+		}
+	}
+
+	/**
+	 * Packs {@code B[0..kc, 0..nc]} into NR-wide slivers in parallel; columns
+	 * past {@code nc} are zero.
+	 */
+	private static void packB(int kc, int nc, double[] b, int off, int rs, int cs, double[] bp) {
+		int slivers = (nc + NR - 1) / NR;
+		CpuParallel.forRange(slivers, Math.max(1, CpuParallel.GRAIN / (NR * kc)), (from, to) -> {
+			for (int s = from; s < to; s++) {
+				int jr = s * NR;
+				int nr = Math.min(NR, nc - jr);
+				int p = s * NR * kc;
+				for (int k = 0; k < kc; k++) {
+					int src = off + k * rs + jr * cs;
+					int j = 0;
+					for (; j < nr; j++)
+						bp[p++] = b[src + j * cs];
+					for (; j < NR; j++)
+						bp[p++] = 0.0;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Runs the micro-kernel over every MR x NR tile of one packed block.
+	 */
+	private static void macro(int mc, int nc, int kc, double[] ap, double[] bp, double[] c, int offC, int ldc) {
+		for (int jr = 0; jr < nc; jr += NR) {
+			int nr = Math.min(NR, nc - jr);
+			int pb = jr * kc;
+			for (int ir = 0; ir < mc; ir += MR) {
+				int mr = Math.min(MR, mc - ir);
+				int pa = ir * kc;
+				int dst = offC + ir * ldc + jr;
+				if (CpuSimd.ENABLED)
+					CpuDoubleSimd.kernel(kc, ap, pa, bp, pb, c, dst, ldc, mr, nr);
+				else
+					kernel(kc, ap, pa, bp, pb, c, dst, ldc, mr, nr);
+			}
+		}
+	}
+
+	/**
+	 * Scalar micro-kernel: {@code C[0..mr, 0..nr] += Ap * Bp} over {@code kc}
+	 * (MR is 4 on this path).
+	 */
+	private static void kernel(int kc, double[] ap, int pa, double[] bp, int pb, double[] c, int offC, int ldc,
+			int mr, int nr) {
+		double[] acc = new double[4 * NR];
+		for (int k = 0; k < kc; k++, pa += MR, pb += NR) {
+			double a0 = ap[pa], a1 = ap[pa + 1], a2 = ap[pa + 2], a3 = ap[pa + 3];
+			for (int j = 0; j < NR; j++) {
+				double bv = bp[pb + j];
+				acc[j] += a0 * bv;
+				acc[NR + j] += a1 * bv;
+				acc[2 * NR + j] += a2 * bv;
+				acc[3 * NR + j] += a3 * bv;
+			}
+		}
+
+		for (int r = 0; r < mr; r++)
+			for (int j = 0; j < nr; j++)
+				c[offC + r * ldc + j] += acc[r * NR + j];
+	}
+}
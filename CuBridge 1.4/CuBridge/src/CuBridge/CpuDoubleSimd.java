@@ -0,0 +1,321 @@
+package CuBridge;
+
+import jdk.incubator.vector.*;
+
+/**
+ * CpuDoubleSimd: Vector API kernels of {@link CpuDouble} and
+ * {@link CpuDoubleGemm}.
+ *
+ * <p>
+ * The float SIMD kernels on the preferred {@link DoubleVector} species:
+ * </p>
+ * <ul>
+ *   <li>Unary: the transcendental ops and comparisons, as in
+ *       {@link CpuUnarySimd}. Arithmetic and rounding keep the scalar loop,
+ *       which C2 already compiles to SIMD instructions for doubles.</li>
+ *   <li>Binary: one run of a broadcast, as in {@link CpuBinarySimd}.</li>
+ *   <li>Reductions: sum, squared deviations, max and min over lanes.</li>
+ *   <li>GEMM: a {@code 6 x 2V} tile of C in twelve accumulators, as in
+ *       {@link CpuGemmSimd}.</li>
+ * </ul>
+ * <p>
+ * Only called when {@link CpuSimd#ENABLED} is true.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuDoubleSimd {
+
+	private static final VectorSpecies<Double> D = DoubleVector.SPECIES_PREFERRED;
+	private static final int L = D.length();
+
+	static final int MR = 6;
+	static final int NR = 2 * L;
+
+	private CpuDoubleSimd() {
+	}
+
+	// ===================== 원소별 =====================
+
+	/**
+	 * Vector kernel over {@code [from, to)}; the tail and ops without a vector
+	 * loop run {@link CpuDouble#unary(CpuUnary.Op, double[], double[], int, int)}.
+	 */
+	static void unary(CpuUnary.Op op, double[] x, double[] o, int from, int to) {
+		final int bound = from + D.loopBound(to - from);
+		final DoubleVector zero = DoubleVector.zero(D);
+		final DoubleVector one = DoubleVector.broadcast(D, 1.0);
+		int i = from;
+
+		switch (op) {
+		case LOG:
+			for (; i < bound; i += L)
+				DoubleVector.fromArray(D, x, i).lanewise(VectorOperators.LOG10).intoArray(o, i);
+			break;
+		case LOG2:
+			for (; i < bound; i += L)
+				DoubleVector.fromArray(D, x, i).lanewise(VectorOperators.LOG).mul(CpuUnary.INV_LN2).intoArray(o, i);
+			break;
+		case LN:
+			for (; i < bound; i += L)
+				DoubleVector.fromArray(D, x, i).lanewise(VectorOperators.LOG).intoArray(o, i);
+			break;
+		case SIN:
+			for (; i < bound; i += L)
+				DoubleVector.fromArray(D, x, i).lanewise(VectorOperators.SIN).intoArray(o, i);
+			break;
+		case COS:
+			for (; i < bound; i += L)
+				DoubleVector.fromArray(D, x, i).lanewise(VectorOperators.COS).intoArray(o, i);
+			break;
+		case TAN:
+			for (; i < bound; i += L)
+				DoubleVector.fromArray(D, x, i).lanewise(VectorOperators.TAN).intoArray(o, i);
+			break;
+		case STEP:
+			for (; i < bound; i += L) {
+				DoubleVector v = DoubleVector.fromArray(D, x, i);
+				zero.blend(1.0, v.compare(VectorOperators.GT, 0.0)).intoArray(o, i);
+			}
+			break;
+		case SIGMOID:
+			for (; i < bound; i += L) {
+				DoubleVector v = DoubleVector.fromArray(D, x, i);
+				one.div(v.neg().lanewise(VectorOperators.EXP).add(1.0)).intoArray(o, i);
+			}
+			break;
+		case TANH:
+			for (; i < bound; i += L)
+				DoubleVector.fromArray(D, x, i).lanewise(VectorOperators.TANH).intoArray(o, i);
+			break;
+		case LEAKRELU:
+			for (; i < bound; i += L) {
+				DoubleVector v = DoubleVector.fromArray(D, x, i);
+				v.mul(CpuDouble.LEAK).blend(v, v.compare(VectorOperators.GT, 0.0)).intoArray(o, i);
+			}
+			break;
+		case SOFTPLUS:
+			for (; i < bound; i += L) {
+				DoubleVector v = DoubleVector.fromArray(D, x, i);
+				v.max(0.0).add(v.abs().neg().lanewise(VectorOperators.EXP).lanewise(VectorOperators.LOG1P)).intoArray(o, i);
+			}
+			break;
+		case EXP:
+			for (; i < bound; i += L)
+				DoubleVector.fromArray(D, x, i).lanewise(VectorOperators.EXP).intoArray(o, i);
+			break;
+		case NOT:
+			for (; i < bound; i += L) {
+				DoubleVector v = DoubleVector.fromArray(D, x, i);
+				zero.blend(1.0, v.compare(VectorOperators.EQ, 0.0)).intoArray(o, i);
+			}
+			break;
+		default:
+			break;
+		}
+
+		CpuDouble.unary(op, x, o, i, to);
+	}
+
+	/**
+	 * Vector kernel over one run of {@code n} outputs starting at {@code io};
+	 * see {@link CpuBinarySimd#run}.
+	 */
+	static void binary(CpuBinary.Op op, double[] a, int ia, boolean repeatA, double[] b, int ib, boolean repeatB,
+			double[] o, int io, int n) {
+		final int bound = D.loopBound(n);
+		final DoubleVector zero = DoubleVector.zero(D);
+		final DoubleVector xa = DoubleVector.broadcast(D, a[ia]);
+		final DoubleVector yb = DoubleVector.broadcast(D, b[ib]);
+		int i = 0;
+
+		switch (op) {
+		case ADD:
+			for (; i < bound; i += L)
+				load(a, ia + i, repeatA, xa).add(load(b, ib + i, repeatB, yb)).intoArray(o, io + i);
+			break;
+		case SUB:
+			for (; i < bound; i += L)
+				load(a, ia + i, repeatA, xa).sub(load(b, ib + i, repeatB, yb)).intoArray(o, io + i);
+			break;
+		case MUL:
+			for (; i < bound; i += L)
+				load(a, ia + i, repeatA, xa).mul(load(b, ib + i, repeatB, yb)).intoArray(o, io + i);
+			break;
+		case DIV:
+			for (; i < bound; i += L)
+				load(a, ia + i, repeatA, xa).div(load(b, ib + i, repeatB, yb)).intoArray(o, io + i);
+			break;
+		case GT:
+			for (; i < bound; i += L) {
+				DoubleVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0, x.compare(VectorOperators.GT, y)).intoArray(o, io + i);
+			}
+			break;
+		case LT:
+			for (; i < bound; i += L) {
+				DoubleVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0, x.compare(VectorOperators.LT, y)).intoArray(o, io + i);
+			}
+			break;
+		case GE:
+			for (; i < bound; i += L) {
+				DoubleVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0, x.compare(VectorOperators.GE, y)).intoArray(o, io + i);
+			}
+			break;
+		case LE:
+			for (; i < bound; i += L) {
+				DoubleVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0, x.compare(VectorOperators.LE, y)).intoArray(o, io + i);
+			}
+			break;
+		case EQ:
+			for (; i < bound; i += L) {
+				DoubleVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0, x.compare(VectorOperators.EQ, y)).intoArray(o, io + i);
+			}
+			break;
+		case NE:
+			for (; i < bound; i += L) {
+				DoubleVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0, x.compare(VectorOperators.NE, y)).intoArray(o, io + i);
+			}
+			break;
+		case AND:
+			for (; i < bound; i += L) {
+				DoubleVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0, x.compare(VectorOperators.NE, 0.0).and(y.compare(VectorOperators.NE, 0.0))).intoArray(o, io + i);
+			}
+			break;
+		case OR:
+			for (; i < bound; i += L) {
+				DoubleVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				zero.blend(1.0, x.compare(VectorOperators.NE, 0.0).or(y.compare(VectorOperators.NE, 0.0))).intoArray(o, io + i);
+			}
+			break;
+		default:
+			break;
+		}
+
+		if (i < n)
+			CpuDouble.binary(op, a, ia, repeatA, b, ib, repeatB, o, io, i, n);
+	}
+
+	private static DoubleVector load(double[] x, int i, boolean repeat, DoubleVector value) {
+		return repeat ? value : DoubleVector.fromArray(D, x, i);
+	}
+
+	// ===================== 축 =====================
+
+	/** Sum of {@code x[off .. off + n)} with two vector accumulators. */
+	static double sum(double[] x, int off, int n) {
+		DoubleVector s0 = DoubleVector.zero(D), s1 = s0;
+		int i = 0;
+		for (int bound = n - 2 * L; i <= bound; i += 2 * L) {
+			s0 = s0.add(DoubleVector.fromArray(D, x, off + i));
+			s1 = s1.add(DoubleVector.fromArray(D, x, off + i + L));
+		}
+		return s0.add(s1).reduceLanes(VectorOperators.ADD) + CpuDouble.sum(x, off + i, n - i);
+	}
+
+	/** Sum of squared deviations from {@code mean}. */
+	static double sumSq(double[] x, int off, int n, double mean) {
+		DoubleVector m = DoubleVector.broadcast(D, mean);
+		DoubleVector s0 = DoubleVector.zero(D), s1 = s0;
+		int i = 0;
+		for (int bound = n - 2 * L; i <= bound; i += 2 * L) {
+			DoubleVector d0 = DoubleVector.fromArray(D, x, off + i).sub(m);
+			DoubleVector d1 = DoubleVector.fromArray(D, x, off + i + L).sub(m);
+			s0 = d0.fma(d0, s0);
+			s1 = d1.fma(d1, s1);
+		}
+		return s0.add(s1).reduceLanes(VectorOperators.ADD) + CpuDouble.sumSq(x, off + i, n - i, mean);
+	}
+
+	static double max(double[] x, int off, int n) {
+		DoubleVector m = DoubleVector.broadcast(D, Double.NEGATIVE_INFINITY);
+		int i = 0;
+		for (int bound = D.loopBound(n); i < bound; i += L)
+			m = m.max(DoubleVector.fromArray(D, x, off + i));
+		return Math.max(m.reduceLanes(VectorOperators.MAX), CpuDouble.max(x, off + i, n - i));
+	}
+
+	static double min(double[] x, int off, int n) {
+		DoubleVector m = DoubleVector.broadcast(D, Double.POSITIVE_INFINITY);
+		int i = 0;
+		for (int bound = D.loopBound(n); i < bound; i += L)
+			m = m.min(DoubleVector.fromArray(D, x, off + i));
+		return Math.min(m.reduceLanes(VectorOperators.MIN), CpuDouble.min(x, off + i, n - i));
+	}
+
+	// ===================== 행렬 곱 =====================
+
+	/**
+	 * {@code C[0..mr, 0..nr] += Ap * Bp} over {@code kc}, with {@code C} at
+	 * {@code offC} and row stride {@code ldc}.
+	 */
+	static void kernel(int kc, double[] ap, int pa, double[] bp, int pb, double[] c, int offC, int ldc, int mr,
+			int nr) {
+		final DoubleVector zero = DoubleVector.zero(D);
+		DoubleVector c00 = zero, c01 = zero, c10 = zero, c11 = zero, c20 = zero, c21 = zero;
+		DoubleVector c30 = zero, c31 = zero, c40 = zero, c41 = zero, c50 = zero, c51 = zero;
+
+		for (int k = 0; k < kc; k++, pa += MR, pb += NR) {
+			DoubleVector b0 = DoubleVector.fromArray(D, bp, pb);
+			DoubleVector b1 = DoubleVector.fromArray(D, bp, pb + L);
+			DoubleVector av;
+			av = DoubleVector.broadcast(D, ap[pa]);
+			c00 = av.fma(b0, c00);
+			c01 = av.fma(b1, c01);
+			av = DoubleVector.broadcast(D, ap[pa + 1]);
+			c10 = av.fma(b0, c10);
+			c11 = av.fma(b1, c11);
+			av = DoubleVector.broadcast(D, ap[pa + 2]);
+			c20 = av.fma(b0, c20);
+			c21 = av.fma(b1, c21);
+			av = DoubleVector.broadcast(D, ap[pa + 3]);
+			c30 = av.fma(b0, c30);
+			c31 = av.fma(b1, c31);
+			av = DoubleVector.broadcast(D, ap[pa + 4]);
+			c40 = av.fma(b0, c40);
+			c41 = av.fma(b1, c41);
+			av = DoubleVector.broadcast(D, ap[pa + 5]);
+			c50 = av.fma(b0, c50);
+			c51 = av.fma(b1, c51);
+		}
+
+		if (mr == MR && nr == NR) {
+			add(c00, c01, c, offC);
+			add(c10, c11, c, offC + ldc);
+			add(c20, c21, c, offC + 2 * ldc);
+			add(c30, c31, c, offC + 3 * ldc);
+			add(c40, c41, c, offC + 4 * ldc);
+			add(c50, c51, c, offC + 5 * ldc);
+			return;
+		}
+
+		// 가장자리 타일은 임시 타일에 저장 후 유효 영역만 더함
+		double[] t = new double[MR * NR];
+		c00.intoArray(t, 0);
+		c01.intoArray(t, L);
+		c10.intoArray(t, NR);
+		c11.intoArray(t, NR + L);
+		c20.intoArray(t, 2 * NR);
+		c21.intoArray(t, 2 * NR + L);
+		c30.intoArray(t, 3 * NR);
+		c31.intoArray(t, 3 * NR + L);
+		c40.intoArray(t, 4 * NR);
+		c41.intoArray(t, 4 * NR + L);
+		c50.intoArray(t, 5 * NR);
+		c51.intoArray(t, 5 * NR + L);
+		for (int r = 0; r < mr; r++)
+			for (int j = 0; j < nr; j++)
+				c[offC + r * ldc + j] += t[r * NR + j];
+	}
+
+	private static void add(DoubleVector v0, DoubleVector v1, double[] c, int off) {
+		v0.add(DoubleVector.fromArray(D, c, off)).intoArray(c, off);
+		v1.add(DoubleVector.fromArray(D, c, off + L)).intoArray(c, off + L);
+	}
+}
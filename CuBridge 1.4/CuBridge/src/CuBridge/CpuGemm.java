@@ -0,0 +1,389 @@
+package CuBridge;
+
+/**
+ * CpuGemm: Matrix products for dot/matmul/affine on the pure-Java engine.
+ *
+ * <p>
+ * Operands are described by a base offset and a row/column stride, so a tensor
+ * carrying the v1.4 transpose flag ({@code reshape(name, {-M, N})}) is read in
+ * place instead of being copied into transposed order first.
+ * </p>
+ * <p>
+ * Larger products use a blocked GEMM in the usual Goto/BLIS layout:
+ * </p>
+ * <ul>
+ *   <li>B is packed per {@code KC x NC} panel into {@code NR}-wide slivers, A per
+ *       {@code MC x KC} block into {@code MR}-tall slivers. The strides are only
+ *       used while packing, so a transposed operand costs nothing extra.</li>
+ *   <li>A micro-kernel keeps an {@code MR x NR} tile of C in registers for the
+ *       whole {@code KC} loop ({@link CpuGemmSimd} with the Vector API, a scalar
+ *       kernel otherwise).</li>
+ *   <li>The {@code MC} blocks of one panel run in parallel; each task packs its
+ *       own A block, the B panel is shared.</li>
+ * </ul>
+ * <p>
+ * Batched products ({@code [B, M, K] x [B, K, N]}) pack every distinct B once
+ * and split (batch, MC block) pairs across cores. A broadcast {@code [K, N]}
+ * right operand turns {@code [B, M, K]} into a single {@code [B * M, K]}
+ * product, and batches of small matrices (up to 64 per side) skip packing.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuGemm {
+
+	/** Products with at most this many multiply-adds skip packing. */
+	private static final long SMALL = 32 * 32 * 32;
+
+	/** Batched products with every dimension up to this size use the unpacked SIMD kernel. */
+	static final int SMALL_DIM = 64;
+
+	/** Register tile (rows of A, columns of B) of the micro-kernel. */
+	static final int MR = CpuSimd.ENABLED ? CpuGemmSimd.MR : 4;
+	static final int NR = CpuSimd.ENABLED ? CpuGemmSimd.NR : 64;
+
+	/** Cache blocks: a KC x NR sliver of B stays in L1, an MC x KC block of A in L2. */
+	static final int KC = 256;
+	static final int MC = MR * (CpuSimd.ENABLED ? 24 : 32);
+	static final int NC = 4096;
+
+	private CpuGemm() {
+	}
+
+	/**
+	 * Computes one output row {@code C[i, :] = sum_k A[i, k] * B[k, :]}, where
+	 * {@code A[i, k] = a[offA + i * rsA + k * csA]} and
+	 * {@code B[k, j] = b[offB + k * rsB + j * csB]}.
+	 */
+	private static void gemmRow(int i, int N, int K, float[] a, int offA, int rsA, int csA, float[] b, int offB,
+			int rsB, int csB, float[] c, int rowC) {
+		for (int j = 0; j < N; j++)
+			c[rowC + j] = 0.0f;
+
+		for (int k = 0; k < K; k++) {
+			// 0 도 곱함: 0 * Inf, 0 * NaN 은 NaN (SIMD 경로·네이티브 드라이버와 같음)
+			float aik = a[offA + i * rsA + k * csA];
+			int rowB = offB + k * rsB;
+			if (csB == 1)
+				for (int j = 0; j < N; j++)
+					c[rowC + j] += aik * b[rowB + j];
+			else
+				for (int j = 0; j < N; j++)
+					c[rowC + j] += aik * b[rowB + j * csB];
+		}
+	}
+
+	/**
+	 * Output shape of a batched product of {@code [..., M, K]} and
+	 * {@code [..., K, N]} operands. Leading (batch) axes are broadcast with the
+	 * multiple-of-size rule.
+	 *
+	 * @param sa left operand logical shape (rank ≥ 2)
+	 * @param sb right operand logical shape (rank ≥ 2)
+	 * @return {@code [...batch, M, N]}, or {@code null} on shape mismatch
+	 */
+	static int[] matmulShape(int[] sa, int[] sb) {
+		int ra = sa.length, rb = sb.length;
+		if (ra < 2 || rb < 2 || sa[ra - 1] != sb[rb - 2])
+			return null;
+
+		int[] batch = CpuBinary.broadcastShape(batchOf(sa), batchOf(sb), true, true);
+		if (batch == null)
+			return null;
+
+		int[] out = new int[batch.length + 2];
+		System.arraycopy(batch, 0, out, 0, batch.length);
+		out[batch.length] = sa[ra - 2];
+		out[batch.length + 1] = sb[rb - 1];
+		return out;
+	}
+
+	private static int[] batchOf(int[] shape) {
+		int[] batch = new int[shape.length - 2];
+		System.arraycopy(shape, 0, batch, 0, batch.length);
+		return batch;
+	}
+
+	/**
+	 * Batched product into a new {@code outShape} array (see
+	 * {@link #matmulShape(int[], int[])}).
+	 *
+	 * @param a      left operand data
+	 * @param sa     left operand logical shape
+	 * @param transA whether {@code a} is stored as {@code [..., K, M]}
+	 * @param b      right operand data
+	 * @param sb     right operand logical shape
+	 * @param transB whether {@code b} is stored as {@code [..., N, K]}
+	 * @param outShape result shape from {@code matmulShape}
+	 * @return the output data
+	 */
+	static float[] matmul(float[] a, int[] sa, boolean transA, float[] b, int[] sb, boolean transB, int[] outShape) {
+		int M = sa[sa.length - 2], K = sa[sa.length - 1];
+		int N = sb[sb.length - 1];
+
+		int rank = outShape.length - 2;
+		int[] batch = batchOf(outShape);
+		int[] dimA = CpuBinary.alignedDims(batchOf(sa), rank);
+		int[] dimB = CpuBinary.alignedDims(batchOf(sb), rank);
+		int[] stA = CpuBinary.tileStrides(batchOf(sa), rank);
+		int[] stB = CpuBinary.tileStrides(batchOf(sb), rank);
+		int nb = CpuBinary.len(batch);
+
+		int rsA = transA ? 1 : K, csA = transA ? M : 1;
+		int rsB = transB ? 1 : N, csB = transB ? K : 1;
+		float[] c = TensorPool.takeZeroed(nb * M * N);
+
+		int[] offA = new int[nb], offB = new int[nb];
+		for (int bi = 0; bi < nb; bi++) {
+			int rem = bi, ia = 0, ib = 0;
+			for (int d = rank - 1; d >= 0; d--) {
+				int coord = rem % batch[d];
+				rem /= batch[d];
+				ia += (coord % dimA[d]) * stA[d];
+				ib += (coord % dimB[d]) * stB[d];
+			}
+			offA[bi] = ia * M * K;
+			offB[bi] = ib * K * N;
+		}
+
+		if (CpuSimd.ENABLED && M <= SMALL_DIM && N <= SMALL_DIM && K <= SMALL_DIM) {
+			small(nb, M, N, K, a, offA, rsA, csA, b, offB, rsB, csB, c);
+		} else if (nb > 1 && !transA && CpuBinary.len(batchOf(sb)) == 1 && CpuBinary.len(batchOf(sa)) == nb) {
+			// {B, M, K} x {K, N}: 배치를 행으로 펼쳐 하나의 {B * M, K} x {K, N} 곱으로 계산
+			if ((long) nb * M * N * K <= SMALL)
+				rows(nb * M, N, K, a, new int[] { 0 }, nb * M, rsA, csA, b, offB, rsB, csB, c);
+			else
+				gemm(nb * M, N, K, a, 0, rsA, csA, b, offB[0], rsB, csB, c, 0, true);
+		} else if ((long) M * N * K <= SMALL) {
+			rows(M, N, K, a, offA, nb * M, rsA, csA, b, offB, rsB, csB, c);
+		} else if (nb == 1) {
+			gemm(M, N, K, a, offA[0], rsA, csA, b, offB[0], rsB, csB, c, 0, true);
+		} else {
+			batched(nb, M, N, K, a, offA, rsA, csA, b, offB, CpuBinary.len(batchOf(sb)), rsB, csB, c);
+		}
+		return c;
+	}
+
+	/**
+	 * Unpacked path for tiny products: {@code total} output rows of {@code N}
+	 * columns, row {@code r} belonging to batch {@code r / M}, split across cores.
+	 */
+	private static void rows(int M, int N, int K, float[] a, int[] offA, int total, int rsA, int csA, float[] b,
+			int[] offB, int rsB, int csB, float[] c) {
+		CpuParallel.forRange(total, Math.max(1, CpuParallel.GRAIN / Math.max(1, N * K)), (from, to) -> {
+			for (int row = from; row < to; row++) {
+				int bi = row / M;
+				gemmRow(row % M, N, K, a, offA[bi], rsA, csA, b, offB[bi], rsB, csB, c, row * N);
+			}
+		});
+	}
+
+	/**
+	 * Batches of small matrices (every dimension ≤ {@link #SMALL_DIM}): no
+	 * packing and no per-product setup. Each task takes a run of batches and
+	 * feeds A and B straight to {@link CpuGemmSimd#direct}. A B whose width is not
+	 * a multiple of NR, or that carries the transpose flag, is first copied into a
+	 * zero-padded per-task scratch (once per distinct B).
+	 */
+	private static void small(int nb, int M, int N, int K, float[] a, int[] offA, int rsA, int csA, float[] b,
+			int[] offB, int rsB, int csB, float[] c) {
+		boolean copy = csB != 1 || N % NR != 0;
+		int ldb = round(N, NR);
+
+		CpuParallel.forRange(nb, Math.max(1, CpuParallel.GRAIN / (M * N * Math.max(1, K / 8))), (from, to) -> {
+			float[] bt = copy ? new float[K * ldb] : null;
+			int last = -1;
+			for (int bi = from; bi < to; bi++) {
+				if (!copy) {
+					CpuGemmSimd.direct(M, N, K, a, offA[bi], rsA, csA, b, offB[bi], rsB, c, bi * M * N);
+					continue;
+				}
+				if (offB[bi] != last) {
+					last = offB[bi];
+					for (int k = 0; k < K; k++)
+						for (int j = 0; j < N; j++)
+							bt[k * ldb + j] = b[last + k * rsB + j * csB];
+				}
+				CpuGemmSimd.direct(M, N, K, a, offA[bi], rsA, csA, bt, 0, ldb, c, bi * M * N);
+			}
+		});
+	}
+
+	/**
+	 * Batched blocked GEMM that parallelizes over batches and MC blocks
+	 * together. Each distinct B matrix ({@code nbB} of them; one for a broadcast
+	 * {@code [K, N]} operand) is packed once up front, then every
+	 * (batch, MC block) pair is an independent task over all panels.
+	 */
+	private static void batched(int nb, int M, int N, int K, float[] a, int[] offA, int rsA, int csA, float[] b,
+			int[] offB, int nbB, int rsB, int csB, float[] c) {
+		int packed = K * round(N, NR);
+		int panelsN = (N + NC - 1) / NC, panelsK = (K + KC - 1) / KC;
+		float[] bp = new float[nbB * packed];
+
+		CpuParallel.forRange(nbB * panelsN * panelsK, 1, (from, to) -> {
+			for (int t = from; t < to; t++) {
+				int ib = t / (panelsN * panelsK);
+				int jc = (t / panelsK) % panelsN * NC, pc = t % panelsK * KC;
+				int nc = Math.min(NC, N - jc), kc = Math.min(KC, K - pc);
+				int dst = ib * packed + jc * K + pc * round(nc, NR);
+				packB(kc, nc, b, ib * K * N + pc * rsB + jc * csB, rsB, csB, bp, dst, false);
+			}
+		});
+
+		int blocks = (M + MC - 1) / MC;
+		CpuParallel.forRange(nb * blocks, 1, (from, to) -> {
+			float[] ap = new float[round(MC, MR) * KC];
+			for (int t = from; t < to; t++) {
+				int bi = t / blocks;
+				int ic = t % blocks * MC;
+				int mc = Math.min(MC, M - ic);
+				int base = offB[bi] / (K * N) * packed;
+
+				for (int jc = 0; jc < N; jc += NC) {
+					int nc = Math.min(NC, N - jc);
+					for (int pc = 0; pc < K; pc += KC) {
+						int kc = Math.min(KC, K - pc);
+						packA(mc, kc, a, offA[bi] + ic * rsA + pc * csA, rsA, csA, ap);
+						macro(mc, nc, kc, ap, bp, base + jc * K + pc * round(nc, NR), c, bi * M * N + ic * N + jc, N);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Blocked {@code C += A * B} for one matrix pair; {@code C} is row-major with
+	 * {@code N} columns starting at {@code offC}.
+	 *
+	 * @param parallel whether the MC blocks of each panel run on the pool
+	 */
+	static void gemm(int M, int N, int K, float[] a, int offA, int rsA, int csA, float[] b, int offB, int rsB, int csB,
+			float[] c, int offC, boolean parallel) {
+		float[] bp = new float[KC * round(Math.min(N, NC), NR)];
+		int blocks = (M + MC - 1) / MC;
+
+		for (int jc = 0; jc < N; jc += NC) {
+			int nc = Math.min(NC, N - jc);
+			for (int pc = 0; pc < K; pc += KC) {
+				int kc = Math.min(KC, K - pc);
+				packB(kc, nc, b, offB + pc * rsB + jc * csB, rsB, csB, bp, 0, parallel);
+
+				int j0 = jc, p0 = pc;
+				CpuParallel.Range body = (from, to) -> {
+					float[] ap = new float[round(MC, MR) * kc];
+					for (int blk = from; blk < to; blk++) {
+						int ic = blk * MC;
+						int mc = Math.min(MC, M - ic);
+						packA(mc, kc, a, offA + ic * rsA + p0 * csA, rsA, csA, ap);
+						macro(mc, nc, kc, ap, bp, 0, c, offC + ic * N + j0, N);
+					}
+				};
+
+				if (parallel)
+					CpuParallel.forRange(blocks, 1, body);
+				else
+					body.run(0, blocks);
+			}
+		}
+	}
+
+	private static int round(int n, int r) {
+		return (n + r - 1) / r * r;
+	}
+
+	/**
+	 * Packs {@code A[0..mc, 0..kc]} into MR-tall slivers, k-major inside a
+	 * sliver; rows past {@code mc} are zero.
+	 */
+	private static void packA(int mc, int kc, float[] a, int off, int rs, int cs, float[] ap) {
+		int p = 0;
+		for (int ir = 0; ir < mc; ir += MR) {
+			int mr = Math.min(MR, mc - ir);
+			for (int k = 0; k < kc; k++) {
+				int src = off + ir * rs + k * cs;
+				int r = 0;
+				for (; r < mr; r++)
+					ap[p++] = a[src + r * rs];
+				for (; r < MR; r++)
+					ap[p++] = 0.0f;
+			}
+		}
+	}
+
+	/**
+	 * Packs {@code B[0..kc, 0..nc]} into NR-wide slivers, k-major inside a
+	 * sliver; columns past {@code nc} are zero.
+	 */
+	private static void packB(int kc, int nc, float[] b, int off, int rs, int cs, float[] bp, int dst,
+			boolean parallel) {
+		int slivers = (nc + NR - 1) / NR;
+		CpuParallel.Range body = (from, to) -> {
+			for (int s = from; s < to; s++) {
+				int jr = s * NR;
+				int nr = Math.min(NR, nc - jr);
+				int p = dst + s * NR * kc;
+				for (int k = 0; k < kc; k++) {
+					int src = off + k * rs + jr * cs;
+					int j = 0;
+					if (cs == 1)
+						for (; j < nr; j++)
+							bp[p++] = b[src + j];
+					else
+						for (; j < nr; j++)
+							bp[p++] = b[src + j * cs];
+					for (; j < NR; j++)
+						bp[p++] = 0.0f;
+				}
+			}
+		};
+
+		if (parallel)
+			CpuParallel.forRange(slivers, Math.max(1, CpuParallel.GRAIN / (NR * kc)), body);
+		else
+			body.run(0, slivers);
+	}
+
+	/**
+	 * Runs the micro-kernel over every MR x NR tile of one packed block.
+	 */
+	private static void macro(int mc, int nc, int kc, float[] ap, float[] bp, int offB, float[] c, int offC, int ldc) {
+		for (int jr = 0; jr < nc; jr += NR) {
+			int nr = Math.min(NR, nc - jr);
+			int pb = offB + jr * kc;
+			for (int ir = 0; ir < mc; ir += MR) {
+				int mr = Math.min(MR, mc - ir);
+				int pa = ir * kc;
+				int dst = offC + ir * ldc + jr;
+				if (CpuSimd.ENABLED)
+					CpuGemmSimd.kernel(kc, ap, pa, bp, pb, c, dst, ldc, mr, nr);
+				else
+					kernel(kc, ap, pa, bp, pb, c, dst, ldc, mr, nr);
+			}
+		}
+	}
+
+	/**
+	 * Scalar micro-kernel: {@code C[0..mr, 0..nr] += Ap * Bp} over {@code kc}
+	 * (MR is 4 on this path). Each packed B row is read once for all four rows
+	 * of the tile.
+	 */
+	private static void kernel(int kc, float[] ap, int pa, float[] bp, int pb, float[] c, int offC, int ldc, int mr,
+			int nr) {
+		float[] acc = new float[4 * NR];
+		for (int k = 0; k < kc; k++, pa += MR, pb += NR) {
+			float a0 = ap[pa], a1 = ap[pa + 1], a2 = ap[pa + 2], a3 = ap[pa + 3];
+			for (int j = 0; j < NR; j++) {
+				float bv = bp[pb + j];
+				acc[j] += a0 * bv;
+				acc[NR + j] += a1 * bv;
+				acc[2 * NR + j] += a2 * bv;
+				acc[3 * NR + j] += a3 * bv;
+			}
+		}
+
+		for (int r = 0; r < mr; r++)
+			for (int j = 0; j < nr; j++)
+				c[offC + r * ldc + j] += acc[r * NR + j];
+	}
+}
@@ -0,0 +1,188 @@
+package CuBridge;
+
+import jdk.incubator.vector.*;
+
+/**
+ * CpuGemmSimd: Vector API micro-kernel of {@link CpuGemm}.
+ *
+ * <p>
+ * Holds a {@code 6 x 2V} tile of C (V = lanes of the preferred species) in
+ * twelve accumulators: per k it loads two vectors of the packed B sliver,
+ * broadcasts six values of the packed A sliver and issues twelve FMAs. Only
+ * called when {@link CpuSimd#ENABLED} is true.
+ * </p>
+ * <p>
+ * {@link #direct} runs the same tile straight from unpacked operands for
+ * batches of small matrices, where packing would cost as much as the product.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuGemmSimd {
+
+	private static final VectorSpecies<Float> S = FloatVector.SPECIES_PREFERRED;
+	private static final int L = S.length();
+
+	static final int MR = 6;
+	static final int NR = 2 * L;
+
+	private CpuGemmSimd() {
+	}
+
+	/**
+	 * {@code C[0..mr, 0..nr] += Ap * Bp} over {@code kc}, with {@code C} at
+	 * {@code offC} and row stride {@code ldc}.
+	 */
+	static void kernel(int kc, float[] ap, int pa, float[] bp, int pb, float[] c, int offC, int ldc, int mr, int nr) {
+		final FloatVector zero = FloatVector.zero(S);
+		FloatVector c00 = zero, c01 = zero, c10 = zero, c11 = zero, c20 = zero, c21 = zero;
+		FloatVector c30 = zero, c31 = zero, c40 = zero, c41 = zero, c50 = zero, c51 = zero;
+
+		for (int k = 0; k < kc; k++, pa += MR, pb += NR) {
+			FloatVector b0 = FloatVector.fromArray(S, bp, pb);
+			FloatVector b1 = FloatVector.fromArray(S, bp, pb + L);
+			FloatVector av;
+			av = FloatVector.broadcast(S, ap[pa]);
+			c00 = av.fma(b0, c00);
+			c01 = av.fma(b1, c01);
+			av = FloatVector.broadcast(S, ap[pa + 1]);
+			c10 = av.fma(b0, c10);
+			c11 = av.fma(b1, c11);
+			av = FloatVector.broadcast(S, ap[pa + 2]);
+			c20 = av.fma(b0, c20);
+			c21 = av.fma(b1, c21);
+			av = FloatVector.broadcast(S, ap[pa + 3]);
+			c30 = av.fma(b0, c30);
+			c31 = av.fma(b1, c31);
+			av = FloatVector.broadcast(S, ap[pa + 4]);
+			c40 = av.fma(b0, c40);
+			c41 = av.fma(b1, c41);
+			av = FloatVector.broadcast(S, ap[pa + 5]);
+			c50 = av.fma(b0, c50);
+			c51 = av.fma(b1, c51);
+		}
+
+		if (mr == MR && nr == NR) {
+			add(c00, c01, c, offC);
+			add(c10, c11, c, offC + ldc);
+			add(c20, c21, c, offC + 2 * ldc);
+			add(c30, c31, c, offC + 3 * ldc);
+			add(c40, c41, c, offC + 4 * ldc);
+			add(c50, c51, c, offC + 5 * ldc);
+			return;
+		}
+
+		// 가장자리 타일은 마스크 대신 임시 타일에 저장 후 유효 영역만 더함
+		float[] t = new float[MR * NR];
+		c00.intoArray(t, 0);
+		c01.intoArray(t, L);
+		c10.intoArray(t, NR);
+		c11.intoArray(t, NR + L);
+		c20.intoArray(t, 2 * NR);
+		c21.intoArray(t, 2 * NR + L);
+		c30.intoArray(t, 3 * NR);
+		c31.intoArray(t, 3 * NR + L);
+		c40.intoArray(t, 4 * NR);
+		c41.intoArray(t, 4 * NR + L);
+		c50.intoArray(t, 5 * NR);
+		c51.intoArray(t, 5 * NR + L);
+		for (int r = 0; r < mr; r++)
+			for (int j = 0; j < nr; j++)
+				c[offC + r * ldc + j] += t[r * NR + j];
+	}
+
+	/**
+	 * Unpacked {@code C = A * B} for one small product, with {@code A[i, k] =
+	 * a[offA + i * rsA + k * csA]}, a row-major B with row stride {@code ldb}, and
+	 * C row-major with {@code N} columns. B must be readable up to N rounded up to
+	 * NR columns (the caller pads it). Rows past M repeat the last row of A and are
+	 * not stored.
+	 */
+	static void direct(int M, int N, int K, float[] a, int offA, int rsA, int csA, float[] b, int offB, int ldb,
+			float[] c, int offC) {
+		final FloatVector zero = FloatVector.zero(S);
+		float[] t = null;
+
+		for (int j = 0; j < N; j += NR) {
+			int nr = Math.min(NR, N - j);
+			for (int i = 0; i < M; i += MR) {
+				int mr = Math.min(MR, M - i);
+				int a0 = offA + i * rsA;
+				int a1 = offA + Math.min(i + 1, M - 1) * rsA;
+				int a2 = offA + Math.min(i + 2, M - 1) * rsA;
+				int a3 = offA + Math.min(i + 3, M - 1) * rsA;
+				int a4 = offA + Math.min(i + 4, M - 1) * rsA;
+				int a5 = offA + Math.min(i + 5, M - 1) * rsA;
+
+				FloatVector c00 = zero, c01 = zero, c10 = zero, c11 = zero, c20 = zero, c21 = zero;
+				FloatVector c30 = zero, c31 = zero, c40 = zero, c41 = zero, c50 = zero, c51 = zero;
+
+				for (int k = 0, pb = offB + j, pa = 0; k < K; k++, pb += ldb, pa += csA) {
+					FloatVector b0 = FloatVector.fromArray(S, b, pb);
+					FloatVector b1 = FloatVector.fromArray(S, b, pb + L);
+					FloatVector av;
+					av = FloatVector.broadcast(S, a[a0 + pa]);
+					c00 = av.fma(b0, c00);
+					c01 = av.fma(b1, c01);
+					av = FloatVector.broadcast(S, a[a1 + pa]);
+					c10 = av.fma(b0, c10);
+					c11 = av.fma(b1, c11);
+					av = FloatVector.broadcast(S, a[a2 + pa]);
+					c20 = av.fma(b0, c20);
+					c21 = av.fma(b1, c21);
+					av = FloatVector.broadcast(S, a[a3 + pa]);
+					c30 = av.fma(b0, c30);
+					c31 = av.fma(b1, c31);
+					av = FloatVector.broadcast(S, a[a4 + pa]);
+					c40 = av.fma(b0, c40);
+					c41 = av.fma(b1, c41);
+					av = FloatVector.broadcast(S, a[a5 + pa]);
+					c50 = av.fma(b0, c50);
+					c51 = av.fma(b1, c51);
+				}
+
+				int dst = offC + i * N + j;
+				if (mr == MR && nr == NR) {
+					c00.intoArray(c, dst);
+					c01.intoArray(c, dst + L);
+					c10.intoArray(c, dst + N);
+					c11.intoArray(c, dst + N + L);
+					c20.intoArray(c, dst + 2 * N);
+					c21.intoArray(c, dst + 2 * N + L);
+					c30.intoArray(c, dst + 3 * N);
+					c31.intoArray(c, dst + 3 * N + L);
+					c40.intoArray(c, dst + 4 * N);
+					c41.intoArray(c, dst + 4 * N + L);
+					c50.intoArray(c, dst + 5 * N);
+					c51.intoArray(c, dst + 5 * N + L);
+					continue;
+				}
+
+				if (t == null)
+					t = new float[MR * NR];
+				c00.intoArray(t, 0);
+				c01.intoArray(t, L);
+				c10.intoArray(t, NR);
+				c11.intoArray(t, NR + L);
+				c20.intoArray(t, 2 * NR);
+				c21.intoArray(t, 2 * NR + L);
+				c30.intoArray(t, 3 * NR);
+				c31.intoArray(t, 3 * NR + L);
+				c40.intoArray(t, 4 * NR);
+				c41.intoArray(t, 4 * NR + L);
+				c50.intoArray(t, 5 * NR);
+				c51.intoArray(t, 5 * NR + L);
+				for (int r = 0; r < mr; r++)
+					System.arraycopy(t, r * NR, c, dst + r * N, nr);
+			}
+		}
+	}
+
+	/**
+	 * Adds one full tile row (two vectors) to {@code C}.
+	 */
+	private static void add(FloatVector v0, FloatVector v1, float[] c, int off) {
+		v0.add(FloatVector.fromArray(S, c, off)).intoArray(c, off);
+		v1.add(FloatVector.fromArray(S, c, off + L)).intoArray(c, off + L);
+	}
+}
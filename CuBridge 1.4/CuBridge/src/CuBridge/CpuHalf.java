@@ -0,0 +1,224 @@
+package CuBridge;
+
+/**
+ * CpuHalf: Conversion and element-wise kernels for half-precision storage
+ * ({@link DType#FLOAT16}, {@link DType#BFLOAT16}).
+ *
+ * <p>
+ * Values are stored as raw 16-bit patterns in a {@code short[]} and never
+ * computed on in that form:
+ * </p>
+ * <ul>
+ *   <li>Widening is exact. FP16 goes through a 65536-entry table, BF16 is a
+ *       shift into the upper half of a float.</li>
+ *   <li>Narrowing rounds to nearest, ties to even; FP16 overflows to infinity
+ *       and keeps subnormals, NaN stays NaN. With the Vector API both
+ *       directions run branch-free in {@link CpuHalfSimd}.</li>
+ *   <li>Unary and binary kernels work tile by tile: a tile of
+ *       {@value #TILE} values is widened into per-task float scratch, the
+ *       float kernel of {@link CpuUnary}/{@link CpuBinary} runs on it, and the
+ *       result is narrowed back. Memory traffic is two bytes per value each
+ *       way, while all arithmetic stays in float.</li>
+ * </ul>
+ *
+ * @since v1.5
+ */
+final class CpuHalf {
+
+	/** Values per scratch tile; three tiles fit in L1. */
+	static final int TILE = 2048;
+
+	/** Float value of every FP16 bit pattern. */
+	private static final float[] F16 = new float[1 << 16];
+
+	static {
+		for (int h = 0; h < F16.length; h++)
+			F16[h] = f16ToFloat(h);
+	}
+
+	private CpuHalf() {
+	}
+
+	private static float f16ToFloat(int h) {
+		int sign = (h & 0x8000) << 16;
+		int e = (h >>> 10) & 0x1f, m = h & 0x3ff;
+		if (e == 0) {
+			// 0 또는 비정규 수: m * 2^-24
+			float v = m * 0x1p-24f;
+			return sign != 0 ? -v : v;
+		}
+		if (e == 0x1f)
+			return Float.intBitsToFloat(sign | 0x7f800000 | (m << 13));
+		return Float.intBitsToFloat(sign | ((e + 112) << 23) | (m << 13));
+	}
+
+	/**
+	 * Nearest FP16 bit pattern of {@code f}.
+	 */
+	static short toF16(float f) {
+		int x = Float.floatToRawIntBits(f);
+		int u = x & 0x7fffffff, o;
+		if (u >= 0x47800000) {
+			// 2^16 이상: 무한대, NaN 은 정규 quiet NaN
+			o = u > 0x7f800000 ? 0x7e00 : 0x7c00;
+		} else if (u < 0x38800000) {
+			// 비정규 수: 0.5 를 더하면 FPU 가 2^-24 단위로 반올림
+			o = Float.floatToRawIntBits(Float.intBitsToFloat(u) + 0.5f) - 0x3f000000;
+		} else {
+			// 지수를 다시 맞추고 가수 하위 13비트를 짝수 쪽으로 반올림
+			o = (u + 0xc8000fff + ((u >>> 13) & 1)) >>> 13;
+		}
+		return (short) (((x >>> 16) & 0x8000) | o);
+	}
+
+	/**
+	 * Nearest BF16 bit pattern of {@code f}.
+	 */
+	static short toBF16(float f) {
+		int x = Float.floatToRawIntBits(f);
+		if ((x & 0x7fffffff) > 0x7f800000)
+			return (short) ((x >>> 16) | 0x40);
+		return (short) ((x + 0x7fff + ((x >>> 16) & 1)) >>> 16);
+	}
+
+	static float toFloat(short h, DType type) {
+		return type == DType.BFLOAT16 ? Float.intBitsToFloat(h << 16) : F16[h & 0xffff];
+	}
+
+	static short fromFloat(float f, DType type) {
+		return type == DType.BFLOAT16 ? toBF16(f) : toF16(f);
+	}
+
+	/**
+	 * Widens {@code n} values {@code src[so..]} into {@code dst[dp..]}.
+	 */
+	static void widen(short[] src, int so, float[] dst, int dp, int n, DType type) {
+		if (CpuSimd.ENABLED)
+			CpuHalfSimd.widen(src, so, dst, dp, n, type);
+		else
+			widenScalar(src, so, dst, dp, n, type);
+	}
+
+	static void widenScalar(short[] src, int so, float[] dst, int dp, int n, DType type) {
+		if (type == DType.BFLOAT16)
+			for (int i = 0; i < n; i++)
+				dst[dp + i] = Float.intBitsToFloat(src[so + i] << 16);
+		else
+			for (int i = 0; i < n; i++)
+				dst[dp + i] = F16[src[so + i] & 0xffff];
+	}
+
+	/**
+	 * Narrows {@code n} values {@code src[so..]} into {@code dst[dp..]}.
+	 */
+	static void narrow(float[] src, int so, short[] dst, int dp, int n, DType type) {
+		if (CpuSimd.ENABLED)
+			CpuHalfSimd.narrow(src, so, dst, dp, n, type);
+		else
+			narrowScalar(src, so, dst, dp, n, type);
+	}
+
+	static void narrowScalar(float[] src, int so, short[] dst, int dp, int n, DType type) {
+		if (type == DType.BFLOAT16)
+			for (int i = 0; i < n; i++)
+				dst[dp + i] = toBF16(src[so + i]);
+		else
+			for (int i = 0; i < n; i++)
+				dst[dp + i] = toF16(src[so + i]);
+	}
+
+	/**
+	 * All values of {@code src} as floats, converted in parallel.
+	 */
+	static float[] widen(short[] src, DType type) {
+		float[] o = new float[src.length];
+		CpuParallel.forRange(src.length, (from, to) -> widen(src, from, o, from, to - from, type));
+		return o;
+	}
+
+	/**
+	 * All values of {@code src} rounded to {@code type}, converted in parallel.
+	 */
+	static short[] narrow(float[] src, DType type) {
+		short[] o = new short[src.length];
+		CpuParallel.forRange(src.length, (from, to) -> narrow(src, from, o, from, to - from, type));
+		return o;
+	}
+
+	/**
+	 * Applies {@code op} to every element of {@code x}, computing in float.
+	 */
+	static short[] unary(CpuUnary.Op op, short[] x, DType type) {
+		short[] o = new short[x.length];
+		CpuParallel.forRange(x.length, (from, to) -> {
+			float[] in = new float[TILE], out = new float[TILE];
+			for (int i = from; i < to; i += TILE) {
+				int n = Math.min(TILE, to - i);
+				widen(x, i, in, 0, n, type);
+				if (CpuSimd.ENABLED)
+					CpuUnarySimd.run(op, in, out, 0, n);
+				else
+					CpuUnary.run(op, in, out, 0, n);
+				narrow(out, 0, o, i, n, type);
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Element-wise {@code op} of two operands of the same type, computing in
+	 * float. Each operand has {@code n} values, or a single value that is
+	 * repeated.
+	 */
+	static short[] binary(CpuBinary.Op op, short[] a, short[] b, int n, DType type) {
+		boolean ra = a.length == 1 && n != 1, rb = b.length == 1 && n != 1;
+		short[] o = new short[n];
+		CpuParallel.forRange(n, (from, to) -> {
+			float[] x = new float[ra ? 1 : TILE], y = new float[rb ? 1 : TILE], out = new float[TILE];
+			if (ra)
+				x[0] = toFloat(a[0], type);
+			if (rb)
+				y[0] = toFloat(b[0], type);
+			for (int i = from; i < to; i += TILE) {
+				int len = Math.min(TILE, to - i);
+				if (!ra)
+					widen(a, i, x, 0, len, type);
+				if (!rb)
+					widen(b, i, y, 0, len, type);
+				if (CpuSimd.ENABLED)
+					CpuBinarySimd.run(op, x, 0, ra, y, 0, rb, out, 0, len);
+				else
+					CpuBinary.run(op, x, 0, ra, y, 0, rb, out, 0, 0, len);
+				narrow(out, 0, o, i, len, type);
+			}
+		});
+		return o;
+	}
+
+	// ===================== 축 =====================
+
+	/**
+	 * Permutes the axes of a row-major tensor; {@code order} must be
+	 * {@link CpuPermute#valid}. The 16-bit patterns are moved as they are, so
+	 * the result is exact and stays in half precision.
+	 */
+	static short[] permute(short[] x, int[] shape, int[] order) {
+		int[] st = CpuStrided.contiguousStrides(shape);
+		int[] ps = new int[order.length];
+		for (int d = 0; d < order.length; d++)
+			ps[d] = st[order[d]];
+		short[] o = new short[x.length];
+		CpuStrided.gather(x, 0, CpuPermute.permuteShape(shape, order), ps, o, 0);
+		return o;
+	}
+
+	/** Swaps {@code axis1} and {@code axis2}; a two-axis {@link #permute}. */
+	static short[] transpose(short[] x, int[] shape, int axis1, int axis2) {
+		int[] order = new int[shape.length];
+		for (int d = 0; d < order.length; d++)
+			order[d] = d;
+		order[axis1] = axis2;
+		order[axis2] = axis1;
+		return permute(x, shape, order);
+	}
+}
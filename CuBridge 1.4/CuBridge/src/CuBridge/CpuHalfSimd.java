@@ -0,0 +1,80 @@
+package CuBridge;
+
+import jdk.incubator.vector.*;
+
+/**
+ * CpuHalfSimd: Vector API versions of the {@link CpuHalf} conversions.
+ *
+ * <p>
+ * Bit patterns are loaded as shorts, sign-extended to int lanes and converted
+ * with the same branch-free arithmetic as the scalar code; special cases
+ * (infinity, NaN) are blended in with masks. The short species has as many
+ * lanes as the host's preferred int species. Only called when
+ * {@link CpuSimd#ENABLED} is true.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuHalfSimd {
+
+	private static final VectorSpecies<Integer> I = IntVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Short> H = VectorSpecies.of(short.class,
+			VectorShape.forBitSize(I.vectorBitSize() / 2));
+
+	private CpuHalfSimd() {
+	}
+
+	static void widen(short[] src, int so, float[] dst, int dp, int n, DType type) {
+		final int L = I.length();
+		final int bound = I.loopBound(n);
+		int i = 0;
+
+		if (type == DType.BFLOAT16)
+			for (; i < bound; i += L) {
+				IntVector h = (IntVector) ShortVector.fromArray(H, src, so + i).convertShape(VectorOperators.S2I, I, 0);
+				h.lanewise(VectorOperators.LSHL, 16).reinterpretAsFloats().intoArray(dst, dp + i);
+			}
+		else
+			for (; i < bound; i += L) {
+				IntVector h = (IntVector) ShortVector.fromArray(H, src, so + i).convertShape(VectorOperators.S2I, I, 0);
+				// 지수를 float 위치로 옮긴 뒤 2^112 를 곱하면 정규/비정규 수가 함께 맞춰짐
+				IntVector o = h.and(0x7fff).lanewise(VectorOperators.LSHL, 13);
+				IntVector bits = o.reinterpretAsFloats().mul(0x1p112f).reinterpretAsInts();
+				bits = bits.blend(o.or(0x7f800000), h.and(0x7c00).eq(0x7c00));
+				bits.or(h.and(0x8000).lanewise(VectorOperators.LSHL, 16)).reinterpretAsFloats().intoArray(dst, dp + i);
+			}
+
+		CpuHalf.widenScalar(src, so + i, dst, dp + i, n - i, type);
+	}
+
+	static void narrow(float[] src, int so, short[] dst, int dp, int n, DType type) {
+		final int L = I.length();
+		final int bound = I.loopBound(n);
+		int i = 0;
+
+		if (type == DType.BFLOAT16)
+			for (; i < bound; i += L) {
+				IntVector x = FloatVector.fromArray(FloatVector.SPECIES_PREFERRED, src, so + i).reinterpretAsInts();
+				IntVector r = x.add(x.lanewise(VectorOperators.LSHR, 16).and(1).add(0x7fff))
+						.lanewise(VectorOperators.LSHR, 16);
+				r = r.blend(x.lanewise(VectorOperators.LSHR, 16).or(0x40), x.and(0x7fffffff).compare(VectorOperators.GT,
+						0x7f800000));
+				r.convertShape(VectorOperators.I2S, H, 0).reinterpretAsShorts().intoArray(dst, dp + i);
+			}
+		else
+			for (; i < bound; i += L) {
+				IntVector x = FloatVector.fromArray(FloatVector.SPECIES_PREFERRED, src, so + i).reinterpretAsInts();
+				IntVector u = x.and(0x7fffffff);
+				IntVector normal = u.add(0xc8000fff).add(u.lanewise(VectorOperators.LSHR, 13).and(1))
+						.lanewise(VectorOperators.LSHR, 13);
+				IntVector sub = u.reinterpretAsFloats().add(0.5f).reinterpretAsInts().sub(0x3f000000);
+				IntVector o = normal.blend(sub, u.compare(VectorOperators.LT, 0x38800000));
+				o = o.blend(0x7c00, u.compare(VectorOperators.GE, 0x47800000));
+				o = o.blend(0x7e00, u.compare(VectorOperators.GT, 0x7f800000));
+				o = o.or(x.lanewise(VectorOperators.LSHR, 16).and(0x8000));
+				o.convertShape(VectorOperators.I2S, H, 0).reinterpretAsShorts().intoArray(dst, dp + i);
+			}
+
+		CpuHalf.narrowScalar(src, so + i, dst, dp + i, n - i, type);
+	}
+}
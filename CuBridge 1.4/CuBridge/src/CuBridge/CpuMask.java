@@ -0,0 +1,359 @@
+package CuBridge;
+
+/**
+ * CpuMask: Kernels of the bit-packed {@link DType#BOOL} type.
+ *
+ * <p>
+ * A mask of {@code n} elements is a {@code long[(n + 63) / 64]}; element
+ * {@code i} is bit {@code i % 64} of word {@code i / 64}, and the bits past
+ * {@code n} in the last word are always 0. Comparisons and logical operations
+ * write their result straight into the words, 1/32 of the bytes of a float
+ * 0/1 result; {@code and}/{@code or}/{@code not} of two masks run a word (64
+ * elements) at a time. A mask is used as a multiply or select operand without
+ * being widened.
+ * </p>
+ * <p>
+ * Work is split across cores by whole words, so no two tasks write the same
+ * word. The vector kernels live in {@link CpuMaskSimd}.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuMask {
+
+	private CpuMask() {
+	}
+
+	/** Number of words holding {@code n} elements. */
+	static int words(int n) {
+		return (int) ((n + 63L) >>> 6);
+	}
+
+	/** Whether element {@code i} is set. */
+	static boolean get(long[] bits, int i) {
+		return (bits[i >>> 6] >>> i & 1L) != 0;
+	}
+
+	/** Whether {@code op} produces a mask rather than numbers. */
+	static boolean isMask(CpuBinary.Op op) {
+		switch (op) {
+		case GT: case LT: case GE: case LE: case EQ: case NE: case AND: case OR:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/** End of the elements held by the words before {@code w1}, clipped to {@code n}. */
+	private static int end(int w1, int n) {
+		return (int) Math.min((long) w1 << 6, n);
+	}
+
+	// ===================== 비교 → 마스크 =====================
+
+	/**
+	 * Applies a comparison or logical {@code op} ({@link #isMask}) to {@code a}
+	 * and {@code b}, broadcasting both to {@code outShape} like
+	 * {@link CpuBinary#apply}, and packs the result.
+	 */
+	static long[] compare(CpuBinary.Op op, float[] a, int[] sa, float[] b, int[] sb, int[] outShape) {
+		CpuBinary.Plan p = CpuBinary.plan(sa, sb, outShape);
+		long[] o = new long[words(p.n)];
+		int outer = p.dims.length;
+		int inner = p.inner;
+
+		CpuParallel.forRange(o.length, CpuParallel.GRAIN >>> 6, (w0, w1) -> {
+			int from = w0 << 6, to = end(w1, p.n);
+			int row = from / inner, col = from % inner;
+			int[] ctr = new int[outer];
+			int offA = 0, offB = 0;
+			for (int d = outer - 1; d >= 0; d--) {
+				ctr[d] = row % p.dims[d];
+				row /= p.dims[d];
+				offA += ctr[d] * p.strideA[d];
+				offB += ctr[d] * p.strideB[d];
+			}
+
+			for (int pos = from; pos < to;) {
+				int len = Math.min(inner - col, to - pos);
+				int ia = p.repeatA ? offA : offA + col;
+				int ib = p.repeatB ? offB : offB + col;
+				if (CpuSimd.ENABLED)
+					CpuMaskSimd.run(op, a, ia, p.repeatA, b, ib, p.repeatB, o, pos, len);
+				else
+					run(op, a, ia, p.repeatA, b, ib, p.repeatB, o, pos, 0, len);
+				pos += len;
+				col = 0;
+
+				for (int d = outer - 1; d >= 0; d--) {
+					offA += p.strideA[d];
+					offB += p.strideB[d];
+					if (++ctr[d] < p.dims[d])
+						break;
+					offA -= ctr[d] * p.strideA[d];
+					offB -= ctr[d] * p.strideB[d];
+					ctr[d] = 0;
+				}
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Scalar kernel over one run: sets bit {@code io + i} when {@code op(x, y)}
+	 * holds, for {@code i} in {@code [from, to)}; {@code x} and {@code y} are read
+	 * as in {@link CpuBinary#run}. The words must start out 0.
+	 */
+	static void run(CpuBinary.Op op, float[] a, int ia, boolean repeatA, float[] b, int ib, boolean repeatB, long[] o,
+			int io, int from, int to) {
+		float xa = a[ia], yb = b[ib];
+
+		switch (op) {
+		case GT:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				if (x > y)
+					o[(io + i) >>> 6] |= 1L << (io + i);
+			}
+			break;
+		case LT:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				if (x < y)
+					o[(io + i) >>> 6] |= 1L << (io + i);
+			}
+			break;
+		case GE:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				if (x >= y)
+					o[(io + i) >>> 6] |= 1L << (io + i);
+			}
+			break;
+		case LE:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				if (x <= y)
+					o[(io + i) >>> 6] |= 1L << (io + i);
+			}
+			break;
+		case EQ:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				if (x == y)
+					o[(io + i) >>> 6] |= 1L << (io + i);
+			}
+			break;
+		case NE:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				if (x != y)
+					o[(io + i) >>> 6] |= 1L << (io + i);
+			}
+			break;
+		case AND:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				if (x != 0.0f && y != 0.0f)
+					o[(io + i) >>> 6] |= 1L << (io + i);
+			}
+			break;
+		case OR:
+			for (int i = from; i < to; i++) {
+				float x = repeatA ? xa : a[ia + i], y = repeatB ? yb : b[ib + i];
+				if (x != 0.0f || y != 0.0f)
+					o[(io + i) >>> 6] |= 1L << (io + i);
+			}
+			break;
+		default:
+			throw new IllegalArgumentException(op + " does not produce a mask");
+		}
+	}
+
+	/** The mask of {@code x > 0} ({@code step}). */
+	static long[] step(float[] x) {
+		int[] s = { x.length };
+		return compare(CpuBinary.Op.GT, x, s, new float[] { 0.0f }, new int[] { 1 }, s);
+	}
+
+	/** The mask of {@code x != 0}; also the conversion of numbers to BOOL. */
+	static long[] nonZero(float[] x) {
+		int[] s = { x.length };
+		return compare(CpuBinary.Op.NE, x, s, new float[] { 0.0f }, new int[] { 1 }, s);
+	}
+
+	/** The mask of {@code x == 0} ({@code not} of numbers). */
+	static long[] isZero(float[] x) {
+		int[] s = { x.length };
+		return compare(CpuBinary.Op.EQ, x, s, new float[] { 0.0f }, new int[] { 1 }, s);
+	}
+
+	/** The mask of {@code x != 0} for a FLOAT64 comparison result of 0/1. */
+	static long[] nonZero(double[] x) {
+		long[] o = new long[words(x.length)];
+		CpuParallel.forRange(o.length, CpuParallel.GRAIN >>> 6, (w0, w1) -> {
+			for (int i = w0 << 6, to = end(w1, x.length); i < to; i++)
+				if (x[i] != 0.0)
+					o[i >>> 6] |= 1L << i;
+		});
+		return o;
+	}
+
+	// ===================== 워드 단위 논리 =====================
+
+	/** {@code a & b}, word by word. */
+	static long[] and(long[] a, long[] b) {
+		long[] o = new long[a.length];
+		CpuParallel.forRange(o.length, (from, to) -> {
+			for (int w = from; w < to; w++)
+				o[w] = a[w] & b[w];
+		});
+		return o;
+	}
+
+	/** {@code a | b}, word by word. */
+	static long[] or(long[] a, long[] b) {
+		long[] o = new long[a.length];
+		CpuParallel.forRange(o.length, (from, to) -> {
+			for (int w = from; w < to; w++)
+				o[w] = a[w] | b[w];
+		});
+		return o;
+	}
+
+	/** {@code ~a} over {@code n} elements, keeping the bits past {@code n} clear. */
+	static long[] not(long[] a, int n) {
+		long[] o = new long[a.length];
+		CpuParallel.forRange(o.length, (from, to) -> {
+			for (int w = from; w < to; w++)
+				o[w] = ~a[w];
+		});
+		if ((n & 63) != 0)
+			o[o.length - 1] &= -1L >>> (64 - (n & 63));
+		return o;
+	}
+
+	/** Number of set elements. */
+	static long count(long[] bits) {
+		long c = 0;
+		for (long w : bits)
+			c += Long.bitCount(w);
+		return c;
+	}
+
+	// ===================== 축 =====================
+
+	/**
+	 * Permutes the axes of a row-major mask; {@code order} must be
+	 * {@link CpuPermute#valid}. Output element {@code i} takes the bit at its
+	 * source position, found by stepping a multi-index through permuted
+	 * strides; each task fills whole output words.
+	 */
+	static long[] permute(long[] bits, int[] shape, int[] order) {
+		int r = shape.length;
+		int[] outShape = CpuPermute.permuteShape(shape, order);
+		int[] st = CpuStrided.contiguousStrides(shape);
+		int[] ps = new int[r];
+		int n = 1;
+		for (int d = 0; d < r; d++) {
+			ps[d] = st[order[d]];
+			n *= shape[d];
+		}
+		int size = n;
+		long[] o = new long[words(n)];
+		CpuParallel.forRange(o.length, CpuParallel.GRAIN >>> 6, (w0, w1) -> {
+			int from = w0 << 6, to = end(w1, size);
+			int[] idx = new int[r];
+			int src = 0;
+			for (int d = r - 1, rest = from; d >= 0; d--) {
+				idx[d] = rest % outShape[d];
+				rest /= outShape[d];
+				src += idx[d] * ps[d];
+			}
+			long word = 0;
+			for (int i = from; i < to; i++) {
+				word |= (bits[src >>> 6] >>> src & 1L) << i;
+				if ((i & 63) == 63 || i == to - 1) {
+					o[i >>> 6] = word;
+					word = 0;
+				}
+				// 안쪽 축부터 한 칸 전진
+				for (int d = r - 1; d >= 0; d--) {
+					src += ps[d];
+					if (++idx[d] < outShape[d])
+						break;
+					src -= idx[d] * ps[d];
+					idx[d] = 0;
+				}
+			}
+		});
+		return o;
+	}
+
+	/** Swaps {@code axis1} and {@code axis2}; a two-axis {@link #permute}. */
+	static long[] transpose(long[] bits, int[] shape, int axis1, int axis2) {
+		int[] order = new int[shape.length];
+		for (int d = 0; d < order.length; d++)
+			order[d] = d;
+		order[axis1] = axis2;
+		order[axis2] = axis1;
+		return permute(bits, shape, order);
+	}
+
+	// ===================== 마스크 피연산자 =====================
+
+	/** The {@code n} elements as 0/1 floats. */
+	static float[] widen(long[] bits, int n) {
+		float[] o = TensorPool.take(n);
+		CpuParallel.forRange(words(n), CpuParallel.GRAIN >>> 6, (w0, w1) -> {
+			int from = w0 << 6, to = end(w1, n);
+			if (CpuSimd.ENABLED)
+				CpuMaskSimd.widen(bits, o, from, to);
+			else
+				for (int i = from; i < to; i++)
+					o[i] = bits[i >>> 6] >>> i & 1L;
+		});
+		return o;
+	}
+
+	/**
+	 * {@code x * m} over {@code n} elements, the mask read as 0/1: the same
+	 * values (signed zeros and NaN included) as the float product, without
+	 * widening the mask. {@code x} is a single value if {@code repeatX}.
+	 */
+	static float[] mul(long[] m, float[] x, boolean repeatX, int n) {
+		float[] o = TensorPool.take(n);
+		CpuParallel.forRange(words(n), CpuParallel.GRAIN >>> 6, (w0, w1) -> {
+			int from = w0 << 6, to = end(w1, n);
+			if (CpuSimd.ENABLED)
+				CpuMaskSimd.mul(m, x, repeatX, o, from, to);
+			else
+				for (int i = from; i < to; i++)
+					o[i] = (repeatX ? x[0] : x[i]) * (m[i >>> 6] >>> i & 1L);
+		});
+		return o;
+	}
+
+	/**
+	 * {@code m ? a : b} over {@code n} elements; {@code a} (or {@code b}) is a
+	 * single value if {@code repeatA} ({@code repeatB}).
+	 */
+	static float[] select(long[] m, float[] a, boolean repeatA, float[] b, boolean repeatB, int n) {
+		float[] o = TensorPool.take(n);
+		CpuParallel.forRange(words(n), CpuParallel.GRAIN >>> 6, (w0, w1) -> {
+			int from = w0 << 6, to = end(w1, n);
+			if (CpuSimd.ENABLED)
+				CpuMaskSimd.select(m, a, repeatA, b, repeatB, o, from, to);
+			else
+				select(m, a, repeatA, b, repeatB, o, from, to);
+		});
+		return o;
+	}
+
+	/** Scalar kernel of {@link #select} over {@code [from, to)}. */
+	static void select(long[] m, float[] a, boolean repeatA, float[] b, boolean repeatB, float[] o, int from,
+			int to) {
+		for (int i = from; i < to; i++)
+			o[i] = (m[i >>> 6] >>> i & 1L) != 0 ? a[repeatA ? 0 : i] : b[repeatB ? 0 : i];
+	}
+}
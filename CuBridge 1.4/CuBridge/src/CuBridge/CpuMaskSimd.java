@@ -0,0 +1,146 @@
+package CuBridge;
+
+import jdk.incubator.vector.*;
+
+/**
+ * CpuMaskSimd: Vector API version of the {@link CpuMask} kernels.
+ *
+ * <p>
+ * A vector comparison yields one lane mask, which {@code toLong()} turns into
+ * as many bits as there are lanes; they are OR-ed into the output word at the
+ * element's bit position (spilling into the next word when the run is not
+ * aligned). In the other direction {@code VectorMask.fromLong} turns the bits
+ * of a word back into a lane mask for blends. Only called when
+ * {@link CpuSimd#ENABLED} is true.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuMaskSimd {
+
+	private static final VectorSpecies<Float> S = FloatVector.SPECIES_PREFERRED;
+
+	private CpuMaskSimd() {
+	}
+
+	/**
+	 * Vector kernel over one run of {@code n} outputs starting at bit
+	 * {@code io} (see {@link CpuMask#run}). The tail shorter than one vector
+	 * runs the scalar kernel.
+	 */
+	static void run(CpuBinary.Op op, float[] a, int ia, boolean repeatA, float[] b, int ib, boolean repeatB, long[] o,
+			int io, int n) {
+		final int L = S.length();
+		final int bound = S.loopBound(n);
+		final FloatVector zero = FloatVector.zero(S);
+		final FloatVector xa = FloatVector.broadcast(S, a[ia]);
+		final FloatVector yb = FloatVector.broadcast(S, b[ib]);
+		int i = 0;
+
+		switch (op) {
+		case GT:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				put(o, io + i, x.compare(VectorOperators.GT, y).toLong(), L);
+			}
+			break;
+		case LT:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				put(o, io + i, x.compare(VectorOperators.LT, y).toLong(), L);
+			}
+			break;
+		case GE:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				put(o, io + i, x.compare(VectorOperators.GE, y).toLong(), L);
+			}
+			break;
+		case LE:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				put(o, io + i, x.compare(VectorOperators.LE, y).toLong(), L);
+			}
+			break;
+		case EQ:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				put(o, io + i, x.compare(VectorOperators.EQ, y).toLong(), L);
+			}
+			break;
+		case NE:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				put(o, io + i, x.compare(VectorOperators.NE, y).toLong(), L);
+			}
+			break;
+		case AND:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				put(o, io + i, x.compare(VectorOperators.NE, zero).and(y.compare(VectorOperators.NE, zero)).toLong(), L);
+			}
+			break;
+		case OR:
+			for (; i < bound; i += L) {
+				FloatVector x = load(a, ia + i, repeatA, xa), y = load(b, ib + i, repeatB, yb);
+				put(o, io + i, x.compare(VectorOperators.NE, zero).or(y.compare(VectorOperators.NE, zero)).toLong(), L);
+			}
+			break;
+		default:
+			break;
+		}
+
+		CpuMask.run(op, a, ia, repeatA, b, ib, repeatB, o, io, i, n);
+	}
+
+	/** ORs the {@code L} low bits of {@code m} into {@code o} at bit {@code p}. */
+	private static void put(long[] o, int p, long m, int L) {
+		int w = p >>> 6, s = p & 63;
+		o[w] |= m << s;
+		if (s > 64 - L)
+			o[w + 1] |= m >>> (64 - s);
+	}
+
+	private static FloatVector load(float[] a, int i, boolean repeat, FloatVector broadcast) {
+		return repeat ? broadcast : FloatVector.fromArray(S, a, i);
+	}
+
+	/** {@link CpuMask#widen} over {@code [from, to)}, {@code from} a multiple of 64. */
+	static void widen(long[] bits, float[] o, int from, int to) {
+		final int L = S.length();
+		final FloatVector zero = FloatVector.zero(S), one = FloatVector.broadcast(S, 1.0f);
+		int i = from;
+		// 64 가 L 의 배수이므로 한 벡터의 비트는 한 워드 안에 있음
+		for (; i + L <= to; i += L)
+			zero.blend(one, VectorMask.fromLong(S, bits[i >>> 6] >>> i)).intoArray(o, i);
+		for (; i < to; i++)
+			o[i] = bits[i >>> 6] >>> i & 1L;
+	}
+
+	/** {@link CpuMask#mul} over {@code [from, to)}, {@code from} a multiple of 64. */
+	static void mul(long[] m, float[] x, boolean repeatX, float[] o, int from, int to) {
+		final int L = S.length();
+		final FloatVector zero = FloatVector.zero(S), one = FloatVector.broadcast(S, 1.0f);
+		final FloatVector xs = FloatVector.broadcast(S, x[0]);
+		int i = from;
+		for (; i + L <= to; i += L) {
+			FloatVector v = repeatX ? xs : FloatVector.fromArray(S, x, i);
+			v.mul(zero.blend(one, VectorMask.fromLong(S, m[i >>> 6] >>> i))).intoArray(o, i);
+		}
+		for (; i < to; i++)
+			o[i] = (repeatX ? x[0] : x[i]) * (m[i >>> 6] >>> i & 1L);
+	}
+
+	/** {@link CpuMask#select} over {@code [from, to)}, {@code from} a multiple of 64. */
+	static void select(long[] m, float[] a, boolean repeatA, float[] b, boolean repeatB, float[] o, int from,
+			int to) {
+		final int L = S.length();
+		final FloatVector as = FloatVector.broadcast(S, a[0]), bs = FloatVector.broadcast(S, b[0]);
+		int i = from;
+		for (; i + L <= to; i += L) {
+			FloatVector x = load(a, i, repeatA, as), y = load(b, i, repeatB, bs);
+			y.blend(x, VectorMask.fromLong(S, m[i >>> 6] >>> i)).intoArray(o, i);
+		}
+		CpuMask.select(m, a, repeatA, b, repeatB, o, i, to);
+	}
+}
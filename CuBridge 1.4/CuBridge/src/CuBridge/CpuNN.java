@@ -0,0 +1,215 @@
+package CuBridge;
+
+/**
+ * CpuNN: Neural network kernels of the pure-Java engine
+ * (bias add, softmax, losses and im2col/col2im).
+ *
+ * <p>
+ * The 1D variants of im2col/col2im are the 2D kernels with a height of 1.
+ * Column matrices use the layout {@code [N * OH * OW, C * FH * FW]}, so that a
+ * convolution becomes a single {@code col · kernel} product.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuNN {
+
+	/** Offset added inside ln() by cee to avoid log(0). */
+	static final float CEE_DELTA = 1e-7f;
+
+	private CpuNN() {
+	}
+
+	/**
+	 * Adds a bias of {@code blen} values to every row of {@code y} in place
+	 * ({@code cols} must be a multiple of {@code blen}).
+	 */
+	static void addBias(float[] y, int cols, float[] bias) {
+		int rows = y.length / cols;
+		int blen = bias.length;
+
+		CpuParallel.forRange(rows, Math.max(1, CpuParallel.GRAIN / Math.max(1, cols)), (from, to) -> {
+			for (int r = from; r < to; r++) {
+				int off = r * cols;
+				for (int j = 0; j < cols; j++)
+					y[off + j] += bias[j % blen];
+			}
+		});
+	}
+
+	/**
+	 * Numerically stable softmax along {@code axis}.
+	 */
+	static float[] softmax(float[] x, int[] shape, int axis) {
+		int outer = CpuAxis.prod(shape, 0, axis);
+		int n = shape[axis];
+		int inner = CpuAxis.prod(shape, axis + 1, shape.length);
+		float[] o = new float[x.length];
+
+		CpuParallel.forRange(outer * inner, Math.max(1, CpuParallel.GRAIN / Math.max(1, n)), (from, to) -> {
+			for (int line = from; line < to; line++) {
+				int base = (line / inner) * n * inner + line % inner;
+
+				float m = Float.NEGATIVE_INFINITY;
+				for (int k = 0; k < n; k++)
+					m = Math.max(m, x[base + k * inner]);
+
+				double s = 0.0;
+				for (int k = 0; k < n; k++) {
+					float e = (float) Math.exp(x[base + k * inner] - m);
+					o[base + k * inner] = e;
+					s += e;
+				}
+
+				float inv = (float) (1.0 / s);
+				for (int k = 0; k < n; k++)
+					o[base + k * inner] *= inv;
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Mean squared error: {@code mean((a - b)^2)}.
+	 */
+	static float mse(float[] a, float[] b) {
+		double s = 0.0;
+		for (int i = 0; i < a.length; i++) {
+			double d = a[i] - b[i];
+			s += d * d;
+		}
+		return (float) (s / a.length);
+	}
+
+	/**
+	 * Cross entropy error averaged over the batch (first axis of a rank ≥ 2
+	 * input): {@code -sum(b * ln(a + delta)) / batch}.
+	 */
+	static float cee(float[] a, float[] b, int batch) {
+		double s = 0.0;
+		for (int i = 0; i < a.length; i++)
+			if (b[i] != 0.0f)
+				s += b[i] * Math.log(a[i] + CEE_DELTA);
+		return (float) (-s / batch);
+	}
+
+	/**
+	 * Output extent of a convolution window sweep.
+	 */
+	static int outSize(int in, int k, int pad, int stride) {
+		return (in + 2 * pad - k) / stride + 1;
+	}
+
+	/**
+	 * Expands {@code x[N, C, H, W]} into {@code [N * OH * OW, C * FH * FW]}.
+	 *
+	 * <p>
+	 * Tasks own contiguous runs of output rows, so every task writes one
+	 * contiguous block of the row-major column matrix, the layout
+	 * {@link CpuGemm} packs with unit stride. Padding is never materialised:
+	 * per output column the valid filter range is clipped once, only that range
+	 * is copied, and the padded taps keep the zeros of the fresh array. A 1x1
+	 * filter with unit stride and no padding is a plain
+	 * {@code [N, C, HW] -> [N, HW, C]} permute.
+	 * </p>
+	 */
+	static float[] im2col(float[] x, int N, int C, int H, int W, int FH, int FW, int padH, int padW, int strideH,
+			int strideW) {
+		if (FH == 1 && FW == 1 && padH == 0 && padW == 0 && strideH == 1 && strideW == 1)
+			return CpuPermute.permute(x, new int[] { N, C, H * W }, new int[] { 0, 2, 1 });
+
+		int OH = outSize(H, FH, padH, strideH);
+		int OW = outSize(W, FW, padW, strideW);
+		int cols = C * FH * FW;
+		float[] o = new float[N * OH * OW * cols];
+
+		CpuParallel.forRange(N * OH * OW, Math.max(1, CpuParallel.GRAIN / Math.max(1, cols)), (from, to) -> {
+			int ow = from % OW;
+			int oh = (from / OW) % OH;
+			int n = from / (OW * OH);
+
+			for (int row = from; row < to; row++) {
+				// 유효 필터 구간 [lo, hi): 패딩 위치는 0 그대로 둔다
+				int w0 = ow * strideW - padW;
+				int lo = Math.max(0, -w0), hi = Math.min(FW, W - w0);
+				int h0 = oh * strideH - padH;
+				int fhLo = Math.max(0, -h0), fhHi = Math.min(FH, H - h0);
+
+				if (lo < hi)
+					for (int c = 0; c < C; c++) {
+						int src = ((n * C + c) * H + h0) * W + w0;
+						int dst = row * cols + c * FH * FW;
+						for (int fh = fhLo; fh < fhHi; fh++) {
+							int s = src + fh * W, d = dst + fh * FW;
+							for (int fw = lo; fw < hi; fw++)
+								o[d + fw] = x[s + fw];
+						}
+					}
+
+				if (++ow == OW) {
+					ow = 0;
+					if (++oh == OH) {
+						oh = 0;
+						n++;
+					}
+				}
+			}
+		});
+		return o;
+	}
+
+	/**
+	 * Folds {@code col[N * OH * OW, C * FH * FW]} back into {@code [N, C, H, W]},
+	 * summing overlapping windows.
+	 *
+	 * <p>
+	 * The output is partitioned into bands of rows of one (n, c) plane, and each
+	 * task gathers every window tap that lands in its own band, so overlapping
+	 * windows are summed without atomics or per-thread copies. Taps are added in
+	 * the same (oh, ow, fh, fw) order as a serial fold.
+	 * </p>
+	 */
+	static float[] col2im(float[] col, int N, int C, int H, int W, int FH, int FW, int padH, int padW, int strideH,
+			int strideW) {
+		if (FH == 1 && FW == 1 && padH == 0 && padW == 0 && strideH == 1 && strideW == 1)
+			return CpuPermute.permute(col, new int[] { N, H * W, C }, new int[] { 0, 2, 1 });
+
+		int OH = outSize(H, FH, padH, strideH);
+		int OW = outSize(W, FW, padW, strideW);
+		int cols = C * FH * FW;
+		float[] o = new float[N * C * H * W];
+
+		// 띠 높이: 띠 하나가 GRAIN 개 안팎의 출력 원소를 갖도록
+		int band = Math.max(1, Math.min(H, CpuParallel.GRAIN / Math.max(1, W * FH * FW)));
+		int bands = (H + band - 1) / band;
+
+		CpuParallel.forRange(N * C * bands, 1, (from, to) -> {
+			for (int t = from; t < to; t++) {
+				int p = t / bands;
+				int n = p / C, c = p % C;
+				int b0 = (t % bands) * band, b1 = Math.min(H, b0 + band);
+				int plane = p * H * W;
+
+				// 띠 [b0, b1) 에 닿는 창: oh * strideH + fh - padH ∈ [b0, b1)
+				int ohLo = Math.max(0, Math.floorDiv(b0 + padH - FH, strideH) + 1);
+				int ohHi = Math.min(OH, Math.floorDiv(b1 - 1 + padH, strideH) + 1);
+
+				for (int oh = ohLo; oh < ohHi; oh++) {
+					int h0 = oh * strideH - padH;
+					int fhLo = Math.max(0, b0 - h0), fhHi = Math.min(FH, b1 - h0);
+					for (int ow = 0; ow < OW; ow++) {
+						int w0 = ow * strideW - padW;
+						int lo = Math.max(0, -w0), hi = Math.min(FW, W - w0);
+						int src = ((n * OH + oh) * OW + ow) * cols + c * FH * FW;
+						for (int fh = fhLo; fh < fhHi; fh++) {
+							int s = src + fh * FW, d = plane + (h0 + fh) * W + w0;
+							for (int fw = lo; fw < hi; fw++)
+								o[d + fw] += col[s + fw];
+						}
+					}
+				}
+			}
+		});
+		return o;
+	}
+}
@@ -0,0 +1,111 @@
+package CuBridge;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * CpuParallel: Fork/join helper shared by every CPU kernel.
+ *
+ * <p>
+ * Splits an index range {@code [0, n)} into contiguous chunks and runs them on a
+ * dedicated pool sized to the number of available cores. Ranges below the grain
+ * size run inline on the caller thread, so tiny tensors never pay for a task.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuParallel {
+
+	/** Default minimum number of elements per task for element-wise kernels. */
+	static final int GRAIN = 1 << 15;
+
+	private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	private CpuParallel() {
+	}
+
+	/**
+	 * A body that processes the half-open range {@code [from, to)}.
+	 */
+	interface Range {
+		void run(int from, int to);
+	}
+
+	/**
+	 * Returns the number of worker threads used by CPU kernels.
+	 *
+	 * @return pool parallelism
+	 */
+	static int threads() {
+		return POOL.getParallelism();
+	}
+
+	/**
+	 * Runs {@code body} over {@code [0, n)} using the default grain size.
+	 *
+	 * @param n    range length
+	 * @param body range body
+	 */
+	static void forRange(int n, Range body) {
+		forRange(n, GRAIN, body);
+	}
+
+	/**
+	 * Runs {@code body} over {@code [0, n)}, splitting into chunks of at least
+	 * {@code grain} indices.
+	 *
+	 * @param n     range length
+	 * @param grain minimum chunk length (≥ 1)
+	 * @param body  range body
+	 */
+	static void forRange(int n, int grain, Range body) {
+		if (n <= 0)
+			return;
+
+		grain = Math.max(1, grain);
+		int chunks = Math.min((int) Math.min(((long) n + grain - 1) / grain, Integer.MAX_VALUE), threads() * 4);
+
+		if (chunks <= 1) {
+			body.run(0, n);
+			return;
+		}
+
+		int step = (int) (((long) n + chunks - 1) / chunks);
+		Task task = new Task(body, 0, chunks, step, n);
+
+		if (ForkJoinTask.getPool() == POOL)
+			task.invoke();
+		else
+			POOL.invoke(task);
+	}
+
+	private static final class Task extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Range body;
+		private final int lo, hi, step, n;
+
+		Task(Range body, int lo, int hi, int step, int n) {
+			this.body = body;
+			this.lo = lo;
+			this.hi = hi;
+			this.step = step;
+			this.n = n;
+		}
+
+		@Override
+		protected void compute() {
+			if (hi - lo == 1) {
+				int from = lo * step;
+				int to = (int) Math.min((long) from + step, n);
+				if (from < to)
+					body.run(from, to);
+				return;
+			}
+
+			int mid = (lo + hi) >>> 1;
+			invokeAll(new Task(body, lo, mid, step, n), new Task(body, mid, hi, step, n));
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package CuBridge;
+
+/**
+ * CpuPermute: Axis permutation of the pure-Java engine.
+ *
+ * <p>
+ * Output axis {@code d} is input axis {@code order[d]}. Every element is moved
+ * exactly once, whatever the permutation:
+ * </p>
+ * <ul>
+ *   <li>Size-1 axes are dropped and input axes that stay adjacent and in order
+ *       are merged, so {@code {N, C, H, W} -> {N, H, W, C}} becomes the
+ *       batched 2-D transpose {@code {N, C, HW} -> {N, HW, C}}.</li>
+ *   <li>If the innermost input axis stays innermost, whole contiguous runs are
+ *       copied.</li>
+ *   <li>Otherwise the two axes that are innermost in the input and in the
+ *       output form a 2-D transpose repeated over every other axis. It is cut
+ *       into blocks that run in parallel, and each block is split recursively
+ *       (cache-oblivious) down to tiles whose reads and writes both stay in L1.</li>
+ * </ul>
+ *
+ * @since v1.5
+ */
+final class CpuPermute {
+
+	/** Elements per parallel block of a 2-D transpose. */
+	static final int BLOCK = 1 << 16;
+
+	/** Elements per leaf tile of the recursive split. */
+	static final int TILE = 1 << 10;
+
+	private CpuPermute() {
+	}
+
+	/**
+	 * Checks that {@code order} is a permutation of {@code 0 .. rank - 1}.
+	 */
+	static boolean valid(int[] order, int rank) {
+		if (order == null || order.length != rank)
+			return false;
+		boolean[] seen = new boolean[rank];
+		for (int a : order) {
+			if (a < 0 || a >= rank || seen[a])
+				return false;
+			seen[a] = true;
+		}
+		return true;
+	}
+
+	/**
+	 * Output shape of {@link #permute}.
+	 */
+	static int[] permuteShape(int[] shape, int[] order) {
+		int[] out = new int[order.length];
+		for (int d = 0; d < order.length; d++)
+			out[d] = shape[order[d]];
+		return out;
+	}
+
+	/**
+	 * Permutes the axes of a row-major tensor; {@code order} must be
+	 * {@link #valid}.
+	 */
+	static float[] permute(float[] x, int[] shape, int[] order) {
+		float[] o = new float[x.length];
+		if (x.length == 0)
+			return o;
+
+		// 크기 1 축 제거 후, 입력에서 연속이고 순서가 유지되는 축을 병합
+		int rank = shape.length;
+		int[] keep = new int[rank];
+		int kept = 0;
+		for (int a = 0; a < rank; a++)
+			if (shape[a] != 1)
+				keep[a] = kept++;
+			else
+				keep[a] = -1;
+
+		int[] dims = new int[kept];
+		int groups = 0;
+		int prev = -2;
+		int[] group = new int[rank];
+		for (int d = 0; d < rank; d++) {
+			int a = order[d];
+			if (keep[a] < 0)
+				continue;
+			if (keep[a] == prev + 1 && groups > 0) {
+				dims[groups - 1] *= shape[a];
+			} else {
+				dims[groups] = shape[a];
+				group[groups++] = keep[a];
+			}
+			prev = keep[a];
+		}
+
+		// 병합된 그룹을 입력 순서로 번호 매김
+		int[] rankOf = new int[groups];
+		for (int g = 0; g < groups; g++) {
+			int r = 0;
+			for (int h = 0; h < groups; h++)
+				if (group[h] < group[g])
+					r++;
+			rankOf[g] = r;
+		}
+		int[] inDims = new int[groups];
+		int[] perm = new int[groups];
+		for (int g = 0; g < groups; g++) {
+			inDims[rankOf[g]] = dims[g];
+			perm[g] = rankOf[g];
+		}
+
+		int[] inStride = new int[groups];
+		for (int a = groups - 1, s = 1; a >= 0; a--) {
+			inStride[a] = s;
+			s *= inDims[a];
+		}
+		// 출력 축 d 의 입력 stride
+		int[] src = new int[groups];
+		int[] outDims = new int[groups];
+		for (int d = 0; d < groups; d++) {
+			src[d] = inStride[perm[d]];
+			outDims[d] = inDims[perm[d]];
+		}
+
+		if (groups <= 1) {
+			System.arraycopy(x, 0, o, 0, x.length);
+			return o;
+		}
+		if (perm[groups - 1] == groups - 1) {
+			rows(x, o, outDims, src, groups);
+			return o;
+		}
+		transposed(x, o, outDims, src, perm, groups);
+		return o;
+	}
+
+	/**
+	 * The innermost axis is unchanged: copies contiguous runs of it.
+	 */
+	private static void rows(float[] x, float[] o, int[] outDims, int[] src, int r) {
+		int run = outDims[r - 1];
+		int rows = o.length / run;
+
+		CpuParallel.forRange(rows, Math.max(1, CpuParallel.GRAIN / run), (from, to) -> {
+			int[] idx = new int[r - 1];
+			int off = start(from, outDims, src, r - 1, idx);
+			for (int row = from; row < to; row++) {
+				System.arraycopy(x, off, o, row * run, run);
+				off = next(outDims, src, r - 1, idx, off);
+			}
+		});
+	}
+
+	/**
+	 * Batched 2-D transpose: the output's innermost axis {@code p} (input stride
+	 * {@code sp}) against the input's innermost axis at output position
+	 * {@code q} (output stride {@code dq}). The remaining axes form the batch.
+	 */
+	private static void transposed(float[] x, float[] o, int[] outDims, int[] src, int[] perm, int r) {
+		int q = 0;
+		while (perm[q] != r - 1)
+			q++;
+
+		int rowsP = outDims[r - 1], colsQ = outDims[q];
+		int sp = src[r - 1];
+		int[] dst = new int[r];
+		for (int d = r - 1, s = 1; d >= 0; d--) {
+			dst[d] = s;
+			s *= outDims[d];
+		}
+		int dq = dst[q];
+
+		// 배치 축: p, q 를 제외한 출력 축
+		int nb = r - 2;
+		int[] bDims = new int[nb], bSrc = new int[nb], bDst = new int[nb];
+		for (int d = 0, k = 0; d < r - 1; d++)
+			if (d != q) {
+				bDims[k] = outDims[d];
+				bSrc[k] = src[d];
+				bDst[k++] = dst[d];
+			}
+		int batches = o.length / (rowsP * colsQ);
+
+		// 병렬 블록: 약 BLOCK 개 원소의 정사각에 가까운 조각
+		int side = (int) Math.sqrt(BLOCK);
+		int bp = Math.min(rowsP, Math.max(side, BLOCK / Math.max(1, colsQ)));
+		int bq = Math.min(colsQ, Math.max(1, BLOCK / bp));
+		int tp = (rowsP + bp - 1) / bp, tq = (colsQ + bq - 1) / bq;
+		int tiles = tp * tq;
+
+		CpuParallel.forRange(batches * tiles, Math.max(1, CpuParallel.GRAIN / (bp * bq)), (from, to) -> {
+			for (int t = from; t < to; t++) {
+				int b = t / tiles, tile = t % tiles;
+				int offX = 0, offO = 0;
+				for (int k = nb - 1, rem = b; k >= 0; k--) {
+					int c = rem % bDims[k];
+					rem /= bDims[k];
+					offX += c * bSrc[k];
+					offO += c * bDst[k];
+				}
+				int i0 = (tile / tq) * bp, j0 = (tile % tq) * bq;
+				split(x, offX, sp, o, offO, dq, i0, Math.min(rowsP, i0 + bp), j0, Math.min(colsQ, j0 + bq));
+			}
+		});
+	}
+
+	/**
+	 * {@code o[offO + j * dq + i] = x[offX + i * sp + j]} over
+	 * {@code [i0, i1) x [j0, j1)}, halving the longer side until a tile fits
+	 * {@link #TILE}.
+	 */
+	private static void split(float[] x, int offX, int sp, float[] o, int offO, int dq, int i0, int i1, int j0,
+			int j1) {
+		while ((long) (i1 - i0) * (j1 - j0) > TILE) {
+			if (i1 - i0 >= j1 - j0) {
+				int im = (i0 + i1) >>> 1;
+				split(x, offX, sp, o, offO, dq, i0, im, j0, j1);
+				i0 = im;
+			} else {
+				int jm = (j0 + j1) >>> 1;
+				split(x, offX, sp, o, offO, dq, i0, i1, j0, jm);
+				j0 = jm;
+			}
+		}
+		if (i1 - i0 < 16) {
+			// 짧은 출력 행: 입력 행을 따라 읽는 쪽이 빠르다
+			for (int i = i0; i < i1; i++) {
+				int s = offX + i * sp, d = offO + i;
+				for (int j = j0; j < j1; j++)
+					o[d + j * dq] = x[s + j];
+			}
+			return;
+		}
+		for (int j = j0; j < j1; j++) {
+			int s = offX + j, d = offO + j * dq;
+			for (int i = i0; i < i1; i++)
+				o[d + i] = x[s + i * sp];
+		}
+	}
+
+	/**
+	 * Sets {@code idx} to the coordinates of output row {@code row} over the
+	 * first {@code n} output axes and returns its input offset.
+	 */
+	private static int start(int row, int[] dims, int[] src, int n, int[] idx) {
+		int off = 0;
+		for (int d = n - 1; d >= 0; d--) {
+			idx[d] = row % dims[d];
+			row /= dims[d];
+			off += idx[d] * src[d];
+		}
+		return off;
+	}
+
+	/** Advances the odometer {@code idx} by one row and returns the new offset. */
+	private static int next(int[] dims, int[] src, int n, int[] idx, int off) {
+		for (int d = n - 1; d >= 0; d--) {
+			off += src[d];
+			if (++idx[d] < dims[d])
+				return off;
+			off -= idx[d] * src[d];
+			idx[d] = 0;
+		}
+		return off;
+	}
+}
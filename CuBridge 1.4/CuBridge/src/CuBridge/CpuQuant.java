@@ -0,0 +1,194 @@
+package CuBridge;
+
+/**
+ * CpuQuant: Kernels of {@link QTensor}: quantization and the int8 GEMM.
+ *
+ * <p>
+ * A quantized value {@code q} stands for {@code scale * (q - zeroPoint)}. The
+ * product of an activation {@code A [M, K]} (one scale {@code sa}, zero point
+ * {@code za}) and a weight {@code B [K, N]} (scale {@code sb[j]} and zero point
+ * {@code zb[j]} per output column, or one for all) is computed as
+ * </p>
+ * <pre>
+ * acc[i, j] = sum_k A[i, k] * B[k, j]                       (int8 x int8, int32 sum)
+ *           - za * colSum(B)[j] - zb[j] * rowSum(A)[i] + K * za * zb[j]
+ * y[i, j]   = acc[i, j] * sa * sb[j] + bias[j]             (then ReLU if asked)
+ * </pre>
+ * <ul>
+ *   <li>B is packed once per weight into {@code NR}-wide slivers
+ *       ({@code [N / NR][K][NR]}, zero-padded); {@link QTensor} keeps the packed
+ *       copy and the column sums, so repeated calls with the same weight pay for
+ *       neither.</li>
+ *   <li>The micro-kernel keeps an {@code MR x NR} int32 tile for the whole K loop
+ *       ({@link CpuQuantSimd} with the Vector API, a scalar loop otherwise).</li>
+ *   <li>The epilogue applies the zero-point corrections, the scales, the bias
+ *       and ReLU to the tile, and writes either floats or int8 values
+ *       requantized to the output's scale and zero point, so the int32 result
+ *       is never stored.</li>
+ *   <li>Tiles are taken panel by panel, so one B sliver serves every row block
+ *       while it is in cache; a single-row product is split across panels.</li>
+ * </ul>
+ *
+ * @since v1.5
+ */
+final class CpuQuant {
+
+	/** Rows of A per micro-tile. */
+	static final int MR = 4;
+
+	/** Columns of B per micro-tile. */
+	static final int NR = CpuSimd.ENABLED && CpuQuantSimd.USABLE ? CpuQuantSimd.NR : 16;
+
+	private CpuQuant() {
+	}
+
+	/**
+	 * {@code clamp(round(x / scale) + zeroPoint)} into int8.
+	 */
+	static byte quantize(float x, float scale, int zeroPoint) {
+		int q = Math.round(x / scale) + zeroPoint;
+		return (byte) Math.max(-128, Math.min(127, q));
+	}
+
+	/**
+	 * Quantizes {@code x}; with more than one scale, channel {@code c} of element
+	 * {@code i} is {@code (i / inner) % scale.length}.
+	 */
+	static byte[] quantize(float[] x, float[] scale, int[] zeroPoint, int inner) {
+		byte[] q = new byte[x.length];
+		int channels = scale.length;
+		CpuParallel.forRange(x.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				int c = channels == 1 ? 0 : (i / inner) % channels;
+				q[i] = quantize(x[i], scale[c], zeroPoint[c]);
+			}
+		});
+		return q;
+	}
+
+	static float[] dequantize(byte[] q, float[] scale, int[] zeroPoint, int inner) {
+		float[] x = new float[q.length];
+		int channels = scale.length;
+		CpuParallel.forRange(q.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				int c = channels == 1 ? 0 : (i / inner) % channels;
+				x[i] = scale[c] * (q[i] - zeroPoint[c]);
+			}
+		});
+		return x;
+	}
+
+	/**
+	 * Packs row-major {@code b [K, N]} into {@code NR}-wide slivers.
+	 */
+	static byte[] pack(byte[] b, int K, int N) {
+		int panels = (N + NR - 1) / NR;
+		byte[] p = new byte[panels * K * NR];
+		CpuParallel.forRange(panels, 1, (from, to) -> {
+			for (int s = from; s < to; s++) {
+				int j0 = s * NR, nr = Math.min(NR, N - j0);
+				for (int k = 0, o = s * K * NR; k < K; k++, o += NR)
+					System.arraycopy(b, k * N + j0, p, o, nr);
+			}
+		});
+		return p;
+	}
+
+	/** Sum over each column of row-major {@code b [K, N]}. */
+	static int[] colSums(byte[] b, int K, int N) {
+		int[] s = new int[N];
+		for (int k = 0; k < K; k++)
+			for (int j = 0; j < N; j++)
+				s[j] += b[k * N + j];
+		return s;
+	}
+
+	/**
+	 * The fused product. Exactly one of {@code outF}/{@code outQ} is non-null;
+	 * {@code outQ} receives values requantized to {@code (so, zo)}.
+	 *
+	 * @param bp    packed B from {@link #pack(byte[], int, int)}
+	 * @param colB  column sums of B
+	 * @param sb    one scale, or one per column
+	 * @param zb    one zero point, or one per column
+	 * @param bias  {@code N} values, or {@code null}
+	 */
+	static void gemm(int M, int N, int K, byte[] a, float sa, int za, byte[] bp, int[] colB, float[] sb, int[] zb,
+			float[] bias, boolean relu, float[] outF, byte[] outQ, float so, int zo) {
+		int panels = (N + NR - 1) / NR, blocks = (M + MR - 1) / MR;
+
+		// 가중치 영점이 0 이 아니면 A 의 행 합으로 보정
+		boolean rowTerm = false;
+		for (int z : zb)
+			rowTerm |= z != 0;
+		int[] rowA = rowTerm ? rowSums(a, M, K) : null;
+
+		int grain = (int) Math.max(1, (1L << 18) / ((long) MR * NR * Math.max(1, K)));
+		CpuParallel.forRange(panels * blocks, grain, (from, to) -> {
+			int[] tile = new int[MR * NR];
+			for (int t = from; t < to; t++) {
+				int s = t / blocks, i0 = (t % blocks) * MR;
+				int mr = Math.min(MR, M - i0), j0 = s * NR, nr = Math.min(NR, N - j0);
+				if (CpuSimd.ENABLED && CpuQuantSimd.USABLE)
+					CpuQuantSimd.kernel(K, a, i0, mr, bp, s * K * NR, tile);
+				else
+					kernel(K, a, i0, mr, bp, s * K * NR, tile);
+				epilogue(tile, i0, mr, j0, nr, N, K, sa, za, colB, rowA, sb, zb, bias, relu, outF, outQ, so, zo);
+			}
+		});
+	}
+
+	/**
+	 * Scalar micro-kernel: {@code tile[r * NR + j] = sum_k A[i0 + r, k] * Bp[k, j]}
+	 * for the first {@code mr} rows.
+	 */
+	private static void kernel(int K, byte[] a, int i0, int mr, byte[] bp, int pb, int[] tile) {
+		java.util.Arrays.fill(tile, 0);
+		for (int r = 0; r < mr; r++) {
+			int rowA = (i0 + r) * K, rowT = r * NR;
+			for (int k = 0, o = pb; k < K; k++, o += NR) {
+				int x = a[rowA + k];
+				if (x == 0)
+					continue;
+				for (int j = 0; j < NR; j++)
+					tile[rowT + j] += x * bp[o + j];
+			}
+		}
+	}
+
+	private static void epilogue(int[] tile, int i0, int mr, int j0, int nr, int N, int K, float sa, int za,
+			int[] colB, int[] rowA, float[] sb, int[] zb, float[] bias, boolean relu, float[] outF, byte[] outQ,
+			float so, int zo) {
+		boolean perCol = sb.length > 1;
+		float inv = outQ != null ? 1.0f / so : 0.0f;
+		for (int r = 0; r < mr; r++) {
+			int i = i0 + r, rowT = r * NR, rowO = i * N + j0;
+			for (int j = 0; j < nr; j++) {
+				int c = j0 + j, q = perCol ? c : 0;
+				int acc = tile[rowT + j] - za * colB[c];
+				if (rowA != null)
+					acc += zb[q] * (K * za - rowA[i]);
+				float y = acc * (sa * sb[q]);
+				if (bias != null)
+					y += bias[c];
+				if (relu && y < 0.0f)
+					y = 0.0f;
+				if (outF != null)
+					outF[rowO + j] = y;
+				else
+					outQ[rowO + j] = (byte) Math.max(-128, Math.min(127, Math.round(y * inv) + zo));
+			}
+		}
+	}
+
+	private static int[] rowSums(byte[] a, int M, int K) {
+		int[] s = new int[M];
+		for (int i = 0; i < M; i++) {
+			int sum = 0;
+			for (int k = 0; k < K; k++)
+				sum += a[i * K + k];
+			s[i] = sum;
+		}
+		return s;
+	}
+}
@@ -0,0 +1,74 @@
+package CuBridge;
+
+import jdk.incubator.vector.*;
+
+/**
+ * CpuQuantSimd: Vector API micro-kernel of {@link CpuQuant}.
+ *
+ * <p>
+ * Holds a {@code 4 x 2V} int32 tile (V = lanes of the preferred int species)
+ * in eight accumulators: per k it loads two int8 vectors of the packed B
+ * sliver, sign-extends them to int lanes, broadcasts four values of A and
+ * issues eight multiply-adds. Needs an int species of at least 256 bits, so
+ * that a quarter of it is still a byte species; only called when
+ * {@link CpuSimd#ENABLED} and {@link #USABLE} are true.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuQuantSimd {
+
+	private static final VectorSpecies<Integer> I = IntVector.SPECIES_PREFERRED;
+	private static final int L = I.length();
+
+	/** Whether the host's vectors are wide enough for this kernel. */
+	static final boolean USABLE = I.vectorBitSize() >= 256;
+
+	private static final VectorSpecies<Byte> B = USABLE
+			? VectorSpecies.of(byte.class, VectorShape.forBitSize(I.vectorBitSize() / 4))
+			: null;
+
+	static final int NR = 2 * L;
+
+	private CpuQuantSimd() {
+	}
+
+	/**
+	 * {@code tile[r * NR + j] = sum_k A[i0 + r, k] * Bp[k, j]} for the first
+	 * {@code mr} rows; {@code Bp} is the sliver at {@code pb}.
+	 */
+	static void kernel(int K, byte[] a, int i0, int mr, byte[] bp, int pb, int[] tile) {
+		// 남는 행은 유효한 첫 행을 다시 계산하고 저장하지 않음
+		int r0 = i0 * K;
+		int r1 = (mr > 1 ? i0 + 1 : i0) * K, r2 = (mr > 2 ? i0 + 2 : i0) * K, r3 = (mr > 3 ? i0 + 3 : i0) * K;
+		final IntVector zero = IntVector.zero(I);
+		IntVector c00 = zero, c01 = zero, c10 = zero, c11 = zero, c20 = zero, c21 = zero, c30 = zero, c31 = zero;
+
+		for (int k = 0, o = pb; k < K; k++, o += NR) {
+			IntVector b0 = (IntVector) ByteVector.fromArray(B, bp, o).convertShape(VectorOperators.B2I, I, 0);
+			IntVector b1 = (IntVector) ByteVector.fromArray(B, bp, o + L).convertShape(VectorOperators.B2I, I, 0);
+			IntVector av;
+			av = IntVector.broadcast(I, a[r0 + k]);
+			c00 = c00.add(av.mul(b0));
+			c01 = c01.add(av.mul(b1));
+			av = IntVector.broadcast(I, a[r1 + k]);
+			c10 = c10.add(av.mul(b0));
+			c11 = c11.add(av.mul(b1));
+			av = IntVector.broadcast(I, a[r2 + k]);
+			c20 = c20.add(av.mul(b0));
+			c21 = c21.add(av.mul(b1));
+			av = IntVector.broadcast(I, a[r3 + k]);
+			c30 = c30.add(av.mul(b0));
+			c31 = c31.add(av.mul(b1));
+		}
+
+		c00.intoArray(tile, 0);
+		c01.intoArray(tile, L);
+		c10.intoArray(tile, NR);
+		c11.intoArray(tile, NR + L);
+		c20.intoArray(tile, 2 * NR);
+		c21.intoArray(tile, 2 * NR + L);
+		c30.intoArray(tile, 3 * NR);
+		c31.intoArray(tile, 3 * NR + L);
+	}
+}
@@ -0,0 +1,33 @@
+package CuBridge;
+
+/**
+ * CpuSimd: Detects whether the Vector API ({@code jdk.incubator.vector}) can be
+ * used by the CPU kernels.
+ *
+ * <p>
+ * The module is optional: it is only resolved when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}. Without it every kernel runs its
+ * scalar loop. SIMD kernels can also be turned off with
+ * {@code -Dcubridge.simd=false}.
+ * </p>
+ * <p>
+ * This class must not reference any Vector API type, so that it loads on every
+ * JVM; the SIMD kernel classes are only touched when {@link #ENABLED} is true.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuSimd {
+
+	/** Whether SIMD kernels are used. */
+	static final boolean ENABLED = detect();
+
+	private CpuSimd() {
+	}
+
+	private static boolean detect() {
+		if (!Boolean.parseBoolean(System.getProperty("cubridge.simd", "true")))
+			return false;
+		return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+	}
+}
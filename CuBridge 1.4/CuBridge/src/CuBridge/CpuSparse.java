@@ -0,0 +1,442 @@
+package CuBridge;
+
+import java.util.Arrays;
+
+/**
+ * CpuSparse: Kernels of {@link SparseTensor}: conversions, sparse-dense products
+ * and the operations that keep a matrix sparse.
+ *
+ * <ul>
+ *   <li><b>SpMM</b> {@code C = S · B}: each row of C is a sum of rows of B
+ *       scaled by the values of that row of S ({@link CpuSparseSimd} with the
+ *       Vector API). With a single column of B it is an SpMV, a gathered dot
+ *       product per row.</li>
+ *   <li><b>Dense · sparse</b> {@code C = A · S}: each non-zero {@code A[i, k]}
+ *       scatters row {@code k} of S into row {@code i} of C.</li>
+ *   <li>Rows are split between tasks by stored values rather than by count,
+ *       so a few long rows do not leave the other cores idle.</li>
+ *   <li>{@code mul} and unary operations with {@code f(0) = 0} only touch the
+ *       stored values; entries that become 0 are dropped.</li>
+ * </ul>
+ * <p>
+ * Every kernel takes and returns CSR with increasing columns per row.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuSparse {
+
+	private CpuSparse() {
+	}
+
+	// ===================== 분할 =====================
+
+	/**
+	 * Runs {@code body} over row ranges of a CSR matrix, splitting where the
+	 * stored values plus one per row (for the row overhead) are even.
+	 *
+	 * @param grain minimum number of values per task
+	 */
+	static void forRows(int[] rowPtr, int rows, int grain, CpuParallel.Range body) {
+		long work = (long) rowPtr[rows] + rows;
+		if (work > Integer.MAX_VALUE) {
+			CpuParallel.forRange(rows, Math.max(1, (int) (grain * (long) rows / work)), body);
+			return;
+		}
+		CpuParallel.forRange((int) work, grain, (from, to) -> {
+			// 행 r 은 시작 위치 rowPtr[r] + r 이 속한 구간이 맡는다
+			int r0 = firstRow(rowPtr, rows, from), r1 = firstRow(rowPtr, rows, to);
+			if (r0 < r1)
+				body.run(r0, r1);
+		});
+	}
+
+	/** Smallest row {@code r} with {@code rowPtr[r] + r >= w}, or {@code rows}. */
+	private static int firstRow(int[] rowPtr, int rows, int w) {
+		int lo = 0, hi = rows;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if ((long) rowPtr[mid] + mid < w)
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		return lo;
+	}
+
+	// ===================== 변환 =====================
+
+	/** CSR of the non-zero values of a row-major {@code [rows, cols]} matrix. */
+	static SparseTensor fromDense(float[] x, int rows, int cols) {
+		int[] rowPtr = new int[rows + 1];
+		int grain = Math.max(1, CpuParallel.GRAIN / cols);
+		CpuParallel.forRange(rows, grain, (from, to) -> {
+			for (int r = from; r < to; r++) {
+				int n = 0;
+				for (int j = 0, o = r * cols; j < cols; j++)
+					if (x[o + j] != 0.0f)
+						n++;
+				rowPtr[r + 1] = n;
+			}
+		});
+		for (int r = 0; r < rows; r++)
+			rowPtr[r + 1] += rowPtr[r];
+
+		int[] col = new int[rowPtr[rows]];
+		float[] val = new float[rowPtr[rows]];
+		CpuParallel.forRange(rows, grain, (from, to) -> {
+			for (int r = from; r < to; r++) {
+				int p = rowPtr[r];
+				for (int j = 0, o = r * cols; j < cols; j++)
+					if (x[o + j] != 0.0f) {
+						col[p] = j;
+						val[p++] = x[o + j];
+					}
+			}
+		});
+		return new SparseTensor(rows, cols, SparseTensor.Format.CSR, rowPtr, col, val);
+	}
+
+	/**
+	 * Row-major dense form of a CSR matrix.
+	 *
+	 * @throws IllegalArgumentException if it would exceed {@code 2^31 - 1}
+	 *                                  elements
+	 */
+	static float[] toDense(SparseTensor s) {
+		int rows = s.rows(), cols = s.cols();
+		if ((long) rows * cols > Integer.MAX_VALUE)
+			throw new IllegalArgumentException(
+					"sparse tensor [" + rows + ", " + cols + "] is too large to densify");
+		int[] rowPtr = s.rowPtr(), col = s.colIdx();
+		float[] val = s.values();
+		float[] x = new float[rows * cols];
+		forRows(rowPtr, rows, CpuParallel.GRAIN, (from, to) -> {
+			for (int r = from; r < to; r++)
+				for (int p = rowPtr[r], o = r * cols; p < rowPtr[r + 1]; p++)
+					x[o + col[p]] = val[p];
+		});
+		return x;
+	}
+
+	/** Row of every value, from CSR row offsets. */
+	static int[] expandRows(int[] rowPtr, int rows) {
+		int[] r = new int[rowPtr[rows]];
+		forRows(rowPtr, rows, CpuParallel.GRAIN, (from, to) -> {
+			for (int i = from; i < to; i++)
+				Arrays.fill(r, rowPtr[i], rowPtr[i + 1], i);
+		});
+		return r;
+	}
+
+	/**
+	 * CSR of COO entries: a counting sort by row, then each row sorted by
+	 * column with duplicates summed.
+	 */
+	static SparseTensor cooToCsr(int rows, int cols, int[] ri, int[] ci, float[] vi) {
+		int n = vi.length;
+		int[] start = new int[rows + 1];
+		for (int p = 0; p < n; p++)
+			start[ri[p] + 1]++;
+		for (int r = 0; r < rows; r++)
+			start[r + 1] += start[r];
+
+		int[] fill = Arrays.copyOf(start, rows);
+		int[] col = new int[n];
+		float[] val = new float[n];
+		for (int p = 0; p < n; p++) {
+			int q = fill[ri[p]]++;
+			col[q] = ci[p];
+			val[q] = vi[p];
+		}
+
+		// 행마다 열 순으로 정렬하고 같은 좌표를 합친 뒤 남은 개수를 기록
+		int[] kept = new int[rows + 1];
+		forRows(start, rows, CpuParallel.GRAIN, (from, to) -> {
+			for (int r = from; r < to; r++)
+				kept[r + 1] = sortRow(col, val, start[r], start[r + 1]);
+		});
+		for (int r = 0; r < rows; r++)
+			kept[r + 1] += kept[r];
+		if (kept[rows] == n)
+			return new SparseTensor(rows, cols, SparseTensor.Format.CSR, start, col, val);
+
+		int[] c2 = new int[kept[rows]];
+		float[] v2 = new float[kept[rows]];
+		for (int r = 0; r < rows; r++) {
+			System.arraycopy(col, start[r], c2, kept[r], kept[r + 1] - kept[r]);
+			System.arraycopy(val, start[r], v2, kept[r], kept[r + 1] - kept[r]);
+		}
+		return new SparseTensor(rows, cols, SparseTensor.Format.CSR, kept, c2, v2);
+	}
+
+	/**
+	 * Sorts {@code [from, to)} by column, sums equal columns into the first of
+	 * them and packs the run at {@code from}.
+	 *
+	 * @return the number of distinct columns
+	 */
+	private static int sortRow(int[] col, float[] val, int from, int to) {
+		boolean sorted = true;
+		for (int p = from + 1; p < to && sorted; p++)
+			sorted = col[p - 1] < col[p];
+		if (sorted)
+			return to - from;
+
+		// 열과 값의 원래 위치를 long 하나로 묶어 정렬
+		long[] key = new long[to - from];
+		for (int p = from; p < to; p++)
+			key[p - from] = (long) col[p] << 32 | (p - from);
+		Arrays.sort(key);
+		float[] v = Arrays.copyOfRange(val, from, to);
+
+		int w = from - 1;
+		for (long k : key) {
+			int c = (int) (k >>> 32);
+			float x = v[(int) k];
+			if (w >= from && col[w] == c) {
+				val[w] += x;
+			} else {
+				col[++w] = c;
+				val[w] = x;
+			}
+		}
+		return w + 1 - from;
+	}
+
+	/** CSR of the transpose: a counting sort of the values by column. */
+	static SparseTensor transpose(SparseTensor s) {
+		int rows = s.rows(), cols = s.cols();
+		int[] rowPtr = s.rowPtr(), col = s.colIdx();
+		float[] val = s.values();
+		int n = val.length;
+
+		int[] tPtr = new int[cols + 1];
+		for (int p = 0; p < n; p++)
+			tPtr[col[p] + 1]++;
+		for (int c = 0; c < cols; c++)
+			tPtr[c + 1] += tPtr[c];
+
+		// 행 순서로 훑으므로 전치 행 안의 열(원래 행)은 자연히 증가
+		int[] fill = Arrays.copyOf(tPtr, cols);
+		int[] tCol = new int[n];
+		float[] tVal = new float[n];
+		for (int r = 0; r < rows; r++)
+			for (int p = rowPtr[r]; p < rowPtr[r + 1]; p++) {
+				int q = fill[col[p]]++;
+				tCol[q] = r;
+				tVal[q] = val[p];
+			}
+		return new SparseTensor(cols, rows, SparseTensor.Format.CSR, tPtr, tCol, tVal);
+	}
+
+	// ===================== 곱 =====================
+
+	/**
+	 * {@code C[M, N] = S[M, K] · B[K, N]}, B row-major; a new (pooled) array.
+	 */
+	static float[] spmm(SparseTensor s, float[] b, int N) {
+		int M = s.rows();
+		int[] rowPtr = s.rowPtr(), col = s.colIdx();
+		float[] val = s.values();
+		float[] c = TensorPool.takeZeroed(M * N);
+
+		if (N == 1) {
+			// SpMV: 행마다 x 를 모아 읽는 내적
+			forRows(rowPtr, M, CpuParallel.GRAIN, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					float acc = 0.0f;
+					for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++)
+						acc += val[p] * b[col[p]];
+					c[i] = acc;
+				}
+			});
+			return c;
+		}
+
+		forRows(rowPtr, M, Math.max(1, CpuParallel.GRAIN / N), (from, to) -> {
+			for (int i = from; i < to; i++) {
+				int o = i * N;
+				for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) {
+					if (CpuSimd.ENABLED)
+						CpuSparseSimd.axpy(val[p], b, col[p] * N, c, o, N);
+					else
+						axpy(val[p], b, col[p] * N, c, o, N);
+				}
+			}
+		});
+		return c;
+	}
+
+	/** {@code y[iy .. iy + n) += a * x[ix .. ix + n)}. */
+	static void axpy(float a, float[] x, int ix, float[] y, int iy, int n) {
+		for (int j = 0; j < n; j++)
+			y[iy + j] += a * x[ix + j];
+	}
+
+	/**
+	 * {@code C[M, N] = A[M, K] · S[K, N]}, A row-major; a new (pooled) array.
+	 * S is transposed once, so every output is a dot product gathering from a
+	 * row of A; column ranges of C are split by stored values, and rows of A are
+	 * taken four at a time so each value of S serves four outputs.
+	 */
+	static float[] dsmm(float[] a, int M, SparseTensor s) {
+		int K = s.rows(), N = s.cols();
+		SparseTensor t = transpose(s);
+		int[] rowPtr = t.rowPtr(), col = t.colIdx();
+		float[] val = t.values();
+		float[] c = TensorPool.take(M * N);
+
+		forRows(rowPtr, N, Math.max(1, CpuParallel.GRAIN / M), (from, to) -> {
+			int i = 0;
+			for (; i + 4 <= M; i += 4) {
+				int r0 = i * K, r1 = r0 + K, r2 = r1 + K, r3 = r2 + K;
+				int o0 = i * N, o1 = o0 + N, o2 = o1 + N, o3 = o2 + N;
+				for (int j = from; j < to; j++) {
+					float y0 = 0.0f, y1 = 0.0f, y2 = 0.0f, y3 = 0.0f;
+					for (int p = rowPtr[j]; p < rowPtr[j + 1]; p++) {
+						int k = col[p];
+						float v = val[p];
+						y0 += a[r0 + k] * v;
+						y1 += a[r1 + k] * v;
+						y2 += a[r2 + k] * v;
+						y3 += a[r3 + k] * v;
+					}
+					c[o0 + j] = y0;
+					c[o1 + j] = y1;
+					c[o2 + j] = y2;
+					c[o3 + j] = y3;
+				}
+			}
+			for (; i < M; i++) {
+				int r = i * K, o = i * N;
+				for (int j = from; j < to; j++) {
+					float y = 0.0f;
+					for (int p = rowPtr[j]; p < rowPtr[j + 1]; p++)
+						y += a[r + col[p]] * val[p];
+					c[o + j] = y;
+				}
+			}
+		});
+		return c;
+	}
+
+	// ===================== 원소별 =====================
+
+	/**
+	 * Whether {@code op} maps 0 to 0, so it only needs the stored values.
+	 */
+	static boolean keepsZero(CpuUnary.Op op) {
+		switch (op) {
+		case ABS: case NEG: case SQUARE: case SQRT: case SIN: case TAN: case STEP: case TANH: case RELU:
+		case LEAKRELU: case ROUND: case CEIL: case FLOOR: case DEG2RAD: case RAD2DEG:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/** A zero-preserving unary operation on the stored values. */
+	static SparseTensor unary(CpuUnary.Op op, SparseTensor s) {
+		return prune(s, CpuUnary.apply(op, s.values()));
+	}
+
+	/**
+	 * {@code S * D}, where the dense {@code D} of shape {@code ds} (rank ≤ 2)
+	 * broadcasts to the shape of S. Only stored positions are read.
+	 */
+	static SparseTensor mul(SparseTensor s, float[] d, int[] ds) {
+		int rows = s.rows();
+		int dr = ds.length == 2 ? ds[0] : 1, dc = ds[ds.length - 1];
+		int rs = dr == 1 ? 0 : dc, cs = dc == 1 ? 0 : 1;
+		int[] rowPtr = s.rowPtr(), col = s.colIdx();
+		float[] val = s.values();
+		float[] o = new float[val.length];
+
+		forRows(rowPtr, rows, CpuParallel.GRAIN, (from, to) -> {
+			for (int r = from; r < to; r++)
+				for (int p = rowPtr[r]; p < rowPtr[r + 1]; p++)
+					o[p] = val[p] * d[r * rs + col[p] * cs];
+		});
+		return prune(s, o);
+	}
+
+	/** {@code A * B} of two CSR matrices of the same shape: their common entries. */
+	static SparseTensor mul(SparseTensor a, SparseTensor b) {
+		int rows = a.rows();
+		int[] pa = a.rowPtr(), ca = a.colIdx(), pb = b.rowPtr(), cb = b.colIdx();
+		float[] va = a.values(), vb = b.values();
+
+		// 두 행의 열을 병합하며 겹치는 위치만 센 뒤 채움
+		int[] ptr = new int[rows + 1];
+		forRows(pa, rows, CpuParallel.GRAIN, (from, to) -> {
+			for (int r = from; r < to; r++) {
+				int n = 0;
+				for (int p = pa[r], q = pb[r]; p < pa[r + 1] && q < pb[r + 1];) {
+					if (ca[p] < cb[q])
+						p++;
+					else if (ca[p] > cb[q])
+						q++;
+					else {
+						n++;
+						p++;
+						q++;
+					}
+				}
+				ptr[r + 1] = n;
+			}
+		});
+		for (int r = 0; r < rows; r++)
+			ptr[r + 1] += ptr[r];
+
+		int[] col = new int[ptr[rows]];
+		float[] val = new float[ptr[rows]];
+		forRows(pa, rows, CpuParallel.GRAIN, (from, to) -> {
+			for (int r = from; r < to; r++) {
+				int w = ptr[r];
+				for (int p = pa[r], q = pb[r]; p < pa[r + 1] && q < pb[r + 1];) {
+					if (ca[p] < cb[q])
+						p++;
+					else if (ca[p] > cb[q])
+						q++;
+					else {
+						col[w] = ca[p];
+						val[w++] = va[p++] * vb[q++];
+					}
+				}
+			}
+		});
+		return prune(new SparseTensor(rows, a.cols(), SparseTensor.Format.CSR, ptr, col, val), val);
+	}
+
+	/**
+	 * The pattern of {@code s} with new values {@code v}, dropping the entries
+	 * where {@code v} is 0.
+	 */
+	private static SparseTensor prune(SparseTensor s, float[] v) {
+		int zeros = 0;
+		for (float x : v)
+			if (x == 0.0f)
+				zeros++;
+		int[] rowPtr = s.rowPtr();
+		if (zeros == 0)
+			return new SparseTensor(s.rows(), s.cols(), SparseTensor.Format.CSR, rowPtr, s.colIdx(), v);
+
+		int rows = s.rows();
+		int[] col = s.colIdx();
+		int[] ptr = new int[rows + 1];
+		int[] c2 = new int[v.length - zeros];
+		float[] v2 = new float[v.length - zeros];
+		int w = 0;
+		for (int r = 0; r < rows; r++) {
+			for (int p = rowPtr[r]; p < rowPtr[r + 1]; p++)
+				if (v[p] != 0.0f) {
+					c2[w] = col[p];
+					v2[w++] = v[p];
+				}
+			ptr[r + 1] = w;
+		}
+		TensorPool.give(v);
+		return new SparseTensor(rows, s.cols(), SparseTensor.Format.CSR, ptr, c2, v2);
+	}
+}
@@ -0,0 +1,34 @@
+package CuBridge;
+
+import jdk.incubator.vector.*;
+
+/**
+ * CpuSparseSimd: Vector API version of the {@link CpuSparse} row update.
+ *
+ * <p>
+ * One stored value of a sparse row scales a whole row of the dense operand
+ * into the output row with a broadcast FMA. Only called when
+ * {@link CpuSimd#ENABLED} is true.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuSparseSimd {
+
+	private static final VectorSpecies<Float> S = FloatVector.SPECIES_PREFERRED;
+
+	private CpuSparseSimd() {
+	}
+
+	/** {@code y[iy .. iy + n) += a * x[ix .. ix + n)}. */
+	static void axpy(float a, float[] x, int ix, float[] y, int iy, int n) {
+		final int L = S.length();
+		final int bound = S.loopBound(n);
+		final FloatVector va = FloatVector.broadcast(S, a);
+		int j = 0;
+		for (; j < bound; j += L)
+			FloatVector.fromArray(S, x, ix + j).fma(va, FloatVector.fromArray(S, y, iy + j)).intoArray(y, iy + j);
+		for (; j < n; j++)
+			y[iy + j] += a * x[ix + j];
+	}
+}
@@ -0,0 +1,249 @@
+package CuBridge;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+/**
+ * CpuStrided: Copies between a strided view and dense row-major storage.
+ *
+ * <p>
+ * A view addresses element {@code (i0, i1, ...)} at
+ * {@code offset + i0 * strides[0] + i1 * strides[1] + ...} of its storage, a
+ * {@code float[]} or a {@link FloatBuffer}. Before copying:
+ * </p>
+ * <ul>
+ *   <li>Size-1 axes are dropped and neighbouring axes that are contiguous with
+ *       each other are merged, so a narrowed batch of rows becomes one run.</li>
+ *   <li>If the innermost remaining axis has stride 1, whole runs are moved with a
+ *       bulk copy; otherwise elements are moved one by one along it.</li>
+ *   <li>Rows (every axis but the innermost) are split over the cores through
+ *       {@link CpuParallel}.</li>
+ * </ul>
+ *
+ * @since v1.5
+ */
+final class CpuStrided {
+
+	private CpuStrided() {
+	}
+
+	/**
+	 * Row-major strides of a dense tensor of the given shape.
+	 */
+	static int[] contiguousStrides(int[] shape) {
+		int[] s = new int[shape.length];
+		for (int d = shape.length - 1, k = 1; d >= 0; d--) {
+			s[d] = k;
+			k *= shape[d];
+		}
+		return s;
+	}
+
+	/**
+	 * Reports whether {@code strides} lay {@code shape} out densely in row-major
+	 * order; strides of size-1 axes do not matter.
+	 */
+	static boolean isContiguous(int[] shape, int[] strides) {
+		int k = 1;
+		for (int d = shape.length - 1; d >= 0; d--) {
+			if (shape[d] == 1)
+				continue;
+			if (strides[d] != k)
+				return false;
+			k *= shape[d];
+		}
+		return true;
+	}
+
+	/**
+	 * Storage offset of the element at row-major position {@code i} of the view.
+	 */
+	static int offsetOf(int i, int offset, int[] shape, int[] strides) {
+		for (int d = shape.length - 1; d >= 0; d--) {
+			offset += (i % shape[d]) * strides[d];
+			i /= shape[d];
+		}
+		return offset;
+	}
+
+	/**
+	 * Copies the view into {@code dst} from {@code dstPos}, in row-major order.
+	 */
+	static void gather(float[] src, int offset, int[] shape, int[] strides, float[] dst, int dstPos) {
+		Plan p = new Plan(shape, strides);
+		p.run((from, to, off, idx) -> {
+			for (int row = from; row < to; row++) {
+				int d = dstPos + row * p.run;
+				if (p.step == 1)
+					System.arraycopy(src, offset + off, dst, d, p.run);
+				else
+					for (int j = 0, s = offset + off; j < p.run; j++, s += p.step)
+						dst[d + j] = src[s];
+				off = p.next(idx, off);
+			}
+		});
+	}
+
+	/**
+	 * Copies the view of an off-heap storage into {@code dst} from {@code dstPos}.
+	 */
+	static void gather(FloatBuffer src, int offset, int[] shape, int[] strides, float[] dst, int dstPos) {
+		Plan p = new Plan(shape, strides);
+		p.run((from, to, off, idx) -> {
+			for (int row = from; row < to; row++) {
+				int d = dstPos + row * p.run;
+				if (p.step == 1)
+					src.get(offset + off, dst, d, p.run);
+				else
+					for (int j = 0, s = offset + off; j < p.run; j++, s += p.step)
+						dst[d + j] = src.get(s);
+				off = p.next(idx, off);
+			}
+		});
+	}
+
+	/**
+	 * Copies the view of half-precision storage into {@code dst} from
+	 * {@code dstPos}, bit patterns unchanged.
+	 */
+	static void gather(short[] src, int offset, int[] shape, int[] strides, short[] dst, int dstPos) {
+		Plan p = new Plan(shape, strides);
+		p.run((from, to, off, idx) -> {
+			for (int row = from; row < to; row++) {
+				int d = dstPos + row * p.run;
+				if (p.step == 1)
+					System.arraycopy(src, offset + off, dst, d, p.run);
+				else
+					for (int j = 0, s = offset + off; j < p.run; j++, s += p.step)
+						dst[d + j] = src[s];
+				off = p.next(idx, off);
+			}
+		});
+	}
+
+	/**
+	 * Copies the view of float64 storage into {@code dst} from {@code dstPos}.
+	 */
+	static void gather(double[] src, int offset, int[] shape, int[] strides, double[] dst, int dstPos) {
+		Plan p = new Plan(shape, strides);
+		p.run((from, to, off, idx) -> {
+			for (int row = from; row < to; row++) {
+				int d = dstPos + row * p.run;
+				if (p.step == 1)
+					System.arraycopy(src, offset + off, dst, d, p.run);
+				else
+					for (int j = 0, s = offset + off; j < p.run; j++, s += p.step)
+						dst[d + j] = src[s];
+				off = p.next(idx, off);
+			}
+		});
+	}
+
+	/**
+	 * Copies dense row-major values from {@code src} into the view.
+	 */
+	static void scatter(float[] src, int srcPos, float[] dst, int offset, int[] shape, int[] strides) {
+		Plan p = new Plan(shape, strides);
+		p.run((from, to, off, idx) -> {
+			for (int row = from; row < to; row++) {
+				int s = srcPos + row * p.run;
+				if (p.step == 1)
+					System.arraycopy(src, s, dst, offset + off, p.run);
+				else
+					for (int j = 0, d = offset + off; j < p.run; j++, d += p.step)
+						dst[d] = src[s + j];
+				off = p.next(idx, off);
+			}
+		});
+	}
+
+	/**
+	 * Copies dense row-major values from {@code src} into the view of an
+	 * off-heap storage.
+	 */
+	static void scatter(float[] src, int srcPos, FloatBuffer dst, int offset, int[] shape, int[] strides) {
+		Plan p = new Plan(shape, strides);
+		p.run((from, to, off, idx) -> {
+			for (int row = from; row < to; row++) {
+				int s = srcPos + row * p.run;
+				if (p.step == 1)
+					dst.put(offset + off, src, s, p.run);
+				else
+					for (int j = 0, d = offset + off; j < p.run; j++, d += p.step)
+						dst.put(d, src[s + j]);
+				off = p.next(idx, off);
+			}
+		});
+	}
+
+	/** A range of rows, starting at storage offset {@code off} (odometer {@code idx}). */
+	private interface Rows {
+		void run(int from, int to, int off, int[] idx);
+	}
+
+	/**
+	 * The view reduced to rows of {@code run} elements {@code step} apart; the
+	 * row axes are {@code dims} with storage strides {@code src}.
+	 */
+	private static final class Plan {
+		final int[] dims, src;
+		final int run, step, rows;
+
+		Plan(int[] shape, int[] strides) {
+			// 크기 1 축 제거 후, 메모리상 이어지는 인접 축 병합
+			int[] d = new int[shape.length + 1], s = new int[shape.length + 1];
+			int n = 0;
+			long count = 1;
+			for (int a = 0; a < shape.length; a++) {
+				count *= shape[a];
+				if (shape[a] == 1)
+					continue;
+				if (n > 0 && s[n - 1] == strides[a] * shape[a]) {
+					d[n - 1] *= shape[a];
+					s[n - 1] = strides[a];
+				} else {
+					d[n] = shape[a];
+					s[n++] = strides[a];
+				}
+			}
+			if (n == 0 || count == 0) {
+				d[n] = count == 0 ? 0 : 1;
+				s[n++] = 1;
+			}
+
+			run = d[n - 1];
+			step = s[n - 1];
+			dims = Arrays.copyOf(d, n - 1);
+			src = Arrays.copyOf(s, n - 1);
+			int r = 1;
+			for (int k : dims)
+				r *= k;
+			rows = run == 0 ? 0 : r;
+		}
+
+		void run(Rows body) {
+			CpuParallel.forRange(rows, Math.max(1, CpuParallel.GRAIN / Math.max(1, run)), (from, to) -> {
+				int[] idx = new int[dims.length];
+				int off = 0;
+				for (int d = dims.length - 1, row = from; d >= 0; d--) {
+					idx[d] = row % dims[d];
+					row /= dims[d];
+					off += idx[d] * src[d];
+				}
+				body.run(from, to, off, idx);
+			});
+		}
+
+		/** Advances the odometer {@code idx} by one row and returns the new offset. */
+		int next(int[] idx, int off) {
+			for (int d = dims.length - 1; d >= 0; d--) {
+				off += src[d];
+				if (++idx[d] < dims[d])
+					return off;
+				off -= idx[d] * src[d];
+				idx[d] = 0;
+			}
+			return off;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package CuBridge;
+
+/**
+ * CpuUnary: Element-wise unary kernels of the pure-Java engine.
+ *
+ * <p>
+ * Each operation is written as its own loop so the JIT can compile a tight,
+ * monomorphic body per op; the range is split across cores by
+ * {@link CpuParallel}. When the Vector API is available ({@link CpuSimd}),
+ * each chunk runs the SIMD kernel of {@link CpuUnarySimd} instead.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuUnary {
+
+	enum Op {
+		ABS, NEG, SQUARE, SQRT, LOG, LOG2, LN, RECIPROCAL, SIN, COS, TAN, STEP, SIGMOID, TANH, RELU, LEAKRELU,
+		SOFTPLUS, EXP, ROUND, CEIL, FLOOR, NOT, DEG2RAD, RAD2DEG
+	}
+
+	/** Negative slope used by leakReLu. */
+	static final float LEAK = 0.01f;
+
+	static final double INV_LN2 = 1.0 / Math.log(2.0);
+
+	private CpuUnary() {
+	}
+
+	/**
+	 * Applies {@code op} to every element of {@code x}.
+	 *
+	 * @param op the unary operation
+	 * @param x  input values
+	 * @return a new array holding the results, drawn from the {@link TensorPool}
+	 */
+	static float[] apply(Op op, float[] x) {
+		float[] o = TensorPool.take(x.length);
+		if (CpuSimd.ENABLED)
+			CpuParallel.forRange(x.length, (from, to) -> CpuUnarySimd.run(op, x, o, from, to));
+		else
+			CpuParallel.forRange(x.length, (from, to) -> run(op, x, o, from, to));
+		return o;
+	}
+
+	/**
+	 * Scalar kernel over {@code [from, to)}.
+	 */
+	static void run(Op op, float[] x, float[] o, int from, int to) {
+		switch (op) {
+		case ABS:
+			for (int i = from; i < to; i++) o[i] = Math.abs(x[i]);
+			break;
+		case NEG:
+			for (int i = from; i < to; i++) o[i] = -x[i];
+			break;
+		case SQUARE:
+			for (int i = from; i < to; i++) o[i] = x[i] * x[i];
+			break;
+		case SQRT:
+			for (int i = from; i < to; i++) o[i] = (float) Math.sqrt(x[i]);
+			break;
+		case LOG:
+			for (int i = from; i < to; i++) o[i] = (float) Math.log10(x[i]);
+			break;
+		case LOG2:
+			for (int i = from; i < to; i++) o[i] = (float) (Math.log(x[i]) * INV_LN2);
+			break;
+		case LN:
+			for (int i = from; i < to; i++) o[i] = (float) Math.log(x[i]);
+			break;
+		case RECIPROCAL:
+			for (int i = from; i < to; i++) o[i] = 1.0f / x[i];
+			break;
+		case SIN:
+			for (int i = from; i < to; i++) o[i] = (float) Math.sin(x[i]);
+			break;
+		case COS:
+			for (int i = from; i < to; i++) o[i] = (float) Math.cos(x[i]);
+			break;
+		case TAN:
+			for (int i = from; i < to; i++) o[i] = (float) Math.tan(x[i]);
+			break;
+		case STEP:
+			for (int i = from; i < to; i++) o[i] = x[i] > 0.0f ? 1.0f : 0.0f;
+			break;
+		case SIGMOID:
+			for (int i = from; i < to; i++) o[i] = (float) (1.0 / (1.0 + Math.exp(-x[i])));
+			break;
+		case TANH:
+			for (int i = from; i < to; i++) o[i] = (float) Math.tanh(x[i]);
+			break;
+		case RELU:
+			for (int i = from; i < to; i++) o[i] = Math.max(0.0f, x[i]);
+			break;
+		case LEAKRELU:
+			for (int i = from; i < to; i++) o[i] = x[i] > 0.0f ? x[i] : LEAK * x[i];
+			break;
+		case SOFTPLUS:
+			// log(1 + e^x) = max(x, 0) + log1p(e^-|x|), overflow 없이 계산
+			for (int i = from; i < to; i++) o[i] = (float) (Math.max(x[i], 0.0) + Math.log1p(Math.exp(-Math.abs(x[i]))));
+			break;
+		case EXP:
+			for (int i = from; i < to; i++) o[i] = (float) Math.exp(x[i]);
+			break;
+		case ROUND:
+			// C roundf 와 동일하게 0.5 는 0 에서 먼 쪽으로 반올림
+			for (int i = from; i < to; i++) o[i] = Math.copySign((float) Math.floor(Math.abs((double) x[i]) + 0.5), x[i]);
+			break;
+		case CEIL:
+			for (int i = from; i < to; i++) o[i] = (float) Math.ceil(x[i]);
+			break;
+		case FLOOR:
+			for (int i = from; i < to; i++) o[i] = (float) Math.floor(x[i]);
+			break;
+		case NOT:
+			for (int i = from; i < to; i++) o[i] = x[i] == 0.0f ? 1.0f : 0.0f;
+			break;
+		case DEG2RAD:
+			for (int i = from; i < to; i++) o[i] = x[i] * (float) (Math.PI / 180.0);
+			break;
+		case RAD2DEG:
+			for (int i = from; i < to; i++) o[i] = x[i] * (float) (180.0 / Math.PI);
+			break;
+		}
+	}
+}
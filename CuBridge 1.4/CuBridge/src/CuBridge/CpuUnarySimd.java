@@ -0,0 +1,182 @@
+package CuBridge;
+
+import jdk.incubator.vector.*;
+
+/**
+ * CpuUnarySimd: Vector API versions of the {@link CpuUnary} kernels.
+ *
+ * <p>
+ * Uses the widest float species of the host ({@code SPECIES_PREFERRED}).
+ * Only ops that C2 does not auto-vectorize have a vector loop here: the
+ * transcendental ones (exp, log, sin, tanh, sigmoid, ...), rounding and the
+ * comparisons. Simple arithmetic (abs, neg, square, sqrt, relu, ...) keeps the
+ * scalar loop, which already compiles to SIMD instructions.
+ * Only called when {@link CpuSimd#ENABLED} is true.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CpuUnarySimd {
+
+	private static final VectorSpecies<Float> S = FloatVector.SPECIES_PREFERRED;
+
+	private static final float INV_LN2 = (float) CpuUnary.INV_LN2;
+
+	/** Floats at or above 2^23 are already integral. */
+	private static final float INTEGRAL = 8388608.0f;
+
+	private CpuUnarySimd() {
+	}
+
+	/**
+	 * Vector kernel over {@code [from, to)}. Each operation has its own loop so
+	 * the vector pipeline of every op is compiled (and its vectors scalarized)
+	 * on its own. The tail shorter than one vector, and ops without a vector
+	 * loop, run the scalar kernel.
+	 */
+	static void run(CpuUnary.Op op, float[] x, float[] o, int from, int to) {
+		final int L = S.length();
+		final int bound = from + S.loopBound(to - from);
+		final FloatVector zero = FloatVector.zero(S);
+		final FloatVector one = FloatVector.broadcast(S, 1.0f);
+		int i = from;
+
+		switch (op) {
+		case LOG:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				v.lanewise(VectorOperators.LOG10).intoArray(o, i);
+			}
+			break;
+		case LOG2:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				v.lanewise(VectorOperators.LOG).mul(INV_LN2).intoArray(o, i);
+			}
+			break;
+		case LN:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				v.lanewise(VectorOperators.LOG).intoArray(o, i);
+			}
+			break;
+		case SIN:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				v.lanewise(VectorOperators.SIN).intoArray(o, i);
+			}
+			break;
+		case COS:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				v.lanewise(VectorOperators.COS).intoArray(o, i);
+			}
+			break;
+		case TAN:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				v.lanewise(VectorOperators.TAN).intoArray(o, i);
+			}
+			break;
+		case STEP:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				zero.blend(1.0f, v.compare(VectorOperators.GT, 0.0f)).intoArray(o, i);
+			}
+			break;
+		case SIGMOID:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				one.div(v.neg().lanewise(VectorOperators.EXP).add(1.0f)).intoArray(o, i);
+			}
+			break;
+		case TANH:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				v.lanewise(VectorOperators.TANH).intoArray(o, i);
+			}
+			break;
+		case LEAKRELU:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				v.mul(CpuUnary.LEAK).blend(v, v.compare(VectorOperators.GT, 0.0f)).intoArray(o, i);
+			}
+			break;
+		case SOFTPLUS:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				v.max(0.0f).add(v.abs().neg().lanewise(VectorOperators.EXP).lanewise(VectorOperators.LOG1P)).intoArray(o, i);
+			}
+			break;
+		case EXP:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				v.lanewise(VectorOperators.EXP).intoArray(o, i);
+			}
+			break;
+		case ROUND:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				round(v).intoArray(o, i);
+			}
+			break;
+		case CEIL:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				ceil(v).intoArray(o, i);
+			}
+			break;
+		case FLOOR:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				floor(v).intoArray(o, i);
+			}
+			break;
+		case NOT:
+			for (; i < bound; i += L) {
+				FloatVector v = FloatVector.fromArray(S, x, i);
+				zero.blend(1.0f, v.compare(VectorOperators.EQ, 0.0f)).intoArray(o, i);
+			}
+			break;
+		default:
+			// abs, neg, square, sqrt, relu, ... 는 C2 가 스칼라 루프를 이미 벡터화함
+			break;
+		}
+
+		CpuUnary.run(op, x, o, i, to);
+	}
+
+	private static FloatVector round(FloatVector v) {
+		FloatVector a = v.abs();
+		FloatVector t = trunc(a);
+		return copySign(t.add(1.0f, a.sub(t).compare(VectorOperators.GE, 0.5f)), v);
+	}
+
+	private static FloatVector ceil(FloatVector v) {
+		FloatVector t = trunc(v);
+		return t.add(1.0f, t.compare(VectorOperators.LT, v));
+	}
+
+	private static FloatVector floor(FloatVector v) {
+		FloatVector t = trunc(v);
+		return t.sub(1.0f, t.compare(VectorOperators.GT, v));
+	}
+
+	/**
+	 * Rounds toward zero. Values that are already integral (or NaN/Inf) are
+	 * returned unchanged, which also keeps the sign of -0.0.
+	 */
+	private static FloatVector trunc(FloatVector v) {
+		FloatVector t = (FloatVector) v.convert(VectorOperators.F2I, 0).convert(VectorOperators.I2F, 0);
+		VectorMask<Float> big = v.abs().compare(VectorOperators.GE, INTEGRAL).or(v.test(VectorOperators.IS_NAN));
+		return copySign(t, v).blend(v, big);
+	}
+
+	/**
+	 * Magnitude of {@code m} with the sign bit of {@code s}.
+	 */
+	private static FloatVector copySign(FloatVector m, FloatVector s) {
+		IntVector sign = s.reinterpretAsInts().and(0x80000000);
+		return m.reinterpretAsInts().and(0x7fffffff).or(sign).reinterpretAsFloats();
+	}
+}
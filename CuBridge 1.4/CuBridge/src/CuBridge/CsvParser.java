@@ -0,0 +1,385 @@
+package CuBridge;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * CsvParser: Memory-mapped, parallel parser for numeric CSV files behind
+ * {@link Tensor#readCSV(String, boolean, char, float, int...)}.
+ *
+ * <p>
+ * The file is cut into chunks that start right after a newline, and each chunk
+ * is mapped on its own (so files above 2 GB work). A first parallel pass counts
+ * the rows of every chunk; their prefix sums give each chunk its first output
+ * row, the float array is allocated once at its final size, and a second
+ * parallel pass parses every chunk straight into its rows. Values are parsed
+ * from the mapped bytes without creating Strings; only numbers with more than
+ * 15 significant digits, extreme exponents or a result on a float rounding
+ * tie fall back to {@link Float#parseFloat}.
+ * </p>
+ * <p>
+ * Rows end with {@code \n} or {@code \r\n}; blank lines are skipped. Spaces
+ * around a value and a pair of double quotes enclosing it are ignored, but
+ * quoted delimiters are not supported. An empty field, and every field a short
+ * row leaves out, takes the missing-value fill. {@code NaN} and
+ * {@code Inf}/{@code Infinity} (any case, optional sign) are accepted.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CsvParser {
+
+	/** Bytes per chunk before the count of cores takes over. */
+	private static final long CHUNK = 1L << 24;
+	/** Largest chunk, well inside one mapping. */
+	private static final long MAX_CHUNK = 1L << 30;
+
+	private static final double[] POW10 = new double[23];
+
+	static {
+		POW10[0] = 1.0;
+		for (int i = 1; i < POW10.length; i++)
+			POW10[i] = POW10[i - 1] * 10.0;
+	}
+
+	private CsvParser() {
+	}
+
+	/**
+	 * Reads the file into a {@code [rows, columns]} tensor.
+	 *
+	 * @param columns the fields to keep, in output order; all when empty
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException on a bad delimiter or column, a row with
+	 *                                  too many fields, or a value that is not a
+	 *                                  number
+	 */
+	static Tensor read(String path, boolean header, char delimiter, float missing, int[] columns) throws IOException {
+		if (delimiter > 127 || delimiter == '\n' || delimiter == '\r' || delimiter == '"')
+			throw new IllegalArgumentException("delimiter must be a single ASCII character, got '" + delimiter + "'");
+		byte delim = (byte) delimiter;
+
+		try (FileChannel ch = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+			long size = ch.size();
+			long start = bom(ch);
+
+			// 첫 줄의 필드 수가 열 수, 헤더이면 첫 줄은 건너뜀
+			long firstEnd = nextLine(ch, start, size);
+			int fields = countFields(ch, start, firstEnd, delim);
+			if (header)
+				start = firstEnd;
+
+			int[] slot = slots(fields, columns);
+			int width = columns.length == 0 ? fields : columns.length;
+
+			long[] bounds = chunks(ch, start, size);
+			int chunks = bounds.length - 1;
+			MappedByteBuffer[] maps = new MappedByteBuffer[chunks];
+			for (int c = 0; c < chunks; c++)
+				maps[c] = ch.map(FileChannel.MapMode.READ_ONLY, bounds[c], bounds[c + 1] - bounds[c]);
+
+			// 1차: 청크별 행 수 → 각 청크의 첫 출력 행
+			int[] rows = new int[chunks + 1];
+			CpuParallel.forRange(chunks, 1, (from, to) -> {
+				for (int c = from; c < to; c++)
+					rows[c + 1] = countRows(maps[c], delim == '\t');
+			});
+			long total = 0;
+			for (int c = 1; c <= chunks; c++) {
+				total += rows[c];
+				if (total > Integer.MAX_VALUE)
+					throw new IllegalArgumentException(path + " has more than 2^31 - 1 rows");
+				rows[c] = (int) total;
+			}
+
+			// 2차: 최종 크기의 배열 한 번 할당 후 청크마다 자기 행에 바로 기록
+			if ((long) rows[chunks] * width > Integer.MAX_VALUE)
+				throw new IllegalArgumentException(path + " has " + rows[chunks] + " x " + width
+						+ " values, more than 2^31 - 1; use BigTensor");
+			float[] out = new float[rows[chunks] * width];
+			CpuParallel.forRange(chunks, 1, (from, to) -> {
+				for (int c = from; c < to; c++)
+					parse(maps[c], delim, fields, slot, width, missing, out, rows[c]);
+			});
+			return Tensor.wrap(out, rows[chunks], width);
+		}
+	}
+
+	/** Length of a UTF-8 byte order mark at the start of the file, if any. */
+	private static long bom(FileChannel ch) throws IOException {
+		ByteBuffer b = ByteBuffer.allocate(3);
+		ch.read(b, 0);
+		return b.position() == 3 && (b.get(0) & 0xFF) == 0xEF && (b.get(1) & 0xFF) == 0xBB
+				&& (b.get(2) & 0xFF) == 0xBF ? 3 : 0;
+	}
+
+	/** Position right after the first {@code \n} at or after {@code pos}, or {@code size}. */
+	private static long nextLine(FileChannel ch, long pos, long size) throws IOException {
+		ByteBuffer b = ByteBuffer.allocate(1 << 16);
+		while (pos < size) {
+			b.clear();
+			int n = ch.read(b, pos);
+			if (n <= 0)
+				break;
+			for (int i = 0; i < n; i++)
+				if (b.get(i) == '\n')
+					return pos + i + 1;
+			pos += n;
+		}
+		return size;
+	}
+
+	/** Number of fields on the line {@code [from, to)}. */
+	private static int countFields(FileChannel ch, long from, long to, byte delim) throws IOException {
+		if (to - from > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("first line longer than 2^31 - 1 bytes");
+		ByteBuffer b = ch.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+		int fields = 1;
+		for (int i = 0; i < b.limit(); i++)
+			if (b.get(i) == delim)
+				fields++;
+		return fields;
+	}
+
+	/** Output position of every field, {@code -1} for a field that is dropped. */
+	private static int[] slots(int fields, int[] columns) {
+		int[] slot = new int[fields];
+		if (columns.length == 0) {
+			for (int f = 0; f < fields; f++)
+				slot[f] = f;
+			return slot;
+		}
+		Arrays.fill(slot, -1);
+		for (int k = 0; k < columns.length; k++) {
+			int f = columns[k];
+			if (f < 0 || f >= fields)
+				throw new IllegalArgumentException("column " + f + " out of range for " + fields + " fields");
+			if (slot[f] >= 0)
+				throw new IllegalArgumentException("column " + f + " selected twice");
+			slot[f] = k;
+		}
+		return slot;
+	}
+
+	/**
+	 * Chunk boundaries from {@code start} to {@code size}; every inner boundary
+	 * is right after a newline.
+	 */
+	private static long[] chunks(FileChannel ch, long start, long size) throws IOException {
+		long bytes = size - start;
+		long n = Math.max(1, Math.min((bytes + CHUNK - 1) / CHUNK, CpuParallel.threads() * 4L));
+		n = Math.max(n, (bytes + MAX_CHUNK - 1) / MAX_CHUNK);
+
+		long[] b = new long[(int) n + 1];
+		b[0] = start;
+		for (int c = 1; c < n; c++)
+			b[c] = Math.max(b[c - 1], nextLine(ch, start + bytes * c / n, size));
+		b[(int) n] = size;
+		for (int c = 1; c <= n; c++)
+			if (b[c] - b[c - 1] > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("a line is longer than 2^31 - 1 bytes");
+		return b;
+	}
+
+	private static boolean blank(byte c, boolean tab) {
+		return c == ' ' || c == '\r' || (c == '\t' && !tab);
+	}
+
+	/** Number of non-blank lines in the chunk. */
+	private static int countRows(ByteBuffer b, boolean tab) {
+		int n = b.limit(), rows = 0;
+		boolean content = false;
+		for (int i = 0; i < n; i++) {
+			byte c = b.get(i);
+			if (c == '\n') {
+				if (content)
+					rows++;
+				content = false;
+			} else if (!blank(c, tab))
+				content = true;
+		}
+		return content ? rows + 1 : rows;
+	}
+
+	/**
+	 * Parses the rows of one chunk into {@code out}, starting at output row
+	 * {@code row}.
+	 */
+	private static void parse(ByteBuffer b, byte delim, int fields, int[] slot, int width, float missing, float[] out,
+			int row) {
+		int n = b.limit();
+		boolean tab = delim == '\t';
+		int pos = 0;
+
+		while (pos < n) {
+			// 빈 줄은 건너뜀
+			int s = pos;
+			while (s < n && blank(b.get(s), tab))
+				s++;
+			if (s >= n)
+				break;
+			if (b.get(s) == '\n') {
+				pos = s + 1;
+				continue;
+			}
+
+			int base = row * width;
+			int f = 0;
+			s = pos;
+			while (true) {
+				int e = s;
+				byte c = 0;
+				while (e < n && (c = b.get(e)) != delim && c != '\n')
+					e++;
+				if (f < fields && slot[f] >= 0)
+					out[base + slot[f]] = field(b, s, e, tab, missing, row, f);
+				f++;
+				if (e >= n || c == '\n') {
+					pos = e + 1;
+					break;
+				}
+				s = e + 1;
+			}
+			if (f > fields)
+				throw new IllegalArgumentException("row " + row + " has " + f + " fields, expected " + fields);
+			// 짧은 행의 나머지 필드는 결측값
+			for (; f < fields; f++)
+				if (slot[f] >= 0)
+					out[base + slot[f]] = missing;
+			row++;
+		}
+	}
+
+	/** The value of the field {@code [s, e)}, trimmed and unquoted. */
+	private static float field(ByteBuffer b, int s, int e, boolean tab, float missing, int row, int col) {
+		while (s < e && blank(b.get(s), tab))
+			s++;
+		while (e > s && blank(b.get(e - 1), tab))
+			e--;
+		if (e - s >= 2 && b.get(s) == '"' && b.get(e - 1) == '"') {
+			s++;
+			e--;
+		}
+		if (s == e)
+			return missing;
+
+		float v = number(b, s, e);
+		if (v == v || special(b, s, e))
+			return v;
+		throw new IllegalArgumentException("row " + row + ", column " + col + ": '" + text(b, s, e)
+				+ "' is not a number");
+	}
+
+	/**
+	 * Parses {@code [s, e)} as a decimal float; NaN if it is not one, which the
+	 * caller tells apart from a literal NaN.
+	 */
+	static float number(ByteBuffer b, int s, int e) {
+		int i = s;
+		boolean neg = false;
+		byte c = b.get(i);
+		if (c == '-' || c == '+') {
+			neg = c == '-';
+			i++;
+		}
+
+		long mant = 0;
+		int sig = 0, exp10 = 0;
+		boolean digits = false;
+		while (i < e && (c = b.get(i)) >= '0' && c <= '9') {
+			digits = true;
+			if (mant != 0 || c != '0')
+				sig++;
+			if (sig <= 18)
+				mant = mant * 10 + (c - '0');
+			else
+				exp10++;
+			i++;
+		}
+		if (i < e && b.get(i) == '.') {
+			i++;
+			while (i < e && (c = b.get(i)) >= '0' && c <= '9') {
+				digits = true;
+				if (mant != 0 || c != '0')
+					sig++;
+				if (sig <= 18) {
+					mant = mant * 10 + (c - '0');
+					exp10--;
+				}
+				i++;
+			}
+		}
+		if (!digits)
+			return special(b, s, e) ? specialValue(b, s, e) : Float.NaN;
+
+		if (i < e && ((c = b.get(i)) == 'e' || c == 'E')) {
+			i++;
+			boolean eneg = false;
+			if (i < e && ((c = b.get(i)) == '-' || c == '+')) {
+				eneg = c == '-';
+				i++;
+			}
+			if (i == e)
+				return Float.NaN;
+			int x = 0;
+			while (i < e && (c = b.get(i)) >= '0' && c <= '9') {
+				x = Math.min(x * 10 + (c - '0'), 100_000);
+				i++;
+			}
+			exp10 += eneg ? -x : x;
+		}
+		if (i != e)
+			return Float.NaN;
+		if (mant == 0)
+			return neg ? -0.0f : 0.0f;
+
+		// 15자리 이하 정수와 10^22 이하의 거듭제곱은 double 에서 정확하므로 곱/나눗셈이 한 번만 반올림됨
+		if (sig <= 15 && exp10 >= -22 && exp10 <= 22) {
+			double d = exp10 >= 0 ? mant * POW10[exp10] : mant / POW10[-exp10];
+			// float 로의 두 번째 반올림이 정확하지 않을 수 있는 경우만 느린 경로
+			long low = Double.doubleToRawLongBits(d) & 0x1FFFFFFFL;
+			if (low != 0x10000000L && d >= Float.MIN_NORMAL && d <= Float.MAX_VALUE) {
+				float f = (float) d;
+				return neg ? -f : f;
+			}
+		}
+		return Float.parseFloat(text(b, s, e));
+	}
+
+	/** Whether {@code [s, e)} spells NaN or an infinity. */
+	private static boolean special(ByteBuffer b, int s, int e) {
+		if (s < e && (b.get(s) == '-' || b.get(s) == '+'))
+			s++;
+		return is(b, s, e, "nan") || is(b, s, e, "inf") || is(b, s, e, "infinity");
+	}
+
+	private static float specialValue(ByteBuffer b, int s, int e) {
+		boolean neg = b.get(s) == '-';
+		if (b.get(s) == '-' || b.get(s) == '+')
+			s++;
+		if (is(b, s, e, "nan"))
+			return Float.NaN;
+		return neg ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+	}
+
+	/** Case-insensitive comparison of {@code [s, e)} with a lower-case word. */
+	private static boolean is(ByteBuffer b, int s, int e, String word) {
+		if (e - s != word.length())
+			return false;
+		for (int i = 0; i < word.length(); i++)
+			if ((b.get(s + i) | 0x20) != word.charAt(i))
+				return false;
+		return true;
+	}
+
+	private static String text(ByteBuffer b, int s, int e) {
+		byte[] t = new byte[e - s];
+		b.get(s, t);
+		return new String(t, java.nio.charset.StandardCharsets.ISO_8859_1);
+	}
+}
@@ -1,13 +1,47 @@
 package CuBridge;
 
-import java.util.UUID;
+import java.util.*;
 
 public class CuBridge {
+	private static volatile CuBridgeBackend engine = CuBridgeBackends.initial();
+	/** Engine chosen by name, through selectBackend or -Dcubridge.backend; null if none. */
+	private static volatile CuBridgeBackend chosen = CuBridgeBackends.requested();
+	private static final Set<CuBridgeBackend> constLoaded = Collections.newSetFromMap(new IdentityHashMap<>());
 	private static final CuBridge instance = new CuBridge();
 
 	private CuBridge() {
+		constLoaded.add(engine);
 		loadConst();
 	}
+
+	/**
+	 * Switches to another compute engine. The variable tensors of the previous
+	 * engine are discarded; built-in constants are loaded into the new engine on
+	 * first use.
+	 */
+	private synchronized void use(CuBridgeBackend next) {
+		if (next == null || next == engine)
+			return;
+
+		engine.clear();
+		engine.bufferClean();
+		engine = next;
+
+		if (constLoaded.add(next))
+			loadConst();
+	}
+
+	/**
+	 * The engine for a CPU ({@code gpu == false}) or GPU mode: the current one if
+	 * it can run the mode, else the one chosen by name, else the best available.
+	 */
+	private CuBridgeBackend engineFor(boolean gpu) {
+		if (engine.isAvailable() && (!gpu || engine.supportsGPU()))
+			return engine;
+		if (chosen != null && chosen.isAvailable() && (!gpu || chosen.supportsGPU()))
+			return chosen;
+		return CuBridgeBackends.best(gpu);
+	}
 	
 	private void loadConst() {
 	    put(1.0f, "_ONE", -1);
@@ -48,10 +82,17 @@ public class CuBridge {
 	 * <p>
 	 * Disables auto-detection and executes all operations on the CPU.
 	 * Tensor memory is always stored in RAM.
+	 * <p>
+	 * Every engine can compute on the CPU, so the current engine is kept, with
+	 * its queue. If it has become unavailable, the engine chosen with
+	 * {@link #selectBackend(String)} or {@code -Dcubridge.backend} is used, and
+	 * otherwise the registered engine with the highest priority (see
+	 * {@link CuBridgeBackend}).
 	 */
 	public void selectCPU() {
-		CuBridgeJNI.setCAL(false);
-		CuBridgeJNI.refresh();
+		use(engineFor(false));
+		engine.setCAL(false);
+		engine.refresh();
 	}
 
 	/**
@@ -61,10 +102,19 @@ public class CuBridge {
 	 * Note: All tensor data is stored in RAM. During GPU execution,
 	 * necessary data is temporarily transferred to VRAM for computation and
 	 * results are copied back to RAM automatically.
+	 * <p>
+	 * The current engine is kept if it is GPU-capable; otherwise the engine
+	 * chosen by name if it is, else the GPU-capable engine with the highest
+	 * priority. If none is available, the current engine is kept.
 	 */
 	public void selectGPU() {
-		CuBridgeJNI.setCAL(true);
-		CuBridgeJNI.refresh();
+		CuBridgeBackend gpu = engineFor(true);
+		if (gpu == null)
+			System.err.println("Error: No GPU backend is available. Keeping '" + engine.name() + "'.");
+
+		use(gpu);
+		engine.setCAL(true);
+		engine.refresh();
 	}
 
 	/**
@@ -73,10 +123,54 @@ public class CuBridge {
 	 * CuBridge will automatically detect CUDA availability
 	 * and select between CPU and GPU computation accordingly.
 	 * All tensor memory remains in RAM regardless of the compute mode.
+	 * <p>
+	 * The current engine is kept if it is GPU-capable. Otherwise the engine
+	 * chosen with {@link #selectBackend(String)} or {@code -Dcubridge.backend}
+	 * is used, and without one a GPU-capable engine is preferred over the best
+	 * CPU engine.
 	 */
 	public void envReset() {
-		CuBridgeJNI.setAuto();
-		CuBridgeJNI.refresh();
+		// GPU 를 쓸 수 있는 현재 엔진은 유지, 아니면 이름으로 고른 엔진
+		if (!engine.isAvailable() || !engine.supportsGPU())
+			use(chosen != null && chosen.isAvailable() ? chosen : CuBridgeBackends.auto());
+		engine.setAuto();
+		engine.refresh();
+	}
+
+	/**
+	 * Selects a registered compute engine by name (e.g. {@code "jni"}, {@code "cpu"}).
+	 * <p>
+	 * The same choice can be made at startup with {@code -Dcubridge.backend=<name>}.
+	 * Switching engines discards the variable tensors in the queue.
+	 * </p>
+	 *
+	 * @param name the engine name
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge selectBackend(String name) {
+		CuBridgeBackend b = CuBridgeBackends.find(name);
+		if (b == null)
+			System.err.println("Error: Backend '" + name + "' is not registered or not available.");
+		else {
+			chosen = b;
+			use(b);
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the names of all registered compute engines that are available.
+	 *
+	 * @return available engine names, in registration order
+	 * @since v1.5
+	 */
+	public String[] getBackends() {
+		ArrayList<String> names = new ArrayList<>();
+		for (CuBridgeBackend b : CuBridgeBackends.all())
+			if (b.isAvailable())
+				names.add(b.name());
+		return names.toArray(new String[0]);
 	}
 
 	/**
@@ -89,6 +183,7 @@ public class CuBridge {
 	 *   <li>Operating system and physical RAM</li>
 	 *   <li>Detected GPU name and available VRAM (if CUDA is available)</li>
 	 *   <li>Installed CUDA Driver and Runtime versions</li>
+	 *   <li>Active compute engine</li>
 	 *   <li>CuBridge detection mode (auto/manual)</li>
 	 *   <li>Current compute device (CPU or GPU)</li>
 	 * </ul>
@@ -97,13 +192,14 @@ public class CuBridge {
 	 * </p>
 	 */
 	public void getEnvironmentStatus() {
-		boolean auto = CuBridgeJNI.getENV();
-		boolean gpuCompute = CuBridgeJNI.getCAL();
+		boolean auto = engine.getENV();
+		boolean gpuCompute = engine.getCAL();
 
 		StringBuilder sb = new StringBuilder();
 		sb.append("[System 환경 상태]\n");
-		sb.append(CuBridgeJNI.getSysInfo());
+		sb.append(engine.getSysInfo());
 		sb.append("\n[CuBridge 환경 상태]\n");
+		sb.append("- 연산 엔진: ").append(engine.name()).append("\n");
 		sb.append("- 자동 감지 모드: ").append(auto ? "O" : "X").append("\n");
 		sb.append("- 연산 방식: ").append(gpuCompute ? "GPU" : "CPU").append("\n");
 
@@ -114,7 +210,7 @@ public class CuBridge {
 	 * Clears all tensors from the internal queue.
 	 */
 	public void clear() {
-		CuBridgeJNI.clear();
+		engine.clear();
 		return;
 	}
 
@@ -123,7 +219,7 @@ public class CuBridge {
 	 * Displays only non-constant tensors with their auto-generated or user-defined names.
 	 */
 	public void visualQueue() {
-		System.out.println(CuBridgeJNI.visualQueue());
+		System.out.println(engine.visualQueue());
 	}
 
 	/**
@@ -131,7 +227,7 @@ public class CuBridge {
 	 * Displays every tensor with its associated name in the order they were added.
 	 */
 	public void visualQueueAll() {
-		System.out.println(CuBridgeJNI.visualQueueAll());
+		System.out.println(engine.visualQueueAll());
 	}
 
 	/**
@@ -139,7 +235,7 @@ public class CuBridge {
 	 * Displays only non-constant tensors with their auto-generated or user-defined names.
 	 */
 	public void visualBuffer() {
-		System.out.println(CuBridgeJNI.visualBuffer());
+		System.out.println(engine.visualBuffer());
 	}
 
 	/**
@@ -147,7 +243,7 @@ public class CuBridge {
 	 * Displays every tensor with its associated name in the order they were added.
 	 */
 	public void visualBufferAll() {
-		System.out.println(CuBridgeJNI.visualBufferAll());
+		System.out.println(engine.visualBufferAll());
 	}
 
 	// put에서, 만일 ""일 경우 난수를 넣어야 한다
@@ -313,8 +409,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge put(Tensor data, boolean broadcast) {
-		CuBridgeJNI.put(data.toArray(), data.getShape(), data.getSize(), data.getAxis(), 1, genRandomName(), broadcast);
-		return instance;
+		return put(data, genRandomName(), 1, broadcast);
 	}
 
 	/**
@@ -417,13 +512,124 @@ public class CuBridge {
 			return instance;
 		}
 
-		if (!CuBridgeJNI.put(data.toArray(), data.getShape(), data.getSize(), data.getAxis(), usageCount, name,
-				broadcast))
+		// 힙 텐서는 배열을 복제하지 않고 넘기고 (엔진이 한 번 복사), 오프힙 텐서는 버퍼째 넘김
+		// 중간부터 시작하거나 건너뛰는 뷰와 float32 가 아닌 텐서는 엔진이 자기 사본으로 바로 모음
+		boolean stored;
+		if (!data.isContiguous() || (!data.isDirect() && data.getOffset() != 0) || data.getDType() != DType.FLOAT32)
+			stored = engine.put(data, usageCount, name, broadcast);
+		else if (data.isDirect())
+			stored = engine.put(data.getBuffer(), data.getShape(), data.getSize(), data.getAxis(), usageCount, name,
+					broadcast);
+		else
+			stored = engine.put(data.array(), data.getShape(), data.getSize(), data.getAxis(), usageCount, name,
+					broadcast);
+		if (!stored)
 			System.err.println("Error: Tensor name is duplicated. Please choose another name.");
 
 		return instance;
 	}
 
+	/**
+	 * Stores a sparse matrix with a temporary name.
+	 * <p>
+	 * Full parameter: {@code put(SparseTensor data, String name, int usageCount, boolean broadcast)}<br>
+	 * This version:
+	 * <ul>
+	 * <li>broadcast = false (not broadcastable)</li>
+	 * <li>usageCount = 1 (default)</li>
+	 * <li>name is auto-generated</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param data the sparse matrix to store
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge put(SparseTensor data) {
+		return put(data, genRandomName(), 1, false);
+	}
+
+	/**
+	 * Stores a named sparse matrix with default usage and no broadcasting.
+	 * <p>
+	 * Full parameter: {@code put(SparseTensor data, String name, int usageCount, boolean broadcast)}<br>
+	 * This version:
+	 * <ul>
+	 * <li>usageCount = 1 (default)</li>
+	 * <li>broadcast = false (not broadcastable)</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param data the sparse matrix to store
+	 * @param name the tensor name (must be unique and non-empty)
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge put(SparseTensor data, String name) {
+		return put(data, name, 1, false);
+	}
+
+	/**
+	 * Stores a named sparse matrix with a specific usage count.
+	 * <p>
+	 * Full parameter: {@code put(SparseTensor data, String name, int usageCount, boolean broadcast)}<br>
+	 * This version:
+	 * <ul>
+	 * <li>broadcast = false (not broadcastable)</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param data        the sparse matrix to store
+	 * @param name        the tensor name (must be unique and non-empty)
+	 * @param usageCount  number of times this tensor will be used (>0 or -1 for constants)
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge put(SparseTensor data, String name, int usageCount) {
+		return put(data, name, usageCount, false);
+	}
+
+	/**
+	 * Stores a sparse matrix with complete configuration.
+	 * <p>
+	 * The CPU engine keeps it in CSR (a COO matrix is converted once):
+	 * </p>
+	 * <ul>
+	 * <li>{@code dot}, {@code matmul} and {@code affine} with a sparse factor run as a parallel SpMM / SpMV and give a dense result.</li>
+	 * <li>{@code mul}, the unary operations that map 0 to 0 ({@code ReLu}, {@code abs}, {@code square}, ...) and {@code transpose} give a sparse result; take it with {@link #getSparse(String)}.</li>
+	 * <li>Every other operation reads the dense form. Engines without sparse support store the dense form.</li>
+	 * </ul>
+	 *
+	 * @param data        the sparse matrix to store
+	 * @param name        the tensor name (must be unique and non-empty)
+	 * @param usageCount  number of times this tensor will be used (>0, or -1 for constants)
+	 * @param broadcast   whether the tensor is broadcastable
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge put(SparseTensor data, String name, int usageCount, boolean broadcast) {
+		if (data == null) {
+			System.err.println("Error: Input Tensor is NULL.");
+			return instance;
+		}
+		if (usageCount == 0) {
+			System.err.println("Error: Please UsageCount modify.");
+			return instance;
+		}
+		if (name == null || name.isEmpty()) {
+			System.err.println("Error: Tensor name must be defined.");
+			return instance;
+		}
+		if ((usageCount < 0) && !name.startsWith("_")) {
+			System.err.println("[Error] Constant tensor must start with '_'. Given name: " + name);
+			return instance;
+		}
+
+		if (!engine.put(data, usageCount, name, broadcast))
+			System.err.println("Error: Tensor name is duplicated. Please choose another name.");
+		return instance;
+	}
+
 	/**
 	 * Retrieves and removes the best available tensor from the internal queue.
 	 * <p>
@@ -438,7 +644,7 @@ public class CuBridge {
 	 * @return the retrieved tensor, or {@code null} if the queue is empty
 	 */
 	public Tensor get() {
-		if (!CuBridgeJNI.pop("")) {
+		if (!engine.pop("")) {
 			System.err.println("Error: Queue is empty!");
 			return null;
 		}
@@ -459,7 +665,7 @@ public class CuBridge {
 	 * @return the retrieved tensor, or {@code null} if not found
 	 */
 	public Tensor get(String name) {
-		if (!CuBridgeJNI.pop(name)) {
+		if (!engine.pop(name)) {
 			System.err.println("Error: The " + name + " is not exist in Queue!");
 			return null;
 		}
@@ -467,12 +673,182 @@ public class CuBridge {
 		return getTensor(name);
 	}
 
+	/**
+	 * Retrieves and removes the top tensor with the specified name, writing its
+	 * values into an existing tensor instead of allocating a new one.
+	 * <p>
+	 * Full parameter: {@code get(String name, Tensor into)}<br>
+	 * This version:
+	 * <ul>
+	 * <li>{@code into} must hold exactly as many elements as the result; it takes the result's shape.</li>
+	 * <li>A non-contiguous view ({@link Tensor#select}, stepped {@link Tensor#slice}) must already have the result's shape; values are written through its strides into the shared storage.</li>
+	 * <li>For an off-heap {@code into} the engine writes straight into its buffer, so the result never becomes a heap array.</li>
+	 * <li>An FP16/BF16 {@code into} keeps its type; the result is rounded to it.</li>
+	 * <li>A FLOAT64 {@code into} keeps its type; a FLOAT64 result is copied without rounding.</li>
+	 * <li>A BOOL {@code into} keeps its type; every non-zero value of the result is set.</li>
+	 * <li>If no tensor with that name exists, or the sizes differ, an error is printed and {@code null} is returned.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param name the name of the tensor to retrieve
+	 * @param into the tensor receiving the values
+	 * @return {@code into}, or {@code null} on failure
+	 * @since v1.5
+	 */
+	public Tensor get(String name, Tensor into) {
+		if (into == null) {
+			System.err.println("Error: Input Tensor is NULL.");
+			return null;
+		}
+		if (!engine.pop(name)) {
+			System.err.println("Error: The " + name + " is not exist in Queue!");
+			return null;
+		}
+
+		int[] shape = engine.getShape(name);
+		int size = 1;
+		for (int d : shape)
+			size *= d;
+
+		if (into.getDType() == DType.FLOAT64) {
+			// 배정밀도 대상은 double 결과를 그대로, float 결과는 넓혀서 기록
+			boolean fits = into.isContiguous() ? size == into.getSize() : Arrays.equals(shape, into.getShape());
+			double[] data = !fits ? null
+					: engine.getDType(name) == DType.FLOAT64 ? engine.getDouble(name)
+							: CpuDouble.widen(engine.getData(name));
+			engine.bufferClean();
+			if (data == null) {
+				System.err.println("Error: Tensor size mismatch. Result has shape " + Arrays.toString(shape)
+						+ ", target has " + Arrays.toString(into.getShape()) + ".");
+				return null;
+			}
+			into.scatter(data);
+			if (into.isContiguous())
+				into.setShape(shape);
+			return into;
+		}
+
+		if (into.getDType() == DType.BOOL) {
+			// 마스크 대상은 0 이 아닌 값을 참으로 기록
+			boolean fits = into.isContiguous() ? size == into.getSize() : Arrays.equals(shape, into.getShape());
+			float[] data = fits ? engine.getData(name) : null;
+			engine.bufferClean();
+			if (data == null) {
+				System.err.println("Error: Tensor size mismatch. Result has shape " + Arrays.toString(shape)
+						+ ", target has " + Arrays.toString(into.getShape()) + ".");
+				return null;
+			}
+			into.scatter(data);
+			if (into.isContiguous())
+				into.setShape(shape);
+			return into;
+		}
+
+		if (into.getDType().isHalf() && into.isContiguous()) {
+			// 반정밀도 대상은 float 결과를 받아 제자리에서 반올림해 기록
+			float[] data = size == into.getSize() ? engine.getData(name) : null;
+			engine.bufferClean();
+			if (data == null) {
+				System.err.println("Error: Tensor size mismatch. Result has " + size + " elements, target has "
+						+ into.getSize() + ".");
+				return null;
+			}
+			into.scatter(data);
+			into.setShape(shape);
+			return into;
+		}
+
+		if (!into.isContiguous()) {
+			// 뷰는 모양을 바꿀 수 없으므로 같은 모양일 때만 strides 를 따라 기록
+			float[] data = Arrays.equals(shape, into.getShape()) ? engine.getData(name) : null;
+			engine.bufferClean();
+			if (data == null) {
+				System.err.println("Error: Tensor shape mismatch. Result has shape " + Arrays.toString(shape)
+						+ ", target view has " + Arrays.toString(into.getShape()) + ".");
+				return null;
+			}
+			into.scatter(data);
+			return into;
+		}
+
+		boolean ok = size == into.getSize() && engine.getData(name, into.storage());
+		engine.bufferClean();
+		if (!ok) {
+			System.err.println("Error: Tensor size mismatch. Result has " + size + " elements, target has "
+					+ into.getSize() + ".");
+			return null;
+		}
+		into.setShape(shape);
+		return into;
+	}
+
+	/**
+	 * Retrieves and removes the top tensor with the specified name as a sparse
+	 * matrix.
+	 * <p>
+	 * Full parameter: {@code getSparse(String name)}<br>
+	 * This version:
+	 * <ul>
+	 * <li>A result the engine holds sparse ({@code mul}, {@code ReLu}, ... of a sparse operand) is returned as is, in CSR.</li>
+	 * <li>A dense 2D result is converted, keeping its non-zero values.</li>
+	 * <li>If no tensor with that name exists, or it is not 2D, an error is printed and {@code null} is returned.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param name the name of the tensor to retrieve
+	 * @return the retrieved matrix in CSR, or {@code null} if not found
+	 * @since v1.5
+	 */
+	public SparseTensor getSparse(String name) {
+		if (!engine.pop(name)) {
+			System.err.println("Error: The " + name + " is not exist in Queue!");
+			return null;
+		}
+
+		SparseTensor s = engine.getSparse(name);
+		if (s != null) {
+			engine.bufferClean();
+			return s;
+		}
+
+		int[] shape = engine.getShape(name);
+		float[] data = shape.length == 2 ? engine.getData(name) : null;
+		engine.bufferClean();
+		if (data == null) {
+			System.err.println("Error: Sparse result must be 2D, got shape " + Arrays.toString(shape) + ".");
+			return null;
+		}
+		return CpuSparse.fromDense(data, shape[0], shape[1]);
+	}
+
 	private Tensor getTensor(String name) {
-		float[] data = CuBridgeJNI.getData(name);
-		int[] shape = CuBridgeJNI.getShape(name);
-		CuBridgeJNI.bufferClean();
+		DType dtype = engine.getDType(name);
+		if (dtype.isHalf()) {
+			short[] bits = engine.getHalf(name);
+			int[] shape = engine.getShape(name);
+			engine.bufferClean();
+			return Tensor.wrap(bits, dtype, shape);
+		}
+		if (dtype == DType.FLOAT64) {
+			double[] values = engine.getDouble(name);
+			int[] shape = engine.getShape(name);
+			engine.bufferClean();
+			return Tensor.wrap(values, shape);
+		}
+		if (dtype == DType.BOOL) {
+			long[] bits = engine.getBits(name);
+			int[] shape = engine.getShape(name);
+			engine.bufferClean();
+			return Tensor.wrap(bits, shape);
+		}
+
+		float[] data = engine.getData(name);
+		int[] shape = engine.getShape(name);
+		engine.bufferClean();
 
-		return new Tensor(data, shape);
+		// getData 는 이미 호출자 소유의 배열을 돌려주므로 다시 복제하지 않음
+		// release() 나 스코프 종료 시 이 배열은 TensorPool 로 돌아감
+		return Tensor.pooled(data, shape);
 	}
 
 	/**
@@ -497,7 +873,7 @@ public class CuBridge {
 			return instance;
 		}
 
-		if (!CuBridgeJNI.duple(name, usageCount))
+		if (!engine.duple(name, usageCount))
 			System.err.println("Error: Failed to update usage count for tensor '" + name + "' in the queue.");
 
 		return instance;
@@ -520,7 +896,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge broad(String name, boolean broad) {
-		if(!CuBridgeJNI.broad(name, broad))
+		if(!engine.broad(name, broad))
 			System.err.println("Error: Failed to update broad for tensor '" + name + "' in the queue.");
 		return instance;
 	}
@@ -543,7 +919,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge reshape(String name, int[] shape) {
-		if(!CuBridgeJNI.reshape(name, shape, shape.length))
+		if(!engine.reshape(name, shape, shape.length))
 			System.err.println("Error: Failed to update shape for tensor '" + name + "' in the queue.");
 		return instance;
 	}
@@ -566,7 +942,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge abs() {
-		if (!CuBridgeJNI.abs("", genRandomName()))
+		if (!engine.abs("", genRandomName()))
 			System.err.println("[ERROR][ABS][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -590,7 +966,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge abs(String a) {
-		if (!CuBridgeJNI.abs(a, genRandomName()))
+		if (!engine.abs(a, genRandomName()))
 			System.err.println("[ERROR][ABS][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -615,7 +991,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge abs(String a, String out) {
-		if (!CuBridgeJNI.abs(a, out))
+		if (!engine.abs(a, out))
 			System.err.println("[ERROR][ABS][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -751,6 +1127,32 @@ public class CuBridge {
 		return put(a, aName).abs(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #absI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor absI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][ABS][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).abs(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -769,7 +1171,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge neg() {
-		if (!CuBridgeJNI.neg("", genRandomName()))
+		if (!engine.neg("", genRandomName()))
 			System.err.println("[ERROR][NEG][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -793,7 +1195,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge neg(String a) {
-		if (!CuBridgeJNI.neg(a, genRandomName()))
+		if (!engine.neg(a, genRandomName()))
 			System.err.println("[ERROR][NEG][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -818,7 +1220,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge neg(String a, String out) {
-		if (!CuBridgeJNI.neg(a, out))
+		if (!engine.neg(a, out))
 			System.err.println("[ERROR][NEG][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -954,6 +1356,32 @@ public class CuBridge {
 		return put(a, aName).neg(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #negI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor negI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][NEG][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).neg(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -972,7 +1400,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge square() {
-		if (!CuBridgeJNI.square("", genRandomName()))
+		if (!engine.square("", genRandomName()))
 			System.err.println("[ERROR][SQUARE][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -996,7 +1424,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge square(String a) {
-		if (!CuBridgeJNI.square(a, genRandomName()))
+		if (!engine.square(a, genRandomName()))
 			System.err.println("[ERROR][SQUARE][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -1021,7 +1449,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge square(String a, String out) {
-		if (!CuBridgeJNI.square(a, out))
+		if (!engine.square(a, out))
 			System.err.println("[ERROR][SQUARE][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -1157,6 +1585,32 @@ public class CuBridge {
 		return put(a, aName).square(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #squareI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor squareI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][SQUARE][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).square(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -1175,7 +1629,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sqrt() {
-		if (!CuBridgeJNI.sqrt("", genRandomName()))
+		if (!engine.sqrt("", genRandomName()))
 			System.err.println("[ERROR][SQRT][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -1199,7 +1653,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sqrt(String a) {
-		if (!CuBridgeJNI.sqrt(a, genRandomName()))
+		if (!engine.sqrt(a, genRandomName()))
 			System.err.println("[ERROR][SQRT][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -1224,7 +1678,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sqrt(String a, String out) {
-		if (!CuBridgeJNI.sqrt(a, out))
+		if (!engine.sqrt(a, out))
 			System.err.println("[ERROR][SQRT][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -1360,6 +1814,32 @@ public class CuBridge {
 		return put(a, aName).sqrt(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #sqrtI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor sqrtI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][SQRT][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).sqrt(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -1378,7 +1858,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge log() {
-		if (!CuBridgeJNI.log("", genRandomName()))
+		if (!engine.log("", genRandomName()))
 			System.err.println("[ERROR][LOG][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -1402,7 +1882,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge log(String a) {
-		if (!CuBridgeJNI.log(a, genRandomName()))
+		if (!engine.log(a, genRandomName()))
 			System.err.println("[ERROR][LOG][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -1427,7 +1907,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge log(String a, String out) {
-		if (!CuBridgeJNI.log(a, out))
+		if (!engine.log(a, out))
 			System.err.println("[ERROR][LOG][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -1563,6 +2043,32 @@ public class CuBridge {
 		return put(a, aName).log(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #logI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor logI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][LOG][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).log(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -1581,7 +2087,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge log2() {
-		if (!CuBridgeJNI.log2("", genRandomName()))
+		if (!engine.log2("", genRandomName()))
 			System.err.println("[ERROR][LOG2][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -1605,7 +2111,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge log2(String a) {
-		if (!CuBridgeJNI.log2(a, genRandomName()))
+		if (!engine.log2(a, genRandomName()))
 			System.err.println("[ERROR][LOG2][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -1630,7 +2136,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge log2(String a, String out) {
-		if (!CuBridgeJNI.log2(a, out))
+		if (!engine.log2(a, out))
 			System.err.println("[ERROR][LOG2][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -1766,6 +2272,32 @@ public class CuBridge {
 		return put(a, aName).log2(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #log2I(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor log2I(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][LOG2][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).log2(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -1784,7 +2316,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ln() {
-		if (!CuBridgeJNI.ln("", genRandomName()))
+		if (!engine.ln("", genRandomName()))
 			System.err.println("[ERROR][LN][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -1808,7 +2340,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ln(String a) {
-		if (!CuBridgeJNI.ln(a, genRandomName()))
+		if (!engine.ln(a, genRandomName()))
 			System.err.println("[ERROR][LN][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -1833,7 +2365,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ln(String a, String out) {
-		if (!CuBridgeJNI.ln(a, out))
+		if (!engine.ln(a, out))
 			System.err.println("[ERROR][LN][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -1969,6 +2501,32 @@ public class CuBridge {
 		return put(a, aName).ln(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #lnI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor lnI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][LN][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).ln(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -1987,7 +2545,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge reciprocal() {
-		if (!CuBridgeJNI.reciprocal("", genRandomName()))
+		if (!engine.reciprocal("", genRandomName()))
 			System.err.println("[ERROR][RECIPROCAL][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -2011,7 +2569,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge reciprocal(String a) {
-		if (!CuBridgeJNI.reciprocal(a, genRandomName()))
+		if (!engine.reciprocal(a, genRandomName()))
 			System.err.println("[ERROR][RECIPROCAL][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -2036,7 +2594,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge reciprocal(String a, String out) {
-		if (!CuBridgeJNI.reciprocal(a, out))
+		if (!engine.reciprocal(a, out))
 			System.err.println("[ERROR][RECIPROCAL][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -2172,6 +2730,32 @@ public class CuBridge {
 		return put(a, aName).reciprocal(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #reciprocalI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor reciprocalI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][RECIPROCAL][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).reciprocal(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -2190,7 +2774,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sin() {
-		if (!CuBridgeJNI.sin("", genRandomName()))
+		if (!engine.sin("", genRandomName()))
 			System.err.println("[ERROR][SIN][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -2214,7 +2798,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sin(String a) {
-		if (!CuBridgeJNI.sin(a, genRandomName()))
+		if (!engine.sin(a, genRandomName()))
 			System.err.println("[ERROR][SIN][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -2239,7 +2823,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sin(String a, String out) {
-		if (!CuBridgeJNI.sin(a, out))
+		if (!engine.sin(a, out))
 			System.err.println("[ERROR][SIN][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -2375,6 +2959,32 @@ public class CuBridge {
 		return put(a, aName).sin(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #sinI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor sinI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][SIN][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).sin(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -2393,7 +3003,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge cos() {
-		if (!CuBridgeJNI.cos("", genRandomName()))
+		if (!engine.cos("", genRandomName()))
 			System.err.println("[ERROR][COS][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -2417,7 +3027,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge cos(String a) {
-		if (!CuBridgeJNI.cos(a, genRandomName()))
+		if (!engine.cos(a, genRandomName()))
 			System.err.println("[ERROR][COS][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -2442,7 +3052,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge cos(String a, String out) {
-		if (!CuBridgeJNI.cos(a, out))
+		if (!engine.cos(a, out))
 			System.err.println("[ERROR][COS][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -2578,6 +3188,32 @@ public class CuBridge {
 		return put(a, aName).cos(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #cosI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor cosI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][COS][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).cos(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -2596,7 +3232,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge tan() {
-		if (!CuBridgeJNI.tan("", genRandomName()))
+		if (!engine.tan("", genRandomName()))
 			System.err.println("[ERROR][TAN][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -2620,7 +3256,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge tan(String a) {
-		if (!CuBridgeJNI.tan(a, genRandomName()))
+		if (!engine.tan(a, genRandomName()))
 			System.err.println("[ERROR][TAN][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -2645,7 +3281,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge tan(String a, String out) {
-		if (!CuBridgeJNI.tan(a, out))
+		if (!engine.tan(a, out))
 			System.err.println("[ERROR][TAN][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -2781,6 +3417,32 @@ public class CuBridge {
 		return put(a, aName).tan(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #tanI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor tanI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][TAN][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).tan(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -2799,7 +3461,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge step() {
-		if (!CuBridgeJNI.step("", genRandomName()))
+		if (!engine.step("", genRandomName()))
 			System.err.println("[ERROR][STEP][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -2823,7 +3485,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge step(String a) {
-		if (!CuBridgeJNI.step(a, genRandomName()))
+		if (!engine.step(a, genRandomName()))
 			System.err.println("[ERROR][STEP][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -2848,7 +3510,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge step(String a, String out) {
-		if (!CuBridgeJNI.step(a, out))
+		if (!engine.step(a, out))
 			System.err.println("[ERROR][STEP][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -2984,6 +3646,32 @@ public class CuBridge {
 		return put(a, aName).step(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #stepI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor stepI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][STEP][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).step(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -3002,7 +3690,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sigmoid() {
-		if (!CuBridgeJNI.sigmoid("", genRandomName()))
+		if (!engine.sigmoid("", genRandomName()))
 			System.err.println("[ERROR][SIGMOID][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -3026,7 +3714,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sigmoid(String a) {
-		if (!CuBridgeJNI.sigmoid(a, genRandomName()))
+		if (!engine.sigmoid(a, genRandomName()))
 			System.err.println("[ERROR][SIGMOID][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -3051,7 +3739,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sigmoid(String a, String out) {
-		if (!CuBridgeJNI.sigmoid(a, out))
+		if (!engine.sigmoid(a, out))
 			System.err.println("[ERROR][SIGMOID][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -3187,6 +3875,32 @@ public class CuBridge {
 		return put(a, aName).sigmoid(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #sigmoidI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor sigmoidI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][SIGMOID][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).sigmoid(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -3205,7 +3919,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge tanh() {
-		if (!CuBridgeJNI.tanh("", genRandomName()))
+		if (!engine.tanh("", genRandomName()))
 			System.err.println("[ERROR][TANH][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -3229,7 +3943,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge tanh(String a) {
-		if (!CuBridgeJNI.tanh(a, genRandomName()))
+		if (!engine.tanh(a, genRandomName()))
 			System.err.println("[ERROR][TANH][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -3254,7 +3968,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge tanh(String a, String out) {
-		if (!CuBridgeJNI.tanh(a, out))
+		if (!engine.tanh(a, out))
 			System.err.println("[ERROR][TANH][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -3390,6 +4104,32 @@ public class CuBridge {
 		return put(a, aName).tanh(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #tanhI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor tanhI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][TANH][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).tanh(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -3408,7 +4148,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge relu() {
-		if (!CuBridgeJNI.ReLu("", genRandomName()))
+		if (!engine.ReLu("", genRandomName()))
 			System.err.println("[ERROR][RELU][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -3432,7 +4172,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge relu(String a) {
-		if (!CuBridgeJNI.ReLu(a, genRandomName()))
+		if (!engine.ReLu(a, genRandomName()))
 			System.err.println("[ERROR][RELU][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -3457,7 +4197,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge relu(String a, String out) {
-		if (!CuBridgeJNI.ReLu(a, out))
+		if (!engine.ReLu(a, out))
 			System.err.println("[ERROR][RELU][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -3590,7 +4330,33 @@ public class CuBridge {
 		String aName = genRandomName();
 		String oName = genRandomName();
 
-		return put(a, aName).relu(aName, oName).get(oName);
+		return put(a, aName).relu(aName, oName).get(oName);
+	}
+
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #reluI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor reluI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][RELU][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).relu(aName, oName).get(oName, into);
 	}
 
 	/**
@@ -3611,7 +4377,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge leakrelu() {
-		if (!CuBridgeJNI.leakReLu("", genRandomName()))
+		if (!engine.leakReLu("", genRandomName()))
 			System.err.println("[ERROR][LEAKRELU][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -3635,7 +4401,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge leakrelu(String a) {
-		if (!CuBridgeJNI.leakReLu(a, genRandomName()))
+		if (!engine.leakReLu(a, genRandomName()))
 			System.err.println("[ERROR][LEAKRELU][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -3660,7 +4426,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge leakrelu(String a, String out) {
-		if (!CuBridgeJNI.leakReLu(a, out))
+		if (!engine.leakReLu(a, out))
 			System.err.println("[ERROR][LEAKRELU][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -3796,6 +4562,32 @@ public class CuBridge {
 		return put(a, aName).leakrelu(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #leakreluI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor leakreluI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][LEAKRELU][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).leakrelu(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -3814,7 +4606,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge softplus() {
-		if (!CuBridgeJNI.softplus("", genRandomName()))
+		if (!engine.softplus("", genRandomName()))
 			System.err.println("[ERROR][SOFTPLUS][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -3838,7 +4630,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge softplus(String a) {
-		if (!CuBridgeJNI.softplus(a, genRandomName()))
+		if (!engine.softplus(a, genRandomName()))
 			System.err.println("[ERROR][SOFTPLUS][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -3863,7 +4655,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge softplus(String a, String out) {
-		if (!CuBridgeJNI.softplus(a, out))
+		if (!engine.softplus(a, out))
 			System.err.println("[ERROR][SOFTPLUS][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -3999,6 +4791,32 @@ public class CuBridge {
 		return put(a, aName).softplus(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #softplusI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor softplusI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][SOFTPLUS][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).softplus(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -4017,7 +4835,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge exp() {
-		if (!CuBridgeJNI.exp("", genRandomName()))
+		if (!engine.exp("", genRandomName()))
 			System.err.println("[ERROR][EXP][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -4041,7 +4859,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge exp(String a) {
-		if (!CuBridgeJNI.exp(a, genRandomName()))
+		if (!engine.exp(a, genRandomName()))
 			System.err.println("[ERROR][EXP][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -4066,7 +4884,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge exp(String a, String out) {
-		if (!CuBridgeJNI.exp(a, out))
+		if (!engine.exp(a, out))
 			System.err.println("[ERROR][EXP][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -4202,6 +5020,32 @@ public class CuBridge {
 		return put(a, aName).exp(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #expI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor expI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][EXP][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).exp(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -4221,7 +5065,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge deg2rad() {
-		if (!CuBridgeJNI.deg2rad("", genRandomName()))
+		if (!engine.deg2rad("", genRandomName()))
 			System.err.println("[ERROR][DEG2RAD][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -4246,7 +5090,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge deg2rad(String a) {
-		if (!CuBridgeJNI.deg2rad(a, genRandomName()))
+		if (!engine.deg2rad(a, genRandomName()))
 			System.err.println("[ERROR][DEG2RAD][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -4272,7 +5116,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge deg2rad(String a, String out) {
-		if (!CuBridgeJNI.deg2rad(a, out))
+		if (!engine.deg2rad(a, out))
 			System.err.println("[ERROR][DEG2RAD][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -4408,6 +5252,32 @@ public class CuBridge {
 		return put(a, aName).deg2rad(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #deg2radI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor deg2radI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][DEG2RAD][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).deg2rad(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -4427,7 +5297,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge rad2deg() {
-		if (!CuBridgeJNI.rad2deg("", genRandomName()))
+		if (!engine.rad2deg("", genRandomName()))
 			System.err.println("[ERROR][RAD2DEG][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -4452,7 +5322,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge rad2deg(String a) {
-		if (!CuBridgeJNI.rad2deg(a, genRandomName()))
+		if (!engine.rad2deg(a, genRandomName()))
 			System.err.println("[ERROR][RAD2DEG][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -4478,7 +5348,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge rad2deg(String a, String out) {
-		if (!CuBridgeJNI.rad2deg(a, out))
+		if (!engine.rad2deg(a, out))
 			System.err.println("[ERROR][RAD2DEG][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -4614,6 +5484,32 @@ public class CuBridge {
 		return put(a, aName).rad2deg(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #rad2degI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor rad2degI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][RAD2DEG][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).rad2deg(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -4632,7 +5528,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge round() {
-		if (!CuBridgeJNI.round("", genRandomName()))
+		if (!engine.round("", genRandomName()))
 			System.err.println("[ERROR][ROUND][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -4656,7 +5552,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge round(String a) {
-		if (!CuBridgeJNI.round(a, genRandomName()))
+		if (!engine.round(a, genRandomName()))
 			System.err.println("[ERROR][ROUND][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -4681,7 +5577,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge round(String a, String out) {
-		if (!CuBridgeJNI.round(a, out))
+		if (!engine.round(a, out))
 			System.err.println("[ERROR][ROUND][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -4817,6 +5713,32 @@ public class CuBridge {
 		return put(a, aName).round(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #roundI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor roundI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][ROUND][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).round(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -4835,7 +5757,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ceil() {
-		if (!CuBridgeJNI.ceil("", genRandomName()))
+		if (!engine.ceil("", genRandomName()))
 			System.err.println("[ERROR][CEIL][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -4859,7 +5781,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ceil(String a) {
-		if (!CuBridgeJNI.ceil(a, genRandomName()))
+		if (!engine.ceil(a, genRandomName()))
 			System.err.println("[ERROR][CEIL][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -4884,7 +5806,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ceil(String a, String out) {
-		if (!CuBridgeJNI.ceil(a, out))
+		if (!engine.ceil(a, out))
 			System.err.println("[ERROR][CEIL][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -5020,6 +5942,32 @@ public class CuBridge {
 		return put(a, aName).ceil(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #ceilI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor ceilI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][CEIL][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).ceil(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -5038,7 +5986,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge floor() {
-		if (!CuBridgeJNI.floor("", genRandomName()))
+		if (!engine.floor("", genRandomName()))
 			System.err.println("[ERROR][FLOOR][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -5062,7 +6010,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge floor(String a) {
-		if (!CuBridgeJNI.floor(a, genRandomName()))
+		if (!engine.floor(a, genRandomName()))
 			System.err.println("[ERROR][FLOOR][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -5087,7 +6035,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge floor(String a, String out) {
-		if (!CuBridgeJNI.floor(a, out))
+		if (!engine.floor(a, out))
 			System.err.println("[ERROR][FLOOR][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -5223,6 +6171,32 @@ public class CuBridge {
 		return put(a, aName).floor(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #floorI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor floorI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][FLOOR][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).floor(aName, oName).get(oName, into);
+	}
+
 	/**
 	 * Unary Operation (Axis-Independent)
 	 *
@@ -5241,7 +6215,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge not() {
-		if (!CuBridgeJNI.not("", genRandomName()))
+		if (!engine.not("", genRandomName()))
 			System.err.println("[ERROR][NOT][Cannot Execute][Tensor -, -]");
 
 		return instance;
@@ -5265,7 +6239,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge not(String a) {
-		if (!CuBridgeJNI.not(a, genRandomName()))
+		if (!engine.not(a, genRandomName()))
 			System.err.println("[ERROR][NOT][Cannot Execute][Tensor " + a + ", -]");
 
 		return instance;
@@ -5290,7 +6264,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge not(String a, String out) {
-		if (!CuBridgeJNI.not(a, out))
+		if (!engine.not(a, out))
 			System.err.println("[ERROR][NOT][Cannot Execute][Tensor " + a + ", " + out + "]");
 
 		return instance;
@@ -5426,6 +6400,32 @@ public class CuBridge {
 		return put(a, aName).not(aName, oName).get(oName);
 	}
 
+	/**
+	 * Unary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #notI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor notI(Tensor a, Tensor into) {
+		if (a == null) System.err.println("[ERROR][NOT][Null Tensor Input]");
+
+		String aName = genRandomName();
+		String oName = genRandomName();
+
+		return put(a, aName).not(aName, oName).get(oName, into);
+	}
+
 	// 이항
 	/**
 	 * Binary Operation (Axis-Independent)
@@ -5444,7 +6444,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge add() {
-		if (!CuBridgeJNI.add("", "", genRandomName()))
+		if (!engine.add("", "", genRandomName()))
 			System.err.println("[ERROR][ADD][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -5467,7 +6467,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge add(String a) {
-		if (!CuBridgeJNI.add(a, "", genRandomName()))
+		if (!engine.add(a, "", genRandomName()))
 			System.err.println("[ERROR][ADD][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -5491,7 +6491,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge add(String a, String b) {
-		if (!CuBridgeJNI.add(a, b, genRandomName()))
+		if (!engine.add(a, b, genRandomName()))
 			System.err.println("[ERROR][ADD][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -5516,7 +6516,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge add(String a, String b, String out) {
-		if (!CuBridgeJNI.add(a, b, out))
+		if (!engine.add(a, b, out))
 			System.err.println("[ERROR][ADD][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -5871,6 +6871,29 @@ public class CuBridge {
 		return add(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #addI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor addI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return add(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -5888,7 +6911,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sub() {
-		if (!CuBridgeJNI.sub("", "", genRandomName()))
+		if (!engine.sub("", "", genRandomName()))
 			System.err.println("[ERROR][SUB][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -5911,7 +6934,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sub(String a) {
-		if (!CuBridgeJNI.sub(a, "", genRandomName()))
+		if (!engine.sub(a, "", genRandomName()))
 			System.err.println("[ERROR][SUB][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -5935,7 +6958,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sub(String a, String b) {
-		if (!CuBridgeJNI.sub(a, b, genRandomName()))
+		if (!engine.sub(a, b, genRandomName()))
 			System.err.println("[ERROR][SUB][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -5960,7 +6983,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sub(String a, String b, String out) {
-		if (!CuBridgeJNI.sub(a, b, out))
+		if (!engine.sub(a, b, out))
 			System.err.println("[ERROR][SUB][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -6315,6 +7338,29 @@ public class CuBridge {
 		return sub(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #subI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor subI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return sub(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -6332,7 +7378,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mul() {
-		if (!CuBridgeJNI.mul("", "", genRandomName()))
+		if (!engine.mul("", "", genRandomName()))
 			System.err.println("[ERROR][MUL][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -6355,7 +7401,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mul(String a) {
-		if (!CuBridgeJNI.mul(a, "", genRandomName()))
+		if (!engine.mul(a, "", genRandomName()))
 			System.err.println("[ERROR][MUL][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -6379,7 +7425,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mul(String a, String b) {
-		if (!CuBridgeJNI.mul(a, b, genRandomName()))
+		if (!engine.mul(a, b, genRandomName()))
 			System.err.println("[ERROR][MUL][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -6404,7 +7450,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mul(String a, String b, String out) {
-		if (!CuBridgeJNI.mul(a, b, out))
+		if (!engine.mul(a, b, out))
 			System.err.println("[ERROR][MUL][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -6759,6 +7805,29 @@ public class CuBridge {
 		return mul(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #mulI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor mulI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return mul(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -6776,7 +7845,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge div() {
-		if (!CuBridgeJNI.div("", "", genRandomName()))
+		if (!engine.div("", "", genRandomName()))
 			System.err.println("[ERROR][DIV][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -6799,7 +7868,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge div(String a) {
-		if (!CuBridgeJNI.div(a, "", genRandomName()))
+		if (!engine.div(a, "", genRandomName()))
 			System.err.println("[ERROR][DIV][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -6823,7 +7892,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge div(String a, String b) {
-		if (!CuBridgeJNI.div(a, b, genRandomName()))
+		if (!engine.div(a, b, genRandomName()))
 			System.err.println("[ERROR][DIV][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -6848,7 +7917,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge div(String a, String b, String out) {
-		if (!CuBridgeJNI.div(a, b, out))
+		if (!engine.div(a, b, out))
 			System.err.println("[ERROR][DIV][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -7203,6 +8272,29 @@ public class CuBridge {
 		return div(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #divI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor divI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return div(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -7220,7 +8312,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge pow() {
-		if (!CuBridgeJNI.pow("", "", genRandomName()))
+		if (!engine.pow("", "", genRandomName()))
 			System.err.println("[ERROR][POW][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -7243,7 +8335,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge pow(String a) {
-		if (!CuBridgeJNI.pow(a, "", genRandomName()))
+		if (!engine.pow(a, "", genRandomName()))
 			System.err.println("[ERROR][POW][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -7267,7 +8359,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge pow(String a, String b) {
-		if (!CuBridgeJNI.pow(a, b, genRandomName()))
+		if (!engine.pow(a, b, genRandomName()))
 			System.err.println("[ERROR][POW][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -7292,7 +8384,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge pow(String a, String b, String out) {
-		if (!CuBridgeJNI.pow(a, b, out))
+		if (!engine.pow(a, b, out))
 			System.err.println("[ERROR][POW][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -7647,6 +8739,29 @@ public class CuBridge {
 		return pow(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #powI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor powI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return pow(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -7664,7 +8779,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mod() {
-		if (!CuBridgeJNI.mod("", "", genRandomName()))
+		if (!engine.mod("", "", genRandomName()))
 			System.err.println("[ERROR][MOD][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -7687,7 +8802,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mod(String a) {
-		if (!CuBridgeJNI.mod(a, "", genRandomName()))
+		if (!engine.mod(a, "", genRandomName()))
 			System.err.println("[ERROR][MOD][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -7711,7 +8826,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mod(String a, String b) {
-		if (!CuBridgeJNI.mod(a, b, genRandomName()))
+		if (!engine.mod(a, b, genRandomName()))
 			System.err.println("[ERROR][MOD][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -7736,7 +8851,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mod(String a, String b, String out) {
-		if (!CuBridgeJNI.mod(a, b, out))
+		if (!engine.mod(a, b, out))
 			System.err.println("[ERROR][MOD][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -8077,18 +9192,41 @@ public class CuBridge {
 	 * <p>
 	 * This version:
 	 * <ul>
-	 * <li>Both operands are given as Tensor objects.</li>
-	 * <li>They are pushed temporarily and do not affect queue state.</li>
-	 * <li>Result is returned as a new Tensor.</li>
+	 * <li>Both operands are given as Tensor objects.</li>
+	 * <li>They are pushed temporarily and do not affect queue state.</li>
+	 * <li>Result is returned as a new Tensor.</li>
+	 * </ul>
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @return resulting Tensor after modition
+	 * @since v1.3
+	 */
+	public Tensor modI(Tensor a, Tensor b) {
+		String oName = "Imm_" + genRandomName();
+		return mod(a, b, oName).get(oName);
+	}
+
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #modI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
 	 * </ul>
+	 * </p>
+	 *
 	 * @param a the first operand Tensor
 	 * @param b the second operand Tensor
-	 * @return resulting Tensor after modition
-	 * @since v1.3
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
 	 */
-	public Tensor modI(Tensor a, Tensor b) {
+	public Tensor modI(Tensor a, Tensor b, Tensor into) {
 		String oName = "Imm_" + genRandomName();
-		return mod(a, b, oName).get(oName);
+		return mod(a, b, oName).get(oName, into);
 	}
 
 	/**
@@ -8108,7 +9246,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge gt() {
-		if (!CuBridgeJNI.gt("", "", genRandomName()))
+		if (!engine.gt("", "", genRandomName()))
 			System.err.println("[ERROR][GT][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -8131,7 +9269,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge gt(String a) {
-		if (!CuBridgeJNI.gt(a, "", genRandomName()))
+		if (!engine.gt(a, "", genRandomName()))
 			System.err.println("[ERROR][GT][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -8155,7 +9293,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge gt(String a, String b) {
-		if (!CuBridgeJNI.gt(a, b, genRandomName()))
+		if (!engine.gt(a, b, genRandomName()))
 			System.err.println("[ERROR][GT][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -8180,7 +9318,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge gt(String a, String b, String out) {
-		if (!CuBridgeJNI.gt(a, b, out))
+		if (!engine.gt(a, b, out))
 			System.err.println("[ERROR][GT][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -8534,6 +9672,29 @@ public class CuBridge {
 		String oName = "Imm_" + genRandomName();
 		return gt(a, b, oName).get(oName);
 	}
+
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #gtI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor gtI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return gt(a, b, oName).get(oName, into);
+	}
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -8551,7 +9712,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge lt() {
-		if (!CuBridgeJNI.lt("", "", genRandomName()))
+		if (!engine.lt("", "", genRandomName()))
 			System.err.println("[ERROR][LT][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -8574,7 +9735,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge lt(String a) {
-		if (!CuBridgeJNI.lt(a, "", genRandomName()))
+		if (!engine.lt(a, "", genRandomName()))
 			System.err.println("[ERROR][LT][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -8598,7 +9759,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge lt(String a, String b) {
-		if (!CuBridgeJNI.lt(a, b, genRandomName()))
+		if (!engine.lt(a, b, genRandomName()))
 			System.err.println("[ERROR][LT][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -8623,7 +9784,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge lt(String a, String b, String out) {
-		if (!CuBridgeJNI.lt(a, b, out))
+		if (!engine.lt(a, b, out))
 			System.err.println("[ERROR][LT][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -8978,6 +10139,29 @@ public class CuBridge {
 		return lt(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #ltI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor ltI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return lt(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -8995,7 +10179,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ge() {
-		if (!CuBridgeJNI.ge("", "", genRandomName()))
+		if (!engine.ge("", "", genRandomName()))
 			System.err.println("[ERROR][GE][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -9018,7 +10202,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ge(String a) {
-		if (!CuBridgeJNI.ge(a, "", genRandomName()))
+		if (!engine.ge(a, "", genRandomName()))
 			System.err.println("[ERROR][GE][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -9042,7 +10226,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ge(String a, String b) {
-		if (!CuBridgeJNI.ge(a, b, genRandomName()))
+		if (!engine.ge(a, b, genRandomName()))
 			System.err.println("[ERROR][GE][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -9067,7 +10251,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ge(String a, String b, String out) {
-		if (!CuBridgeJNI.ge(a, b, out))
+		if (!engine.ge(a, b, out))
 			System.err.println("[ERROR][GE][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -9422,6 +10606,29 @@ public class CuBridge {
 		return ge(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #geI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor geI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return ge(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -9439,7 +10646,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge le() {
-		if (!CuBridgeJNI.le("", "", genRandomName()))
+		if (!engine.le("", "", genRandomName()))
 			System.err.println("[ERROR][LE][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -9462,7 +10669,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge le(String a) {
-		if (!CuBridgeJNI.le(a, "", genRandomName()))
+		if (!engine.le(a, "", genRandomName()))
 			System.err.println("[ERROR][LE][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -9486,7 +10693,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge le(String a, String b) {
-		if (!CuBridgeJNI.le(a, b, genRandomName()))
+		if (!engine.le(a, b, genRandomName()))
 			System.err.println("[ERROR][LE][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -9511,7 +10718,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge le(String a, String b, String out) {
-		if (!CuBridgeJNI.le(a, b, out))
+		if (!engine.le(a, b, out))
 			System.err.println("[ERROR][LE][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -9866,6 +11073,29 @@ public class CuBridge {
 		return le(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #leI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor leI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return le(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -9883,7 +11113,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge eq() {
-		if (!CuBridgeJNI.eq("", "", genRandomName()))
+		if (!engine.eq("", "", genRandomName()))
 			System.err.println("[ERROR][EQ][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -9906,7 +11136,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge eq(String a) {
-		if (!CuBridgeJNI.eq(a, "", genRandomName()))
+		if (!engine.eq(a, "", genRandomName()))
 			System.err.println("[ERROR][EQ][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -9930,7 +11160,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge eq(String a, String b) {
-		if (!CuBridgeJNI.eq(a, b, genRandomName()))
+		if (!engine.eq(a, b, genRandomName()))
 			System.err.println("[ERROR][EQ][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -9955,7 +11185,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge eq(String a, String b, String out) {
-		if (!CuBridgeJNI.eq(a, b, out))
+		if (!engine.eq(a, b, out))
 			System.err.println("[ERROR][EQ][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -10310,6 +11540,29 @@ public class CuBridge {
 		return eq(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #eqI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor eqI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return eq(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -10327,7 +11580,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ne() {
-		if (!CuBridgeJNI.ne("", "", genRandomName()))
+		if (!engine.ne("", "", genRandomName()))
 			System.err.println("[ERROR][NE][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -10350,7 +11603,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ne(String a) {
-		if (!CuBridgeJNI.ne(a, "", genRandomName()))
+		if (!engine.ne(a, "", genRandomName()))
 			System.err.println("[ERROR][NE][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -10374,7 +11627,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ne(String a, String b) {
-		if (!CuBridgeJNI.ne(a, b, genRandomName()))
+		if (!engine.ne(a, b, genRandomName()))
 			System.err.println("[ERROR][NE][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -10399,7 +11652,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge ne(String a, String b, String out) {
-		if (!CuBridgeJNI.ne(a, b, out))
+		if (!engine.ne(a, b, out))
 			System.err.println("[ERROR][NE][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -10754,6 +12007,29 @@ public class CuBridge {
 		return ne(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #neI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor neI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return ne(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -10771,7 +12047,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge and() {
-		if (!CuBridgeJNI.and("", "", genRandomName()))
+		if (!engine.and("", "", genRandomName()))
 			System.err.println("[ERROR][AND][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -10794,7 +12070,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge and(String a) {
-		if (!CuBridgeJNI.and(a, "", genRandomName()))
+		if (!engine.and(a, "", genRandomName()))
 			System.err.println("[ERROR][AND][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -10818,7 +12094,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge and(String a, String b) {
-		if (!CuBridgeJNI.and(a, b, genRandomName()))
+		if (!engine.and(a, b, genRandomName()))
 			System.err.println("[ERROR][AND][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -10843,7 +12119,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge and(String a, String b, String out) {
-		if (!CuBridgeJNI.and(a, b, out))
+		if (!engine.and(a, b, out))
 			System.err.println("[ERROR][AND][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -11198,6 +12474,29 @@ public class CuBridge {
 		return and(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #andI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor andI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return and(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Axis-Independent)
 	 *
@@ -11215,7 +12514,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge or() {
-		if (!CuBridgeJNI.or("", "", genRandomName()))
+		if (!engine.or("", "", genRandomName()))
 			System.err.println("[ERROR][OR][Cannot Execute][Tensor -, -, -]");
 		return instance;
 	}
@@ -11238,7 +12537,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge or(String a) {
-		if (!CuBridgeJNI.or(a, "", genRandomName()))
+		if (!engine.or(a, "", genRandomName()))
 			System.err.println("[ERROR][OR][Cannot Execute][Tensor " + a + ", -, -]");
 		return instance;
 	}
@@ -11262,7 +12561,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge or(String a, String b) {
-		if (!CuBridgeJNI.or(a, b, genRandomName()))
+		if (!engine.or(a, b, genRandomName()))
 			System.err.println("[ERROR][OR][Cannot Execute][Tensor " + a + ", " + b + ", -]");
 		return instance;
 	}
@@ -11287,7 +12586,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge or(String a, String b, String out) {
-		if (!CuBridgeJNI.or(a, b, out))
+		if (!engine.or(a, b, out))
 			System.err.println("[ERROR][OR][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -11642,6 +12941,145 @@ public class CuBridge {
 		return or(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Axis-Independent)
+	 *
+	 * Same as {@link #orI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the first operand Tensor
+	 * @param b the second operand Tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor orI(Tensor a, Tensor b, Tensor into) {
+		String oName = "Imm_" + genRandomName();
+		return or(a, b, oName).get(oName, into);
+	}
+
+	/**
+	 * Ternary Operation (Select)
+	 *
+	 * Picks, element by element, from {@code a} where the mask is set and from {@code b} elsewhere.
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code select(String mask, String a, String b, String out)}<br>
+	 * {@code select(Tensor mask, Tensor a, Tensor b, String out)}<br>
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>All four tensors are specified by name.</li>
+	 * <li>The mask is usually a BOOL result of {@code gt}, {@code eq}, {@code and}, ...; any other tensor counts its non-zero values as set.</li>
+	 * <li>The result has the mask's shape; {@code a} and {@code b} have that shape too, or hold a single value.</li>
+	 * <li>The result is FLOAT64 if {@code a} or {@code b} is, float32 otherwise.</li>
+	 * </ul>
+	 * </p>
+	 * @param mask the name of the mask tensor
+	 * @param a the name of the tensor chosen where the mask is set
+	 * @param b the name of the tensor chosen elsewhere
+	 * @param out the name of the output tensor
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge select(String mask, String a, String b, String out) {
+		if (!engine.select(mask, a, b, out))
+			System.err.println("[ERROR][SELECT][Cannot Execute][Tensor " + mask + ", " + a + ", " + b + ", " + out + "]");
+		return instance;
+	}
+
+	/**
+	 * Ternary Operation (Select)
+	 *
+	 * Picks, element by element, from {@code a} where the mask is set and from {@code b} elsewhere.
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code select(String mask, String a, String b, String out)}<br>
+	 * {@code select(Tensor mask, Tensor a, Tensor b, String out)}<br>
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>All inputs are passed as {@code Tensor} objects and registered with temporary names.</li>
+	 * <li>The result is stored under the given output name.</li>
+	 * </ul>
+	 * </p>
+	 * @param mask the mask tensor
+	 * @param a the tensor chosen where the mask is set
+	 * @param b the tensor chosen elsewhere
+	 * @param out the name of the output tensor
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge select(Tensor mask, Tensor a, Tensor b, String out) {
+		if (mask == null) System.err.println("[ERROR][SELECT][Null Tensor Input MASK]");
+		if (a == null) System.err.println("[ERROR][SELECT][Null Tensor Input A]");
+		if (b == null) System.err.println("[ERROR][SELECT][Null Tensor Input B]");
+
+		String mName = genRandomName();
+		String aName = genRandomName();
+		String bName = genRandomName();
+
+		return put(mask, mName).put(a, aName).put(b, bName).select(mName, aName, bName, out);
+	}
+
+	/**
+	 * Ternary Operation (Select, Immediate)
+	 *
+	 * Returns {@code mask ? a : b} for named tensors.
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code selectI(String mask, String a, String b)}<br>
+	 * {@code selectI(Tensor mask, Tensor a, Tensor b)}<br>
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>All inputs are specified by name.</li>
+	 * <li>The result is returned as a new Tensor.</li>
+	 * </ul>
+	 * </p>
+	 * @param mask the name of the mask tensor
+	 * @param a the name of the tensor chosen where the mask is set
+	 * @param b the name of the tensor chosen elsewhere
+	 * @return resulting Tensor
+	 * @since v1.5
+	 */
+	public Tensor selectI(String mask, String a, String b) {
+		String oName = "Imm_" + genRandomName();
+		return select(mask, a, b, oName).get(oName);
+	}
+
+	/**
+	 * Ternary Operation (Select, Immediate)
+	 *
+	 * Returns {@code mask ? a : b} for tensor objects.
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code selectI(String mask, String a, String b)}<br>
+	 * {@code selectI(Tensor mask, Tensor a, Tensor b)}<br>
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>All inputs are passed as Tensor objects and pushed temporarily.</li>
+	 * <li>The result is returned as a new Tensor.</li>
+	 * </ul>
+	 * </p>
+	 * @param mask the mask tensor
+	 * @param a the tensor chosen where the mask is set
+	 * @param b the tensor chosen elsewhere
+	 * @return resulting Tensor
+	 * @since v1.5
+	 */
+	public Tensor selectI(Tensor mask, Tensor a, Tensor b) {
+		String oName = "Imm_" + genRandomName();
+		return select(mask, a, b, oName).get(oName);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis)
 	 *
@@ -11662,7 +13100,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sum() {
-		if (!CuBridgeJNI.sum("", genRandomName(), -1))
+		if (!engine.sum("", genRandomName(), -1))
 			System.err.println("[ERROR][SUM][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -11688,7 +13126,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sum(int axis) {
-		if (!CuBridgeJNI.sum("", genRandomName(), axis))
+		if (!engine.sum("", genRandomName(), axis))
 			System.err.println("[ERROR][SUM][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -11714,7 +13152,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sum(String a) {
-		if (!CuBridgeJNI.sum(a, genRandomName(), -1))
+		if (!engine.sum(a, genRandomName(), -1))
 			System.err.println("[ERROR][SUM][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -11741,7 +13179,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sum(String a, int axis) {
-		if (!CuBridgeJNI.sum(a, genRandomName(), axis))
+		if (!engine.sum(a, genRandomName(), axis))
 			System.err.println("[ERROR][SUM][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -11768,7 +13206,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sum(String a, String out) {
-		if (!CuBridgeJNI.sum(a, out, -1))
+		if (!engine.sum(a, out, -1))
 			System.err.println("[ERROR][SUM][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -11796,7 +13234,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge sum(String a, String out, int axis) {
-		if (!CuBridgeJNI.sum(a, out, axis))
+		if (!engine.sum(a, out, axis))
 			System.err.println("[ERROR][SUM][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -12024,6 +13462,28 @@ public class CuBridge {
 		return sum(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #sumI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input specification
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor sumI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return sum(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis, Immediate)
 	 *
@@ -12049,6 +13509,29 @@ public class CuBridge {
 		return sum(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #sumI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input specification
+	 * @param axis axis to reduce from
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor sumI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return sum(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis)
 	 *
@@ -12069,7 +13552,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mean() {
-		if (!CuBridgeJNI.mean("", genRandomName(), -1))
+		if (!engine.mean("", genRandomName(), -1))
 			System.err.println("[ERROR][MEAN][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -12095,7 +13578,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mean(int axis) {
-		if (!CuBridgeJNI.mean("", genRandomName(), axis))
+		if (!engine.mean("", genRandomName(), axis))
 			System.err.println("[ERROR][MEAN][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -12121,7 +13604,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mean(String a) {
-		if (!CuBridgeJNI.mean(a, genRandomName(), -1))
+		if (!engine.mean(a, genRandomName(), -1))
 			System.err.println("[ERROR][MEAN][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -12148,7 +13631,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mean(String a, int axis) {
-		if (!CuBridgeJNI.mean(a, genRandomName(), axis))
+		if (!engine.mean(a, genRandomName(), axis))
 			System.err.println("[ERROR][MEAN][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -12175,7 +13658,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mean(String a, String out) {
-		if (!CuBridgeJNI.mean(a, out, -1))
+		if (!engine.mean(a, out, -1))
 			System.err.println("[ERROR][MEAN][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -12203,7 +13686,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mean(String a, String out, int axis) {
-		if (!CuBridgeJNI.mean(a, out, axis))
+		if (!engine.mean(a, out, axis))
 			System.err.println("[ERROR][MEAN][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -12431,29 +13914,74 @@ public class CuBridge {
 		return mean(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #meanI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input specification
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor meanI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return mean(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis, Immediate)
 	 *
 	 * Performs reduction by meanming elements and directly returns the result tensor.
 	 *
 	 * <p>
-	 * Full parameter:<br>
-	 * {@code meanI(String a, int axis)}<br>
-	 * {@code meanI(Tensor a, int axis)}
-	 * </p>
+	 * Full parameter:<br>
+	 * {@code meanI(String a, int axis)}<br>
+	 * {@code meanI(Tensor a, int axis)}
+	 * </p>
+	 * This version:
+	 * <ul>
+	 *   <li>Reduces from the specified axis of the given tensor object.</li>
+	 *   <li>The result is returned directly as a Tensor instance.</li>
+	 * </ul>
+	 *
+	 * @param a input specification
+	 * @param axis axis to reduce from
+	 * @return result tensor
+	 */
+	public Tensor meanI(Tensor a, int axis) {
+		String oName = genRandomName();
+		return mean(a, oName, axis).get(oName);
+	}
+
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #meanI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
 	 * This version:
 	 * <ul>
-	 *   <li>Reduces from the specified axis of the given tensor object.</li>
-	 *   <li>The result is returned directly as a Tensor instance.</li>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
 	 * </ul>
+	 * </p>
 	 *
 	 * @param a input specification
 	 * @param axis axis to reduce from
-	 * @return result tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
 	 */
-	public Tensor meanI(Tensor a, int axis) {
+	public Tensor meanI(Tensor a, int axis, Tensor into) {
 		String oName = genRandomName();
-		return mean(a, oName, axis).get(oName);
+		return mean(a, oName, axis).get(oName, into);
 	}
 
 	/**
@@ -12476,7 +14004,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge var() {
-		if (!CuBridgeJNI.var("", genRandomName(), -1))
+		if (!engine.var("", genRandomName(), -1))
 			System.err.println("[ERROR][VAR][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -12502,7 +14030,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge var(int axis) {
-		if (!CuBridgeJNI.var("", genRandomName(), axis))
+		if (!engine.var("", genRandomName(), axis))
 			System.err.println("[ERROR][VAR][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -12528,7 +14056,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge var(String a) {
-		if (!CuBridgeJNI.var(a, genRandomName(), -1))
+		if (!engine.var(a, genRandomName(), -1))
 			System.err.println("[ERROR][VAR][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -12555,7 +14083,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge var(String a, int axis) {
-		if (!CuBridgeJNI.var(a, genRandomName(), axis))
+		if (!engine.var(a, genRandomName(), axis))
 			System.err.println("[ERROR][VAR][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -12582,7 +14110,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge var(String a, String out) {
-		if (!CuBridgeJNI.var(a, out, -1))
+		if (!engine.var(a, out, -1))
 			System.err.println("[ERROR][VAR][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -12610,7 +14138,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge var(String a, String out, int axis) {
-		if (!CuBridgeJNI.var(a, out, axis))
+		if (!engine.var(a, out, axis))
 			System.err.println("[ERROR][VAR][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -12838,6 +14366,28 @@ public class CuBridge {
 		return var(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #varI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input specification
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor varI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return var(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis, Immediate)
 	 *
@@ -12863,6 +14413,29 @@ public class CuBridge {
 		return var(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #varI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param axis axis to reduce from
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor varI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return var(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis)
 	 *
@@ -12883,7 +14456,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge std() {
-		if (!CuBridgeJNI.std("", genRandomName(), -1))
+		if (!engine.std("", genRandomName(), -1))
 			System.err.println("[ERROR][STD][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -12909,7 +14482,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge std(int axis) {
-		if (!CuBridgeJNI.std("", genRandomName(), axis))
+		if (!engine.std("", genRandomName(), axis))
 			System.err.println("[ERROR][STD][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -12935,7 +14508,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge std(String a) {
-		if (!CuBridgeJNI.std(a, genRandomName(), -1))
+		if (!engine.std(a, genRandomName(), -1))
 			System.err.println("[ERROR][STD][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -12962,7 +14535,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge std(String a, int axis) {
-		if (!CuBridgeJNI.std(a, genRandomName(), axis))
+		if (!engine.std(a, genRandomName(), axis))
 			System.err.println("[ERROR][STD][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -12989,7 +14562,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge std(String a, String out) {
-		if (!CuBridgeJNI.std(a, out, -1))
+		if (!engine.std(a, out, -1))
 			System.err.println("[ERROR][STD][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -13017,7 +14590,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge std(String a, String out, int axis) {
-		if (!CuBridgeJNI.std(a, out, axis))
+		if (!engine.std(a, out, axis))
 			System.err.println("[ERROR][STD][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -13245,6 +14818,28 @@ public class CuBridge {
 		return std(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #stdI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input specification
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor stdI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return std(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis, Immediate)
 	 *
@@ -13270,6 +14865,29 @@ public class CuBridge {
 		return std(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #stdI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input specification
+	 * @param axis axis to reduce from
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor stdI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return std(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis)
 	 *
@@ -13290,7 +14908,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge max() {
-		if (!CuBridgeJNI.max("", genRandomName(), -1))
+		if (!engine.max("", genRandomName(), -1))
 			System.err.println("[ERROR][MAX][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -13316,7 +14934,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge max(int axis) {
-		if (!CuBridgeJNI.max("", genRandomName(), axis))
+		if (!engine.max("", genRandomName(), axis))
 			System.err.println("[ERROR][MAX][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -13342,7 +14960,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge max(String a) {
-		if (!CuBridgeJNI.max(a, genRandomName(), -1))
+		if (!engine.max(a, genRandomName(), -1))
 			System.err.println("[ERROR][MAX][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -13369,7 +14987,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge max(String a, int axis) {
-		if (!CuBridgeJNI.max(a, genRandomName(), axis))
+		if (!engine.max(a, genRandomName(), axis))
 			System.err.println("[ERROR][MAX][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -13396,7 +15014,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge max(String a, String out) {
-		if (!CuBridgeJNI.max(a, out, -1))
+		if (!engine.max(a, out, -1))
 			System.err.println("[ERROR][MAX][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -13424,7 +15042,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge max(String a, String out, int axis) {
-		if (!CuBridgeJNI.max(a, out, axis))
+		if (!engine.max(a, out, axis))
 			System.err.println("[ERROR][MAX][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -13652,6 +15270,28 @@ public class CuBridge {
 		return max(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #maxI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input specification
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor maxI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return max(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis, Immediate)
 	 *
@@ -13677,6 +15317,29 @@ public class CuBridge {
 		return max(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #maxI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input specification
+	 * @param axis axis to reduce from
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor maxI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return max(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis)
 	 *
@@ -13697,7 +15360,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge min() {
-		if (!CuBridgeJNI.min("", genRandomName(), -1))
+		if (!engine.min("", genRandomName(), -1))
 			System.err.println("[ERROR][MIN][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -13723,7 +15386,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge min(int axis) {
-		if (!CuBridgeJNI.min("", genRandomName(), axis))
+		if (!engine.min("", genRandomName(), axis))
 			System.err.println("[ERROR][MIN][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -13749,7 +15412,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge min(String a) {
-		if (!CuBridgeJNI.min(a, genRandomName(), -1))
+		if (!engine.min(a, genRandomName(), -1))
 			System.err.println("[ERROR][MIN][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -13776,7 +15439,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge min(String a, int axis) {
-		if (!CuBridgeJNI.min(a, genRandomName(), axis))
+		if (!engine.min(a, genRandomName(), axis))
 			System.err.println("[ERROR][MIN][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -13803,7 +15466,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge min(String a, String out) {
-		if (!CuBridgeJNI.min(a, out, -1))
+		if (!engine.min(a, out, -1))
 			System.err.println("[ERROR][MIN][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -13831,7 +15494,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge min(String a, String out, int axis) {
-		if (!CuBridgeJNI.min(a, out, axis))
+		if (!engine.min(a, out, axis))
 			System.err.println("[ERROR][MIN][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -14059,6 +15722,28 @@ public class CuBridge {
 		return min(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #minI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input specification
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor minI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return min(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Cascaded-Axis, Immediate)
 	 *
@@ -14084,6 +15769,29 @@ public class CuBridge {
 		return min(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Cascaded-Axis, Immediate)
+	 *
+	 * Same as {@link #minI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param axis axis to reduce from
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor minI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return min(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis)
 	 *
@@ -14104,7 +15812,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge accumulate() {
-		if (!CuBridgeJNI.accumulate("", genRandomName(), -1))
+		if (!engine.accumulate("", genRandomName(), -1))
 			System.err.println("[ERROR][ACCUMULATE][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -14131,7 +15839,7 @@ public class CuBridge {
 	 */
 
 	public CuBridge accumulate(int axis) {
-		if (!CuBridgeJNI.accumulate("", genRandomName(), axis))
+		if (!engine.accumulate("", genRandomName(), axis))
 			System.err.println("[ERROR][ACCUMULATE][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -14158,7 +15866,7 @@ public class CuBridge {
 	 */
 
 	public CuBridge accumulate(String a) {
-		if (!CuBridgeJNI.accumulate(a, genRandomName(), -1))
+		if (!engine.accumulate(a, genRandomName(), -1))
 			System.err.println("[ERROR][ACCUMULATE][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -14186,7 +15894,7 @@ public class CuBridge {
 	 */
 
 	public CuBridge accumulate(String a, int axis) {
-		if (!CuBridgeJNI.accumulate(a, genRandomName(), axis))
+		if (!engine.accumulate(a, genRandomName(), axis))
 			System.err.println("[ERROR][ACCUMULATE][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -14213,7 +15921,7 @@ public class CuBridge {
 	 */
 
 	public CuBridge accumulate(String a, String out) {
-		if (!CuBridgeJNI.accumulate(a, out, -1))
+		if (!engine.accumulate(a, out, -1))
 			System.err.println("[ERROR][ACCUMULATE][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -14241,7 +15949,7 @@ public class CuBridge {
 	 */
 
 	public CuBridge accumulate(String a, String out, int axis) {
-		if (!CuBridgeJNI.accumulate(a, out, axis))
+		if (!engine.accumulate(a, out, axis))
 			System.err.println("[ERROR][ACCUMULATE][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -14447,6 +16155,28 @@ public class CuBridge {
 		return accumulate(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #accumulateI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor accumulateI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return accumulate(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis, Immediate)
 	 *
@@ -14499,6 +16229,151 @@ public class CuBridge {
 		return accumulate(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #accumulateI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param axis the axis to perform accumulation along
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor accumulateI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return accumulate(a, oName, axis).get(oName, into);
+	}
+
+	/**
+	 * Axis Operation (Single-Axis)
+	 *
+	 * Performs accumulation (cumulative summation) along the specified axis, optionally exclusive and/or reversed, and stores the result in the given output tensor.
+	 *
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code accumulate(String a, String out, int axis, boolean exclusive, boolean reverse)}<br>
+	 * {@code accumulate(Tensor a, String out, int axis, boolean exclusive, boolean reverse)}
+	 * </p>
+	 * This version:
+	 * <ul>
+	 *   <li>Input tensor and output tensor are specified by name.</li>
+	 *   <li>Performs accumulation along the specified axis (use {@code -1} to select the first axis).</li>
+	 *   <li>{@code exclusive}: each element is left out of its own sum, so the first result is 0.</li>
+	 *   <li>{@code reverse}: sums run from the last index of the axis down to the first.</li>
+	 * </ul>
+	 *
+	 * @param a the name of the input tensor
+	 * @param out the name of the output tensor
+	 * @param axis the axis to perform accumulation along
+	 * @param exclusive whether each element is excluded from its own sum
+	 * @param reverse whether to accumulate from the end of the axis
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge accumulate(String a, String out, int axis, boolean exclusive, boolean reverse) {
+		if (!engine.accumulate(a, out, axis, exclusive, reverse))
+			System.err.println("[ERROR][ACCUMULATE][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis
+					+ ", exclusive=" + exclusive + ", reverse=" + reverse + "]");
+		return instance;
+	}
+
+	/**
+	 * Axis Operation (Single-Axis)
+	 *
+	 * Performs accumulation (cumulative summation) along the specified axis of the given tensor object, optionally exclusive and/or reversed, and stores the result in a named tensor.
+	 *
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code accumulate(String a, String out, int axis, boolean exclusive, boolean reverse)}<br>
+	 * {@code accumulate(Tensor a, String out, int axis, boolean exclusive, boolean reverse)}
+	 * </p>
+	 * This version:
+	 * <ul>
+	 *   <li>Input tensor is specified as an object.</li>
+	 *   <li>Performs accumulation along the specified axis (use {@code -1} to select the first axis).</li>
+	 *   <li>Output tensor name is specified.</li>
+	 * </ul>
+	 *
+	 * @param a input tensor object
+	 * @param out name of the output tensor
+	 * @param axis the axis to perform accumulation along
+	 * @param exclusive whether each element is excluded from its own sum
+	 * @param reverse whether to accumulate from the end of the axis
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge accumulate(Tensor a, String out, int axis, boolean exclusive, boolean reverse) {
+		if (a == null) System.err.println("[ERROR][ACCUMULATE][Null Tensor Input]");
+		String aName = genRandomName();
+		return put(a, aName).accumulate(aName, out, axis, exclusive, reverse);
+	}
+
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Performs accumulation (cumulative summation) along the specified axis of the given tensor name, optionally exclusive and/or reversed, and directly returns the result.
+	 *
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code accumulateI(String a, int axis, boolean exclusive, boolean reverse)}<br>
+	 * {@code accumulateI(Tensor a, int axis, boolean exclusive, boolean reverse)}
+	 * </p>
+	 * This version:
+	 * <ul>
+	 *   <li>Input tensor is specified by name.</li>
+	 *   <li>Performs accumulation along the specified axis (use {@code -1} to select the first axis).</li>
+	 *   <li>The result is returned directly as a Tensor instance.</li>
+	 * </ul>
+	 *
+	 * @param a the name of the input tensor
+	 * @param axis the axis to perform accumulation along
+	 * @param exclusive whether each element is excluded from its own sum
+	 * @param reverse whether to accumulate from the end of the axis
+	 * @return result tensor
+	 * @since v1.5
+	 */
+	public Tensor accumulateI(String a, int axis, boolean exclusive, boolean reverse) {
+		String oName = genRandomName();
+		return accumulate(a, oName, axis, exclusive, reverse).get(oName);
+	}
+
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Performs accumulation (cumulative summation) along the specified axis of the given tensor object, optionally exclusive and/or reversed, and directly returns the result.
+	 *
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code accumulateI(String a, int axis, boolean exclusive, boolean reverse)}<br>
+	 * {@code accumulateI(Tensor a, int axis, boolean exclusive, boolean reverse)}
+	 * </p>
+	 * This version:
+	 * <ul>
+	 *   <li>Input tensor is specified as an object.</li>
+	 *   <li>Performs accumulation along the specified axis (use {@code -1} to select the first axis).</li>
+	 *   <li>The result is returned directly as a Tensor instance.</li>
+	 * </ul>
+	 *
+	 * @param a input tensor object
+	 * @param axis the axis to perform accumulation along
+	 * @param exclusive whether each element is excluded from its own sum
+	 * @param reverse whether to accumulate from the end of the axis
+	 * @return result tensor
+	 * @since v1.5
+	 */
+	public Tensor accumulateI(Tensor a, int axis, boolean exclusive, boolean reverse) {
+		String oName = genRandomName();
+		return accumulate(a, oName, axis, exclusive, reverse).get(oName);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis)
 	 *
@@ -14519,7 +16394,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge compress() {
-		if (!CuBridgeJNI.compress("", genRandomName(), -1))
+		if (!engine.compress("", genRandomName(), -1))
 			System.err.println("[ERROR][COMPRESS][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -14545,7 +16420,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge compress(int axis) {
-		if (!CuBridgeJNI.compress("", genRandomName(), axis))
+		if (!engine.compress("", genRandomName(), axis))
 			System.err.println("[ERROR][COMPRESS][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -14571,7 +16446,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge compress(String a) {
-		if (!CuBridgeJNI.compress(a, genRandomName(), -1))
+		if (!engine.compress(a, genRandomName(), -1))
 			System.err.println("[ERROR][COMPRESS][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -14598,7 +16473,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge compress(String a, int axis) {
-		if (!CuBridgeJNI.compress(a, genRandomName(), axis))
+		if (!engine.compress(a, genRandomName(), axis))
 			System.err.println("[ERROR][COMPRESS][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -14624,7 +16499,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge compress(String a, String out) {
-		if (!CuBridgeJNI.compress(a, out, -1))
+		if (!engine.compress(a, out, -1))
 			System.err.println("[ERROR][COMPRESS][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -14651,7 +16526,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge compress(String a, String out, int axis) {
-		if (!CuBridgeJNI.compress(a, out, axis))
+		if (!engine.compress(a, out, axis))
 			System.err.println("[ERROR][COMPRESS][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -14854,7 +16729,29 @@ public class CuBridge {
 	 */
 	public Tensor compressI(Tensor a) {
 		String oName = genRandomName();
-		return compress(a, oName).get(oName);
+		return compress(a, oName).get(oName);
+	}
+
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #compressI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor compressI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return compress(a, oName).get(oName, into);
 	}
 
 	/**
@@ -14909,6 +16806,29 @@ public class CuBridge {
 		return compress(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #compressI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param axis axis to compress along
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor compressI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return compress(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis)
 	 *
@@ -14932,7 +16852,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge expand(int axis, int N) {
-		if (!CuBridgeJNI.expand("", genRandomName(), axis, N))
+		if (!engine.expand("", genRandomName(), axis, N))
 			System.err.println("[ERROR][EXPAND][Cannot Execute][Tensor -, -, axis=" + axis + ", N=" + N + "]");
 		return instance;
 	}
@@ -14961,7 +16881,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge expand(String a, int axis, int N) {
-		if (!CuBridgeJNI.expand(a, genRandomName(), axis, N))
+		if (!engine.expand(a, genRandomName(), axis, N))
 			System.err.println("[ERROR][EXPAND][Cannot Execute][Tensor " + a + ", -, axis=" + axis + ", N=" + N + "]");
 		return instance;
 	}
@@ -14990,7 +16910,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge expand(String a, String out, int axis, int N) {
-		if (!CuBridgeJNI.expand(a, out, axis, N))
+		if (!engine.expand(a, out, axis, N))
 			System.err.println("[ERROR][EXPAND][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + ", N=" + N + "]");
 		return instance;
 	}
@@ -15123,7 +17043,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmax() {
-		if (!CuBridgeJNI.argMax("", genRandomName(), -1))
+		if (!engine.argMax("", genRandomName(), -1))
 			System.err.println("[ERROR][ARGMAX][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -15149,7 +17069,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmax(int axis) {
-		if (!CuBridgeJNI.argMax("", genRandomName(), axis))
+		if (!engine.argMax("", genRandomName(), axis))
 			System.err.println("[ERROR][ARGMAX][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -15175,7 +17095,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmax(String a) {
-		if (!CuBridgeJNI.argMax(a, genRandomName(), -1))
+		if (!engine.argMax(a, genRandomName(), -1))
 			System.err.println("[ERROR][ARGMAX][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -15202,7 +17122,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmax(String a, int axis) {
-		if (!CuBridgeJNI.argMax(a, genRandomName(), axis))
+		if (!engine.argMax(a, genRandomName(), axis))
 			System.err.println("[ERROR][ARGMAX][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -15277,7 +17197,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmax(String a, String out) {
-		if (!CuBridgeJNI.argMax(a, out, -1))
+		if (!engine.argMax(a, out, -1))
 			System.err.println("[ERROR][ARGMAX][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -15304,7 +17224,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmax(String a, String out, int axis) {
-		if (!CuBridgeJNI.argMax(a, out, axis))
+		if (!engine.argMax(a, out, axis))
 			System.err.println("[ERROR][ARGMAX][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -15459,6 +17379,28 @@ public class CuBridge {
 		return argmax(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #argmaxI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor argmaxI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return argmax(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis, Immediate)
 	 *
@@ -15511,6 +17453,29 @@ public class CuBridge {
 		return argmax(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #argmaxI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param axis axis to operate along
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor argmaxI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return argmax(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis)
 	 *
@@ -15531,7 +17496,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmin() {
-		if (!CuBridgeJNI.argMin("", genRandomName(), -1))
+		if (!engine.argMin("", genRandomName(), -1))
 			System.err.println("[ERROR][ARGMIN][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -15557,7 +17522,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmin(int axis) {
-		if (!CuBridgeJNI.argMin("", genRandomName(), axis))
+		if (!engine.argMin("", genRandomName(), axis))
 			System.err.println("[ERROR][ARGMIN][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -15583,7 +17548,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmin(String a) {
-		if (!CuBridgeJNI.argMin(a, genRandomName(), -1))
+		if (!engine.argMin(a, genRandomName(), -1))
 			System.err.println("[ERROR][ARGMIN][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -15610,7 +17575,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmin(String a, int axis) {
-		if (!CuBridgeJNI.argMin(a, genRandomName(), axis))
+		if (!engine.argMin(a, genRandomName(), axis))
 			System.err.println("[ERROR][ARGMIN][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -15636,7 +17601,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmin(String a, String out) {
-		if (!CuBridgeJNI.argMin(a, out, -1))
+		if (!engine.argMin(a, out, -1))
 			System.err.println("[ERROR][ARGMIN][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -15663,7 +17628,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge argmin(String a, String out, int axis) {
-		if (!CuBridgeJNI.argMin(a, out, axis))
+		if (!engine.argMin(a, out, axis))
 			System.err.println("[ERROR][ARGMIN][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -15855,6 +17820,28 @@ public class CuBridge {
 		return argmin(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #argminI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor argminI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return argmin(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis, Immediate)
 	 *
@@ -15875,6 +17862,29 @@ public class CuBridge {
 		return argmin(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #argminI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param axis axis to reduce
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor argminI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return argmin(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis)
 	 *
@@ -15895,7 +17905,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMax() {
-		if (!CuBridgeJNI.axisMax("", genRandomName(), -1))
+		if (!engine.axisMax("", genRandomName(), -1))
 			System.err.println("[ERROR][AXISMAX][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -15921,7 +17931,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMax(int axis) {
-		if (!CuBridgeJNI.axisMax("", genRandomName(), axis))
+		if (!engine.axisMax("", genRandomName(), axis))
 			System.err.println("[ERROR][AXISMAX][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -15947,7 +17957,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMax(String a) {
-		if (!CuBridgeJNI.axisMax(a, genRandomName(), -1))
+		if (!engine.axisMax(a, genRandomName(), -1))
 			System.err.println("[ERROR][AXISMAX][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -15974,7 +17984,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMax(String a, int axis) {
-		if (!CuBridgeJNI.axisMax(a, genRandomName(), axis))
+		if (!engine.axisMax(a, genRandomName(), axis))
 			System.err.println("[ERROR][AXISMAX][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -16000,7 +18010,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMax(String a, String out) {
-		if (!CuBridgeJNI.axisMax(a, out, -1))
+		if (!engine.axisMax(a, out, -1))
 			System.err.println("[ERROR][AXISMAX][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -16027,7 +18037,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMax(String a, String out, int axis) {
-		if (!CuBridgeJNI.axisMax(a, out, axis))
+		if (!engine.axisMax(a, out, axis))
 			System.err.println("[ERROR][AXISMAX][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -16259,6 +18269,28 @@ public class CuBridge {
 		return axisMax(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #axisMaxI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor axisMaxI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return axisMax(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis, Immediate)
 	 *
@@ -16285,6 +18317,29 @@ public class CuBridge {
 		return axisMax(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #axisMaxI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param axis the axis to reduce along
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor axisMaxI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return axisMax(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis)
 	 *
@@ -16305,7 +18360,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMin() {
-		if (!CuBridgeJNI.axisMin("", genRandomName(), -1))
+		if (!engine.axisMin("", genRandomName(), -1))
 			System.err.println("[ERROR][AXISMIN][Cannot Execute][Tensor -, -, axis=-1]");
 		return instance;
 	}
@@ -16331,7 +18386,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMin(int axis) {
-		if (!CuBridgeJNI.axisMin("", genRandomName(), axis))
+		if (!engine.axisMin("", genRandomName(), axis))
 			System.err.println("[ERROR][AXISMIN][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -16357,7 +18412,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMin(String a) {
-		if (!CuBridgeJNI.axisMin(a, genRandomName(), -1))
+		if (!engine.axisMin(a, genRandomName(), -1))
 			System.err.println("[ERROR][AXISMIN][Cannot Execute][Tensor " + a + ", -, axis=-1]");
 		return instance;
 	}
@@ -16384,7 +18439,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMin(String a, int axis) {
-		if (!CuBridgeJNI.axisMin(a, genRandomName(), axis))
+		if (!engine.axisMin(a, genRandomName(), axis))
 			System.err.println("[ERROR][AXISMIN][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -16410,7 +18465,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMin(String a, String out) {
-		if (!CuBridgeJNI.axisMin(a, out, -1))
+		if (!engine.axisMin(a, out, -1))
 			System.err.println("[ERROR][AXISMIN][Cannot Execute][Tensor " + a + ", " + out + ", axis=-1]");
 		return instance;
 	}
@@ -16437,7 +18492,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge axisMin(String a, String out, int axis) {
-		if (!CuBridgeJNI.axisMin(a, out, axis))
+		if (!engine.axisMin(a, out, axis))
 			System.err.println("[ERROR][AXISMIN][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -16669,6 +18724,28 @@ public class CuBridge {
 		return axisMin(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #axisMinI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor axisMinI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return axisMin(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Single-Axis, Immediate)
 	 *
@@ -16695,6 +18772,29 @@ public class CuBridge {
 		return axisMin(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Single-Axis, Immediate)
+	 *
+	 * Same as {@link #axisMinI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a input tensor object
+	 * @param axis the axis to reduce along
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor axisMinI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return axisMin(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Transpose)
 	 *
@@ -16715,7 +18815,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge transpose() {
-		if (!CuBridgeJNI.transpose("", genRandomName(), 0, -1))
+		if (!engine.transpose("", genRandomName(), 0, -1))
 			System.err.println("[ERROR][TRANSPOSE][Cannot Execute][Tensor -, -, axis0=0, axis1=-1]");
 		return instance;
 	}
@@ -16741,7 +18841,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge transpose(String a) {
-		if (!CuBridgeJNI.transpose(a, genRandomName(), 0, -1))
+		if (!engine.transpose(a, genRandomName(), 0, -1))
 			System.err.println("[ERROR][TRANSPOSE][Cannot Execute][Tensor " + a + ", -, axis0=0, axis1=-1]");
 		return instance;
 	}
@@ -16767,7 +18867,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge transpose(String a, String out) {
-		if (!CuBridgeJNI.transpose(a, out, 0, -1))
+		if (!engine.transpose(a, out, 0, -1))
 			System.err.println("[ERROR][TRANSPOSE][Cannot Execute][Tensor " + a + ", " + out + ", axis0=0, axis1=-1]");
 		return instance;
 	}
@@ -16795,7 +18895,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge transpose(int axis1, int axis2) {
-		if (!CuBridgeJNI.transpose("", genRandomName(), axis1, axis2))
+		if (!engine.transpose("", genRandomName(), axis1, axis2))
 			System.err.println("[ERROR][TRANSPOSE][Cannot Execute][Tensor -, -, axis0=" + axis1 + ", axis1=" + axis2 + "]");
 		return instance;
 	}
@@ -16824,7 +18924,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge transpose(String a, int axis1, int axis2) {
-		if (!CuBridgeJNI.transpose(a, genRandomName(), axis1, axis2))
+		if (!engine.transpose(a, genRandomName(), axis1, axis2))
 			System.err.println("[ERROR][TRANSPOSE][Cannot Execute][Tensor " + a + ", -, axis0=" + axis1 + ", axis1=" + axis2 + "]");
 		return instance;
 	}
@@ -16853,7 +18953,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge transpose(String a, String out, int axis1, int axis2) {
-		if (!CuBridgeJNI.transpose(a, out, axis1, axis2))
+		if (!engine.transpose(a, out, axis1, axis2))
 			System.err.println("[ERROR][TRANSPOSE][Cannot Execute][Tensor " + a + ", " + out + ", axis0=" + axis1 + ", axis1=" + axis2 + "]");
 		return instance;
 	}
@@ -17092,6 +19192,118 @@ public class CuBridge {
 		return transpose(a, oName, axis1, axis2).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Permute)
+	 *
+	 * Reorders all axes of the given tensor in one pass and stores the result.
+	 *
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code permute(String a, String out, int... order)}<br>
+	 * {@code permute(Tensor a, String out, int... order)}
+	 * </p>
+	 * This version:
+	 * <ul>
+	 *   <li>Input and output tensors are specified by name.</li>
+	 *   <li>Output axis {@code d} is input axis {@code order[d]}; e.g. {@code {0, 2, 3, 1}} turns {N, C, H, W} into {N, H, W, C}.</li>
+	 *   <li>Every element is moved once, instead of once per swapped pair as with chained {@code transpose} calls.</li>
+	 * </ul>
+	 *
+	 * @param a     the name of the input tensor
+	 * @param out   the name of the output tensor
+	 * @param order a permutation of {@code 0 .. rank - 1}
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge permute(String a, String out, int... order) {
+		if (!engine.permute(a, out, order))
+			System.err.println("[ERROR][PERMUTE][Cannot Execute][Tensor " + a + ", " + out + ", order=" + java.util.Arrays.toString(order) + "]");
+		return instance;
+	}
+
+	/**
+	 * Axis Operation (Permute)
+	 *
+	 * Reorders all axes of the given tensor object in one pass and stores the result.
+	 *
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code permute(String a, String out, int... order)}<br>
+	 * {@code permute(Tensor a, String out, int... order)}
+	 * </p>
+	 * This version:
+	 * <ul>
+	 *   <li>Input tensor is specified as an object.</li>
+	 *   <li>Output axis {@code d} is input axis {@code order[d]}.</li>
+	 *   <li>Output tensor name is specified.</li>
+	 * </ul>
+	 *
+	 * @param a     input tensor object
+	 * @param out   name of the output tensor
+	 * @param order a permutation of {@code 0 .. rank - 1}
+	 * @return CuBridge instance for chaining
+	 * @since v1.5
+	 */
+	public CuBridge permute(Tensor a, String out, int... order) {
+		if (a == null) System.err.println("[ERROR][PERMUTE][Null Tensor Input]");
+		String aName = genRandomName();
+		return put(a, aName).permute(aName, out, order);
+	}
+
+	/**
+	 * Axis Operation (Permute, Immediate)
+	 *
+	 * Returns the given tensor with all axes reordered in one pass.
+	 *
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code permuteI(String a, int... order)}<br>
+	 * {@code permuteI(Tensor a, int... order)}
+	 * </p>
+	 * This version:
+	 * <ul>
+	 *   <li>Input tensor is specified by name.</li>
+	 *   <li>Output axis {@code d} is input axis {@code order[d]}.</li>
+	 *   <li>The result is returned as a new Tensor object.</li>
+	 * </ul>
+	 *
+	 * @param a     the name of the input tensor
+	 * @param order a permutation of {@code 0 .. rank - 1}
+	 * @return permuted tensor
+	 * @since v1.5
+	 */
+	public Tensor permuteI(String a, int... order) {
+		String oName = genRandomName();
+		return permute(a, oName, order).get(oName);
+	}
+
+	/**
+	 * Axis Operation (Permute, Immediate)
+	 *
+	 * Returns the given tensor object with all axes reordered in one pass.
+	 *
+	 * <p>
+	 * Full parameter:<br>
+	 * {@code permuteI(String a, int... order)}<br>
+	 * {@code permuteI(Tensor a, int... order)}
+	 * </p>
+	 * This version:
+	 * <ul>
+	 *   <li>Input tensor is specified as an object.</li>
+	 *   <li>Output axis {@code d} is input axis {@code order[d]}.</li>
+	 *   <li>The result is returned as a new Tensor object.</li>
+	 * </ul>
+	 *
+	 * @param a     input tensor object
+	 * @param order a permutation of {@code 0 .. rank - 1}
+	 * @return permuted tensor
+	 * @since v1.5
+	 */
+	public Tensor permuteI(Tensor a, int... order) {
+		String oName = genRandomName();
+		return permute(a, oName, order).get(oName);
+	}
+
 	/**
 	 * Binary Operation (Dot Product)
 	 *
@@ -17113,7 +19325,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge dot() {
-		if (!CuBridgeJNI.dot("", "", genRandomName()))
+		if (!engine.dot("", "", genRandomName()))
 			System.err.println("[ERROR][DOT][Cannot Execute][Tensor -, -]");
 		return instance;
 	}
@@ -17139,7 +19351,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge dot(String a) {
-		if (!CuBridgeJNI.dot(a, "", genRandomName()))
+		if (!engine.dot(a, "", genRandomName()))
 			System.err.println("[ERROR][DOT][Cannot Execute][Tensor " + a + ", -]");
 		return instance;
 	}
@@ -17167,7 +19379,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge dot(String a, String b) {
-		if (!CuBridgeJNI.dot(a, b, genRandomName()))
+		if (!engine.dot(a, b, genRandomName()))
 			System.err.println("[ERROR][DOT][Cannot Execute][Tensor " + a + ", " + b + "]");
 		return instance;
 	}
@@ -17194,7 +19406,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge dot(String a, String b, String out) {
-		if (!CuBridgeJNI.dot(a, b, out))
+		if (!engine.dot(a, b, out))
 			System.err.println("[ERROR][DOT][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -17323,6 +19535,29 @@ public class CuBridge {
 		return dot(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Dot Product, Immediate)
+	 *
+	 * Same as {@link #dotI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a first input tensor
+	 * @param b second input tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor dotI(Tensor a, Tensor b, Tensor into) {
+		String oName = genRandomName();
+		return dot(a, b, oName).get(oName, into);
+	}
+
 	/**
 	 * Binary Operation (Matrix Multiplication)
 	 *
@@ -17344,7 +19579,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge matmul() {
-		if (!CuBridgeJNI.matmul("", "", genRandomName()))
+		if (!engine.matmul("", "", genRandomName()))
 			System.err.println("[ERROR][MATMUL][Cannot Execute][Tensor -, -]");
 		return instance;
 	}
@@ -17371,7 +19606,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge matmul(String a) {
-		if (!CuBridgeJNI.matmul(a, "", genRandomName()))
+		if (!engine.matmul(a, "", genRandomName()))
 			System.err.println("[ERROR][MATMUL][Cannot Execute][Tensor " + a + ", -]");
 		return instance;
 	}
@@ -17399,7 +19634,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge matmul(String a, String b) {
-		if (!CuBridgeJNI.matmul(a, b, genRandomName()))
+		if (!engine.matmul(a, b, genRandomName()))
 			System.err.println("[ERROR][MATMUL][Cannot Execute][Tensor " + a + ", " + b + "]");
 		return instance;
 	}
@@ -17426,7 +19661,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge matmul(String a, String b, String out) {
-		if (!CuBridgeJNI.matmul(a, b, out))
+		if (!engine.matmul(a, b, out))
 			System.err.println("[ERROR][MATMUL][Cannot Execute][Tensor " + a + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -17555,6 +19790,29 @@ public class CuBridge {
 		return matmul(a, b, oName).get(oName);
 	}
 
+	/**
+	 * Binary Operation (Matrix Multiplication, Immediate)
+	 *
+	 * Same as {@link #matmulI(Tensor, Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a first input tensor
+	 * @param b second input tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor matmulI(Tensor a, Tensor b, Tensor into) {
+		String oName = genRandomName();
+		return matmul(a, b, oName).get(oName, into);
+	}
+
 	// 신경망 특화
 	/**
 	 * Loss Operation (Mean Squared Error)
@@ -17576,7 +19834,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mse() {
-		if (!CuBridgeJNI.mse("", "", genRandomName()))
+		if (!engine.mse("", "", genRandomName()))
 			System.err.println("[ERROR][MSE][Cannot Execute][Tensor -, -]");
 		return instance;
 	}
@@ -17657,7 +19915,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge mse(String a, String b, String out) {
-		if (!CuBridgeJNI.mse(a, b, out))
+		if (!engine.mse(a, b, out))
 			System.err.println("[ERROR][MSE][Cannot Execute][Tensor " + a + ", " + b + ", out=" + out + "]");
 		return instance;
 	}
@@ -17682,7 +19940,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge cee() {
-		if (!CuBridgeJNI.cee("", "", genRandomName()))
+		if (!engine.cee("", "", genRandomName()))
 			System.err.println("[ERROR][CEE][Cannot Execute][Tensor -, -]");
 		return instance;
 	}
@@ -17763,7 +20021,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge cee(String a, String b, String out) {
-		if (!CuBridgeJNI.cee(a, b, out))
+		if (!engine.cee(a, b, out))
 			System.err.println("[ERROR][CEE][Cannot Execute][Tensor " + a + ", " + b + ", out=" + out + "]");
 		return instance;
 	}
@@ -17789,7 +20047,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge affine() {
-		if (!CuBridgeJNI.affine("", "", "", genRandomName()))
+		if (!engine.affine("", "", "", genRandomName()))
 			System.err.println("[ERROR][AFFINE][Cannot Execute][Tensor -, -, -, -]");
 		return instance;
 	}
@@ -17870,7 +20128,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge affine(String x, String w, String b, String out) {
-		if (!CuBridgeJNI.affine(x, w, b, out))
+		if (!engine.affine(x, w, b, out))
 			System.err.println("[ERROR][AFFINE][Cannot Execute][Tensor " + x + ", " + w + ", " + b + ", " + out + "]");
 		return instance;
 	}
@@ -17929,7 +20187,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge softmax() {
-		if (!CuBridgeJNI.softmax("", genRandomName(), 1))
+		if (!engine.softmax("", genRandomName(), 1))
 			System.err.println("[ERROR][SOFTMAX][Cannot Execute][Tensor -, -, axis=1]");
 		return instance;
 	}
@@ -17954,7 +20212,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge softmax(String a) {
-		if (!CuBridgeJNI.softmax(a, genRandomName(), 1))
+		if (!engine.softmax(a, genRandomName(), 1))
 			System.err.println("[ERROR][SOFTMAX][Cannot Execute][Tensor " + a + ", -, axis=1]");
 		return instance;
 	}
@@ -17979,7 +20237,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge softmax(String a, String out) {
-		if (!CuBridgeJNI.softmax(a, out, 1))
+		if (!engine.softmax(a, out, 1))
 			System.err.println("[ERROR][SOFTMAX][Cannot Execute][Tensor " + a + ", " + out + ", axis=1]");
 		return instance;
 	}
@@ -18003,7 +20261,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge softmax(int axis) {
-		if (!CuBridgeJNI.softmax("", genRandomName(), axis))
+		if (!engine.softmax("", genRandomName(), axis))
 			System.err.println("[ERROR][SOFTMAX][Cannot Execute][Tensor -, -, axis=" + axis + "]");
 		return instance;
 	}
@@ -18028,7 +20286,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge softmax(String a, int axis) {
-		if (!CuBridgeJNI.softmax(a, genRandomName(), axis))
+		if (!engine.softmax(a, genRandomName(), axis))
 			System.err.println("[ERROR][SOFTMAX][Cannot Execute][Tensor " + a + ", -, axis=" + axis + "]");
 		return instance;
 	}
@@ -18054,7 +20312,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge softmax(String a, String out, int axis) {
-		if (!CuBridgeJNI.softmax(a, out, axis))
+		if (!engine.softmax(a, out, axis))
 			System.err.println("[ERROR][SOFTMAX][Cannot Execute][Tensor " + a + ", " + out + ", axis=" + axis + "]");
 		return instance;
 	}
@@ -18231,6 +20489,28 @@ public class CuBridge {
 		return softmax(a, oName).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Softmax Immediate)
+	 *
+	 * Same as {@link #softmaxI(Tensor)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input tensor
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor softmaxI(Tensor a, Tensor into) {
+		String oName = genRandomName();
+		return softmax(a, oName).get(oName, into);
+	}
+
 	/**
 	 * Axis Operation (Softmax Immediate)
 	 *
@@ -18305,6 +20585,29 @@ public class CuBridge {
 		return softmax(a, oName, axis).get(oName);
 	}
 
+	/**
+	 * Axis Operation (Softmax Immediate)
+	 *
+	 * Same as {@link #softmaxI(Tensor, int)}, but writes the result into an existing tensor.
+	 * <p>
+	 * This version:
+	 * <ul>
+	 * <li>The result is written through {@link #get(String, Tensor)}; no result array is allocated.</li>
+	 * <li>{@code into} must hold as many elements as the result and takes its shape.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param a the input tensor
+	 * @param axis the axis along which to apply softmax
+	 * @param into the tensor receiving the result
+	 * @return {@code into}, or {@code null} if the result does not fit
+	 * @since v1.5
+	 */
+	public Tensor softmaxI(Tensor a, int axis, Tensor into) {
+		String oName = genRandomName();
+		return softmax(a, oName, axis).get(oName, into);
+	}
+
 	/**
 	 * Transformation Operation (im2col 1D)
 	 *
@@ -18329,7 +20632,7 @@ public class CuBridge {
 	 */
 
 	public CuBridge im2col1D(String input, String kernel, String out) {
-		if(!CuBridgeJNI.im2col1D(input, kernel, out, 0, 1))
+		if(!engine.im2col1D(input, kernel, out, 0, 1))
 			System.err.println("[ERROR][IM2COL][Cannot Execute][Tensor " + input + ", " + out + "] Please verify tensor existence and parameters.");
 		
 		return instance;
@@ -18359,7 +20662,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge im2col1D(String input, String kernel, String out, int pad) {
-		if(!CuBridgeJNI.im2col1D(input, kernel, out, pad, 1))
+		if(!engine.im2col1D(input, kernel, out, pad, 1))
 			System.err.println("[ERROR][IM2COL][Cannot Execute][Tensor " + input + ", " + out + "] Please verify tensor existence and parameters.");
 		
 		return instance;
@@ -18390,7 +20693,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge im2col1D(String input, String kernel, String out, int pad, int stride) {
-		if(!CuBridgeJNI.im2col1D(input, kernel, out, pad, stride))
+		if(!engine.im2col1D(input, kernel, out, pad, stride))
 			System.err.println("[ERROR][IM2COL][Cannot Execute][Tensor " + input + ", " + out + "] Please verify tensor existence and parameters.");
 		
 		return instance;
@@ -18503,7 +20806,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge col2im1D(String input, String kernel, String out) {
-		if (!CuBridgeJNI.col2im1D(input, kernel, out, -1, 0, 1))
+		if (!engine.col2im1D(input, kernel, out, -1, 0, 1))
 			System.err.println("[ERROR][COL2IM][Cannot Execute][Tensor " + input + ", " + out + "] Please verify tensor existence and parameters.");
 		return instance;
 	}
@@ -18531,7 +20834,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge col2im1D(String input, String kernel, String out, int pad) {
-		if (!CuBridgeJNI.col2im1D(input, kernel, out, -1, pad, 1))
+		if (!engine.col2im1D(input, kernel, out, -1, pad, 1))
 			System.err.println("[ERROR][COL2IM][Cannot Execute][Tensor " + input + ", " + out + "] Please verify tensor existence and parameters.");
 		return instance;
 	}
@@ -18560,7 +20863,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge col2im1D(String input, String kernel, String out, int pad, int stride) {
-		if (!CuBridgeJNI.col2im1D(input, kernel, out, -1, pad, stride))
+		if (!engine.col2im1D(input, kernel, out, -1, pad, stride))
 			System.err.println("[ERROR][COL2IM][Cannot Execute][Tensor " + input + ", " + out + "] Please verify tensor existence and parameters.");
 		return instance;
 	}
@@ -18590,7 +20893,7 @@ public class CuBridge {
 	 * @return CuBridge instance for chaining
 	 */
 	public CuBridge col2im1D(String input, String kernel, String out, int oL, int pad, int stride) {
-		if (!CuBridgeJNI.col2im1D(input, kernel, out, oL, pad, stride))
+		if (!engine.col2im1D(input, kernel, out, oL, pad, stride))
 			System.err.println("[ERROR][COL2IM][Cannot Execute][Tensor " + input + ", " + out + "] Please verify tensor existence and parameters.");
 		return instance;
 	}
@@ -18705,7 +21008,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge im2col2D(String input, String kernel, String out) {
-		if(!CuBridgeJNI.im2col2D(input, kernel, out, 0, 0, 1, 1))
+		if(!engine.im2col2D(input, kernel, out, 0, 0, 1, 1))
 			System.err.println("[ERROR][IM2COL2D][Cannot Execute][Tensor " + input + "] Please verify tensor existence and parameters.");
 
 		return instance;
@@ -18734,7 +21037,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge im2col2D(String input, String kernel, String out, int pad) {
-		if(!CuBridgeJNI.im2col2D(input, kernel, out, pad, pad, 1, 1))
+		if(!engine.im2col2D(input, kernel, out, pad, pad, 1, 1))
 			System.err.println("[ERROR][IM2COL2D][Cannot Execute][Tensor " + input + "] Please verify tensor existence and parameters.");
 
 		return instance;
@@ -18763,7 +21066,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge im2col2D(String input, String kernel, String out, int pad, int stride) {
-		if(!CuBridgeJNI.im2col2D(input, kernel, out, pad, pad, stride, stride))
+		if(!engine.im2col2D(input, kernel, out, pad, pad, stride, stride))
 			System.err.println("[ERROR][IM2COL2D][Cannot Execute][Tensor " + input + "] Please verify tensor existence and parameters.");
 
 		return instance;
@@ -18794,7 +21097,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge im2col2D(String input, String kernel, String out, int padH, int padW, int strideH, int strideW) {
-		if(!CuBridgeJNI.im2col2D(input, kernel, out, padH, padW, strideH, strideW))
+		if(!engine.im2col2D(input, kernel, out, padH, padW, strideH, strideW))
 			System.err.println("[ERROR][IM2COL2D][Cannot Execute][Tensor " + input + "] Please verify tensor existence and parameters.");
 
 		return instance;
@@ -18913,7 +21216,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge col2im2D(String input, String kernel, String out) {
-		if(!CuBridgeJNI.col2im2D(input, kernel, out, -1, -1, 0, 0, 1, 1))
+		if(!engine.col2im2D(input, kernel, out, -1, -1, 0, 0, 1, 1))
 			System.err.println("[ERROR][COL2IM2D][Cannot Execute][Tensor " + input + "] Please verify tensor existence and parameters.");
 
 		return instance;
@@ -18941,7 +21244,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge col2im2D(String input, String kernel, String out, int pad) {
-		if(!CuBridgeJNI.col2im2D(input, kernel, out, -1, -1, pad, pad, 1, 1))
+		if(!engine.col2im2D(input, kernel, out, -1, -1, pad, pad, 1, 1))
 			System.err.println("[ERROR][COL2IM2D][Cannot Execute][Tensor " + input + "] Please verify tensor existence and parameters.");
 
 		return instance;
@@ -18970,7 +21273,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge col2im2D(String input, String kernel, String out, int pad, int stride) {
-		if(!CuBridgeJNI.col2im2D(input, kernel, out, -1, -1, pad, pad, stride, stride))
+		if(!engine.col2im2D(input, kernel, out, -1, -1, pad, pad, stride, stride))
 			System.err.println("[ERROR][COL2IM2D][Cannot Execute][Tensor " + input + "] Please verify tensor existence and parameters.");
 
 		return instance;
@@ -19004,7 +21307,7 @@ public class CuBridge {
 	 * @since v1.1
 	 */
 	public CuBridge col2im2D(String input, String kernel, String out, int oH, int oW, int padH, int padW, int strideH, int strideW) {
-		if(!CuBridgeJNI.col2im2D(input, kernel, out, oH, oW, padH, padW, strideH, strideW))
+		if(!engine.col2im2D(input, kernel, out, oH, oW, padH, padW, strideH, strideW))
 			System.err.println("[ERROR][COL2IM2D][Cannot Execute][Tensor " + input + "] Please verify tensor existence and parameters.");
 
 		return instance;
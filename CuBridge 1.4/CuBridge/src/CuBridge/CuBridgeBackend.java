@@ -0,0 +1,356 @@
+package CuBridge;
+
+import java.nio.FloatBuffer;
+
+/**
+ * CuBridgeBackend: The compute engine behind the {@link CuBridge} facade.
+ *
+ * <p>
+ * Every operation mirrors one native entry point of {@code CuBridgeJNI} with the
+ * same queue/buffer semantics:
+ * </p>
+ * <ul>
+ *   <li>An empty name ({@code ""}) selects the most recent variable tensor in the queue.</li>
+ *   <li>Each use of an operand decrements its usage count; it leaves the queue at zero.</li>
+ *   <li>Constants (name starting with {@code '_'}, usage &lt; 0) are never consumed or modified.</li>
+ *   <li>Operations return {@code false} instead of throwing when they cannot execute.</li>
+ * </ul>
+ *
+ * <h2>Registering an engine</h2>
+ * <p>
+ * The JNI (CUDA/C++) engine and the pure-Java CPU engine are always registered.
+ * Additional engines are discovered with {@link java.util.ServiceLoader}: ship a
+ * public class with a public no-argument constructor implementing this interface,
+ * and list it in {@code META-INF/services/CuBridge.CuBridgeBackend}.
+ * </p>
+ * <ul>
+ *   <li>{@link CuBridge#selectBackend(String)} or {@code -Dcubridge.backend=<name>} selects one by name.</li>
+ *   <li>{@link CuBridge#selectCPU()}, {@link CuBridge#selectGPU()} and {@link CuBridge#envReset()}
+ *       keep the current engine when it can run the mode, then fall back to the one selected by
+ *       name; only without one do they pick the available engine with the highest
+ *       {@link #priority()} (for GPU modes, among engines where {@link #supportsGPU()} is true).</li>
+ * </ul>
+ *
+ * @since v1.5
+ */
+public interface CuBridgeBackend {
+
+	/**
+	 * Returns the unique name of this engine (e.g. {@code "jni"}, {@code "cpu"}).
+	 *
+	 * @return engine name used by {@link CuBridge#selectBackend(String)}
+	 */
+	String name();
+
+	/**
+	 * Reports whether the engine can run in this process (libraries loaded, hardware present, ...).
+	 *
+	 * @return {@code true} if the engine is usable
+	 */
+	default boolean isAvailable() {
+		return true;
+	}
+
+	/**
+	 * Reports whether the engine can execute operations on a GPU.
+	 *
+	 * @return {@code true} if {@code setCAL(true)} selects GPU computation
+	 */
+	default boolean supportsGPU() {
+		return false;
+	}
+
+	/**
+	 * Preference among available engines; the highest value wins.
+	 *
+	 * @return engine priority
+	 */
+	default int priority() {
+		return 0;
+	}
+
+	void refresh();
+	void setAuto();
+	void setCAL(boolean flag);
+	boolean getCAL();
+	boolean getENV();
+	String getSysInfo();
+
+	void clear();
+	void bufferClean();
+
+	String visualQueueAll();
+	String visualQueue();
+	String visualBufferAll();
+	String visualBuffer();
+
+	/**
+	 * Stores the first {@code dataLen} values of {@code data}. The array is the
+	 * caller's own storage, so an engine that keeps it must copy it.
+	 */
+	boolean put(float[] data, int[] shape, int dataLen, int shapeLen, int usageNum, String name, boolean isBroad);
+	boolean pop(String name);
+
+	/**
+	 * Returns the data of the popped tensor {@code name} in an array the caller
+	 * then owns; the facade adopts it without another copy.
+	 */
+	float[] getData(String name);
+	int[] getShape(String name);
+
+	/**
+	 * Stores {@code dataLen} values read from {@code data}, the storage of an
+	 * off-heap tensor. An engine that can address the buffer's memory directly
+	 * takes it as is; the default marshals it through a {@code float[]} for
+	 * engines whose entry points only accept arrays.
+	 *
+	 * @return {@code false} under the same conditions as the array version
+	 * @since v1.5
+	 */
+	default boolean put(FloatBuffer data, int[] shape, int dataLen, int shapeLen, int usageNum, String name,
+			boolean isBroad) {
+		if (data == null || dataLen > data.remaining())
+			return false;
+		float[] d = new float[dataLen];
+		data.get(data.position(), d);
+		return put(d, shape, dataLen, shapeLen, usageNum, name, isBroad);
+	}
+
+	/**
+	 * Stores a view: a tensor that does not start at the beginning of its storage
+	 * or is not laid out row-major ({@link Tensor#slice}, {@link Tensor#select}),
+	 * or an FP16/BF16/FLOAT64 tensor. The default gathers it into a new float
+	 * array, which the array version may then copy again; an engine that keeps
+	 * its own copy gathers straight into it, and may keep half or double
+	 * precision as such.
+	 *
+	 * @return {@code false} under the same conditions as the array version
+	 * @since v1.5
+	 */
+	default boolean put(Tensor view, int usageNum, String name, boolean isBroad) {
+		float[] d = view.toArray();
+		return put(d, view.getShape(), d.length, view.getAxis(), usageNum, name, isBroad);
+	}
+
+	/**
+	 * Stores a sparse matrix. An engine with sparse kernels keeps it sparse; the
+	 * default stores the dense form.
+	 *
+	 * @return {@code false} under the same conditions as the array version
+	 * @since v1.5
+	 */
+	default boolean put(SparseTensor data, int usageNum, String name, boolean isBroad) {
+		return data != null && put(data.toDense(), usageNum, name, isBroad);
+	}
+
+	/**
+	 * Writes the data of the popped tensor {@code name} into {@code into},
+	 * starting at its position.
+	 *
+	 * @return {@code false} if no such tensor was popped or it does not fit
+	 * @since v1.5
+	 */
+	default boolean getData(String name, FloatBuffer into) {
+		float[] d = getData(name);
+		if (d == null || d.length > into.remaining())
+			return false;
+		into.put(into.position(), d);
+		return true;
+	}
+
+	/**
+	 * Returns the storage type of the popped tensor {@code name}. An engine that
+	 * keeps FP16/BF16 or FLOAT64 tensors as such reports it here; the default
+	 * stores every tensor as float32 (a half or double {@link Tensor} is
+	 * converted by {@link #put(Tensor, int, String, boolean)}).
+	 *
+	 * @return the storage type, {@link DType#FLOAT32} by default
+	 * @since v1.5
+	 */
+	default DType getDType(String name) {
+		return DType.FLOAT32;
+	}
+
+	/**
+	 * Returns the bit patterns of the popped half-precision tensor {@code name}
+	 * in an array the caller then owns.
+	 *
+	 * @return the values, or {@code null} if {@link #getDType(String)} is not a
+	 *         half type
+	 * @since v1.5
+	 */
+	default short[] getHalf(String name) {
+		return null;
+	}
+
+	/**
+	 * Returns the values of the popped FLOAT64 tensor {@code name} in an array
+	 * the caller then owns.
+	 *
+	 * @return the values, or {@code null} if {@link #getDType(String)} is not
+	 *         {@link DType#FLOAT64}
+	 * @since v1.5
+	 */
+	default double[] getDouble(String name) {
+		return null;
+	}
+
+	/**
+	 * Returns the popped tensor {@code name} if the engine holds it sparse.
+	 *
+	 * @return the sparse matrix, or {@code null} if it is stored dense
+	 * @since v1.5
+	 */
+	default SparseTensor getSparse(String name) {
+		return null;
+	}
+
+	/**
+	 * Returns the packed values of the popped BOOL tensor {@code name} in an
+	 * array the caller then owns. An engine that keeps comparison results as
+	 * bits reports {@link DType#BOOL} from {@link #getDType(String)}; the
+	 * default returns them as float 0/1.
+	 *
+	 * @return {@code ceil(size / 64)} words, or {@code null} if
+	 *         {@link #getDType(String)} is not {@link DType#BOOL}
+	 * @since v1.5
+	 */
+	default long[] getBits(String name) {
+		return null;
+	}
+	boolean duple(String name, int usage);
+	boolean broad(String name, boolean broad);
+	boolean reshape(String name, int[] shape, int shapeLen);
+
+	// 단항
+	boolean abs(String a, String out);
+	boolean neg(String a, String out);
+	boolean square(String a, String out);
+	boolean sqrt(String a, String out);
+	boolean log(String a, String out);
+	boolean log2(String a, String out);
+	boolean ln(String a, String out);
+	boolean reciprocal(String a, String out);
+	boolean sin(String name, String out);
+	boolean cos(String name, String out);
+	boolean tan(String name, String out);
+	boolean step(String name, String out);
+	boolean sigmoid(String name, String out);
+	boolean tanh(String name, String out);
+	boolean ReLu(String name, String out);
+	boolean leakReLu(String name, String out);
+	boolean softplus(String name, String out);
+	boolean exp(String name, String out);
+	boolean round(String name, String out);
+	boolean ceil(String name, String out);
+	boolean floor(String name, String out);
+	boolean not(String a, String out);
+	boolean deg2rad(String name, String out);
+	boolean rad2deg(String name, String out);
+
+	// 이항
+	boolean add(String a, String b, String out);
+	boolean sub(String a, String b, String out);
+	boolean mul(String a, String b, String out);
+	boolean div(String a, String b, String out);
+	boolean pow(String a, String b, String out);
+	boolean mod(String a, String b, String out);
+	boolean gt(String a, String b, String out);
+	boolean lt(String a, String b, String out);
+	boolean ge(String a, String b, String out);
+	boolean le(String a, String b, String out);
+	boolean eq(String a, String b, String out);
+	boolean ne(String a, String b, String out);
+	boolean and(String a, String b, String out);
+	boolean or(String a, String b, String out);
+
+	/**
+	 * Element-wise choice {@code mask ? a : b}, the mask read as non-zero. The
+	 * mask gives the shape; {@code a} and {@code b} have the same shape or are
+	 * single values. Engines without a native select cannot execute it.
+	 *
+	 * @return {@code false} if the engine cannot execute it
+	 * @since v1.5
+	 */
+	default boolean select(String mask, String a, String b, String out) {
+		return false;
+	}
+
+	//축 통합
+	boolean sum(String a, String out, int axis);
+	boolean mean(String a, String out, int axis);
+	boolean var(String a, String out, int axis);
+	boolean std(String a, String out, int axis);
+	boolean max(String a, String out, int axis);
+	boolean min(String a, String out, int axis);
+
+	//축 독립
+	boolean accumulate(String a, String out, int axis);
+
+	/**
+	 * Prefix sum along {@code axis} with optional exclusive and reverse order.
+	 * Engines without these variants only run the plain inclusive scan.
+	 *
+	 * @param exclusive leave each element out of its own sum
+	 * @param reverse   scan from the last index down
+	 * @return {@code false} if the engine cannot execute the variant
+	 * @since v1.5
+	 */
+	default boolean accumulate(String a, String out, int axis, boolean exclusive, boolean reverse) {
+		return !exclusive && !reverse && accumulate(a, out, axis);
+	}
+
+	boolean compress(String a, String out, int axis);
+	boolean expand(String a, String out, int axis, int expandN);
+	boolean argMax(String a, String out, int axis);
+	boolean argMin(String a, String out, int axis);
+	boolean axisMax(String a, String out, int axis);
+	boolean axisMin(String a, String out, int axis);
+	boolean transpose(String name, String out, int axis1, int axis2);
+
+	/**
+	 * Reorders every axis at once: output axis {@code d} is input axis
+	 * {@code order[d]}. Engines without a native permute run it as a chain of
+	 * two-axis transposes through {@code out}.
+	 *
+	 * @param order a permutation of {@code 0 .. rank - 1}
+	 * @return {@code false} if the engine cannot execute the permutation
+	 * @since v1.5
+	 */
+	default boolean permute(String name, String out, int... order) {
+		int[] cur = new int[order.length];
+		for (int d = 0; d < cur.length; d++)
+			cur[d] = d;
+
+		String src = name;
+		boolean moved = false;
+		for (int d = 0; d < order.length; d++) {
+			if (cur[d] == order[d])
+				continue;
+			int e = d + 1;
+			while (e < cur.length && cur[e] != order[d])
+				e++;
+			if (e == cur.length || !transpose(src, out, d, e))
+				return false;
+			cur[e] = cur[d];
+			cur[d] = order[d];
+			src = out;
+			moved = true;
+		}
+		return moved || transpose(name, out, 0, 0);
+	}
+
+	//내적
+	boolean dot(String a, String b, String out);
+	boolean matmul(String a, String b, String out);
+
+	//신경망
+	boolean affine(String x, String w, String b, String out);
+	boolean softmax(String name, String out, int axis);
+	boolean mse(String a, String b, String out);
+	boolean cee(String a, String b, String out);
+	boolean im2col1D(String input, String kernel, String out, int pad, int stride);
+	boolean col2im1D(String input, String kernel, String out, int oL, int pad, int stride);
+	boolean im2col2D(String input, String kernel, String out, int padH, int padW, int strideH, int strideW);
+	boolean col2im2D(String input, String kernel, String out, int oH, int oW, int padH, int padW, int strideH, int strideW);
+}
@@ -0,0 +1,120 @@
+package CuBridge;
+
+import java.util.*;
+
+/**
+ * CuBridgeBackends: Registry of the compute engines available to {@link CuBridge}.
+ *
+ * <p>
+ * The built-in engines ({@link CuBridgeNative}, {@link CuBridgeCPU}) are always
+ * present; further {@link CuBridgeBackend} implementations are discovered once
+ * through {@link ServiceLoader}. A provider that fails to load is reported and
+ * skipped, and a later engine with an already registered name is ignored.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CuBridgeBackends {
+
+	/** System property naming the engine to start with. */
+	static final String PROPERTY = "cubridge.backend";
+
+	private static final List<CuBridgeBackend> registered = load();
+
+	private CuBridgeBackends() {
+	}
+
+	private static List<CuBridgeBackend> load() {
+		LinkedHashMap<String, CuBridgeBackend> map = new LinkedHashMap<>();
+		map.put("jni", new CuBridgeNative());
+		map.put("cpu", new CuBridgeCPU());
+
+		Iterator<CuBridgeBackend> it = ServiceLoader.load(CuBridgeBackend.class, CuBridgeBackend.class.getClassLoader())
+				.iterator();
+		while (true) {
+			try {
+				if (!it.hasNext())
+					break;
+				CuBridgeBackend b = it.next();
+				if (b.name() != null && !map.containsKey(b.name()))
+					map.put(b.name(), b);
+			} catch (ServiceConfigurationError e) {
+				System.err.println("[CuBridge] Backend provider skipped: " + e.getMessage());
+			}
+		}
+		return List.copyOf(map.values());
+	}
+
+	/**
+	 * Returns every registered engine, available or not.
+	 *
+	 * @return registered engines in registration order
+	 */
+	static List<CuBridgeBackend> all() {
+		return registered;
+	}
+
+	/**
+	 * Finds an available engine by name.
+	 *
+	 * @param name engine name
+	 * @return the engine, or {@code null} if unknown or unavailable
+	 */
+	static CuBridgeBackend find(String name) {
+		for (CuBridgeBackend b : registered)
+			if (b.name().equals(name))
+				return b.isAvailable() ? b : null;
+		return null;
+	}
+
+	/**
+	 * Returns the available engine with the highest priority.
+	 *
+	 * @param gpu whether only GPU-capable engines are considered
+	 * @return the best engine, or {@code null} if none qualifies
+	 */
+	static CuBridgeBackend best(boolean gpu) {
+		CuBridgeBackend best = null;
+		for (CuBridgeBackend b : registered)
+			if (b.isAvailable() && (!gpu || b.supportsGPU()) && (best == null || b.priority() > best.priority()))
+				best = b;
+		return best;
+	}
+
+	/**
+	 * Chooses the engine to start with: the one named by the
+	 * {@value #PROPERTY} system property if available, otherwise the auto choice.
+	 *
+	 * @return the initial engine (never {@code null})
+	 */
+	static CuBridgeBackend initial() {
+		CuBridgeBackend b = requested();
+		if (b != null)
+			return b;
+		String name = System.getProperty(PROPERTY);
+		if (name != null && !name.isEmpty())
+			System.err.println("[CuBridge] Backend '" + name + "' is not available. Falling back to auto detection.");
+		return auto();
+	}
+
+	/**
+	 * Returns the engine named by the {@value #PROPERTY} system property.
+	 *
+	 * @return the engine, or {@code null} if the property is unset or names no
+	 *         available engine
+	 */
+	static CuBridgeBackend requested() {
+		String name = System.getProperty(PROPERTY);
+		return name == null || name.isEmpty() ? null : find(name);
+	}
+
+	/**
+	 * Auto detection: a GPU engine if any is available, otherwise the best CPU engine.
+	 *
+	 * @return the chosen engine (never {@code null})
+	 */
+	static CuBridgeBackend auto() {
+		CuBridgeBackend b = best(true);
+		return b != null ? b : best(false);
+	}
+}
@@ -0,0 +1,1602 @@
+package CuBridge;
+
+import java.lang.management.ManagementFactory;
+import java.nio.FloatBuffer;
+import java.util.*;
+
+/**
+ * CuBridgeCPU: Pure-Java, multithreaded implementation of {@link CuBridgeBackend}.
+ *
+ * <p>
+ * Used whenever the CUDA/C++ driver cannot be loaded (for example on Linux), so
+ * that every {@link CuBridge} operation keeps working without any native library.
+ * It reproduces the queue/buffer structure of the native engine:
+ * </p>
+ * <ul>
+ *   <li><b>Queue:</b> named tensors with a usage count and a broadcast flag.
+ *       Operations read their operands from here and push their result back.</li>
+ *   <li><b>Buffer:</b> tensors taken out by {@code pop}, waiting for
+ *       {@code getData}/{@code getShape} until {@code bufferClean}.</li>
+ * </ul>
+ * <p>
+ * Kernels live in {@link CpuUnary}, {@link CpuBinary}, {@link CpuAxis},
+ * {@link CpuGemm} and {@link CpuNN}, and are spread over all cores through
+ * {@link CpuParallel}. All calls are serialized on the engine itself, matching
+ * the single queue of the native driver.
+ * </p>
+ * <p>
+ * FP16/BF16 tensors stay 16-bit in the queue. Element-wise operations on them
+ * run tile by tile through {@link CpuHalf} and keep the type, and
+ * transpose/permute move the 16-bit values as they are; matrix products widen
+ * both operands once and accumulate in float. Every other operation reads them
+ * widened and produces float32.
+ * </p>
+ * <p>
+ * FLOAT64 tensors keep their doubles. Element-wise operations, reductions,
+ * accumulate, transpose/permute and the matrix products run in double
+ * ({@link CpuDouble}, {@link CpuDoubleGemm}) whenever an operand is FLOAT64,
+ * widening any float operand; the other operations read them rounded to float
+ * and produce float32. Float32 work is untouched.
+ * </p>
+ * <p>
+ * A {@link SparseTensor} is kept in CSR. Matrix products with a sparse factor
+ * run through {@link CpuSparse} (SpMM, SpMV or dense x sparse) into a dense
+ * result; {@code mul}, the unary operations that map 0 to 0 and 2D
+ * {@code transpose} return a sparse result; every other operation reads the
+ * dense form.
+ * </p>
+ * <p>
+ * Comparisons, {@code and}/{@code or}/{@code not} and {@code step} produce
+ * {@link DType#BOOL} masks packed 64 to a word ({@link CpuMask}); logical
+ * operations between masks run word by word. {@code mul} by a mask and
+ * {@code select} read the bits directly and transpose/permute move them as
+ * they are; every other operation reads a mask as 0/1 floats.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CuBridgeCPU implements CuBridgeBackend {
+
+	/**
+	 * A tensor stored in the queue or buffer.
+	 * <p>
+	 * When {@code trans} is set (v1.4 transpose flag), {@code shape} is the
+	 * logical shape and {@code data} is laid out with the last two axes swapped.
+	 * A half-precision entry keeps its values in {@code half} instead, a
+	 * FLOAT64 entry in {@code doubles}, a BOOL entry in {@code bits} and a
+	 * sparse entry in {@code sparse} (CSR, never transposed), with {@code data}
+	 * {@code null}.
+	 * </p>
+	 */
+	static final class Entry {
+		final String name;
+		float[] data;
+		short[] half;
+		double[] doubles;
+		long[] bits;
+		SparseTensor sparse;
+		DType dtype = DType.FLOAT32;
+		int[] shape;
+		int usage;
+		boolean broad;
+		boolean trans;
+		/** Set once {@code data} has been handed to the caller by {@code getData}. */
+		boolean handedOut;
+
+		Entry(String name, float[] data, int[] shape, int usage, boolean broad) {
+			this.name = name;
+			this.data = data;
+			this.shape = shape;
+			this.usage = usage;
+			this.broad = broad;
+		}
+
+		Entry(String name, short[] half, DType dtype, int[] shape, int usage, boolean broad) {
+			this(name, (float[]) null, shape, usage, broad);
+			this.half = half;
+			this.dtype = dtype;
+		}
+
+		Entry(String name, double[] doubles, int[] shape, int usage, boolean broad) {
+			this(name, (float[]) null, shape, usage, broad);
+			this.doubles = doubles;
+			this.dtype = DType.FLOAT64;
+		}
+
+		Entry(String name, long[] bits, int[] shape, int usage, boolean broad) {
+			this(name, (float[]) null, shape, usage, broad);
+			this.bits = bits;
+			this.dtype = DType.BOOL;
+		}
+
+		Entry(String name, SparseTensor sparse, int usage, boolean broad) {
+			this(name, (float[]) null, sparse.getShape(), usage, broad);
+			this.sparse = sparse;
+		}
+
+		boolean isConst() {
+			return usage < 0 && name.startsWith("_");
+		}
+
+		/** Number of logical elements; a sparse entry may exceed the int range. */
+		long size() {
+			if (sparse != null)
+				return (long) shape[0] * shape[1];
+			if (bits != null)
+				return CpuBinary.len(shape);
+			return half != null ? half.length : doubles != null ? doubles.length : data.length;
+		}
+	}
+
+	private final ArrayList<Entry> queue = new ArrayList<>();
+	private final HashMap<String, Entry> index = new HashMap<>();
+	private final ArrayList<Entry> buffer = new ArrayList<>();
+
+	private boolean auto = true;
+
+	// ===================== 환경 =====================
+
+	@Override
+	public String name() {
+		return "cpu";
+	}
+
+	@Override
+	public int priority() {
+		return 10;
+	}
+
+	@Override
+	public void refresh() {
+	}
+
+	@Override
+	public synchronized void setAuto() {
+		auto = true;
+	}
+
+	@Override
+	public synchronized void setCAL(boolean flag) {
+		// GPU 가 없으므로 연산 방식은 항상 CPU
+		auto = false;
+	}
+
+	@Override
+	public boolean getCAL() {
+		return false;
+	}
+
+	@Override
+	public synchronized boolean getENV() {
+		return auto;
+	}
+
+	@Override
+	public String getSysInfo() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("- OS: ").append(System.getProperty("os.name")).append(" ")
+				.append(System.getProperty("os.version")).append(" (").append(System.getProperty("os.arch"))
+				.append(")\n");
+
+		var os = ManagementFactory.getOperatingSystemMXBean();
+		if (os instanceof com.sun.management.OperatingSystemMXBean)
+			sb.append("- RAM: ")
+					.append(((com.sun.management.OperatingSystemMXBean) os).getTotalMemorySize() >> 20)
+					.append(" MB\n");
+
+		sb.append("- JVM 최대 힙: ").append(Runtime.getRuntime().maxMemory() >> 20).append(" MB\n");
+		sb.append("- CPU 코어: ").append(CpuParallel.threads()).append("\n");
+		sb.append("- SIMD: ").append(CpuSimd.ENABLED ? "Vector API 사용" : "스칼라 (--add-modules jdk.incubator.vector 로 활성화)")
+				.append("\n");
+		sb.append("- GPU: 사용 불가 (Pure-Java CPU 엔진)");
+		return sb.toString();
+	}
+
+	// ===================== 큐 / 버퍼 =====================
+
+	@Override
+	public synchronized void clear() {
+		for (Entry e : queue)
+			recycle(e);
+		queue.removeIf(e -> !e.isConst());
+		index.values().removeIf(e -> !e.isConst());
+	}
+
+	@Override
+	public synchronized void bufferClean() {
+		for (Entry e : buffer)
+			recycle(e);
+		buffer.clear();
+	}
+
+	/**
+	 * Gives the array of a variable tensor that is being dropped back to the
+	 * calling thread's {@link TensorPool}, unless it was handed to the caller.
+	 */
+	private static void recycle(Entry e) {
+		if (!e.isConst() && !e.handedOut)
+			TensorPool.give(e.data);
+	}
+
+	@Override
+	public synchronized String visualQueueAll() {
+		return visualQueue(true);
+	}
+
+	@Override
+	public synchronized String visualQueue() {
+		return visualQueue(false);
+	}
+
+	@Override
+	public synchronized String visualBufferAll() {
+		return visualBuffer(true);
+	}
+
+	@Override
+	public synchronized String visualBuffer() {
+		return visualBuffer(false);
+	}
+
+	private String visualQueue(boolean all) {
+		int consts = 0;
+		for (Entry e : queue)
+			if (e.isConst())
+				consts++;
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("Queue Size : ").append(queue.size()).append(" (Const : ").append(consts).append(", Var : ")
+				.append(queue.size() - consts).append(")\n");
+		appendEntries(sb, queue, all);
+		return sb.toString();
+	}
+
+	private String visualBuffer(boolean all) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("Buffer Size : ").append(buffer.size()).append("\n");
+		appendEntries(sb, buffer, all);
+		return sb.toString();
+	}
+
+	private static void appendEntries(StringBuilder sb, List<Entry> list, boolean all) {
+		int i = 0;
+		for (Entry e : list) {
+			i++;
+			if (!all && e.isConst())
+				continue;
+			sb.append(" [").append(i - 1).append("] ").append(e.name).append(" shape=")
+					.append(Arrays.toString(e.shape)).append(" usage=").append(e.usage).append(" broad=")
+					.append(e.broad ? "O" : "X").append(e.trans ? " (T)" : "")
+					.append(e.dtype != DType.FLOAT32 ? " " + e.dtype : "")
+					.append(e.sparse != null ? " CSR nnz=" + e.sparse.nnz() : "").append("\n");
+		}
+	}
+
+	@Override
+	public synchronized boolean put(float[] data, int[] shape, int dataLen, int shapeLen, int usageNum, String name,
+			boolean isBroad) {
+		if (data == null || shape == null || name == null || name.isEmpty() || usageNum == 0)
+			return false;
+		if (usageNum < 0 && !name.startsWith("_"))
+			return false;
+		if (index.containsKey(name) || dataLen > data.length || shapeLen > shape.length)
+			return false;
+
+		int[] s = Arrays.copyOf(shape, shapeLen);
+		if (CpuAxis.prod(s, 0, s.length) != dataLen)
+			return false;
+
+		// 호출자 배열을 그대로 받으므로 여기서 한 번만 복사해 소유
+		float[] own = TensorPool.take(dataLen);
+		System.arraycopy(data, 0, own, 0, dataLen);
+		push(new Entry(name, own, s, usageNum, isBroad));
+		return true;
+	}
+
+	@Override
+	public synchronized boolean put(FloatBuffer data, int[] shape, int dataLen, int shapeLen, int usageNum,
+			String name, boolean isBroad) {
+		if (data == null || shape == null || name == null || name.isEmpty() || usageNum == 0)
+			return false;
+		if (usageNum < 0 && !name.startsWith("_"))
+			return false;
+		if (index.containsKey(name) || dataLen > data.remaining() || shapeLen > shape.length)
+			return false;
+
+		int[] s = Arrays.copyOf(shape, shapeLen);
+		if (CpuAxis.prod(s, 0, s.length) != dataLen)
+			return false;
+
+		// 오프힙 저장소에서 풀 배열로 한 번에 복사 (중간 배열 없음)
+		float[] own = TensorPool.take(dataLen);
+		data.get(data.position(), own, 0, dataLen);
+		push(new Entry(name, own, s, usageNum, isBroad));
+		return true;
+	}
+
+	@Override
+	public synchronized boolean put(Tensor view, int usageNum, String name, boolean isBroad) {
+		if (view == null || name == null || name.isEmpty() || usageNum == 0)
+			return false;
+		if (usageNum < 0 && !name.startsWith("_"))
+			return false;
+		if (index.containsKey(name))
+			return false;
+
+		// 반정밀도는 16비트 그대로 보관 (호출자 배열이면 한 번 복사)
+		if (view.getDType().isHalf()) {
+			short[] bits = view.toHalfArray();
+			if (bits == view.halfArray())
+				bits = bits.clone();
+			push(new Entry(name, bits, view.getDType(), view.getShape(), usageNum, isBroad));
+			return true;
+		}
+
+		// 배정밀도는 double 그대로 보관 (toDoubleArray 가 이미 새 배열)
+		if (view.getDType() == DType.FLOAT64) {
+			push(new Entry(name, view.toDoubleArray(), view.getShape(), usageNum, isBroad));
+			return true;
+		}
+
+		// 마스크는 비트 그대로 보관 (호출자 배열이면 한 번 복사)
+		if (view.getDType() == DType.BOOL) {
+			long[] bits = view.toBitArray();
+			if (bits == view.bitArray())
+				bits = bits.clone();
+			push(new Entry(name, bits, view.getShape(), usageNum, isBroad));
+			return true;
+		}
+
+		// 뷰를 모은 배열이 곧 엔진 소유의 사본
+		push(new Entry(name, view.toArray(), view.getShape(), usageNum, isBroad));
+		return true;
+	}
+
+	@Override
+	public synchronized boolean put(SparseTensor data, int usageNum, String name, boolean isBroad) {
+		if (data == null || name == null || name.isEmpty() || usageNum == 0)
+			return false;
+		if (usageNum < 0 && !name.startsWith("_"))
+			return false;
+		if (index.containsKey(name))
+			return false;
+
+		// 불변이므로 CSR 이면 그대로 공유, COO 는 한 번 변환
+		push(new Entry(name, data.toCSR(), usageNum, isBroad));
+		return true;
+	}
+
+	@Override
+	public synchronized boolean pop(String name) {
+		Entry e = find(name);
+		if (e == null)
+			return false;
+
+		if (e.isConst()) {
+			Entry copy = new Entry(e.name, e.data, e.shape, e.usage, e.broad);
+			copy.half = e.half;
+			copy.doubles = e.doubles;
+			copy.bits = e.bits;
+			copy.sparse = e.sparse;
+			copy.dtype = e.dtype;
+			buffer.add(copy);
+		} else {
+			remove(e);
+			buffer.add(e);
+		}
+		return true;
+	}
+
+	@Override
+	public synchronized float[] getData(String name) {
+		Entry e = findBuffer(name);
+		if (e == null)
+			return null;
+		float[] d = dense(e);
+		if (d != e.data)
+			return d;
+
+		// 꺼낸 변수 텐서의 배열은 더 쓰이지 않으므로 한 번은 복사 없이 넘긴다
+		if (e.isConst() || e.handedOut)
+			return d.clone();
+		e.handedOut = true;
+		return d;
+	}
+
+	@Override
+	public synchronized boolean getData(String name, FloatBuffer into) {
+		Entry e = findBuffer(name);
+		if (e == null || e.size() > into.remaining())
+			return false;
+		// 결과 배열을 복제하지 않고 호출자 버퍼로 바로 기록
+		into.put(into.position(), dense(e));
+		return true;
+	}
+
+	@Override
+	public synchronized DType getDType(String name) {
+		Entry e = findBuffer(name);
+		return e == null ? DType.FLOAT32 : e.dtype;
+	}
+
+	@Override
+	public synchronized double[] getDouble(String name) {
+		Entry e = findBuffer(name);
+		if (e == null || e.doubles == null)
+			return null;
+		double[] d = doubles(e);
+		if (d != e.doubles)
+			return d;
+		if (e.isConst() || e.handedOut)
+			return d.clone();
+		e.handedOut = true;
+		return d;
+	}
+
+	@Override
+	public synchronized SparseTensor getSparse(String name) {
+		Entry e = findBuffer(name);
+		return e == null ? null : e.sparse;
+	}
+
+	@Override
+	public synchronized long[] getBits(String name) {
+		Entry e = findBuffer(name);
+		if (e == null || e.bits == null)
+			return null;
+		if (e.trans)
+			return maskBits(e);
+		if (e.isConst() || e.handedOut)
+			return e.bits.clone();
+		e.handedOut = true;
+		return e.bits;
+	}
+
+	@Override
+	public synchronized short[] getHalf(String name) {
+		Entry e = findBuffer(name);
+		if (e == null || e.half == null)
+			return null;
+		if (e.trans) {
+			int r = e.shape.length;
+			return CpuHalf.narrow(CpuAxis.transpose(CpuHalf.widen(e.half, e.dtype), physicalShape(e), r - 2, r - 1),
+					e.dtype);
+		}
+		if (e.isConst() || e.handedOut)
+			return e.half.clone();
+		e.handedOut = true;
+		return e.half;
+	}
+
+	@Override
+	public synchronized int[] getShape(String name) {
+		Entry e = findBuffer(name);
+		return e == null ? null : e.shape.clone();
+	}
+
+	@Override
+	public synchronized boolean duple(String name, int usage) {
+		Entry e = find(name);
+		if (e == null || e.isConst() || usage < 1)
+			return false;
+		e.usage += usage;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean broad(String name, boolean broad) {
+		Entry e = find(name);
+		if (e == null || e.isConst())
+			return false;
+		e.broad = broad;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean reshape(String name, int[] shape, int shapeLen) {
+		Entry e = find(name);
+		if (e == null || e.isConst() || shape == null || shapeLen < 1 || shapeLen > shape.length)
+			return false;
+
+		int[] s = Arrays.copyOf(shape, shapeLen);
+		// 첫 축이 음수이면 전치 플래그 (dot/matmul 전용)
+		boolean trans = s[0] < 0 && s.length >= 2;
+		s[0] = Math.abs(s[0]);
+
+		for (int d : s)
+			if (d <= 0)
+				return false;
+		if (CpuAxis.prod(s, 0, s.length) != e.size())
+			return false;
+
+		if (e.sparse != null) {
+			if (Arrays.equals(s, e.shape) && !trans)
+				return true;
+			// 전치 플래그는 CSR 전치로 바로 반영하고, 그 밖의 모양은 조밀하게 풀어 적용
+			if (trans && s.length == 2 && s[0] == e.shape[1] && s[1] == e.shape[0]) {
+				e.sparse = CpuSparse.transpose(e.sparse);
+				e.shape = s;
+				return true;
+			}
+			e.data = physical(e);
+			e.sparse = null;
+		}
+
+		e.shape = s;
+		e.trans = trans;
+		return true;
+	}
+
+	private void push(Entry e) {
+		queue.add(e);
+		index.put(e.name, e);
+	}
+
+	private void remove(Entry e) {
+		queue.remove(e);
+		index.remove(e.name);
+	}
+
+	/**
+	 * Finds a queue entry by name; {@code ""} selects the most recent variable
+	 * tensor.
+	 */
+	private Entry find(String name) {
+		if (name != null && !name.isEmpty())
+			return index.get(name);
+
+		for (int i = queue.size() - 1; i >= 0; i--)
+			if (!queue.get(i).isConst())
+				return queue.get(i);
+		return null;
+	}
+
+	private Entry findBuffer(String name) {
+		for (int i = buffer.size() - 1; i >= 0; i--)
+			if (name == null || name.isEmpty() || buffer.get(i).name.equals(name))
+				return buffer.get(i);
+		return null;
+	}
+
+	/**
+	 * Resolves operand names. Named operands are looked up directly; empty
+	 * names are filled from the top of the queue, the last operand taking the
+	 * most recent tensor.
+	 *
+	 * @return the operands, or {@code null} if any cannot be resolved
+	 */
+	private Entry[] operands(String... names) {
+		Entry[] ops = new Entry[names.length];
+
+		for (int i = 0; i < names.length; i++)
+			if (names[i] != null && !names[i].isEmpty())
+				if ((ops[i] = index.get(names[i])) == null)
+					return null;
+
+		int cursor = queue.size() - 1;
+		for (int i = names.length - 1; i >= 0; i--) {
+			if (ops[i] != null)
+				continue;
+			while (cursor >= 0 && (queue.get(cursor).isConst() || contains(ops, queue.get(cursor))))
+				cursor--;
+			if (cursor < 0)
+				return null;
+			ops[i] = queue.get(cursor--);
+		}
+		return ops;
+	}
+
+	private static boolean contains(Entry[] ops, Entry e) {
+		for (Entry o : ops)
+			if (o == e)
+				return true;
+		return false;
+	}
+
+	/**
+	 * Checks that {@code out} can receive a result: it must not name a constant,
+	 * and an existing tensor of that name must be used up by this operation.
+	 */
+	private boolean writable(String out, Entry[] in) {
+		if (out == null || out.isEmpty())
+			return false;
+
+		Entry e = index.get(out);
+		if (e == null)
+			return true;
+		if (e.isConst())
+			return false;
+
+		int refs = 0;
+		for (Entry o : in)
+			if (o == e)
+				refs++;
+		return refs >= e.usage;
+	}
+
+	/**
+	 * Consumes the operands and pushes the result under {@code out}.
+	 */
+	private boolean commit(Entry[] in, String out, float[] data, int[] shape) {
+		if (data == null)
+			return false;
+		return commit(in, new Entry(out, data, shape.clone(), 1, false));
+	}
+
+	/**
+	 * Consumes the operands and pushes a FLOAT64 result under {@code out}.
+	 */
+	private boolean commit(Entry[] in, String out, double[] data, int[] shape) {
+		if (data == null)
+			return false;
+		return commit(in, new Entry(out, data, shape.clone(), 1, false));
+	}
+
+	/**
+	 * Consumes the operands and pushes a half-precision result under {@code out}.
+	 */
+	private boolean commit(Entry[] in, String out, short[] half, DType dtype, int[] shape) {
+		if (half == null)
+			return false;
+		return commit(in, new Entry(out, half, dtype, shape.clone(), 1, false));
+	}
+
+	/**
+	 * Consumes the operands and pushes a BOOL result under {@code out}.
+	 */
+	private boolean commit(Entry[] in, String out, long[] bits, int[] shape) {
+		return commit(in, new Entry(out, bits, shape.clone(), 1, false));
+	}
+
+	private boolean commit(Entry[] in, Entry result) {
+		for (Entry e : in)
+			if (!e.isConst() && e.usage > 0 && --e.usage == 0) {
+				remove(e);
+				recycle(e);
+			}
+
+		push(result);
+		return true;
+	}
+
+	/**
+	 * Returns the data of {@code e} in logical row-major order, widening half
+	 * precision, rounding FLOAT64 and materializing the transpose flag if set.
+	 */
+	static float[] dense(Entry e) {
+		float[] d = physical(e);
+		if (!e.trans)
+			return d;
+		int r = e.shape.length;
+		return CpuAxis.transpose(d, physicalShape(e), r - 2, r - 1);
+	}
+
+	/** The stored values as floats, in storage order. */
+	private static float[] physical(Entry e) {
+		if (e.sparse != null)
+			return CpuSparse.toDense(e.sparse);
+		if (e.doubles != null)
+			return CpuDouble.narrow(e.doubles);
+		if (e.bits != null)
+			return CpuMask.widen(e.bits, (int) e.size());
+		return e.half != null ? CpuHalf.widen(e.half, e.dtype) : e.data;
+	}
+
+	/**
+	 * Returns the data of {@code e} as doubles in logical row-major order; the
+	 * stored array itself for an untransposed FLOAT64 entry.
+	 */
+	private static double[] doubles(Entry e) {
+		if (e.doubles == null)
+			return CpuDouble.widen(dense(e));
+		if (!e.trans)
+			return e.doubles;
+		int r = e.shape.length;
+		return CpuDouble.transpose(e.doubles, physicalShape(e), r - 2, r - 1);
+	}
+
+	/**
+	 * Returns the 16-bit patterns of a half-precision entry in logical
+	 * row-major order; the stored array itself if untransposed.
+	 */
+	private static short[] halves(Entry e) {
+		if (!e.trans)
+			return e.half;
+		int r = e.shape.length;
+		return CpuHalf.transpose(e.half, physicalShape(e), r - 2, r - 1);
+	}
+
+	/**
+	 * Returns the bits of a BOOL entry in logical row-major order; the stored
+	 * array itself if untransposed.
+	 */
+	private static long[] maskBits(Entry e) {
+		if (!e.trans)
+			return e.bits;
+		int r = e.shape.length;
+		return CpuMask.transpose(e.bits, physicalShape(e), r - 2, r - 1);
+	}
+
+	/** The stored values as doubles, in storage order. */
+	private static double[] physicalDoubles(Entry e) {
+		return e.doubles != null ? e.doubles : CpuDouble.widen(physical(e));
+	}
+
+	/**
+	 * Whether any operand is FLOAT64, so the operation runs in double.
+	 */
+	private static boolean wide(Entry... in) {
+		for (Entry e : in)
+			if (e.doubles != null)
+				return true;
+		return false;
+	}
+
+	/**
+	 * The common half type of the operands, or {@code null} if any is float32.
+	 */
+	private static DType halfType(Entry... in) {
+		DType t = in[0].dtype;
+		for (Entry e : in)
+			if (e.half == null || e.dtype != t)
+				return null;
+		return t;
+	}
+
+	private static int[] physicalShape(Entry e) {
+		int[] p = e.shape.clone();
+		if (e.trans) {
+			int r = p.length;
+			p[r - 2] = e.shape[r - 1];
+			p[r - 1] = e.shape[r - 2];
+		}
+		return p;
+	}
+
+	// ===================== 단항 =====================
+
+	private synchronized boolean unary(CpuUnary.Op op, String a, String out) {
+		Entry[] in = operands(a);
+		if (in == null || !writable(out, in))
+			return false;
+		// 0 을 0 으로 보내는 연산은 저장된 값에만 적용해 희소 그대로 유지
+		if (in[0].sparse != null && CpuSparse.keepsZero(op))
+			return commit(in, new Entry(out, CpuSparse.unary(op, in[0].sparse), 1, false));
+		if (op == CpuUnary.Op.STEP || op == CpuUnary.Op.NOT)
+			return mask(op, in, out);
+		// 원소별 연산이므로 전치 플래그와 무관하게 저장 순서 그대로 계산
+		if (in[0].doubles != null) {
+			Entry e = new Entry(out, CpuDouble.unary(op, in[0].doubles), in[0].shape.clone(), 1, false);
+			e.trans = in[0].trans;
+			return commit(in, e);
+		}
+		if (in[0].half != null) {
+			Entry e = new Entry(out, CpuHalf.unary(op, in[0].half, in[0].dtype), in[0].dtype, in[0].shape.clone(), 1,
+					false);
+			e.trans = in[0].trans;
+			return commit(in, e);
+		}
+		return commit(in, out, CpuUnary.apply(op, dense(in[0])), in[0].shape);
+	}
+
+	/**
+	 * {@code step} ({@code x > 0}) and {@code not} ({@code x == 0}) as a BOOL
+	 * mask, in storage order like the other unary operations.
+	 */
+	private boolean mask(CpuUnary.Op op, Entry[] in, String out) {
+		Entry a = in[0];
+		long[] bits;
+		if (a.bits != null)
+			bits = op == CpuUnary.Op.NOT ? CpuMask.not(a.bits, (int) a.size()) : a.bits.clone();
+		else if (a.doubles != null)
+			bits = CpuMask.nonZero(CpuDouble.unary(op, a.doubles));
+		else
+			bits = op == CpuUnary.Op.NOT ? CpuMask.isZero(physical(a)) : CpuMask.step(physical(a));
+		Entry e = new Entry(out, bits, a.shape.clone(), 1, false);
+		e.trans = a.trans;
+		return commit(in, e);
+	}
+
+	@Override
+	public boolean abs(String a, String out) {
+		return unary(CpuUnary.Op.ABS, a, out);
+	}
+
+	@Override
+	public boolean neg(String a, String out) {
+		return unary(CpuUnary.Op.NEG, a, out);
+	}
+
+	@Override
+	public boolean square(String a, String out) {
+		return unary(CpuUnary.Op.SQUARE, a, out);
+	}
+
+	@Override
+	public boolean sqrt(String a, String out) {
+		return unary(CpuUnary.Op.SQRT, a, out);
+	}
+
+	@Override
+	public boolean log(String a, String out) {
+		return unary(CpuUnary.Op.LOG, a, out);
+	}
+
+	@Override
+	public boolean log2(String a, String out) {
+		return unary(CpuUnary.Op.LOG2, a, out);
+	}
+
+	@Override
+	public boolean ln(String a, String out) {
+		return unary(CpuUnary.Op.LN, a, out);
+	}
+
+	@Override
+	public boolean reciprocal(String a, String out) {
+		return unary(CpuUnary.Op.RECIPROCAL, a, out);
+	}
+
+	@Override
+	public boolean sin(String name, String out) {
+		return unary(CpuUnary.Op.SIN, name, out);
+	}
+
+	@Override
+	public boolean cos(String name, String out) {
+		return unary(CpuUnary.Op.COS, name, out);
+	}
+
+	@Override
+	public boolean tan(String name, String out) {
+		return unary(CpuUnary.Op.TAN, name, out);
+	}
+
+	@Override
+	public boolean step(String name, String out) {
+		return unary(CpuUnary.Op.STEP, name, out);
+	}
+
+	@Override
+	public boolean sigmoid(String name, String out) {
+		return unary(CpuUnary.Op.SIGMOID, name, out);
+	}
+
+	@Override
+	public boolean tanh(String name, String out) {
+		return unary(CpuUnary.Op.TANH, name, out);
+	}
+
+	@Override
+	public boolean ReLu(String name, String out) {
+		return unary(CpuUnary.Op.RELU, name, out);
+	}
+
+	@Override
+	public boolean leakReLu(String name, String out) {
+		return unary(CpuUnary.Op.LEAKRELU, name, out);
+	}
+
+	@Override
+	public boolean softplus(String name, String out) {
+		return unary(CpuUnary.Op.SOFTPLUS, name, out);
+	}
+
+	@Override
+	public boolean exp(String name, String out) {
+		return unary(CpuUnary.Op.EXP, name, out);
+	}
+
+	@Override
+	public boolean round(String name, String out) {
+		return unary(CpuUnary.Op.ROUND, name, out);
+	}
+
+	@Override
+	public boolean ceil(String name, String out) {
+		return unary(CpuUnary.Op.CEIL, name, out);
+	}
+
+	@Override
+	public boolean floor(String name, String out) {
+		return unary(CpuUnary.Op.FLOOR, name, out);
+	}
+
+	@Override
+	public boolean not(String a, String out) {
+		return unary(CpuUnary.Op.NOT, a, out);
+	}
+
+	@Override
+	public boolean deg2rad(String name, String out) {
+		return unary(CpuUnary.Op.DEG2RAD, name, out);
+	}
+
+	@Override
+	public boolean rad2deg(String name, String out) {
+		return unary(CpuUnary.Op.RAD2DEG, name, out);
+	}
+
+	// ===================== 이항 =====================
+
+	private synchronized boolean binary(CpuBinary.Op op, String a, String b, String out) {
+		Entry[] in = operands(a, b);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] shape = CpuBinary.broadcastShape(in[0].shape, in[1].shape, in[0].broad, in[1].broad);
+		if (shape == null)
+			return false;
+
+		// 한쪽이라도 FLOAT64 이면 double 로 넓혀 계산 (비교는 결과만 비트로 압축)
+		if (wide(in)) {
+			double[] d = CpuDouble.binary(op, doubles(in[0]), in[0].shape, doubles(in[1]), in[1].shape, shape);
+			if (CpuMask.isMask(op))
+				return commit(in, out, CpuMask.nonZero(d), shape);
+			return commit(in, out, d, shape);
+		}
+
+		// 비교와 논리 연산은 비트 마스크로, 마스크끼리는 워드 단위로 계산
+		if (CpuMask.isMask(op)) {
+			if (sameMasks(in[0], in[1], shape) && (op == CpuBinary.Op.AND || op == CpuBinary.Op.OR))
+				return commit(in, out, op == CpuBinary.Op.AND ? CpuMask.and(in[0].bits, in[1].bits)
+						: CpuMask.or(in[0].bits, in[1].bits), shape);
+			return commit(in, out, CpuMask.compare(op, dense(in[0]), in[0].shape, dense(in[1]), in[1].shape, shape),
+					shape);
+		}
+
+		// 희소 피연산자와의 곱은 저장된 위치만 계산
+		if (op == CpuBinary.Op.MUL) {
+			SparseTensor s = sparseMul(in[0], in[1], shape);
+			if (s != null)
+				return commit(in, new Entry(out, s, 1, false));
+			if (maskOperand(in[0], in[1], shape) || maskOperand(in[1], in[0], shape))
+				return maskMul(in, out, shape);
+		}
+
+		// 같은 반정밀도 형식이고 모양이 같거나 한쪽이 스칼라이면 타일 단위로 넓혀 계산
+		DType half = halfType(in);
+		if (half != null && !in[0].trans && !in[1].trans) {
+			if (aligned(in[0], shape) && aligned(in[1], shape))
+				return commit(in, out, CpuHalf.binary(op, in[0].half, in[1].half, CpuBinary.len(shape), half), half, shape);
+			return commit(in, out, CpuHalf.narrow(CpuBinary.apply(op, dense(in[0]), in[0].shape, dense(in[1]),
+					in[1].shape, shape), half), half, shape);
+		}
+
+		return commit(in, out, CpuBinary.apply(op, dense(in[0]), in[0].shape, dense(in[1]), in[1].shape, shape),
+				shape);
+	}
+
+	/**
+	 * Element-wise product that keeps a sparse operand sparse: the other operand
+	 * is sparse of the same shape, or dense (rank at most 2) broadcasting to it.
+	 *
+	 * @return the sparse product, or {@code null} for the dense path
+	 */
+	private static SparseTensor sparseMul(Entry a, Entry b, int[] shape) {
+		if (a.sparse == null) {
+			Entry t = a;
+			a = b;
+			b = t;
+		}
+		if (a.sparse == null || !Arrays.equals(a.shape, shape))
+			return null;
+		if (b.sparse != null)
+			return CpuSparse.mul(a.sparse, b.sparse);
+		if (b.shape.length > 2)
+			return null;
+		return CpuSparse.mul(a.sparse, dense(b), b.shape);
+	}
+
+	/** Whether both operands are untransposed masks of exactly {@code shape}. */
+	private static boolean sameMasks(Entry a, Entry b, int[] shape) {
+		return a.bits != null && b.bits != null && !a.trans && !b.trans && Arrays.equals(a.shape, shape)
+				&& Arrays.equals(b.shape, shape);
+	}
+
+	/**
+	 * Whether {@code m} is an untransposed mask of {@code shape} and {@code x}
+	 * can be read against it without broadcasting.
+	 */
+	private static boolean maskOperand(Entry m, Entry x, int[] shape) {
+		return m.bits != null && !m.trans && Arrays.equals(m.shape, shape) && aligned(x, shape)
+				&& (x.size() == 1 || !x.trans);
+	}
+
+	/**
+	 * Product with a mask operand: two masks give their AND as a mask, a mask
+	 * and numbers give the numbers where the bit is set, without widening the
+	 * mask.
+	 */
+	private boolean maskMul(Entry[] in, String out, int[] shape) {
+		if (sameMasks(in[0], in[1], shape))
+			return commit(in, out, CpuMask.and(in[0].bits, in[1].bits), shape);
+		Entry m = maskOperand(in[0], in[1], shape) ? in[0] : in[1];
+		Entry x = m == in[0] ? in[1] : in[0];
+		return commit(in, out, CpuMask.mul(m.bits, physical(x), x.size() == 1, CpuBinary.len(shape)), shape);
+	}
+
+	/** Whether {@code e} is read one-to-one against {@code shape}, or is a single value. */
+	private static boolean aligned(Entry e, int[] shape) {
+		return e.size() == 1 || Arrays.equals(e.shape, shape);
+	}
+
+	@Override
+	public boolean add(String a, String b, String out) {
+		return binary(CpuBinary.Op.ADD, a, b, out);
+	}
+
+	@Override
+	public boolean sub(String a, String b, String out) {
+		return binary(CpuBinary.Op.SUB, a, b, out);
+	}
+
+	@Override
+	public boolean mul(String a, String b, String out) {
+		return binary(CpuBinary.Op.MUL, a, b, out);
+	}
+
+	@Override
+	public boolean div(String a, String b, String out) {
+		return binary(CpuBinary.Op.DIV, a, b, out);
+	}
+
+	@Override
+	public boolean pow(String a, String b, String out) {
+		return binary(CpuBinary.Op.POW, a, b, out);
+	}
+
+	@Override
+	public boolean mod(String a, String b, String out) {
+		return binary(CpuBinary.Op.MOD, a, b, out);
+	}
+
+	@Override
+	public boolean gt(String a, String b, String out) {
+		return binary(CpuBinary.Op.GT, a, b, out);
+	}
+
+	@Override
+	public boolean lt(String a, String b, String out) {
+		return binary(CpuBinary.Op.LT, a, b, out);
+	}
+
+	@Override
+	public boolean ge(String a, String b, String out) {
+		return binary(CpuBinary.Op.GE, a, b, out);
+	}
+
+	@Override
+	public boolean le(String a, String b, String out) {
+		return binary(CpuBinary.Op.LE, a, b, out);
+	}
+
+	@Override
+	public boolean eq(String a, String b, String out) {
+		return binary(CpuBinary.Op.EQ, a, b, out);
+	}
+
+	@Override
+	public boolean ne(String a, String b, String out) {
+		return binary(CpuBinary.Op.NE, a, b, out);
+	}
+
+	@Override
+	public boolean and(String a, String b, String out) {
+		return binary(CpuBinary.Op.AND, a, b, out);
+	}
+
+	@Override
+	public boolean or(String a, String b, String out) {
+		return binary(CpuBinary.Op.OR, a, b, out);
+	}
+
+	@Override
+	public synchronized boolean select(String mask, String a, String b, String out) {
+		Entry[] in = operands(mask, a, b);
+		if (in == null || !writable(out, in))
+			return false;
+		Entry m = in[0], x = in[1], y = in[2];
+		int[] shape = m.shape;
+		if (!aligned(x, shape) || !aligned(y, shape))
+			return false;
+
+		// 마스크가 아니거나 전치 플래그가 있으면 0 이 아닌 값으로 한 번 압축
+		long[] bits = m.bits != null && !m.trans ? m.bits
+				: m.doubles != null ? CpuMask.nonZero(doubles(m)) : CpuMask.nonZero(dense(m));
+		int n = CpuBinary.len(shape);
+		if (wide(x, y)) {
+			double[] dx = doubles(x), dy = doubles(y), o = new double[n];
+			boolean rx = x.size() == 1, ry = y.size() == 1;
+			CpuParallel.forRange(n, (from, to) -> {
+				for (int i = from; i < to; i++)
+					o[i] = CpuMask.get(bits, i) ? dx[rx ? 0 : i] : dy[ry ? 0 : i];
+			});
+			return commit(in, out, o, shape);
+		}
+		return commit(in, out, CpuMask.select(bits, dense(x), x.size() == 1, dense(y), y.size() == 1, n), shape);
+	}
+
+	// ===================== 축 통합 =====================
+
+	private synchronized boolean reduce(CpuAxis.Reduce op, String a, String out, int axis) {
+		Entry[] in = operands(a);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] shape = in[0].shape;
+		if (axis == -1)
+			axis = 0;
+		if (axis < 0 || axis >= shape.length)
+			return false;
+
+		if (in[0].doubles != null)
+			return commit(in, out, CpuDouble.reduce(op, doubles(in[0]), shape, axis), CpuAxis.reduceShape(shape, axis));
+		return commit(in, out, CpuAxis.reduce(op, dense(in[0]), shape, axis), CpuAxis.reduceShape(shape, axis));
+	}
+
+	@Override
+	public boolean sum(String a, String out, int axis) {
+		return reduce(CpuAxis.Reduce.SUM, a, out, axis);
+	}
+
+	@Override
+	public boolean mean(String a, String out, int axis) {
+		return reduce(CpuAxis.Reduce.MEAN, a, out, axis);
+	}
+
+	@Override
+	public boolean var(String a, String out, int axis) {
+		return reduce(CpuAxis.Reduce.VAR, a, out, axis);
+	}
+
+	@Override
+	public boolean std(String a, String out, int axis) {
+		return reduce(CpuAxis.Reduce.STD, a, out, axis);
+	}
+
+	@Override
+	public boolean max(String a, String out, int axis) {
+		return reduce(CpuAxis.Reduce.MAX, a, out, axis);
+	}
+
+	@Override
+	public boolean min(String a, String out, int axis) {
+		return reduce(CpuAxis.Reduce.MIN, a, out, axis);
+	}
+
+	// ===================== 축 독립 =====================
+
+	private synchronized boolean single(CpuAxis.Single op, String a, String out, int axis) {
+		Entry[] in = operands(a);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] shape = in[0].shape;
+		if (axis == -1)
+			axis = 0;
+		if (axis < 0 || axis >= shape.length)
+			return false;
+
+		if (op == CpuAxis.Single.ACCUMULATE && in[0].doubles != null)
+			return commit(in, out, CpuDouble.scan(doubles(in[0]), shape, axis, false, false), shape.clone());
+		return commit(in, out, CpuAxis.single(op, dense(in[0]), shape, axis), CpuAxis.singleShape(op, shape, axis));
+	}
+
+	@Override
+	public boolean accumulate(String a, String out, int axis) {
+		return single(CpuAxis.Single.ACCUMULATE, a, out, axis);
+	}
+
+	@Override
+	public synchronized boolean accumulate(String a, String out, int axis, boolean exclusive, boolean reverse) {
+		Entry[] in = operands(a);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] shape = in[0].shape;
+		if (axis == -1)
+			axis = 0;
+		if (axis < 0 || axis >= shape.length)
+			return false;
+
+		if (in[0].doubles != null)
+			return commit(in, out, CpuDouble.scan(doubles(in[0]), shape, axis, exclusive, reverse), shape.clone());
+		return commit(in, out, CpuAxis.scan(dense(in[0]), shape, axis, exclusive, reverse), shape.clone());
+	}
+
+	@Override
+	public boolean compress(String a, String out, int axis) {
+		return single(CpuAxis.Single.COMPRESS, a, out, axis);
+	}
+
+	@Override
+	public synchronized boolean expand(String a, String out, int axis, int expandN) {
+		Entry[] in = operands(a);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] shape = in[0].shape;
+		if (axis == -1)
+			axis = 0;
+		if (axis < 0 || axis >= shape.length || expandN <= 0 || expandN % shape[axis] != 0)
+			return false;
+
+		int[] outShape = shape.clone();
+		outShape[axis] = expandN;
+		return commit(in, out, CpuAxis.expand(dense(in[0]), shape, axis, expandN), outShape);
+	}
+
+	@Override
+	public boolean argMax(String a, String out, int axis) {
+		return single(CpuAxis.Single.ARGMAX, a, out, axis);
+	}
+
+	@Override
+	public boolean argMin(String a, String out, int axis) {
+		return single(CpuAxis.Single.ARGMIN, a, out, axis);
+	}
+
+	@Override
+	public boolean axisMax(String a, String out, int axis) {
+		return single(CpuAxis.Single.AXISMAX, a, out, axis);
+	}
+
+	@Override
+	public boolean axisMin(String a, String out, int axis) {
+		return single(CpuAxis.Single.AXISMIN, a, out, axis);
+	}
+
+	@Override
+	public synchronized boolean transpose(String name, String out, int axis1, int axis2) {
+		Entry[] in = operands(name);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] shape = in[0].shape;
+		if (shape.length == 1)
+			shape = new int[] { 1, shape[0] };
+
+		int rank = shape.length;
+		if (axis1 == -1 || axis2 == -1) {
+			axis1 = rank - 2;
+			axis2 = rank - 1;
+		}
+		if (axis1 < 0 || axis2 < 0 || axis1 >= rank || axis2 >= rank)
+			return false;
+
+		int[] outShape = shape.clone();
+		outShape[axis1] = shape[axis2];
+		outShape[axis2] = shape[axis1];
+
+		// 2D 희소 행렬은 CSR 전치 (불변이므로 같은 축이면 그대로 공유)
+		if (in[0].sparse != null)
+			return commit(in, new Entry(out, axis1 == axis2 ? in[0].sparse : CpuSparse.transpose(in[0].sparse), 1,
+					false));
+
+		if (in[0].doubles != null) {
+			double[] x = doubles(in[0]);
+			return commit(in, out, axis1 == axis2 ? x.clone() : CpuDouble.transpose(x, shape, axis1, axis2), outShape);
+		}
+		// 반정밀도는 16비트 값을 그대로 옮겨 dtype 유지
+		if (in[0].half != null) {
+			short[] x = halves(in[0]);
+			return commit(in, out, axis1 == axis2 ? x.clone() : CpuHalf.transpose(x, shape, axis1, axis2),
+					in[0].dtype, outShape);
+		}
+		// 마스크는 비트를 그대로 옮겨 BOOL 유지
+		if (in[0].bits != null) {
+			long[] x = maskBits(in[0]);
+			return commit(in, out, axis1 == axis2 ? x.clone() : CpuMask.transpose(x, shape, axis1, axis2), outShape);
+		}
+		float[] x = dense(in[0]);
+		float[] o = axis1 == axis2 ? x.clone() : CpuAxis.transpose(x, shape, axis1, axis2);
+		return commit(in, out, o, outShape);
+	}
+
+	@Override
+	public synchronized boolean permute(String name, String out, int... order) {
+		Entry[] in = operands(name);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] shape = in[0].shape;
+		if (!CpuPermute.valid(order, shape.length))
+			return false;
+
+		if (in[0].doubles != null)
+			return commit(in, out, CpuDouble.permute(doubles(in[0]), shape, order), CpuPermute.permuteShape(shape, order));
+		if (in[0].half != null)
+			return commit(in, out, CpuHalf.permute(halves(in[0]), shape, order), in[0].dtype,
+					CpuPermute.permuteShape(shape, order));
+		if (in[0].bits != null)
+			return commit(in, out, CpuMask.permute(maskBits(in[0]), shape, order), CpuPermute.permuteShape(shape, order));
+		return commit(in, out, CpuPermute.permute(dense(in[0]), shape, order), CpuPermute.permuteShape(shape, order));
+	}
+
+	// ===================== 내적 =====================
+
+	/**
+	 * Logical shape of an operand promoted for a matrix product: a 1D left
+	 * operand becomes a row {@code [1, K]}, a 1D right operand a column
+	 * {@code [K, 1]}.
+	 */
+	private static int[] matrixShape(Entry e, boolean left) {
+		if (e.shape.length >= 2)
+			return e.shape;
+		return left ? new int[] { 1, e.shape[0] } : new int[] { e.shape[0], 1 };
+	}
+
+	/**
+	 * Half-precision operands are widened once, in storage order, so the GEMM
+	 * reads floats and accumulates in float. A sparse factor goes to
+	 * {@link #sparseProduct}.
+	 */
+	private float[] product(Entry a, Entry b, int[] outShape) {
+		float[] s = sparseProduct(a, b);
+		if (s != null)
+			return s;
+		return CpuGemm.matmul(physical(a), matrixShape(a, true), a.trans, physical(b), matrixShape(b, false), b.trans,
+				outShape);
+	}
+
+	/**
+	 * Product with a 2D sparse factor: SpMM (SpMV for a vector) when it is on
+	 * the left and the right factor has rank at most 2, dense x sparse when it
+	 * is on the right, leading axes of the left factor folding into its rows.
+	 *
+	 * @return the dense result, or {@code null} if neither applies
+	 */
+	private static float[] sparseProduct(Entry a, Entry b) {
+		if (a.sparse != null && b.shape.length <= 2)
+			return CpuSparse.spmm(a.sparse, dense(b), b.shape.length == 1 ? 1 : b.shape[1]);
+		if (b.sparse != null && a.sparse == null)
+			return CpuSparse.dsmm(dense(a), (int) (a.size() / b.shape[0]), b.sparse);
+		return null;
+	}
+
+	/**
+	 * Product in double when either factor is FLOAT64; a float factor is widened
+	 * once, in storage order.
+	 */
+	private double[] productDouble(Entry a, Entry b, int[] outShape) {
+		return CpuDoubleGemm.matmul(physicalDoubles(a), matrixShape(a, true), a.trans, physicalDoubles(b),
+				matrixShape(b, false), b.trans, outShape);
+	}
+
+	/**
+	 * Pushes a product result, narrowed back if both factors share a half type.
+	 */
+	private boolean commitProduct(Entry[] in, String out, float[] o, int[] shape) {
+		DType half = halfType(in[0], in[1]);
+		if (half == null)
+			return commit(in, out, o, shape);
+		short[] h = CpuHalf.narrow(o, half);
+		TensorPool.give(o);
+		return commit(in, out, h, half, shape);
+	}
+
+	@Override
+	public synchronized boolean dot(String a, String b, String out) {
+		Entry[] in = operands(a, b);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] sa = matrixShape(in[0], true), sb = matrixShape(in[1], false);
+		int[] shape = CpuGemm.matmulShape(sa, sb);
+		if (shape == null)
+			return false;
+
+		boolean wide = wide(in[0], in[1]);
+		double[] w = wide ? productDouble(in[0], in[1], shape) : null;
+		float[] o = wide ? null : product(in[0], in[1], shape);
+
+		// 1D 입력은 결과에서도 해당 축을 제거
+		int ra = in[0].shape.length, rb = in[1].shape.length;
+		if (ra <= 2 && rb <= 2) {
+			if (ra == 1 && rb == 1)
+				shape = new int[] { 1 };
+			else if (ra == 1)
+				shape = new int[] { shape[1] };
+			else if (rb == 1)
+				shape = new int[] { shape[0] };
+		}
+		return wide ? commit(in, out, w, shape) : commitProduct(in, out, o, shape);
+	}
+
+	@Override
+	public synchronized boolean matmul(String a, String b, String out) {
+		Entry[] in = operands(a, b);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] shape = CpuGemm.matmulShape(matrixShape(in[0], true), matrixShape(in[1], false));
+		if (shape == null)
+			return false;
+
+		if (wide(in))
+			return commit(in, out, productDouble(in[0], in[1], shape), shape);
+		return commitProduct(in, out, product(in[0], in[1], shape), shape);
+	}
+
+	// ===================== 신경망 =====================
+
+	@Override
+	public synchronized boolean affine(String x, String w, String b, String out) {
+		Entry[] in = operands(x, w, b);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] shape = CpuGemm.matmulShape(matrixShape(in[0], true), matrixShape(in[1], false));
+		if (shape == null)
+			return false;
+
+		int cols = shape[shape.length - 1];
+		if (in[2].size() == 0 || cols % in[2].size() != 0)
+			return false;
+
+		if (wide(in[0], in[1])) {
+			double[] y = productDouble(in[0], in[1], shape);
+			CpuDouble.addBias(y, cols, doubles(in[2]));
+			return commit(in, out, y, shape);
+		}
+
+		float[] bias = dense(in[2]);
+
+		float[] y = product(in[0], in[1], shape);
+		CpuNN.addBias(y, cols, bias);
+		return commitProduct(in, out, y, shape);
+	}
+
+	@Override
+	public synchronized boolean softmax(String name, String out, int axis) {
+		Entry[] in = operands(name);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] shape = in[0].shape;
+		if (axis == -1)
+			axis = shape.length - 1;
+		if (axis < 0 || axis >= shape.length)
+			return false;
+
+		return commit(in, out, CpuNN.softmax(dense(in[0]), shape, axis), shape);
+	}
+
+	@Override
+	public synchronized boolean mse(String a, String b, String out) {
+		Entry[] in = operands(a, b);
+		if (in == null || !writable(out, in) || in[0].size() != in[1].size())
+			return false;
+
+		return commit(in, out, new float[] { CpuNN.mse(dense(in[0]), dense(in[1])) }, new int[] { 1, 1 });
+	}
+
+	@Override
+	public synchronized boolean cee(String a, String b, String out) {
+		Entry[] in = operands(a, b);
+		if (in == null || !writable(out, in) || in[0].size() != in[1].size())
+			return false;
+
+		int batch = in[0].shape.length >= 2 ? in[0].shape[0] : 1;
+		return commit(in, out, new float[] { CpuNN.cee(dense(in[0]), dense(in[1]), batch) }, new int[] { 1, 1 });
+	}
+
+	@Override
+	public synchronized boolean im2col1D(String input, String kernel, String out, int pad, int stride) {
+		Entry[] in = operands(input, kernel);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] s = in[0].shape, k = in[1].shape;
+		if ((s.length != 2 && s.length != 3) || pad < 0 || stride < 1)
+			return false;
+
+		int N = s[0], C = s.length == 3 ? s[1] : 1, W = s[s.length - 1];
+		int K = k[k.length - 1];
+		int OW = CpuNN.outSize(W, K, pad, stride);
+		if (OW < 1)
+			return false;
+
+		float[] o = CpuNN.im2col(dense(in[0]), N, C, 1, W, 1, K, 0, pad, 1, stride);
+		return commit(in, out, o, new int[] { N * OW, C * K });
+	}
+
+	@Override
+	public synchronized boolean col2im1D(String input, String kernel, String out, int oL, int pad, int stride) {
+		Entry[] in = operands(input, kernel);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] s = in[0].shape, k = in[1].shape;
+		if (s.length < 2 || pad < 0 || stride < 1)
+			return false;
+
+		int K = k[k.length - 1];
+		int C = k.length >= 2 ? k[k.length - 2] : 1;
+		int rows = CpuAxis.prod(s, 0, s.length - 1);
+		if (s[s.length - 1] != C * K)
+			return false;
+
+		int N, OW, L;
+		if (oL > 0) {
+			L = oL;
+			OW = CpuNN.outSize(L, K, pad, stride);
+			if (OW < 1 || rows % OW != 0)
+				return false;
+			N = rows / OW;
+		} else {
+			// 원래 길이를 모르면 [N, OW, C*K] 는 축에서, [rows, C*K] 는 N = 1 로 추론
+			N = s.length == 3 ? s[0] : 1;
+			OW = rows / N;
+			L = (OW - 1) * stride + K - 2 * pad;
+			if (L < 1)
+				return false;
+		}
+
+		float[] o = CpuNN.col2im(dense(in[0]), N, C, 1, L, 1, K, 0, pad, 1, stride);
+		return commit(in, out, o, k.length >= 2 ? new int[] { N, C, L } : new int[] { N, L });
+	}
+
+	@Override
+	public synchronized boolean im2col2D(String input, String kernel, String out, int padH, int padW, int strideH,
+			int strideW) {
+		Entry[] in = operands(input, kernel);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] s = in[0].shape, k = in[1].shape;
+		if ((s.length != 3 && s.length != 4) || k.length < 2 || padH < 0 || padW < 0 || strideH < 1 || strideW < 1)
+			return false;
+
+		int N = s[0], C = s.length == 4 ? s[1] : 1, H = s[s.length - 2], W = s[s.length - 1];
+		int FH = k[k.length - 2], FW = k[k.length - 1];
+		int OH = CpuNN.outSize(H, FH, padH, strideH), OW = CpuNN.outSize(W, FW, padW, strideW);
+		if (OH < 1 || OW < 1)
+			return false;
+
+		float[] o = CpuNN.im2col(dense(in[0]), N, C, H, W, FH, FW, padH, padW, strideH, strideW);
+		return commit(in, out, o, new int[] { N * OH * OW, C * FH * FW });
+	}
+
+	@Override
+	public synchronized boolean col2im2D(String input, String kernel, String out, int oH, int oW, int padH, int padW,
+			int strideH, int strideW) {
+		Entry[] in = operands(input, kernel);
+		if (in == null || !writable(out, in))
+			return false;
+
+		int[] s = in[0].shape, k = in[1].shape;
+		if (s.length < 2 || k.length < 2 || padH < 0 || padW < 0 || strideH < 1 || strideW < 1)
+			return false;
+
+		int FH = k[k.length - 2], FW = k[k.length - 1];
+		int C = k.length >= 3 ? k[k.length - 3] : 1;
+		int rows = CpuAxis.prod(s, 0, s.length - 1);
+		if (s[s.length - 1] != C * FH * FW)
+			return false;
+
+		int N, H, W;
+		if (oH > 0 && oW > 0) {
+			H = oH;
+			W = oW;
+			int grid = CpuNN.outSize(H, FH, padH, strideH) * CpuNN.outSize(W, FW, padW, strideW);
+			if (grid < 1 || rows % grid != 0)
+				return false;
+			N = rows / grid;
+		} else {
+			// 원래 크기를 모르면 N = 1, 정사각 출력 격자로 추론
+			N = 1;
+			int side = (int) Math.round(Math.sqrt(rows));
+			if (side * side != rows)
+				return false;
+			H = (side - 1) * strideH + FH - 2 * padH;
+			W = (side - 1) * strideW + FW - 2 * padW;
+			if (H < 1 || W < 1)
+				return false;
+		}
+
+		float[] o = CpuNN.col2im(dense(in[0]), N, C, H, W, FH, FW, padH, padW, strideH, strideW);
+		return commit(in, out, o, k.length >= 3 ? new int[] { N, C, H, W } : new int[] { N, H, W });
+	}
+}
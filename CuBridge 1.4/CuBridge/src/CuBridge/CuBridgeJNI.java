@@ -29,15 +29,28 @@ class CuBridgeJNI {
 	    return dllFile.getAbsolutePath();
 	}
 
+	private static boolean loaded = false;
+
 	static {
 		try {
 			System.load(loadDll("CuBridgeDriver.dll"));	
 			init(loadDll("CuBridgeCudaC.dll"));
-		} catch (Exception e) {
+			loaded = true;
+		} catch (Exception | UnsatisfiedLinkError e) {
 			System.out.println("CuBridge DLL 로딩 실패" + e);
 		}
 		
 	}
+
+	/**
+	 * Reports whether both native libraries were loaded and initialized.
+	 * When {@code false}, every native method below is unusable.
+	 *
+	 * @return {@code true} if the CUDA/C++ driver is available
+	 */
+	static boolean isLoaded() {
+		return loaded;
+	}
 	
 	
 	
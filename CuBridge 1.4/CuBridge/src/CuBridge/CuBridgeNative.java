@@ -0,0 +1,446 @@
+package CuBridge;
+
+/**
+ * CuBridgeNative: {@link CuBridgeBackend} that forwards every call to the
+ * CUDA/C++ driver loaded by {@code CuBridgeJNI}.
+ *
+ * <p>
+ * Only usable when {@link CuBridgeJNI#isLoaded()} reports that both DLLs were
+ * loaded successfully.
+ * </p>
+ *
+ * @since v1.5
+ */
+final class CuBridgeNative implements CuBridgeBackend {
+
+	@Override
+	public String name() {
+		return "jni";
+	}
+
+	@Override
+	public boolean isAvailable() {
+		return CuBridgeJNI.isLoaded();
+	}
+
+	@Override
+	public boolean supportsGPU() {
+		return true;
+	}
+
+	@Override
+	public int priority() {
+		return 100;
+	}
+
+	@Override
+	public void refresh() {
+		CuBridgeJNI.refresh();
+	}
+
+	@Override
+	public void setAuto() {
+		CuBridgeJNI.setAuto();
+	}
+
+	@Override
+	public void setCAL(boolean flag) {
+		CuBridgeJNI.setCAL(flag);
+	}
+
+	@Override
+	public boolean getCAL() {
+		return CuBridgeJNI.getCAL();
+	}
+
+	@Override
+	public boolean getENV() {
+		return CuBridgeJNI.getENV();
+	}
+
+	@Override
+	public String getSysInfo() {
+		return CuBridgeJNI.getSysInfo();
+	}
+
+	@Override
+	public void clear() {
+		CuBridgeJNI.clear();
+	}
+
+	@Override
+	public void bufferClean() {
+		CuBridgeJNI.bufferClean();
+	}
+
+	@Override
+	public String visualQueueAll() {
+		return CuBridgeJNI.visualQueueAll();
+	}
+
+	@Override
+	public String visualQueue() {
+		return CuBridgeJNI.visualQueue();
+	}
+
+	@Override
+	public String visualBufferAll() {
+		return CuBridgeJNI.visualBufferAll();
+	}
+
+	@Override
+	public String visualBuffer() {
+		return CuBridgeJNI.visualBuffer();
+	}
+
+	@Override
+	public boolean put(float[] data, int[] shape, int dataLen, int shapeLen, int usageNum, String name, boolean isBroad) {
+		return CuBridgeJNI.put(data, shape, dataLen, shapeLen, usageNum, name, isBroad);
+	}
+
+	@Override
+	public boolean pop(String name) {
+		return CuBridgeJNI.pop(name);
+	}
+
+	@Override
+	public float[] getData(String name) {
+		return CuBridgeJNI.getData(name);
+	}
+
+	@Override
+	public int[] getShape(String name) {
+		return CuBridgeJNI.getShape(name);
+	}
+
+	@Override
+	public boolean duple(String name, int usage) {
+		return CuBridgeJNI.duple(name, usage);
+	}
+
+	@Override
+	public boolean broad(String name, boolean broad) {
+		return CuBridgeJNI.broad(name, broad);
+	}
+
+	@Override
+	public boolean reshape(String name, int[] shape, int shapeLen) {
+		return CuBridgeJNI.reshape(name, shape, shapeLen);
+	}
+
+	// 단항
+	@Override
+	public boolean abs(String a, String out) {
+		return CuBridgeJNI.abs(a, out);
+	}
+
+	@Override
+	public boolean neg(String a, String out) {
+		return CuBridgeJNI.neg(a, out);
+	}
+
+	@Override
+	public boolean square(String a, String out) {
+		return CuBridgeJNI.square(a, out);
+	}
+
+	@Override
+	public boolean sqrt(String a, String out) {
+		return CuBridgeJNI.sqrt(a, out);
+	}
+
+	@Override
+	public boolean log(String a, String out) {
+		return CuBridgeJNI.log(a, out);
+	}
+
+	@Override
+	public boolean log2(String a, String out) {
+		return CuBridgeJNI.log2(a, out);
+	}
+
+	@Override
+	public boolean ln(String a, String out) {
+		return CuBridgeJNI.ln(a, out);
+	}
+
+	@Override
+	public boolean reciprocal(String a, String out) {
+		return CuBridgeJNI.reciprocal(a, out);
+	}
+
+	@Override
+	public boolean sin(String name, String out) {
+		return CuBridgeJNI.sin(name, out);
+	}
+
+	@Override
+	public boolean cos(String name, String out) {
+		return CuBridgeJNI.cos(name, out);
+	}
+
+	@Override
+	public boolean tan(String name, String out) {
+		return CuBridgeJNI.tan(name, out);
+	}
+
+	@Override
+	public boolean step(String name, String out) {
+		return CuBridgeJNI.step(name, out);
+	}
+
+	@Override
+	public boolean sigmoid(String name, String out) {
+		return CuBridgeJNI.sigmoid(name, out);
+	}
+
+	@Override
+	public boolean tanh(String name, String out) {
+		return CuBridgeJNI.tanh(name, out);
+	}
+
+	@Override
+	public boolean ReLu(String name, String out) {
+		return CuBridgeJNI.ReLu(name, out);
+	}
+
+	@Override
+	public boolean leakReLu(String name, String out) {
+		return CuBridgeJNI.leakReLu(name, out);
+	}
+
+	@Override
+	public boolean softplus(String name, String out) {
+		return CuBridgeJNI.softplus(name, out);
+	}
+
+	@Override
+	public boolean exp(String name, String out) {
+		return CuBridgeJNI.exp(name, out);
+	}
+
+	@Override
+	public boolean round(String name, String out) {
+		return CuBridgeJNI.round(name, out);
+	}
+
+	@Override
+	public boolean ceil(String name, String out) {
+		return CuBridgeJNI.ceil(name, out);
+	}
+
+	@Override
+	public boolean floor(String name, String out) {
+		return CuBridgeJNI.floor(name, out);
+	}
+
+	@Override
+	public boolean not(String a, String out) {
+		return CuBridgeJNI.not(a, out);
+	}
+
+	@Override
+	public boolean deg2rad(String name, String out) {
+		return CuBridgeJNI.deg2rad(name, out);
+	}
+
+	@Override
+	public boolean rad2deg(String name, String out) {
+		return CuBridgeJNI.rad2deg(name, out);
+	}
+
+	// 이항
+	@Override
+	public boolean add(String a, String b, String out) {
+		return CuBridgeJNI.add(a, b, out);
+	}
+
+	@Override
+	public boolean sub(String a, String b, String out) {
+		return CuBridgeJNI.sub(a, b, out);
+	}
+
+	@Override
+	public boolean mul(String a, String b, String out) {
+		return CuBridgeJNI.mul(a, b, out);
+	}
+
+	@Override
+	public boolean div(String a, String b, String out) {
+		return CuBridgeJNI.div(a, b, out);
+	}
+
+	@Override
+	public boolean pow(String a, String b, String out) {
+		return CuBridgeJNI.pow(a, b, out);
+	}
+
+	@Override
+	public boolean mod(String a, String b, String out) {
+		return CuBridgeJNI.mod(a, b, out);
+	}
+
+	@Override
+	public boolean gt(String a, String b, String out) {
+		return CuBridgeJNI.gt(a, b, out);
+	}
+
+	@Override
+	public boolean lt(String a, String b, String out) {
+		return CuBridgeJNI.lt(a, b, out);
+	}
+
+	@Override
+	public boolean ge(String a, String b, String out) {
+		return CuBridgeJNI.ge(a, b, out);
+	}
+
+	@Override
+	public boolean le(String a, String b, String out) {
+		return CuBridgeJNI.le(a, b, out);
+	}
+
+	@Override
+	public boolean eq(String a, String b, String out) {
+		return CuBridgeJNI.eq(a, b, out);
+	}
+
+	@Override
+	public boolean ne(String a, String b, String out) {
+		return CuBridgeJNI.ne(a, b, out);
+	}
+
+	@Override
+	public boolean and(String a, String b, String out) {
+		return CuBridgeJNI.and(a, b, out);
+	}
+
+	@Override
+	public boolean or(String a, String b, String out) {
+		return CuBridgeJNI.or(a, b, out);
+	}
+
+	//축 통합
+	@Override
+	public boolean sum(String a, String out, int axis) {
+		return CuBridgeJNI.sum(a, out, axis);
+	}
+
+	@Override
+	public boolean mean(String a, String out, int axis) {
+		return CuBridgeJNI.mean(a, out, axis);
+	}
+
+	@Override
+	public boolean var(String a, String out, int axis) {
+		return CuBridgeJNI.var(a, out, axis);
+	}
+
+	@Override
+	public boolean std(String a, String out, int axis) {
+		return CuBridgeJNI.std(a, out, axis);
+	}
+
+	@Override
+	public boolean max(String a, String out, int axis) {
+		return CuBridgeJNI.max(a, out, axis);
+	}
+
+	@Override
+	public boolean min(String a, String out, int axis) {
+		return CuBridgeJNI.min(a, out, axis);
+	}
+
+	//축 독립
+	@Override
+	public boolean accumulate(String a, String out, int axis) {
+		return CuBridgeJNI.accumulate(a, out, axis);
+	}
+
+	@Override
+	public boolean compress(String a, String out, int axis) {
+		return CuBridgeJNI.compress(a, out, axis);
+	}
+
+	@Override
+	public boolean expand(String a, String out, int axis, int expandN) {
+		return CuBridgeJNI.expand(a, out, axis, expandN);
+	}
+
+	@Override
+	public boolean argMax(String a, String out, int axis) {
+		return CuBridgeJNI.argMax(a, out, axis);
+	}
+
+	@Override
+	public boolean argMin(String a, String out, int axis) {
+		return CuBridgeJNI.argMin(a, out, axis);
+	}
+
+	@Override
+	public boolean axisMax(String a, String out, int axis) {
+		return CuBridgeJNI.axisMax(a, out, axis);
+	}
+
+	@Override
+	public boolean axisMin(String a, String out, int axis) {
+		return CuBridgeJNI.axisMin(a, out, axis);
+	}
+
+	@Override
+	public boolean transpose(String name, String out, int axis1, int axis2) {
+		return CuBridgeJNI.transpose(name, out, axis1, axis2);
+	}
+
+	//내적
+	@Override
+	public boolean dot(String a, String b, String out) {
+		return CuBridgeJNI.dot(a, b, out);
+	}
+
+	@Override
+	public boolean matmul(String a, String b, String out) {
+		return CuBridgeJNI.matmul(a, b, out);
+	}
+
+	//신경망
+	@Override
+	public boolean affine(String x, String w, String b, String out) {
+		return CuBridgeJNI.affine(x, w, b, out);
+	}
+
+	@Override
+	public boolean softmax(String name, String out, int axis) {
+		return CuBridgeJNI.softmax(name, out, axis);
+	}
+
+	@Override
+	public boolean mse(String a, String b, String out) {
+		return CuBridgeJNI.mse(a, b, out);
+	}
+
+	@Override
+	public boolean cee(String a, String b, String out) {
+		return CuBridgeJNI.cee(a, b, out);
+	}
+
+	@Override
+	public boolean im2col1D(String input, String kernel, String out, int pad, int stride) {
+		return CuBridgeJNI.im2col1D(input, kernel, out, pad, stride);
+	}
+
+	@Override
+	public boolean col2im1D(String input, String kernel, String out, int oL, int pad, int stride) {
+		return CuBridgeJNI.col2im1D(input, kernel, out, oL, pad, stride);
+	}
+
+	@Override
+	public boolean im2col2D(String input, String kernel, String out, int padH, int padW, int strideH, int strideW) {
+		return CuBridgeJNI.im2col2D(input, kernel, out, padH, padW, strideH, strideW);
+	}
+
+	@Override
+	public boolean col2im2D(String input, String kernel, String out, int oH, int oW, int padH, int padW, int strideH, int strideW) {
+		return CuBridgeJNI.col2im2D(input, kernel, out, oH, oW, padH, padW, strideH, strideW);
+	}
+}
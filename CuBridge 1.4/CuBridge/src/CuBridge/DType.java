@@ -0,0 +1,64 @@
+package CuBridge;
+
+/**
+ * DType: Storage type of a {@link Tensor}'s values.
+ *
+ * <p>
+ * Half-precision types only change how values are stored; the CPU engine widens
+ * them to float for every computation (see {@link Tensor#astype(Tensor, DType)}).
+ * FLOAT64 tensors are computed on in double by the CPU engine, per tensor, so
+ * float32 work next to them runs at full speed. BOOL is the result type of
+ * comparisons and logical operations; it reads as 0/1 wherever a number is
+ * expected.
+ * </p>
+ * <ul>
+ *   <li><b>FLOAT32:</b> IEEE 754 single precision, the default.</li>
+ *   <li><b>FLOAT16:</b> IEEE 754 half precision (5-bit exponent, 10-bit
+ *       mantissa); range ±65504, about 3 decimal digits.</li>
+ *   <li><b>BFLOAT16:</b> the upper 16 bits of a float (8-bit exponent, 7-bit
+ *       mantissa); float's range with about 2 decimal digits.</li>
+ *   <li><b>FLOAT64:</b> IEEE 754 double precision; about 16 decimal digits,
+ *       for long reductions and other numerically sensitive work.</li>
+ *   <li><b>BOOL:</b> true/false packed as bits, 64 per {@code long} (element
+ *       {@code i} is bit {@code i % 64} of word {@code i / 64}); 1/32 of the
+ *       memory of a float32 0/1 mask.</li>
+ * </ul>
+ *
+ * @since v1.5
+ */
+public enum DType {
+	FLOAT32(32), FLOAT16(16), BFLOAT16(16), FLOAT64(64), BOOL(1);
+
+	private final int bits;
+
+	DType(int bits) {
+		this.bits = bits;
+	}
+
+	/**
+	 * Returns the size of one stored value, rounded up to whole bytes.
+	 *
+	 * @return bytes per element; 1 for {@link #BOOL}, which actually takes 1/8
+	 */
+	public int bytes() {
+		return (bits + 7) >>> 3;
+	}
+
+	/**
+	 * Returns the exact size of one stored value.
+	 *
+	 * @return bits per element
+	 */
+	public int bits() {
+		return bits;
+	}
+
+	/**
+	 * Reports whether values are stored in 16 bits.
+	 *
+	 * @return {@code true} for {@link #FLOAT16} and {@link #BFLOAT16}
+	 */
+	public boolean isHalf() {
+		return this == FLOAT16 || this == BFLOAT16;
+	}
+}
@@ -0,0 +1,351 @@
+package CuBridge;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * DataLoader: Prepares shuffled mini-batches of one or more {@link Dataset}s on
+ * worker threads, ahead of the training loop.
+ *
+ * <p>
+ * A {@link Dataset.Sampler} gathers every batch on the calling thread, so the
+ * training loop stalls while rows are paged in and copied. A DataLoader moves
+ * that work to {@code workers} background threads, which fill a bounded ring
+ * of {@code depth} batch slots:
+ * </p>
+ * <ul>
+ *   <li>Every slot holds one off-heap batch tensor per dataset, allocated once;
+ *       batches are gathered straight from the mapped shards into it, and
+ *       {@link CuBridge#put(Tensor)} reads it as is.</li>
+ *   <li>{@link #next()} hands over the next prepared slot. When the workers keep
+ *       up it returns at once, and the compute thread only pays for the
+ *       {@code put}, a copy from memory. The slot returned before is given back
+ *       to the workers, so at most {@code depth - 1} batches are prepared
+ *       ahead.</li>
+ *   <li>Batches come out in the same order, and with the same rows, as from a
+ *       {@link Dataset.Sampler} with the same seed, whatever the number of
+ *       workers: rows are assigned to a batch in sequence and only the gathering
+ *       runs in parallel.</li>
+ *   <li>Nothing is allocated per batch. Workers are daemon threads; if one
+ *       fails, {@link #next()} rethrows the failure.</li>
+ * </ul>
+ * <p>
+ * The time the compute thread spent waiting inside {@link #next()} is kept; if
+ * it grows, more workers or a deeper ring are needed.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * try (DataLoader loader = new DataLoader(256, 42, 4, 8, x, y)) {
+ *     for (int step = 0; step < steps; step++) {
+ *         loader.next();
+ *         cb.put(loader.batch(0), "x").put(loader.batch(1), "y");
+ *         ...
+ *     }
+ *     System.out.println(loader);               // stall time and throughput
+ * }
+ * }</pre>
+ *
+ * @since v1.5
+ */
+public final class DataLoader implements AutoCloseable {
+
+	/** One prepared batch. */
+	private static final class Slot {
+		final Tensor[] tensors;
+		final FloatBuffer[] buffers;
+		/** The dataset rows of the batch, in file order. */
+		final int[] rows;
+		/** Sequence number of the batch the slot holds or is being filled with. */
+		long seq = -1;
+		long epoch;
+		boolean ready;
+
+		Slot(Dataset[] sets, int batch) {
+			tensors = new Tensor[sets.length];
+			buffers = new FloatBuffer[sets.length];
+			for (int k = 0; k < sets.length; k++) {
+				tensors[k] = Tensor.direct(sets[k].batchShape(batch));
+				buffers[k] = tensors[k].getBuffer();
+			}
+			rows = new int[batch];
+		}
+	}
+
+	private final Dataset[] sets;
+	private final int batch;
+	private final Slot[] ring;
+	private final Thread[] workers;
+
+	// 아래는 모두 this 로 보호
+	private final int[] order;
+	private final Random random;
+	/** Start of the next batch in {@link #order}. */
+	private int position;
+	private long epoch;
+	/** Sequence number of the next batch a worker takes on. */
+	private long claimed;
+	/** Sequence number of the next batch {@link #next()} returns. */
+	private long taken;
+	/** Batches given back by {@link #next()}, whose slots may be refilled. */
+	private long released;
+	private Slot current;
+	private boolean closed;
+	private Throwable failure;
+	private long bytes;
+	private long gatherNanos;
+	private long waitNanos;
+
+	/**
+	 * Creates a loader and starts its workers.
+	 * <p>
+	 * Full parameter: {@code DataLoader(int batch, long seed, int workers, int depth, Dataset... sets)}<br>
+	 * This version:
+	 * <ul>
+	 * <li>workers = half the available cores, at least 1</li>
+	 * <li>depth = workers + 2 (every worker busy, one batch ready, one in use)</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param batch rows per batch
+	 * @param seed  seed of the shuffles
+	 * @param sets  the datasets, all with the same number of rows
+	 * @throws IllegalArgumentException as {@link Dataset.Sampler}
+	 */
+	public DataLoader(int batch, long seed, Dataset... sets) {
+		this(batch, seed, defaultWorkers(), defaultWorkers() + 2, sets);
+	}
+
+	private static int defaultWorkers() {
+		return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+	}
+
+	/**
+	 * Creates a loader and starts its workers.
+	 *
+	 * @param batch   rows per batch
+	 * @param seed    seed of the shuffles
+	 * @param workers number of worker threads preparing batches
+	 * @param depth   number of batch slots in the ring, the one in use
+	 *                included; each holds one batch of every dataset
+	 * @param sets    the datasets, all with the same number of rows
+	 * @throws IllegalArgumentException as {@link Dataset.Sampler}, or if
+	 *                                  {@code workers} is below 1 or
+	 *                                  {@code depth} below 2
+	 */
+	public DataLoader(int batch, long seed, int workers, int depth, Dataset... sets) {
+		int rows = Dataset.sampledRows(batch, sets);
+		if (workers < 1)
+			throw new IllegalArgumentException("workers must be at least 1, got " + workers);
+		if (depth < 2)
+			throw new IllegalArgumentException("depth must be at least 2, got " + depth);
+
+		this.sets = sets.clone();
+		this.batch = batch;
+		this.ring = new Slot[depth];
+		for (int i = 0; i < depth; i++)
+			ring[i] = new Slot(this.sets, batch);
+
+		this.order = new int[rows];
+		for (int i = 0; i < rows; i++)
+			order[i] = i;
+		this.random = new Random(seed);
+		Dataset.shuffle(order, random);
+
+		this.workers = new Thread[workers];
+		for (int w = 0; w < workers; w++) {
+			Thread t = new Thread(this::work, "cubridge-loader-" + w);
+			t.setDaemon(true);
+			this.workers[w] = t;
+			t.start();
+		}
+	}
+
+	// ===================== 작업자 =====================
+
+	/** Worker loop: take the next free slot, assign it rows, gather them. */
+	private void work() {
+		try {
+			while (true) {
+				Slot s;
+				synchronized (this) {
+					while (!closed && claimed >= released + ring.length)
+						wait();
+					if (closed)
+						return;
+					s = ring[(int) (claimed % ring.length)];
+					// 행 배정은 순서대로 (시드가 같으면 작업자 수와 관계없이 같은 배치)
+					if (position + batch > order.length) {
+						Dataset.shuffle(order, random);
+						position = 0;
+						epoch++;
+					}
+					// Sampler 와 같이 order 안에서 정렬 (다음 셔플이 같은 배열에서 시작)
+					Arrays.sort(order, position, position + batch);
+					System.arraycopy(order, position, s.rows, 0, batch);
+					position += batch;
+					s.seq = claimed++;
+					s.epoch = epoch;
+					s.ready = false;
+				}
+
+				// 정렬된 행을 파일 순서로 읽어 이웃한 행이 같은 페이지를 씀
+				long t0 = System.nanoTime();
+				for (int k = 0; k < sets.length; k++) {
+					Dataset d = sets[k];
+					int n = d.rowLength();
+					for (int i = 0; i < batch; i++)
+						d.gather(s.rows[i], s.buffers[k], i * n);
+				}
+				long dt = System.nanoTime() - t0;
+
+				synchronized (this) {
+					s.ready = true;
+					gatherNanos += dt;
+					for (Dataset d : sets)
+						bytes += 4L * batch * d.rowLength();
+					notifyAll();
+				}
+			}
+		} catch (InterruptedException e) {
+			// close() 가 깨움
+		} catch (Throwable t) {
+			synchronized (this) {
+				if (failure == null)
+					failure = t;
+				notifyAll();
+			}
+		}
+	}
+
+	// ===================== 배치 =====================
+
+	/**
+	 * Gives the current batch back to the workers and makes the next one
+	 * current, waiting only if it is not prepared yet.
+	 *
+	 * @return this loader
+	 * @throws IllegalStateException if the loader is closed, also while waiting,
+	 *                               a worker failed (the failure is the cause)
+	 *                               or the thread is interrupted while waiting
+	 */
+	public DataLoader next() {
+		long t0 = System.nanoTime();
+		synchronized (this) {
+			if (closed)
+				throw new IllegalStateException("data loader is closed");
+			if (current != null) {
+				current = null;
+				released++;
+				notifyAll();
+			}
+			Slot s = ring[(int) (taken % ring.length)];
+			while (!closed && failure == null && !(s.ready && s.seq == taken)) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("interrupted while waiting for a batch", e);
+				}
+			}
+			// 다른 스레드의 close() 로 깨어난 경우
+			if (closed)
+				throw new IllegalStateException("data loader is closed");
+			if (failure != null)
+				throw new IllegalStateException("data loader worker failed", failure);
+			current = s;
+			taken++;
+			waitNanos += System.nanoTime() - t0;
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the current batch of dataset {@code k}; it stays valid until the
+	 * next call to {@link #next()}.
+	 *
+	 * @param k index of the dataset, in constructor order
+	 * @return an off-heap tensor of shape {@code [batch, rowShape...]}
+	 * @throws IllegalStateException if {@link #next()} has not been called
+	 */
+	public synchronized Tensor batch(int k) {
+		if (current == null)
+			throw new IllegalStateException("no current batch; call next()");
+		return current.tensors[k];
+	}
+
+	/**
+	 * Returns the epoch of the current batch.
+	 *
+	 * @return 0 during the first pass over the rows
+	 */
+	public synchronized long getEpoch() {
+		return current == null ? 0 : current.epoch;
+	}
+
+	/**
+	 * Returns the time the calling thread has spent inside {@link #next()},
+	 * mostly waiting for batches that were not prepared yet.
+	 *
+	 * @return seconds
+	 */
+	public synchronized double getWaitSeconds() {
+		return waitNanos / 1e9;
+	}
+
+	/**
+	 * Returns the bytes gathered by the workers so far, over all datasets.
+	 *
+	 * @return bytes copied into batch slots
+	 */
+	public synchronized long getBytesRead() {
+		return bytes;
+	}
+
+	/**
+	 * Returns the read throughput of one worker so far.
+	 *
+	 * @return megabytes (10^6 bytes) gathered per second a worker spent
+	 *         gathering
+	 */
+	public synchronized double getThroughput() {
+		return gatherNanos == 0 ? 0.0 : bytes / 1e6 / (gatherNanos / 1e9);
+	}
+
+	/**
+	 * Stops the workers and waits for them to finish; the batch tensors must not
+	 * be used afterwards. A thread waiting in {@link #next()} is woken and gets
+	 * an {@link IllegalStateException}. Closing twice does nothing.
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (closed)
+				return;
+			closed = true;
+			current = null;
+			notifyAll();
+		}
+		for (Thread t : workers) {
+			try {
+				t.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns a string representation of the loader and its statistics.
+	 *
+	 * @return batch size, workers, depth, batches handed out, stall time and
+	 *         per-worker throughput
+	 */
+	@Override
+	public synchronized String toString() {
+		return String.format("batch %d, %d workers, depth %d, %d batches, waited %.3f s, %.1f MB read (%.1f MB/s per worker)",
+				batch, workers.length, ring.length, taken, waitNanos / 1e9, bytes / 1e6, getThroughput());
+	}
+}
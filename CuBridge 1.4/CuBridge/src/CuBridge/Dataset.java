@@ -0,0 +1,568 @@
+package CuBridge;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Dataset: A float32 dataset of fixed-shape rows stored on disk as a directory
+ * of shards, read by memory mapping.
+ *
+ * <p>
+ * Every shard is a {@link TensorFile} of shape {@code [rows, rowShape...]}
+ * named {@code shard-00000.cbt}, {@code shard-00001.cbt}, ...; a text index,
+ * {@value #INDEX}, lists the row shape and each shard with its row count:
+ * </p>
+ * <pre>
+ * CBDATASET 1
+ * shape 28 28
+ * shard-00000.cbt 65536
+ * shard-00001.cbt 4464
+ * </pre>
+ * <ul>
+ *   <li>{@link #create(String, int, int...)} writes shards as rows are appended,
+ *       so a dataset far larger than the heap is built a block at a time.</li>
+ *   <li>{@link #open(String)} maps every shard; nothing is read until a row is
+ *       used, and the operating system keeps as much of the data in memory as
+ *       fits.</li>
+ *   <li>A {@link Sampler} draws shuffled mini-batches: it gathers the rows of a
+ *       batch from the mappings straight into one reusable off-heap batch
+ *       tensor, which {@link CuBridge#put(Tensor)} reads as is. Nothing is
+ *       allocated per row or per batch.</li>
+ * </ul>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * try (Dataset.Writer w = Dataset.create("mnist/x", 65536, 784)) {
+ *     for (Tensor block : blocks)
+ *         w.append(block);                       // [k, 784]
+ * }
+ * Dataset x = Dataset.open("mnist/x"), y = Dataset.open("mnist/y");
+ * Dataset.Sampler s = new Dataset.Sampler(256, 42, x, y);
+ * for (int step = 0; step < steps; step++) {
+ *     s.next();
+ *     cb.put(s.batch(0), "x").put(s.batch(1), "y");
+ *     ...
+ * }
+ * System.out.println(s);                        // read throughput
+ * }</pre>
+ *
+ * @since v1.5
+ */
+public final class Dataset {
+
+	/** Name of the index file in a dataset directory. */
+	public static final String INDEX = "index.txt";
+	private static final String HEADER = "CBDATASET 1";
+
+	private final String dir;
+	private final int[] rowShape;
+	/** Elements per row. */
+	private final int slab;
+	private final TensorFile[] shards;
+	/** First global row of every shard, plus the total at the end. */
+	private final long[] starts;
+
+	private Dataset(String dir, int[] rowShape, TensorFile[] shards, long[] starts) {
+		this.dir = dir;
+		this.rowShape = rowShape;
+		this.slab = slabOf(rowShape);
+		this.shards = shards;
+		this.starts = starts;
+	}
+
+	private static int slabOf(int[] rowShape) {
+		long s = 1;
+		for (int d : rowShape) {
+			if (d < 1)
+				throw new IllegalArgumentException("bad row shape " + Arrays.toString(rowShape));
+			s *= d;
+			if (s > BigTensor.MAX_ARRAY)
+				throw new IllegalArgumentException("row shape " + Arrays.toString(rowShape) + " exceeds the largest Tensor");
+		}
+		return (int) s;
+	}
+
+	// ===================== 열기 =====================
+
+	/**
+	 * Opens a dataset directory: reads the index and maps every shard.
+	 *
+	 * @param dir the dataset directory
+	 * @return the opened dataset; it holds no open file handle
+	 * @throws IOException if the index or a shard cannot be read, or a shard is
+	 *                     not float32 or does not match the index
+	 */
+	public static Dataset open(String dir) throws IOException {
+		Path index = Paths.get(dir, INDEX);
+		List<String> lines = Files.readAllLines(index, StandardCharsets.UTF_8);
+		if (lines.size() < 2 || !lines.get(0).trim().equals(HEADER) || !lines.get(1).startsWith("shape"))
+			throw new IOException(index + " is not a dataset index");
+
+		String[] dims = lines.get(1).trim().split("\\s+");
+		int[] rowShape = new int[dims.length - 1];
+		try {
+			for (int d = 0; d < rowShape.length; d++)
+				rowShape[d] = Integer.parseInt(dims[d + 1]);
+			slabOf(rowShape);
+		} catch (IllegalArgumentException e) {
+			throw new IOException(index + ": bad shape line '" + lines.get(1) + "'");
+		}
+
+		List<TensorFile> shards = new ArrayList<>();
+		List<Long> starts = new ArrayList<>();
+		long total = 0;
+		for (String line : lines.subList(2, lines.size())) {
+			line = line.trim();
+			if (line.isEmpty())
+				continue;
+			String[] f = line.split("\\s+");
+			long rows;
+			try {
+				rows = Long.parseLong(f[f.length - 1]);
+			} catch (NumberFormatException e) {
+				throw new IOException(index + ": bad shard line '" + line + "'");
+			}
+			String name = line.substring(0, line.lastIndexOf(f[f.length - 1])).trim();
+			TensorFile t = TensorFile.open(Paths.get(dir, name).toString());
+			long[] s = t.getShape();
+			boolean match = t.getDType() == DType.FLOAT32 && s.length == rowShape.length + 1 && s[0] == rows;
+			for (int d = 0; match && d < rowShape.length; d++)
+				match = s[d + 1] == rowShape[d];
+			if (!match)
+				throw new IOException(index + ": " + t + " does not match " + rows + " float32 rows of "
+						+ Arrays.toString(rowShape));
+			shards.add(t);
+			starts.add(total);
+			total += rows;
+		}
+		starts.add(total);
+
+		long[] st = new long[starts.size()];
+		for (int i = 0; i < st.length; i++)
+			st[i] = starts.get(i);
+		return new Dataset(dir, rowShape, shards.toArray(new TensorFile[0]), st);
+	}
+
+	/**
+	 * Starts writing a dataset into {@code dir}, which is created if needed;
+	 * existing shards and index in it are replaced.
+	 *
+	 * @param dir          the dataset directory
+	 * @param rowsPerShard rows per shard file (the last may hold fewer); the
+	 *                     writer buffers one shard on the heap
+	 * @param rowShape     shape of one row
+	 * @return a writer; {@link Writer#close()} completes the dataset
+	 * @throws IOException              if the directory cannot be created
+	 * @throws IllegalArgumentException if {@code rowsPerShard} is below 1 or a
+	 *                                  shard would exceed the largest array
+	 */
+	public static Writer create(String dir, int rowsPerShard, int... rowShape) throws IOException {
+		return new Writer(dir, rowsPerShard, rowShape);
+	}
+
+	// ===================== 구조 =====================
+
+	/**
+	 * Returns the number of rows.
+	 *
+	 * @return rows in all shards
+	 */
+	public long getRows() {
+		return starts[starts.length - 1];
+	}
+
+	/**
+	 * Returns the shape of one row.
+	 *
+	 * @return cloned array of the row's dimensions
+	 */
+	public int[] getRowShape() {
+		return rowShape.clone();
+	}
+
+	/**
+	 * Returns the number of shard files.
+	 *
+	 * @return shard count
+	 */
+	public int getShardCount() {
+		return shards.length;
+	}
+
+	/**
+	 * Returns {@code count} consecutive rows as a {@link Tensor} of shape
+	 * {@code [count, rowShape...]}: an off-heap view of the mapping if they lie
+	 * in one shard, a copy otherwise.
+	 *
+	 * @param start first row
+	 * @param count number of rows
+	 * @return the rows
+	 * @throws IllegalArgumentException if the range is outside the dataset or the
+	 *                                  rows do not fit in a Tensor
+	 */
+	public Tensor rows(long start, int count) {
+		if (start < 0 || count < 1 || start + count > getRows())
+			throw new IllegalArgumentException("rows [" + start + ", " + (start + count) + ") outside " + getRows()
+					+ " rows");
+		int s = shardOf(start);
+		if (start + count <= starts[s + 1])
+			return shards[s].rows(start - starts[s], count);
+
+		if ((long) count * slab > BigTensor.MAX_ARRAY)
+			throw new IllegalArgumentException(count + " rows exceed the largest Tensor");
+		Tensor out = Tensor.direct(batchShape(count));
+		FloatBuffer b = out.getBuffer();
+		for (int i = 0; i < count; i++)
+			gather(start + i, b, i * slab);
+		return out;
+	}
+
+	/**
+	 * Returns a string representation of the dataset.
+	 *
+	 * @return the directory, row count, row shape and shard count
+	 */
+	@Override
+	public String toString() {
+		return dir + ": " + getRows() + " rows of " + Arrays.toString(rowShape) + " (" + shards.length + " shards)";
+	}
+
+	/** The shard holding global row {@code row}. */
+	private int shardOf(long row) {
+		int s = Arrays.binarySearch(starts, 0, shards.length, row);
+		// 빈 샤드가 있으면 같은 시작이 여럿이므로 마지막 것으로
+		if (s >= 0) {
+			while (s + 1 < shards.length && starts[s + 1] == row)
+				s++;
+			return s;
+		}
+		return -s - 2;
+	}
+
+	/** Copies global row {@code row} into {@code dst} at {@code at}, without allocating. */
+	void gather(long row, FloatBuffer dst, int at) {
+		int s = shardOf(row);
+		shards[s].gather((row - starts[s]) * slab, dst, at, slab);
+	}
+
+	/** Elements per row. */
+	int rowLength() {
+		return slab;
+	}
+
+	/** The shape {@code [batch, rowShape...]} of a batch. */
+	int[] batchShape(int batch) {
+		int[] shape = new int[rowShape.length + 1];
+		shape[0] = batch;
+		System.arraycopy(rowShape, 0, shape, 1, rowShape.length);
+		return shape;
+	}
+
+	/**
+	 * The common row count of datasets sampled together in batches of
+	 * {@code batch}.
+	 *
+	 * @throws IllegalArgumentException if no dataset is given, the row counts
+	 *                                  differ, the batch does not fit in the rows
+	 *                                  or there are more than 2^31 - 9 rows
+	 */
+	static int sampledRows(int batch, Dataset... sets) {
+		if (sets.length == 0)
+			throw new IllegalArgumentException("no dataset to sample");
+		long rows = sets[0].getRows();
+		for (Dataset d : sets)
+			if (d.getRows() != rows)
+				throw new IllegalArgumentException("datasets differ in rows: " + sets[0] + ", " + d);
+		if (batch < 1 || batch > rows)
+			throw new IllegalArgumentException("batch of " + batch + " from " + rows + " rows");
+		if (rows > BigTensor.MAX_ARRAY)
+			throw new IllegalArgumentException(rows + " rows exceed the largest permutation");
+		return (int) rows;
+	}
+
+	/** Fisher-Yates over the whole of {@code order}, in place. */
+	static void shuffle(int[] order, Random random) {
+		for (int i = order.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int t = order[i];
+			order[i] = order[j];
+			order[j] = t;
+		}
+	}
+
+	// ===================== 쓰기 =====================
+
+	/**
+	 * Writes a dataset a block of rows at a time, one shard file per
+	 * {@code rowsPerShard} rows; {@link #close()} writes the last shard and the
+	 * index.
+	 *
+	 * @since v1.5
+	 */
+	public static final class Writer implements Closeable {
+
+		private final Path dir;
+		private final int[] rowShape;
+		private final int slab;
+		private final int rowsPerShard;
+		private final float[] buffer;
+		/** Rows in {@link #buffer}. */
+		private int filled;
+		private final StringBuilder index = new StringBuilder();
+		private int shards;
+		private boolean closed;
+
+		private Writer(String dir, int rowsPerShard, int[] rowShape) throws IOException {
+			if (rowsPerShard < 1)
+				throw new IllegalArgumentException("rowsPerShard must be at least 1, got " + rowsPerShard);
+			this.rowShape = rowShape.clone();
+			this.slab = slabOf(rowShape);
+			if ((long) rowsPerShard * slab > BigTensor.MAX_ARRAY)
+				throw new IllegalArgumentException(rowsPerShard + " rows of " + Arrays.toString(rowShape)
+						+ " exceed the largest array");
+			this.rowsPerShard = rowsPerShard;
+			this.buffer = new float[rowsPerShard * slab];
+			this.dir = Paths.get(dir);
+			Files.createDirectories(this.dir);
+
+			index.append(HEADER).append('\n').append("shape");
+			for (int d : rowShape)
+				index.append(' ').append(d);
+			index.append('\n');
+		}
+
+		/**
+		 * Appends rows.
+		 *
+		 * @param rows a tensor (or view) of shape {@code [k, rowShape...]}
+		 * @return this writer
+		 * @throws IOException              if a shard cannot be written
+		 * @throws IllegalArgumentException if the row shape does not match
+		 * @throws IllegalStateException    if the writer is closed
+		 */
+		public Writer append(Tensor rows) throws IOException {
+			if (closed)
+				throw new IllegalStateException("dataset writer is closed");
+			int[] s = rows.getShape();
+			if (s.length != rowShape.length + 1 || !Arrays.equals(Arrays.copyOfRange(s, 1, s.length), rowShape))
+				throw new IllegalArgumentException("rows of shape " + Arrays.toString(s) + " do not match rows of "
+						+ Arrays.toString(rowShape));
+
+			float[] v = rows.toArray();
+			for (int done = 0; done < s[0];) {
+				int k = Math.min(s[0] - done, rowsPerShard - filled);
+				System.arraycopy(v, done * slab, buffer, filled * slab, k * slab);
+				filled += k;
+				done += k;
+				if (filled == rowsPerShard)
+					flush();
+			}
+			return this;
+		}
+
+		/** Writes the buffered rows as the next shard; an existing shard is replaced, not rewritten. */
+		private void flush() throws IOException {
+			String name = String.format("shard-%05d.cbt", shards++);
+			long[] shape = new long[rowShape.length + 1];
+			shape[0] = filled;
+			for (int d = 0; d < rowShape.length; d++)
+				shape[d + 1] = rowShape[d];
+			TensorFile.write(dir.resolve(name).toString(), DType.FLOAT32, shape,
+					(first, dst, at, n) -> ((FloatBuffer) dst).put(at, buffer, (int) first, n));
+			index.append(name).append(' ').append(filled).append('\n');
+			filled = 0;
+		}
+
+		/**
+		 * Writes the remaining rows as the last shard, then the index.
+		 *
+		 * @throws IOException if the shard or the index cannot be written
+		 */
+		@Override
+		public void close() throws IOException {
+			if (closed)
+				return;
+			closed = true;
+			if (filled > 0)
+				flush();
+			// 열려 있는 Dataset 이 읽는 색인도 제자리에서 덮어쓰지 않음
+			Path target = dir.resolve(INDEX), tmp = TensorFile.temporary(target);
+			try {
+				Files.write(tmp, index.toString().getBytes(StandardCharsets.UTF_8));
+				TensorFile.replace(tmp, target);
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		}
+	}
+
+	// ===================== 샘플러 =====================
+
+	/**
+	 * Draws shuffled mini-batches of rows from one or more datasets of the same
+	 * row count (e.g. inputs and labels), row {@code i} of each going to the same
+	 * batch position.
+	 * <ul>
+	 * <li>Each epoch visits the rows in a new random order; a tail shorter than a
+	 * batch is left for the next epoch's shuffle to pick up.</li>
+	 * <li>{@link #next()} gathers a batch from the mapped shards straight into one
+	 * off-heap tensor per dataset, reused for every batch, in parallel. The rows of
+	 * a batch are taken in file order, so neighbouring rows share page reads.</li>
+	 * <li>No memory is allocated per row or per batch; the permutation takes 4
+	 * bytes per row.</li>
+	 * <li>The time spent gathering and the bytes gathered are kept, for
+	 * {@link #getThroughput()}.</li>
+	 * </ul>
+	 * A sampler is used from one thread at a time.
+	 *
+	 * @since v1.5
+	 */
+	public static final class Sampler {
+
+		private final Dataset[] sets;
+		private final Tensor[] batches;
+		private final FloatBuffer[] buffers;
+		private final int batch;
+		private final int[] order;
+		private final Random random;
+		/** The gather body, made once so that a batch allocates nothing. */
+		private final CpuParallel.Range gather;
+		/** Batch positions per gather task. */
+		private final int grain;
+		/** Start of the next batch in {@link #order}. */
+		private int position;
+		private long epoch;
+		private long bytes;
+		private long nanos;
+
+		/**
+		 * Creates a sampler.
+		 *
+		 * @param batch rows per batch
+		 * @param seed  seed of the shuffles
+		 * @param sets  the datasets, all with the same number of rows
+		 * @throws IllegalArgumentException if no dataset is given, the row counts
+		 *                                  differ, the batch is larger than a
+		 *                                  dataset or a batch tensor, or there are
+		 *                                  more than 2^31 - 9 rows
+		 */
+		public Sampler(int batch, long seed, Dataset... sets) {
+			int rows = sampledRows(batch, sets);
+			this.sets = sets.clone();
+			this.batch = batch;
+			this.batches = new Tensor[sets.length];
+			this.buffers = new FloatBuffer[sets.length];
+			int grain = 1;
+			for (int k = 0; k < sets.length; k++) {
+				batches[k] = Tensor.direct(sets[k].batchShape(batch));
+				buffers[k] = batches[k].getBuffer();
+				grain = Math.max(grain, CpuParallel.GRAIN / sets[k].slab);
+			}
+
+			this.order = new int[rows];
+			for (int i = 0; i < order.length; i++)
+				order[i] = i;
+			this.random = new Random(seed);
+			shuffle(order, random);
+
+			this.grain = Math.min(grain, batch);
+			this.gather = (from, to) -> {
+				for (int k = 0; k < this.sets.length; k++) {
+					Dataset d = this.sets[k];
+					for (int i = from; i < to; i++)
+						d.gather(order[position + i], buffers[k], i * d.slab);
+				}
+			};
+		}
+
+		/**
+		 * Gathers the next batch into the batch tensors, starting a new epoch when
+		 * fewer than a batch of rows remain in this one.
+		 *
+		 * @return this sampler
+		 */
+		public Sampler next() {
+			if (position + batch > order.length) {
+				shuffle(order, random);
+				position = 0;
+				epoch++;
+			}
+			long t0 = System.nanoTime();
+			// 배치 안에서는 파일 순서로 읽어 이웃한 행이 같은 페이지를 씀
+			Arrays.sort(order, position, position + batch);
+			CpuParallel.forRange(batch, grain, gather);
+			nanos += System.nanoTime() - t0;
+			for (Dataset d : sets)
+				bytes += 4L * batch * d.slab;
+			position += batch;
+			return this;
+		}
+
+		/**
+		 * Returns the batch tensor of dataset {@code k}, overwritten by every
+		 * {@link #next()}.
+		 *
+		 * @param k index of the dataset, in constructor order
+		 * @return an off-heap tensor of shape {@code [batch, rowShape...]}
+		 */
+		public Tensor batch(int k) {
+			return batches[k];
+		}
+
+		/**
+		 * Returns the number of completed epochs.
+		 *
+		 * @return 0 during the first pass over the rows
+		 */
+		public long getEpoch() {
+			return epoch;
+		}
+
+		/**
+		 * Returns the bytes gathered so far, over all datasets.
+		 *
+		 * @return bytes copied into the batch tensors
+		 */
+		public long getBytesRead() {
+			return bytes;
+		}
+
+		/**
+		 * Returns the time spent gathering so far.
+		 *
+		 * @return seconds inside {@link #next()}
+		 */
+		public double getReadSeconds() {
+			return nanos / 1e9;
+		}
+
+		/**
+		 * Returns the read throughput so far.
+		 *
+		 * @return megabytes (10^6 bytes) gathered per second of gathering
+		 */
+		public double getThroughput() {
+			return nanos == 0 ? 0.0 : bytes / 1e6 / (nanos / 1e9);
+		}
+
+		/**
+		 * Returns a string representation of the sampler and its throughput.
+		 *
+		 * @return batch size, epoch and read statistics
+		 */
+		@Override
+		public String toString() {
+			return String.format("batch %d, epoch %d, %.1f MB read in %.3f s (%.1f MB/s)", batch, epoch, bytes / 1e6,
+					nanos / 1e9, getThroughput());
+		}
+	}
+}
@@ -0,0 +1,359 @@
+package CuBridge;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * NpyFormat: Reader and writer of NumPy {@code .npy} files and reader of
+ * {@code .npz} archives behind {@link Tensor#readNPY(String)}.
+ *
+ * <p>
+ * An {@code .npy} file is a magic string, a version, and a Python dict literal
+ * giving the dtype ({@code descr}), the memory order and the shape, padded so
+ * that the raw values start on a 64-byte boundary. The values are read from
+ * a channel into one reusable direct buffer, a block at a time, and decoded
+ * with bulk buffer copies into an array allocated once at its final size;
+ * nothing is parsed per value. An {@code .npz} archive is a zip of
+ * {@code .npy} files, stored or deflated; its entries are read in sequence
+ * from the zip stream through the same decoder, without being extracted.
+ * </p>
+ * <ul>
+ *   <li>{@code f4} reads as FLOAT32, {@code f8} as FLOAT64, {@code f2} as
+ *       FLOAT16 and {@code b1} as BOOL, in either byte order.</li>
+ *   <li>Signed and unsigned integers of 1 to 8 bytes read as FLOAT32, exact up
+ *       to 2^24 in magnitude.</li>
+ *   <li>Only C (row-major) order is read. A 0-d array reads as shape
+ *       {@code [1]}.</li>
+ * </ul>
+ *
+ * @since v1.5
+ */
+final class NpyFormat {
+
+	private static final byte[] MAGIC = { (byte) 0x93, 'N', 'U', 'M', 'P', 'Y' };
+	/** Bytes of values decoded per read. */
+	private static final int BLOCK = 1 << 22;
+
+	private static final Pattern DESCR = Pattern.compile("'descr'\\s*:\\s*'([^']*)'");
+	private static final Pattern FORTRAN = Pattern.compile("'fortran_order'\\s*:\\s*(True|False)");
+	private static final Pattern SHAPE = Pattern.compile("'shape'\\s*:\\s*\\(([^)]*)\\)");
+
+	private NpyFormat() {
+	}
+
+	// ===================== 읽기 =====================
+
+	/**
+	 * Reads an {@code .npy} file.
+	 *
+	 * @throws IOException           if the file cannot be read, is not an
+	 *                               {@code .npy} file, or holds an unsupported
+	 *                               dtype or Fortran-order values
+	 * @throws IllegalStateException if the array does not fit in a Tensor
+	 */
+	static Tensor read(String path) throws IOException {
+		try (FileChannel ch = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			return read(ch, path);
+		}
+	}
+
+	/**
+	 * Reads every {@code .npy} entry of an {@code .npz} archive, in archive order,
+	 * handing each to {@code each} with its name less the {@code .npy} suffix.
+	 * Other entries are skipped.
+	 */
+	static void readArchive(String path, BiConsumer<String, Tensor> each) throws IOException {
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(Paths.get(path)), 1 << 16);
+				ZipInputStream zip = new ZipInputStream(in)) {
+			ReadableByteChannel ch = Channels.newChannel(zip);
+			for (ZipEntry e; (e = zip.getNextEntry()) != null;) {
+				String name = e.getName();
+				if (e.isDirectory() || !name.endsWith(".npy"))
+					continue;
+				name = name.substring(0, name.length() - 4);
+				each.accept(name, read(ch, path + "/" + name));
+			}
+		}
+	}
+
+	/** Reads one array from the current position of {@code ch}. */
+	private static Tensor read(ReadableByteChannel ch, String path) throws IOException {
+		ByteBuffer pre = ByteBuffer.allocate(MAGIC.length + 2).order(ByteOrder.LITTLE_ENDIAN);
+		readFully(ch, pre, path);
+		byte[] magic = new byte[MAGIC.length];
+		pre.get(0, magic);
+		if (!Arrays.equals(magic, MAGIC))
+			throw new IOException(path + " is not an .npy file");
+		int major = pre.get(MAGIC.length);
+		if (major < 1 || major > 3)
+			throw new IOException(path + ": unsupported .npy version " + major);
+
+		ByteBuffer len = ByteBuffer.allocate(major == 1 ? 2 : 4).order(ByteOrder.LITTLE_ENDIAN);
+		readFully(ch, len, path);
+		long headerLength = major == 1 ? Short.toUnsignedInt(len.getShort(0)) : Integer.toUnsignedLong(len.getInt(0));
+		if (headerLength > 1 << 20)
+			throw new IOException(path + ": header of " + headerLength + " bytes");
+		ByteBuffer head = ByteBuffer.allocate((int) headerLength);
+		readFully(ch, head, path);
+		// 버전 3 만 UTF-8, 그 앞은 latin-1
+		String dict = new String(head.array(), major == 3 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+
+		Matcher d = DESCR.matcher(dict), f = FORTRAN.matcher(dict), s = SHAPE.matcher(dict);
+		if (!d.find() || !f.find() || !s.find())
+			throw new IOException(path + ": bad header " + dict.trim());
+		if (f.group(1).equals("True"))
+			throw new IOException(path + ": Fortran-order arrays are not supported; save np.ascontiguousarray(a)");
+		int[] shape = shape(s.group(1), path);
+		int n = 1;
+		for (int x : shape)
+			n *= x;
+		return decode(ch, d.group(1), shape, n, path);
+	}
+
+	/** The dims of a Python tuple body such as {@code "3, 4"} or {@code "5,"}. */
+	private static int[] shape(String tuple, String path) {
+		String[] parts = tuple.split(",");
+		int[] shape = new int[parts.length];
+		int axes = 0;
+		long n = 1;
+		for (String p : parts) {
+			p = p.trim();
+			if (p.endsWith("L"))
+				p = p.substring(0, p.length() - 1);
+			if (p.isEmpty())
+				continue;
+			long dim = Long.parseLong(p);
+			n *= dim;
+			if (dim > Integer.MAX_VALUE || n > BigTensor.MAX_ARRAY)
+				throw new IllegalStateException(path + ": shape (" + tuple + ") does not fit in a Tensor");
+			shape[axes++] = (int) dim;
+		}
+		return axes == 0 ? new int[] { 1 } : Arrays.copyOf(shape, axes);
+	}
+
+	/** Decodes {@code n} values of NumPy type {@code descr} from {@code ch}. */
+	private static Tensor decode(ReadableByteChannel ch, String descr, int[] shape, int n, String path)
+			throws IOException {
+		if (descr.length() < 3)
+			throw new IOException(path + ": unsupported dtype '" + descr + "'");
+		char order = descr.charAt(0), kind = descr.charAt(1);
+		int size;
+		try {
+			size = Integer.parseInt(descr.substring(2));
+		} catch (NumberFormatException e) {
+			throw new IOException(path + ": unsupported dtype '" + descr + "'");
+		}
+		ByteOrder bo = order == '>' ? ByteOrder.BIG_ENDIAN
+				: order == '<' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.nativeOrder();
+
+		if (kind == 'f' && size == 4) {
+			float[] out = new float[n];
+			Block b = new Block(ch, bo, 4, n, path);
+			for (int i = 0; i < n; i += b.count)
+				b.next().asFloatBuffer().get(out, i, b.count);
+			return Tensor.wrap(out, shape);
+		}
+		if (kind == 'f' && size == 8) {
+			double[] out = new double[n];
+			Block b = new Block(ch, bo, 8, n, path);
+			for (int i = 0; i < n; i += b.count)
+				b.next().asDoubleBuffer().get(out, i, b.count);
+			return Tensor.wrap(out, shape);
+		}
+		if (kind == 'f' && size == 2) {
+			short[] out = new short[n];
+			Block b = new Block(ch, bo, 2, n, path);
+			for (int i = 0; i < n; i += b.count)
+				b.next().asShortBuffer().get(out, i, b.count);
+			return Tensor.wrap(out, DType.FLOAT16, shape);
+		}
+		if (kind == 'b' && size == 1) {
+			long[] out = new long[CpuMask.words(n)];
+			Block b = new Block(ch, bo, 1, n, path);
+			for (int i = 0; i < n;) {
+				ByteBuffer v = b.next();
+				for (int k = 0; k < b.count; k++, i++)
+					if (v.get(k) != 0)
+						out[i >>> 6] |= 1L << i;
+			}
+			return Tensor.wrap(out, shape);
+		}
+		if ((kind == 'i' || kind == 'u') && (size == 1 || size == 2 || size == 4 || size == 8)) {
+			float[] out = new float[n];
+			Block b = new Block(ch, bo, size, n, path);
+			for (int i = 0; i < n; i += b.count)
+				integers(b.next(), kind == 'u', size, out, i, b.count);
+			return Tensor.wrap(out, shape);
+		}
+		throw new IOException(path + ": unsupported dtype '" + descr + "'");
+	}
+
+	/** Widens {@code count} integers of {@code size} bytes to float. */
+	private static void integers(ByteBuffer v, boolean unsigned, int size, float[] out, int at, int count) {
+		switch (size) {
+		case 1:
+			for (int k = 0; k < count; k++)
+				out[at + k] = unsigned ? Byte.toUnsignedInt(v.get(k)) : v.get(k);
+			break;
+		case 2:
+			for (int k = 0; k < count; k++)
+				out[at + k] = unsigned ? Short.toUnsignedInt(v.getShort(2 * k)) : v.getShort(2 * k);
+			break;
+		case 4:
+			for (int k = 0; k < count; k++)
+				out[at + k] = unsigned ? Integer.toUnsignedLong(v.getInt(4 * k)) : v.getInt(4 * k);
+			break;
+		default:
+			for (int k = 0; k < count; k++) {
+				long x = v.getLong(8 * k);
+				// 부호 없는 2^63 이상은 반으로 나눈 값을 두 배 (float 로는 오차 없음)
+				out[at + k] = unsigned && x < 0 ? 2.0f * ((x >>> 1) | (x & 1)) : x;
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Reads the values of one array into a direct buffer, a whole number of
+	 * values at a time.
+	 */
+	private static final class Block {
+		private final ReadableByteChannel ch;
+		private final ByteBuffer buf;
+		private final int size;
+		private final String path;
+		private long left;
+		/** Values in the block returned by the last {@link #next()}. */
+		int count;
+
+		Block(ReadableByteChannel ch, ByteOrder order, int size, int n, String path) {
+			this.ch = ch;
+			this.size = size;
+			this.path = path;
+			this.left = n;
+			this.buf = ByteBuffer.allocateDirect((int) Math.min(BLOCK, Math.max(size, (long) n * size))).order(order);
+		}
+
+		/** The next block of values, at position 0; sets {@link #count}. */
+		ByteBuffer next() throws IOException {
+			count = (int) Math.min(left, buf.capacity() / size);
+			buf.clear().limit(count * size);
+			readFully(ch, buf, path);
+			buf.flip();
+			left -= count;
+			return buf;
+		}
+	}
+
+	private static void readFully(ReadableByteChannel ch, ByteBuffer into, String path) throws IOException {
+		while (into.hasRemaining())
+			if (ch.read(into) < 0)
+				throw new EOFException(path + ": truncated");
+	}
+
+	// ===================== 쓰기 =====================
+
+	/**
+	 * Writes {@code t} as a version 1.0 {@code .npy} file, or 2.0 if the header
+	 * needs it; little-endian, C order. BFLOAT16 has no NumPy type and is
+	 * written as {@code <f4}.
+	 */
+	static void write(Tensor t, String path) throws IOException {
+		DType dtype = t.getDType();
+		String descr = dtype == DType.FLOAT64 ? "<f8"
+				: dtype == DType.FLOAT16 ? "<f2" : dtype == DType.BOOL ? "|b1" : "<f4";
+		int[] shape = t.getShape();
+		StringBuilder dims = new StringBuilder();
+		for (int x : shape)
+			dims.append(x).append(shape.length == 1 ? "," : ", ");
+		String dict = "{'descr': '" + descr + "', 'fortran_order': False, 'shape': ("
+				+ dims.toString().replaceAll(", $", "") + "), }";
+
+		// 매직, 버전 두 바이트, 길이, 사전, '\n' 을 64 바이트 경계까지 공백으로 채움
+		// 길이가 u16 을 넘으면 길이가 u32 인 버전 2.0
+		int pre = MAGIC.length + 4;
+		int total = (pre + dict.length() + 1 + 63) / 64 * 64;
+		boolean v1 = total - pre <= 0xFFFF;
+		if (!v1) {
+			pre = MAGIC.length + 6;
+			total = (pre + dict.length() + 1 + 63) / 64 * 64;
+		}
+		ByteBuffer head = ByteBuffer.allocate(total).order(ByteOrder.LITTLE_ENDIAN);
+		head.put(MAGIC).put((byte) (v1 ? 1 : 2)).put((byte) 0);
+		if (v1)
+			head.putShort((short) (total - pre));
+		else
+			head.putInt(total - pre);
+		head.put(dict.getBytes(StandardCharsets.ISO_8859_1));
+		while (head.position() < total - 1)
+			head.put((byte) ' ');
+		head.put((byte) '\n').flip();
+
+		try (FileChannel ch = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			writeFully(ch, head);
+			int n = t.getSize();
+			int width = dtype == DType.BOOL ? 1 : descr.charAt(2) - '0';
+			ByteBuffer buf = ByteBuffer.allocateDirect((int) Math.min(BLOCK, Math.max(width, (long) n * width)))
+					.order(ByteOrder.LITTLE_ENDIAN);
+			int per = buf.capacity() / width;
+
+			if (dtype == DType.FLOAT64) {
+				double[] v = t.isContiguous() ? t.doubleArray() : t.toDoubleArray();
+				int base = t.isContiguous() ? t.getOffset() : 0;
+				for (int i = 0; i < n; i += per) {
+					int k = Math.min(per, n - i);
+					buf.clear();
+					buf.asDoubleBuffer().put(v, base + i, k);
+					writeFully(ch, buf.limit(k * 8));
+				}
+			} else if (dtype == DType.FLOAT16) {
+				short[] v = t.toHalfArray();
+				for (int i = 0; i < n; i += per) {
+					int k = Math.min(per, n - i);
+					buf.clear();
+					buf.asShortBuffer().put(v, i, k);
+					writeFully(ch, buf.limit(k * 2));
+				}
+			} else if (dtype == DType.BOOL) {
+				long[] v = t.toBitArray();
+				for (int i = 0; i < n; i += per) {
+					int k = Math.min(per, n - i);
+					buf.clear();
+					for (int j = 0; j < k; j++)
+						buf.put(j, (byte) (v[(i + j) >>> 6] >>> (i + j) & 1L));
+					writeFully(ch, buf.limit(k));
+				}
+			} else {
+				FloatBuffer v = dtype == DType.FLOAT32 && t.isContiguous() ? t.storage() : FloatBuffer.wrap(t.toArray());
+				for (int i = 0; i < n; i += per) {
+					int k = Math.min(per, n - i);
+					buf.clear();
+					buf.asFloatBuffer().put(0, v, i, k);
+					writeFully(ch, buf.limit(k * 4));
+				}
+			}
+		}
+	}
+
+	private static void writeFully(FileChannel ch, ByteBuffer b) throws IOException {
+		while (b.hasRemaining())
+			ch.write(b);
+	}
+}
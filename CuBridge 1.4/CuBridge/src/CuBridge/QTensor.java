@@ -0,0 +1,352 @@
+package CuBridge;
+
+import java.util.*;
+
+/**
+ * QTensor: An int8 quantized tensor for CPU inference.
+ *
+ * <p>
+ * Each value is one signed byte {@code q} standing for
+ * {@code scale * (q - zeroPoint)}. The scale and zero point are either shared by
+ * the whole tensor or given per channel along one axis:
+ * </p>
+ * <ul>
+ *   <li><b>Per-tensor, asymmetric</b> ({@link #quantize(Tensor)}): the range
+ *       {@code [min, max]} (widened to contain 0) is mapped onto
+ *       {@code [-128, 127]}. Suited to activations.</li>
+ *   <li><b>Per-channel, symmetric</b> ({@link #quantize(Tensor, int)}): every
+ *       channel gets {@code scale = max|x| / 127} and zero point 0. Suited to
+ *       weights, quantized along their output axis.</li>
+ * </ul>
+ * <p>
+ * {@link #affine(QTensor, Tensor, boolean)} and {@link #dot(QTensor)} multiply a
+ * per-tensor {@code [M, K]} activation by a {@code [K, N]} weight with an
+ * int8 x int8 → int32 GEMM, and fuse the zero-point corrections, scales, bias and
+ * ReLU into the write of each output tile. The result is either float, or int8
+ * requantized to a given scale and zero point, ready to be the next layer's
+ * input. A weight is four times smaller than in float32, and its packed form is
+ * kept with it, so repeated products reuse it.
+ * </p>
+ * <p>
+ * Like {@link BigTensor}, a QTensor lives on the Java side and its operations
+ * run on the CPU kernels directly, without the engine queue. Use
+ * {@link #dequantize()} to hand the values to {@link CuBridge}.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * QTensor w = QTensor.quantize(weights, 1);          // [K, N], per output column
+ * QTensor x = QTensor.quantize(input);               // [M, K]
+ * Tensor y = x.affine(w, bias, true);                // float, ReLU applied
+ * QTensor h = x.affine(w, bias, true, 0.05f, -128);  // int8 for the next layer
+ * }</pre>
+ *
+ * @since v1.5
+ */
+public final class QTensor {
+
+	private final byte[] data;
+	private final int[] shape;
+	private final float[] scale;
+	private final int[] zeroPoint;
+	/** Channel axis of the scales; -1 for a single scale. */
+	private final int axis;
+
+	/** Packed copy and column sums as a right operand, built on first use. */
+	private byte[] packed;
+	private int[] colSums;
+
+	private QTensor(byte[] data, int[] shape, float[] scale, int[] zeroPoint, int axis) {
+		this.data = data;
+		this.shape = shape;
+		this.scale = scale;
+		this.zeroPoint = zeroPoint;
+		this.axis = axis;
+	}
+
+	// ===================== 생성 =====================
+
+	/**
+	 * Quantizes a tensor per tensor, asymmetrically: the range of its values,
+	 * widened to contain 0, is mapped onto {@code [-128, 127]}.
+	 *
+	 * @param t the tensor to quantize
+	 * @return a new quantized tensor with one scale and zero point
+	 */
+	public static QTensor quantize(Tensor t) {
+		float[] x = t.toArray();
+		float min = 0.0f, max = 0.0f;
+		for (float v : x) {
+			min = Math.min(min, v);
+			max = Math.max(max, v);
+		}
+		float s = max > min ? (max - min) / 255.0f : 1.0f;
+		int zp = Math.max(-128, Math.min(127, Math.round(-128 - min / s)));
+		return quantize(t, s, zp);
+	}
+
+	/**
+	 * Quantizes a tensor with a given scale and zero point, e.g. ones calibrated
+	 * on sample data.
+	 *
+	 * @param t         the tensor to quantize
+	 * @param scale     the step between neighbouring quantized values (> 0)
+	 * @param zeroPoint the quantized value of 0.0, in {@code [-128, 127]}
+	 * @return a new quantized tensor
+	 * @throws IllegalArgumentException if {@code scale} or {@code zeroPoint} is
+	 *                                  out of range
+	 */
+	public static QTensor quantize(Tensor t, float scale, int zeroPoint) {
+		checkParams(scale, zeroPoint);
+		float[] s = { scale };
+		int[] z = { zeroPoint };
+		return new QTensor(CpuQuant.quantize(t.toArray(), s, z, 1), t.getShape(), s, z, -1);
+	}
+
+	/**
+	 * Quantizes a tensor per channel along {@code axis}, symmetrically: channel
+	 * {@code c} gets {@code scale = max|x| / 127} and zero point 0.
+	 *
+	 * @param t    the tensor to quantize
+	 * @param axis the channel axis (1 for the output columns of a
+	 *             {@code [K, N]} weight)
+	 * @return a new quantized tensor with one scale per channel
+	 * @throws IllegalArgumentException if {@code axis} is out of range
+	 */
+	public static QTensor quantize(Tensor t, int axis) {
+		int[] shape = t.getShape();
+		if (axis < 0 || axis >= shape.length)
+			throw new IllegalArgumentException("axis " + axis + " out of range for rank " + shape.length);
+
+		float[] x = t.toArray();
+		int channels = shape[axis], inner = inner(shape, axis);
+		float[] s = new float[channels];
+		for (int i = 0; i < x.length; i++) {
+			int c = (i / inner) % channels;
+			s[c] = Math.max(s[c], Math.abs(x[i]));
+		}
+		for (int c = 0; c < channels; c++)
+			s[c] = s[c] > 0.0f ? s[c] / 127.0f : 1.0f;
+
+		int[] z = new int[channels];
+		return new QTensor(CpuQuant.quantize(x, s, z, inner), shape, s, z, axis);
+	}
+
+	/**
+	 * Wraps already quantized values without copying them; the tensor takes
+	 * ownership.
+	 *
+	 * @param data      int8 values, row-major
+	 * @param scale     the step between neighbouring quantized values (> 0)
+	 * @param zeroPoint the quantized value of 0.0, in {@code [-128, 127]}
+	 * @param shape     the tensor shape
+	 * @return a tensor backed by {@code data}
+	 * @throws IllegalArgumentException if the length does not match the shape or
+	 *                                  a parameter is out of range
+	 */
+	public static QTensor wrap(byte[] data, float scale, int zeroPoint, int... shape) {
+		checkParams(scale, zeroPoint);
+		long n = 1;
+		for (int d : shape)
+			n *= d;
+		if (n != data.length)
+			throw new IllegalArgumentException("wrap size mismatch: " + data.length + " values, shape needs " + n);
+		return new QTensor(data, shape.clone(), new float[] { scale }, new int[] { zeroPoint }, -1);
+	}
+
+	private static void checkParams(float scale, int zeroPoint) {
+		if (!(scale > 0.0f) || Float.isInfinite(scale))
+			throw new IllegalArgumentException("scale must be positive and finite: " + scale);
+		if (zeroPoint < -128 || zeroPoint > 127)
+			throw new IllegalArgumentException("zero point outside [-128, 127]: " + zeroPoint);
+	}
+
+	/** Elements per index of {@code axis}. */
+	private static int inner(int[] shape, int axis) {
+		int n = 1;
+		for (int d = axis + 1; d < shape.length; d++)
+			n *= shape[d];
+		return n;
+	}
+
+	// ===================== 조회 =====================
+
+	/**
+	 * Converts back to float: {@code scale * (q - zeroPoint)} per element.
+	 *
+	 * @return a new float32 tensor of the same shape
+	 */
+	public Tensor dequantize() {
+		return Tensor.wrap(CpuQuant.dequantize(data, scale, zeroPoint, axis < 0 ? 1 : inner(shape, axis)), shape);
+	}
+
+	/**
+	 * Returns a copy of the int8 values.
+	 *
+	 * @return row-major quantized values
+	 */
+	public byte[] toByteArray() {
+		return data.clone();
+	}
+
+	/**
+	 * Returns the shape of the tensor.
+	 *
+	 * @return cloned array representing tensor dimensions
+	 */
+	public int[] getShape() {
+		return shape.clone();
+	}
+
+	/**
+	 * Returns the total number of elements in the tensor.
+	 *
+	 * @return the number of elements
+	 */
+	public int getSize() {
+		return data.length;
+	}
+
+	/**
+	 * Returns the scales: one value, or one per channel.
+	 *
+	 * @return cloned scales
+	 */
+	public float[] getScale() {
+		return scale.clone();
+	}
+
+	/**
+	 * Returns the zero points: one value, or one per channel.
+	 *
+	 * @return cloned zero points
+	 */
+	public int[] getZeroPoint() {
+		return zeroPoint.clone();
+	}
+
+	/**
+	 * Returns the axis along which scales are given.
+	 *
+	 * @return the channel axis, or -1 for a per-tensor quantization
+	 */
+	public int getChannelAxis() {
+		return axis;
+	}
+
+	/**
+	 * Returns a string representation of the tensor's shape and quantization.
+	 *
+	 * @return a string indicating the shape and the scale layout
+	 */
+	@Override
+	public String toString() {
+		return "shape = " + Arrays.toString(shape) + " (int8, "
+				+ (axis < 0 ? "scale=" + scale[0] + ", zero=" + zeroPoint[0] : "per-channel axis " + axis) + ")";
+	}
+
+	// ===================== 연산 =====================
+
+	/**
+	 * Matrix product {@code this · w}, returned in float.
+	 *
+	 * @param w a {@code [K, N]} weight, quantized per tensor or per column (axis 1)
+	 * @return a new {@code [M, N]} tensor ({@code [N]} for a 1D {@code this})
+	 * @throws IllegalArgumentException if the shapes or quantizations are not
+	 *                                  compatible
+	 */
+	public Tensor dot(QTensor w) {
+		return affine(w, null, false);
+	}
+
+	/**
+	 * Matrix product {@code this · w}, requantized to int8.
+	 *
+	 * @param w         a {@code [K, N]} weight, quantized per tensor or per
+	 *                  column (axis 1)
+	 * @param scale     scale of the result
+	 * @param zeroPoint zero point of the result
+	 * @return a new {@code [M, N]} quantized tensor
+	 * @throws IllegalArgumentException if the shapes, quantizations or output
+	 *                                  parameters are not valid
+	 */
+	public QTensor dot(QTensor w, float scale, int zeroPoint) {
+		return affine(w, null, false, scale, zeroPoint);
+	}
+
+	/**
+	 * Fused {@code this · w + b}, with optional ReLU, returned in float.
+	 *
+	 * @param w    a {@code [K, N]} weight, quantized per tensor or per column
+	 *             (axis 1)
+	 * @param b    {@code N} bias values, or {@code null}
+	 * @param relu whether to clamp negative results to 0
+	 * @return a new {@code [M, N]} tensor ({@code [N]} for a 1D {@code this})
+	 * @throws IllegalArgumentException if the shapes or quantizations are not
+	 *                                  compatible
+	 */
+	public Tensor affine(QTensor w, Tensor b, boolean relu) {
+		int[] mn = productShape(w, b);
+		float[] out = new float[mn[0] * mn[1]];
+		product(mn[0], w, b, relu, out, null, 1.0f, 0);
+		return Tensor.wrap(out, outShape(mn));
+	}
+
+	/**
+	 * Fused {@code this · w + b}, with optional ReLU, requantized to int8 with
+	 * the given output parameters; the int32 products are never stored.
+	 *
+	 * @param w         a {@code [K, N]} weight, quantized per tensor or per
+	 *                  column (axis 1)
+	 * @param b         {@code N} bias values, or {@code null}
+	 * @param relu      whether to clamp negative results to 0
+	 * @param scale     scale of the result
+	 * @param zeroPoint zero point of the result
+	 * @return a new {@code [M, N]} quantized tensor
+	 * @throws IllegalArgumentException if the shapes, quantizations or output
+	 *                                  parameters are not valid
+	 */
+	public QTensor affine(QTensor w, Tensor b, boolean relu, float scale, int zeroPoint) {
+		checkParams(scale, zeroPoint);
+		int[] mn = productShape(w, b);
+		byte[] out = new byte[mn[0] * mn[1]];
+		product(mn[0], w, b, relu, null, out, scale, zeroPoint);
+		return new QTensor(out, outShape(mn), new float[] { scale }, new int[] { zeroPoint }, -1);
+	}
+
+	/** {@code {M, N}} of {@code this · w}, after checking both operands and the bias. */
+	private int[] productShape(QTensor w, Tensor b) {
+		if (axis >= 0)
+			throw new IllegalArgumentException("left operand must be quantized per tensor, not per channel");
+		if (shape.length > 2 || w.shape.length != 2 || shape[shape.length - 1] != w.shape[0])
+			throw new IllegalArgumentException("dot shape mismatch: " + Arrays.toString(shape) + " · "
+					+ Arrays.toString(w.shape));
+		if (w.axis == 0)
+			throw new IllegalArgumentException("weight must be quantized per tensor or per column (axis 1)");
+
+		int N = w.shape[1];
+		if (b != null && b.getSize() != N)
+			throw new IllegalArgumentException("bias of " + b.getSize() + " elements, expected " + N);
+		return new int[] { shape.length == 1 ? 1 : shape[0], N };
+	}
+
+	private int[] outShape(int[] mn) {
+		return shape.length == 1 ? new int[] { mn[1] } : mn.clone();
+	}
+
+	private void product(int M, QTensor w, Tensor b, boolean relu, float[] outF, byte[] outQ, float so, int zo) {
+		int K = w.shape[0], N = w.shape[1];
+		w.packWeight();
+		CpuQuant.gemm(M, N, K, data, scale[0], zeroPoint[0], w.packed, w.colSums, w.scale, w.zeroPoint,
+				b == null ? null : b.toArray(), relu, outF, outQ, so, zo);
+	}
+
+	/** Builds the packed right-operand form once; the values never change. */
+	private synchronized void packWeight() {
+		if (packed != null)
+			return;
+		int K = shape[0], N = shape[1];
+		colSums = CpuQuant.colSums(data, K, N);
+		packed = CpuQuant.pack(data, K, N);
+	}
+}
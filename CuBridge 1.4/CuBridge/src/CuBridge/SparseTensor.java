@@ -0,0 +1,320 @@
+package CuBridge;
+
+import java.util.*;
+
+/**
+ * SparseTensor: A 2D float matrix that stores only its non-zero values.
+ *
+ * <p>
+ * Two layouts are supported, and either converts to the other:
+ * </p>
+ * <ul>
+ *   <li><b>CSR</b> (compressed sparse row): {@code rowPtr[rows + 1]} gives, for
+ *       row {@code r}, the run {@code [rowPtr[r], rowPtr[r + 1])} of
+ *       {@code colIdx} and {@code values}. Columns are strictly increasing
+ *       within a row. This is the layout the kernels work on.</li>
+ *   <li><b>COO</b> (coordinate): one {@code (row, col, value)} triple per entry,
+ *       in any order. Duplicate coordinates are summed when converted to CSR.
+ *       Suited to building a matrix entry by entry.</li>
+ * </ul>
+ * <p>
+ * A SparseTensor is immutable. It can be put into the {@link CuBridge} queue
+ * like a dense tensor ({@link CuBridge#put(SparseTensor, String)}); the CPU
+ * engine keeps it in CSR and
+ * </p>
+ * <ul>
+ *   <li>runs {@code dot}, {@code matmul} and {@code affine} with a sparse
+ *       factor as a parallel SpMM (SpMV for a vector), producing a dense
+ *       result;</li>
+ *   <li>keeps the result sparse for {@code mul}, for unary operations that map
+ *       0 to 0 ({@code ReLu}, {@code abs}, {@code neg}, {@code square},
+ *       {@code sqrt}, ...) and for {@code transpose};</li>
+ *   <li>densifies it for every other operation.</li>
+ * </ul>
+ * <p>
+ * Engines without sparse support receive the dense form.
+ * {@link CuBridge#getSparse(String)} takes a result back as a SparseTensor.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * SparseTensor x = SparseTensor.coo(2, 3, new int[] { 0, 1, 1 }, new int[] { 2, 0, 2 },
+ *         new float[] { 1.0f, 2.0f, 3.0f });
+ * Tensor y = cb.put(x, "X").put(w, "W").dot("X", "W", "Y").get("Y");
+ * SparseTensor f = SparseTensor.fromDense(features);   // CSR
+ * }</pre>
+ *
+ * @since v1.5
+ */
+public final class SparseTensor {
+
+	/**
+	 * Storage layout of a {@link SparseTensor}.
+	 */
+	public enum Format {
+		CSR, COO
+	}
+
+	private final int rows, cols;
+	private final Format format;
+	/** CSR: row offsets into colIdx/values; COO: row of each value. */
+	private final int[] rowIdx;
+	private final int[] colIdx;
+	private final float[] values;
+
+	SparseTensor(int rows, int cols, Format format, int[] rowIdx, int[] colIdx, float[] values) {
+		this.rows = rows;
+		this.cols = cols;
+		this.format = format;
+		this.rowIdx = rowIdx;
+		this.colIdx = colIdx;
+		this.values = values;
+	}
+
+	// ===================== 생성 =====================
+
+	/**
+	 * Collects the non-zero values of a 2D tensor in CSR.
+	 *
+	 * @param t a 2D tensor
+	 * @return a new CSR tensor of the same shape
+	 * @throws IllegalArgumentException if {@code t} is not 2D
+	 */
+	public static SparseTensor fromDense(Tensor t) {
+		int[] s = t.getShape();
+		if (s.length != 2)
+			throw new IllegalArgumentException("sparse tensors are 2D, got shape " + Arrays.toString(s));
+		return CpuSparse.fromDense(t.toArray(), s[0], s[1]);
+	}
+
+	/**
+	 * Collects the non-zero values of a 2D tensor in the given layout.
+	 *
+	 * @param t      a 2D tensor
+	 * @param format the layout of the result
+	 * @return a new sparse tensor of the same shape
+	 * @throws IllegalArgumentException if {@code t} is not 2D
+	 */
+	public static SparseTensor fromDense(Tensor t, Format format) {
+		SparseTensor s = fromDense(t);
+		return format == Format.COO ? s.toCOO() : s;
+	}
+
+	/**
+	 * Wraps CSR arrays without copying them; the tensor takes ownership.
+	 *
+	 * @param rows   number of rows
+	 * @param cols   number of columns
+	 * @param rowPtr {@code rows + 1} non-decreasing offsets, from 0 to
+	 *               {@code values.length}
+	 * @param colIdx column of each value, strictly increasing within a row
+	 * @param values the stored values
+	 * @return a CSR tensor backed by the arrays
+	 * @throws IllegalArgumentException if the arrays do not describe a valid CSR
+	 *                                  matrix of that shape
+	 */
+	public static SparseTensor csr(int rows, int cols, int[] rowPtr, int[] colIdx, float[] values) {
+		checkShape(rows, cols);
+		if (rowPtr.length != rows + 1 || colIdx.length != values.length)
+			throw new IllegalArgumentException("csr arrays mismatch: " + rowPtr.length + " row offsets for " + rows
+					+ " rows, " + colIdx.length + " columns, " + values.length + " values");
+		if (rowPtr[0] != 0 || rowPtr[rows] != values.length)
+			throw new IllegalArgumentException("row offsets must run from 0 to " + values.length);
+
+		for (int r = 0; r < rows; r++) {
+			if (rowPtr[r + 1] < rowPtr[r])
+				throw new IllegalArgumentException("row offsets decrease at row " + r);
+			int prev = -1;
+			for (int p = rowPtr[r]; p < rowPtr[r + 1]; p++) {
+				int c = colIdx[p];
+				if (c <= prev || c >= cols)
+					throw new IllegalArgumentException("row " + r + ": column " + c
+							+ (c >= cols ? " out of range" : " not increasing") + "; use coo(...) for unsorted entries");
+				prev = c;
+			}
+		}
+		return new SparseTensor(rows, cols, Format.CSR, rowPtr, colIdx, values);
+	}
+
+	/**
+	 * Wraps COO arrays without copying them; the tensor takes ownership.
+	 * Entries may come in any order and repeat a coordinate.
+	 *
+	 * @param rows   number of rows
+	 * @param cols   number of columns
+	 * @param rowIdx row of each value
+	 * @param colIdx column of each value
+	 * @param values the stored values
+	 * @return a COO tensor backed by the arrays
+	 * @throws IllegalArgumentException if the lengths differ or an index is out
+	 *                                  of range
+	 */
+	public static SparseTensor coo(int rows, int cols, int[] rowIdx, int[] colIdx, float[] values) {
+		checkShape(rows, cols);
+		if (rowIdx.length != values.length || colIdx.length != values.length)
+			throw new IllegalArgumentException("coo arrays mismatch: " + rowIdx.length + " rows, " + colIdx.length
+					+ " columns, " + values.length + " values");
+		for (int p = 0; p < values.length; p++)
+			if (rowIdx[p] < 0 || rowIdx[p] >= rows || colIdx[p] < 0 || colIdx[p] >= cols)
+				throw new IllegalArgumentException("entry " + p + " at (" + rowIdx[p] + ", " + colIdx[p]
+						+ ") outside [" + rows + ", " + cols + "]");
+		return new SparseTensor(rows, cols, Format.COO, rowIdx, colIdx, values);
+	}
+
+	private static void checkShape(int rows, int cols) {
+		if (rows <= 0 || cols <= 0)
+			throw new IllegalArgumentException("invalid sparse shape [" + rows + ", " + cols + "]");
+	}
+
+	// ===================== 변환 =====================
+
+	/**
+	 * Returns the CSR form: this tensor if it already is CSR, otherwise a new
+	 * one with the entries sorted and duplicates summed.
+	 *
+	 * @return a CSR tensor with the same values
+	 */
+	public SparseTensor toCSR() {
+		if (format == Format.CSR)
+			return this;
+		return CpuSparse.cooToCsr(rows, cols, rowIdx, colIdx, values);
+	}
+
+	/**
+	 * Returns the COO form: this tensor if it already is COO, otherwise a new
+	 * one listing the entries row by row.
+	 *
+	 * @return a COO tensor with the same values
+	 */
+	public SparseTensor toCOO() {
+		if (format == Format.COO)
+			return this;
+		return new SparseTensor(rows, cols, Format.COO, CpuSparse.expandRows(rowIdx, rows), colIdx.clone(),
+				values.clone());
+	}
+
+	/**
+	 * Returns the dense form.
+	 *
+	 * @return a new {@code [rows, cols]} tensor
+	 * @throws IllegalArgumentException if the dense form would exceed
+	 *                                  {@code 2^31 - 1} elements
+	 */
+	public Tensor toDense() {
+		return Tensor.wrap(CpuSparse.toDense(toCSR()), rows, cols);
+	}
+
+	// ===================== 조회 =====================
+
+	/**
+	 * Returns the storage layout.
+	 *
+	 * @return {@link Format#CSR} or {@link Format#COO}
+	 */
+	public Format getFormat() {
+		return format;
+	}
+
+	/**
+	 * Returns the shape of the tensor.
+	 *
+	 * @return {@code {rows, cols}}
+	 */
+	public int[] getShape() {
+		return new int[] { rows, cols };
+	}
+
+	/**
+	 * Returns the number of stored values, explicit zeros and (in COO)
+	 * duplicates included.
+	 *
+	 * @return the number of stored values
+	 */
+	public int nnz() {
+		return values.length;
+	}
+
+	/**
+	 * Returns the fraction of the matrix that is stored.
+	 *
+	 * @return {@code nnz / (rows * cols)}
+	 */
+	public double density() {
+		return values.length / ((double) rows * cols);
+	}
+
+	/**
+	 * Returns a copy of the CSR row offsets.
+	 *
+	 * @return {@code rows + 1} offsets into the columns and values
+	 * @throws IllegalStateException if the tensor is COO
+	 */
+	public int[] getRowPointers() {
+		if (format != Format.CSR)
+			throw new IllegalStateException("row pointers exist only in CSR; call toCSR() first");
+		return rowIdx.clone();
+	}
+
+	/**
+	 * Returns the row of each stored value, in both layouts.
+	 *
+	 * @return {@link #nnz()} row indices
+	 */
+	public int[] getRowIndices() {
+		return format == Format.COO ? rowIdx.clone() : CpuSparse.expandRows(rowIdx, rows);
+	}
+
+	/**
+	 * Returns a copy of the column of each stored value.
+	 *
+	 * @return {@link #nnz()} column indices
+	 */
+	public int[] getColIndices() {
+		return colIdx.clone();
+	}
+
+	/**
+	 * Returns a copy of the stored values.
+	 *
+	 * @return {@link #nnz()} values
+	 */
+	public float[] getValues() {
+		return values.clone();
+	}
+
+	/**
+	 * Returns a string representation of the tensor's shape and layout.
+	 *
+	 * @return a string indicating the shape, layout and fill
+	 */
+	@Override
+	public String toString() {
+		return "shape = [" + rows + ", " + cols + "] (" + format + ", nnz=" + values.length
+				+ String.format(", density=%.4g)", density());
+	}
+
+	// ===================== 내부 =====================
+
+	int rows() {
+		return rows;
+	}
+
+	int cols() {
+		return cols;
+	}
+
+	/** CSR row offsets (or COO rows), not copied. */
+	int[] rowPtr() {
+		return rowIdx;
+	}
+
+	/** Columns, not copied. */
+	int[] colIdx() {
+		return colIdx;
+	}
+
+	/** Values, not copied. */
+	float[] values() {
+		return values;
+	}
+}
@@ -2,6 +2,9 @@ package CuBridge;
 
 import java.util.*;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 /**
  * Tensor: A general-purpose multidimensional numerical array class for matrix and tensor operations.
  *
@@ -13,6 +16,27 @@ import java.io.*;
  * capable of representing scalars, vectors, matrices, or N-dimensional arrays. It is designed
  * to be memory-efficient, extensible, and highly interoperable across modules.
  *
+ * <p>Since v1.5 a tensor may instead live off-heap, in a direct buffer whose memory the
+ * caller allocates and frees ({@link #wrap(ByteBuffer, int...)}, {@link #direct(int...)}).
+ * Off-heap tensors are not scanned or moved by the garbage collector and are handed to
+ * the engine as a buffer rather than as a copied {@code float[]}.
+ *
+ * <p>A tensor holds at most 2^31 - 1 elements and rejects larger shapes; {@link BigTensor}
+ * stores longer-indexed data in chunks.
+ *
+ * <p>Values are stored as float32 unless the tensor was converted with
+ * {@link #astype(Tensor, DType)}: FP16 and BF16 tensors keep 16-bit patterns, half the
+ * memory, and are widened to float whenever a value is read or computed on. FLOAT64
+ * tensors ({@link #Tensor(double[], int...)}) keep doubles, and the CPU engine computes
+ * on them in double. BOOL tensors, the results of comparisons, keep one bit per value
+ * and read as 0/1.
+ *
+ * <p>Also since v1.5 a tensor may be a <i>view</i> of another one: {@link #slice},
+ * {@link #narrow} and {@link #select} return a tensor that shares its source's storage
+ * and addresses it through an offset and per-axis strides. Nothing is copied until a
+ * dense array is actually needed ({@link #toArray()}, {@link #contiguous(Tensor)}), and
+ * {@link CuBridge#put(Tensor)} gathers a view straight into the engine's own copy.
+ *
  * <h2>Role as a Bridge</h2>
  * <ul>
  *   <li><b>CuBridge:</b> Executes numerical and GPU-accelerated operations using Tensors as operands.</li>
@@ -28,7 +52,11 @@ import java.io.*;
  *   <li>Random tensor creation (uniform, normal, Gaussian)</li>
  *   <li>Common patterns: zeros, ones, eye, arange, linspace</li>
  *   <li>Reshape and flattening utilities</li>
- *   <li>Conversion tools: head, printSize, toArray</li>
+ *   <li>Strided views: slice, narrow, select (no copy)</li>
+ *   <li>Conversion tools: head, printSize, toArray, toDoubleArray, astype (FP16/BF16/FLOAT64/BOOL)</li>
+ *   <li>CSV loading: parallel memory-mapped readCSV with header, delimiter, missing fill and column selection</li>
+ *   <li>Binary files: save/load in the {@link TensorFile} format, loaded by memory mapping</li>
+ *   <li>NumPy exchange: readNPY/writeNPY for .npy files, readNPZ streaming .npz archives</li>
  * </ul>
  *
  * <h2>Example Usage</h2>
@@ -47,8 +75,9 @@ import java.io.*;
  * <h2>Function Summary</h2>
  * <ul>
  *   <li><b>Creation:</b> filled, zeros, ones, rand, randn, eye, arange, linspace</li>
- *   <li><b>Structure:</b> reshape, flatten, getShape, getSize, getAxis</li>
- *   <li><b>IO/Inspect:</b> printData, printSize, head, toArray</li>
+ *   <li><b>Structure:</b> reshape, flatten, getShape, getSize, getAxis, getDType</li>
+ *   <li><b>Views:</b> slice, narrow, select, contiguous, isContiguous, getStrides, getOffset</li>
+ *   <li><b>IO/Inspect:</b> save, load, readCSV, readNPY, writeNPY, readNPZ, printData, printSize, head, toArray, toDoubleArray</li>
  * </ul>
  *
  * @author 배준호, 조선대 3학년
@@ -57,8 +86,22 @@ import java.io.*;
 
 public class Tensor {
 	private float[] data = null;
+	private FloatBuffer direct = null;
+	/** Bit patterns of an FP16/BF16 tensor; {@code data} and {@code direct} are then {@code null}. */
+	private short[] half = null;
+	/** Values of a FLOAT64 tensor; {@code data} and {@code direct} are then {@code null}. */
+	private double[] doubles = null;
+	/** Packed values of a BOOL tensor, 64 per word; {@code data} and {@code direct} are then {@code null}. */
+	private long[] bits = null;
+	private DType dtype = DType.FLOAT32;
 	private int[] shape = null;
 	private int len = 0;
+	/** First element of a view within {@code data}/{@code direct}. */
+	private int offset = 0;
+	/** Per-axis strides of a non-contiguous view; {@code null} for row-major layout. */
+	private int[] strides = null;
+	/** Set on results whose array may go back to the {@link TensorPool}. */
+	private boolean pooled = false;
 
 	private void print(String str) {
 		System.out.println(str);
@@ -68,12 +111,10 @@ public class Tensor {
 	 * Calculates the total number of elements implied by the given shape.
 	 *
 	 * @return the total number of elements (product of dimensions)
+	 * @throws IllegalArgumentException if the product exceeds {@code Integer.MAX_VALUE}
 	 */
 	private int getLenFromShape() {
-		int size = 1;
-		for (var tmp : shape)
-			size *= tmp;
-		return size;
+		return getLenFromShape(shape);
 	}
 
 	/**
@@ -122,6 +163,31 @@ public class Tensor {
 		}
 	}
 
+	/**
+	 * Constructs a FLOAT64 Tensor with the given data and shape.
+	 * <ul>
+	 * <li>The values are deep-copied and kept in double precision; the CPU engine
+	 * computes on them in double.</li>
+	 * <li>If the number of values does not match the shape, a warning is printed
+	 * and the shape is set to 1D (N,), as for {@link #Tensor(float[], int...)}.</li>
+	 * </ul>
+	 *
+	 * @param data  the flat data array
+	 * @param shape the intended shape dimensions
+	 * @since v1.5
+	 */
+	public Tensor(double[] data, int... shape) {
+		this.shape = shape.clone();
+		this.doubles = data.clone();
+		this.dtype = DType.FLOAT64;
+		this.len = data.length;
+
+		if (len != getLenFromShape()) {
+			System.err.println("Warning: Shape mismatch detected. Overriding shape to 1D.");
+			this.shape = new int[] { len };
+		}
+	}
+
 	/**
 	 * Loads a Tensor from a CSV file.
 	 * <ul>
@@ -130,52 +196,233 @@ public class Tensor {
 	 * <li>Empty fields are automatically converted to 0.0.</li>
 	 * <li>The resulting tensor will have shape (rows, columns) excluding the first
 	 * line (assumed to be a header or label row).</li>
+	 * <li>Since v1.5 the file is parsed by {@link #readCSV(String)}; if it cannot be
+	 * read, the error is printed and the tensor is empty.</li>
 	 * </ul>
 	 * 
 	 * @param path file path to the CSV file
 	 */
-	public Tensor(String path) {// TODO : 만약 다축 텐서의 경우 어떻게 저장하는가? // 야 이 csv가 다축일리가 있겠냐?
-		ArrayList<Float> tmpList = new ArrayList<Float>();
-		Scanner sc = null;
-		int col = 0;
-		int row = 0;
-
+	public Tensor(String path) {
+		Tensor t;
 		try {
-			FileInputStream fin = new FileInputStream(path);
-			BufferedInputStream bin = new BufferedInputStream(fin);
-			sc = new Scanner(bin);
+			t = readCSV(path);
+		} catch (IOException e) {
+			e.printStackTrace();
+			t = wrap(new float[0], 0, 0);
+		}
+		this.data = t.data;
+		this.shape = t.shape;
+		this.len = t.len;
+	}
 
-			String line = null;
-			String[] tmp = null;
+	/**
+	 * Reads a numeric CSV file into a {@code [rows, columns]} tensor.
+	 * <p>
+	 * Full parameter: {@code readCSV(String path, boolean header, char delimiter, float missing, int... columns)}<br>
+	 * This version:
+	 * <ul>
+	 * <li>header = true (the first line is skipped)</li>
+	 * <li>delimiter = ','</li>
+	 * <li>missing = 0 (empty fields)</li>
+	 * <li>every column is kept</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param path file path to the CSV file
+	 * @return a new {@code [rows, columns]} tensor
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if a row has too many fields or a value is
+	 *                                  not a number
+	 * @since v1.5
+	 */
+	public static Tensor readCSV(String path) throws IOException {
+		return readCSV(path, true, ',', 0.0f);
+	}
 
-			line = sc.nextLine();
-			tmp = line.split(",", -1);// 라벨 제거
+	/**
+	 * Reads a numeric delimited text file into a {@code [rows, columns]} tensor.
+	 * <p>
+	 * Full parameter: {@code readCSV(String path, boolean header, char delimiter, float missing, int... columns)}<br>
+	 * This version:
+	 * <ul>
+	 * <li>missing = 0 (empty fields)</li>
+	 * <li>every column is kept</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param path      file path to the CSV file
+	 * @param header    whether the first line is a header to skip
+	 * @param delimiter the field separator, an ASCII character (e.g. {@code '\t'})
+	 * @return a new {@code [rows, columns]} tensor
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException on a non-ASCII delimiter, a row with too
+	 *                                  many fields or a value that is not a number
+	 * @since v1.5
+	 */
+	public static Tensor readCSV(String path, boolean header, char delimiter) throws IOException {
+		return readCSV(path, header, delimiter, 0.0f);
+	}
 
-			row = tmp.length;
+	/**
+	 * Reads selected columns of a numeric delimited text file into a
+	 * {@code [rows, columns]} tensor.
+	 * <ul>
+	 * <li>The file is memory-mapped and split into newline-aligned chunks that are
+	 * parsed in parallel, straight from the bytes into one array allocated at its
+	 * final size; no per-value objects are created.</li>
+	 * <li>The number of fields is taken from the first line. Blank lines are
+	 * skipped; an empty field, or a field a short row leaves out, reads as
+	 * {@code missing}.</li>
+	 * <li>Spaces around values and double quotes enclosing them are ignored;
+	 * {@code NaN} and {@code Inf}/{@code Infinity} are accepted.</li>
+	 * <li>{@code columns} picks fields by 0-based index, in output order; with none
+	 * given, every field is kept.</li>
+	 * </ul>
+	 *
+	 * @param path      file path to the CSV file
+	 * @param header    whether the first line is a header to skip
+	 * @param delimiter the field separator, an ASCII character
+	 * @param missing   the value of empty or absent fields (e.g. {@code Float.NaN})
+	 * @param columns   the fields to keep, in output order
+	 * @return a new {@code [rows, columns]} tensor
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException on a non-ASCII delimiter, a column out of
+	 *                                  range or repeated, a row with too many
+	 *                                  fields or a value that is not a number
+	 * @since v1.5
+	 */
+	public static Tensor readCSV(String path, boolean header, char delimiter, float missing, int... columns)
+			throws IOException {
+		return CsvParser.read(path, header, delimiter, missing, columns);
+	}
 
-			while ((line = sc.nextLine()) != null) {
-				col++;
-				tmp = line.split(",", -1);
+	/**
+	 * Writes a tensor to a binary file in the {@link TensorFile} format: a header
+	 * with the dtype and shape, then the raw values, little-endian.
+	 * <ul>
+	 * <li>Every dtype and any number of axes is kept as is; a view is written as
+	 * the tensor it shows.</li>
+	 * <li>The data is written through a memory mapping, in parallel.</li>
+	 * </ul>
+	 *
+	 * @param t    the tensor to write
+	 * @param path file path; an existing file is replaced
+	 * @throws IOException if the file cannot be written
+	 * @since v1.5
+	 */
+	public static void save(Tensor t, String path) throws IOException {
+		TensorFile.write(t, path);
+	}
 
-				for (int r = 0; r < row; r++)
-					if (tmp[r].equals(""))
-						tmpList.add(0.0f);
-					else
-						tmpList.add(Float.parseFloat(tmp[r]));
-			}
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-		} catch (NoSuchElementException e) {
-			sc.close();
-		}
+	/**
+	 * Reads a tensor written by {@link #save(Tensor, String)}.
+	 * <ul>
+	 * <li>A float32 file of up to 2 GB of data is not read at all: the tensor is
+	 * off-heap, over a private mapping of the file, and its pages are read as
+	 * they are used. {@link CuBridge#put(Tensor)} copies it straight from the
+	 * mapping into the engine.</li>
+	 * <li>Other files are copied into the heap.</li>
+	 * <li>For files that do not fit in a tensor, or to read rows on demand, see
+	 * {@link TensorFile#open(String)}.</li>
+	 * </ul>
+	 *
+	 * @param path file path
+	 * @return the tensor, with the dtype and shape it was saved with
+	 * @throws IOException           if the file cannot be read or is not a tensor
+	 *                               file
+	 * @throws IllegalStateException if the file holds more than 2^31 - 9 elements
+	 * @since v1.5
+	 */
+	public static Tensor load(String path) throws IOException {
+		return TensorFile.open(path).tensor();
+	}
+
+	/**
+	 * Reads a NumPy {@code .npy} file (as written by {@code np.save}).
+	 * <ul>
+	 * <li>The values are read in blocks through a direct buffer and copied in bulk
+	 * into an array of their final size; nothing is parsed per value.</li>
+	 * <li>{@code float32} reads as FLOAT32, {@code float64} as FLOAT64,
+	 * {@code float16} as FLOAT16 and {@code bool} as BOOL, in either byte
+	 * order.</li>
+	 * <li>Integer arrays of any width, signed or not, read as FLOAT32 (exact up
+	 * to 2^24 in magnitude).</li>
+	 * <li>The array must be in C order; a 0-d array reads as shape {@code [1]}.</li>
+	 * </ul>
+	 *
+	 * @param path file path to the {@code .npy} file
+	 * @return a new tensor of the array's shape
+	 * @throws IOException           if the file cannot be read, is not an
+	 *                               {@code .npy} file, or holds another dtype
+	 *                               or Fortran-order values
+	 * @throws IllegalStateException if the array holds more than 2^31 - 9
+	 *                               elements
+	 * @since v1.5
+	 */
+	public static Tensor readNPY(String path) throws IOException {
+		return NpyFormat.read(path);
+	}
 
-		this.len = tmpList.size();
-		this.data = new float[this.len];
-		this.shape = new int[] { col, row };
+	/**
+	 * Writes a tensor as a NumPy {@code .npy} file that {@code np.load} reads.
+	 * <ul>
+	 * <li>FLOAT32, FLOAT64, FLOAT16 and BOOL tensors keep their type
+	 * ({@code <f4}, {@code <f8}, {@code <f2}, {@code |b1}); BFLOAT16, which
+	 * NumPy lacks, is written as {@code <f4}.</li>
+	 * <li>Values are little-endian in C order; a view is written as the tensor it
+	 * shows.</li>
+	 * </ul>
+	 *
+	 * @param t    the tensor to write
+	 * @param path file path; an existing file is replaced
+	 * @throws IOException if the file cannot be written
+	 * @since v1.5
+	 */
+	public static void writeNPY(Tensor t, String path) throws IOException {
+		NpyFormat.write(t, path);
+	}
 
-		for (int idx = 0; idx < this.len; idx++)
-			this.data[idx] = tmpList.get(idx);
+	/**
+	 * Reads every array of a NumPy {@code .npz} archive ({@code np.savez} or
+	 * {@code np.savez_compressed}).
+	 * <p>
+	 * Full parameter: {@code readNPZ(String path, BiConsumer<String, Tensor> each)}<br>
+	 * This version:
+	 * <ul>
+	 * <li>Collects the arrays into a map, in archive order.</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param path file path to the {@code .npz} file
+	 * @return the arrays by name (the entry name without {@code .npy})
+	 * @throws IOException if the archive cannot be read or an entry is not a
+	 *                     supported {@code .npy} array
+	 * @since v1.5
+	 */
+	public static Map<String, Tensor> readNPZ(String path) throws IOException {
+		Map<String, Tensor> out = new LinkedHashMap<>();
+		readNPZ(path, out::put);
+		return out;
+	}
 
+	/**
+	 * Streams the arrays of a NumPy {@code .npz} archive to {@code each}, one at a
+	 * time and in archive order.
+	 * <ul>
+	 * <li>Entries are decompressed and decoded straight from the zip stream, as in
+	 * {@link #readNPY(String)}; nothing is extracted to disk, and an array can be
+	 * dropped (or put into the engine) before the next one is read.</li>
+	 * <li>Entries that are not {@code .npy} files are skipped.</li>
+	 * </ul>
+	 *
+	 * @param path file path to the {@code .npz} file
+	 * @param each receives each array's name (without {@code .npy}) and values
+	 * @throws IOException if the archive cannot be read or an entry is not a
+	 *                     supported {@code .npy} array
+	 * @since v1.5
+	 */
+	public static void readNPZ(String path, java.util.function.BiConsumer<String, Tensor> each) throws IOException {
+		NpyFormat.readArchive(path, each);
 	}
 
 	/**
@@ -233,7 +480,262 @@ public class Tensor {
 	 * @return cloned array containing tensor values
 	 */
 	public float[] toArray() {
-		return this.data.clone();
+		if (half != null)
+			return CpuHalf.widen(toHalfArray(), dtype);
+		if (doubles != null)
+			return CpuDouble.narrow(toDoubleArray());
+		if (bits != null)
+			return CpuMask.widen(toBitArray(), len);
+
+		float[] out = new float[len];
+		if (strides != null) {
+			if (direct != null)
+				CpuStrided.gather(direct, offset, shape, strides, out, 0);
+			else
+				CpuStrided.gather(data, offset, shape, strides, out, 0);
+		} else if (direct != null)
+			direct.get(offset, out);
+		else
+			System.arraycopy(data, offset, out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Returns the values in double precision: exact for every storage type, and
+	 * without rounding for a FLOAT64 tensor.
+	 *
+	 * @return a new row-major array of {@link #getSize()} values
+	 * @since v1.5
+	 */
+	public double[] toDoubleArray() {
+		if (doubles == null)
+			return CpuDouble.widen(toArray());
+		double[] out = new double[len];
+		if (strides != null)
+			CpuStrided.gather(doubles, offset, shape, strides, out, 0);
+		else
+			System.arraycopy(doubles, offset, out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Returns the storage type of the values.
+	 *
+	 * @return {@link DType#FLOAT32} unless converted by {@link #astype(Tensor, DType)}
+	 * @since v1.5
+	 */
+	public DType getDType() {
+		return dtype;
+	}
+
+	/**
+	 * Reports whether the values live off-heap in a direct buffer.
+	 *
+	 * @return {@code true} for tensors made by {@link #wrap(ByteBuffer, int...)}
+	 *         or {@link #direct(int...)}
+	 * @since v1.5
+	 */
+	public boolean isDirect() {
+		return direct != null;
+	}
+
+	/**
+	 * Returns a view of the off-heap storage. Writes through the view change the
+	 * tensor.
+	 *
+	 * @return a {@link FloatBuffer} over the {@link #getSize()} values (position
+	 *         0), or {@code null} for a heap, half-precision, FLOAT64 or BOOL tensor. For a
+	 *         non-contiguous view it starts at the first element and the values
+	 *         are addressed by {@link #getStrides()}.
+	 * @since v1.5
+	 */
+	public FloatBuffer getBuffer() {
+		if (direct == null)
+			return null;
+		return direct.slice(offset, strides == null ? len : direct.capacity() - offset);
+	}
+
+	/**
+	 * Reports whether the values are laid out densely in row-major order. Only a
+	 * view that skips elements ({@link #select} or {@link #slice} on an inner
+	 * axis, or a step above 1) is not.
+	 *
+	 * @return {@code true} if the tensor can be read as one run of
+	 *         {@link #getSize()} values
+	 * @since v1.5
+	 */
+	public boolean isContiguous() {
+		return strides == null;
+	}
+
+	/**
+	 * Returns the distance, in elements, between neighbours along each axis.
+	 *
+	 * @return cloned per-axis strides; row-major strides for a contiguous tensor
+	 * @since v1.5
+	 */
+	public int[] getStrides() {
+		return strides != null ? strides.clone() : CpuStrided.contiguousStrides(shape);
+	}
+
+	/**
+	 * Returns the position of the first element within the shared storage.
+	 *
+	 * @return 0 unless the tensor is a view
+	 * @since v1.5
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * The heap storage itself, not a copy; {@code null} for an off-heap tensor.
+	 * The values of a view start at {@link #getOffset()}.
+	 */
+	float[] array() {
+		return data;
+	}
+
+	/**
+	 * The bit patterns of an FP16/BF16 tensor itself, not a copy; {@code null}
+	 * for a float32 tensor.
+	 */
+	short[] halfArray() {
+		return half;
+	}
+
+	/**
+	 * The values of a FLOAT64 tensor itself, not a copy; {@code null} for any
+	 * other type.
+	 */
+	double[] doubleArray() {
+		return doubles;
+	}
+
+	/**
+	 * The packed values of a BOOL tensor itself, not a copy; {@code null} for any
+	 * other type.
+	 */
+	long[] bitArray() {
+		return bits;
+	}
+
+	/**
+	 * The {@link #getSize()} values of a BOOL tensor packed in row-major order;
+	 * a new array unless the tensor covers its whole storage.
+	 */
+	long[] toBitArray() {
+		if (strides == null && offset == 0 && bits.length == CpuMask.words(len))
+			return bits;
+		long[] out = new long[CpuMask.words(len)];
+		for (int i = 0; i < len; i++)
+			if (CpuMask.get(bits, strides == null ? offset + i : CpuStrided.offsetOf(i, offset, shape, strides)))
+				out[i >>> 6] |= 1L << i;
+		return out;
+	}
+
+	/**
+	 * The {@link #getSize()} bit patterns of an FP16/BF16 tensor in row-major
+	 * order; a new array unless the tensor covers its whole storage.
+	 */
+	short[] toHalfArray() {
+		if (strides == null && offset == 0 && half.length == len)
+			return half;
+		short[] out = new short[len];
+		CpuStrided.gather(half, offset, shape, getStrides(), out, 0);
+		return out;
+	}
+
+	/**
+	 * The storage of a contiguous float32 tensor as a buffer of its {@link #getSize()}
+	 * values: the off-heap view, or the heap array wrapped without a copy.
+	 */
+	FloatBuffer storage() {
+		return direct != null ? direct.slice(offset, len) : FloatBuffer.wrap(data, offset, len).slice();
+	}
+
+	/**
+	 * Replaces the shape in place; the element count must not change and the
+	 * tensor must be contiguous.
+	 */
+	void setShape(int[] shape) {
+		this.shape = shape.clone();
+	}
+
+	/**
+	 * Gives the storage of a {@link CuBridge} result back to the calling thread's
+	 * {@link TensorPool}, so a later result of the same size reuses it.
+	 * <ul>
+	 * <li>Only tensors returned by {@code get}/{@code xxxI} are recycled; for any
+	 * other tensor this does nothing.</li>
+	 * <li>Afterwards the tensor is empty (shape {@code [0]}); it and any view of it
+	 * must not be used again.</li>
+	 * </ul>
+	 *
+	 * @since v1.5
+	 */
+	public void release() {
+		if (!pooled)
+			return;
+		pooled = false;
+		TensorPool.give(data);
+		data = new float[0];
+		shape = new int[] { 0 };
+		len = 0;
+	}
+
+	/**
+	 * Writes {@link #getSize()} row-major values into the tensor, through its
+	 * strides if it is a view.
+	 */
+	void scatter(float[] values) {
+		if (bits != null) {
+			// 0 이 아닌 값은 참
+			for (int i = 0; i < len; i++) {
+				int p = strides == null ? offset + i : CpuStrided.offsetOf(i, offset, shape, strides);
+				if (values[i] != 0.0f)
+					bits[p >>> 6] |= 1L << p;
+				else
+					bits[p >>> 6] &= ~(1L << p);
+			}
+			return;
+		}
+		if (doubles != null) {
+			for (int i = 0; i < len; i++)
+				doubles[strides == null ? offset + i : CpuStrided.offsetOf(i, offset, shape, strides)] = values[i];
+			return;
+		}
+		if (half != null) {
+			for (int i = 0; i < len; i++)
+				half[strides == null ? offset + i : CpuStrided.offsetOf(i, offset, shape, strides)] = CpuHalf
+						.fromFloat(values[i], dtype);
+			return;
+		}
+		int[] st = getStrides();
+		if (direct != null)
+			CpuStrided.scatter(values, 0, direct, offset, shape, st);
+		else
+			CpuStrided.scatter(values, 0, data, offset, shape, st);
+	}
+
+	/**
+	 * Writes {@link #getSize()} row-major doubles into a FLOAT64 tensor, through
+	 * its strides if it is a view.
+	 */
+	void scatter(double[] values) {
+		for (int i = 0; i < len; i++)
+			doubles[strides == null ? offset + i : CpuStrided.offsetOf(i, offset, shape, strides)] = values[i];
+	}
+
+	private float at(int i) {
+		int p = strides == null ? offset + i : CpuStrided.offsetOf(i, offset, shape, strides);
+		if (doubles != null)
+			return (float) doubles[p];
+		if (half != null)
+			return CpuHalf.toFloat(half[p], dtype);
+		if (bits != null)
+			return CpuMask.get(bits, p) ? 1.0f : 0.0f;
+		return direct != null ? direct.get(p) : data[p];
 	}
 
 	/**
@@ -299,7 +801,7 @@ public class Tensor {
 			// 마지막 차원: 실제 값 출력
 			System.out.print(indent + "  [ ");
 			for (int i = 0; i < shape[level]; i++) {
-				System.out.printf("%6.3f", data[offset + i]);
+				System.out.printf("%6.3f", at(offset + i));
 				if (i < shape[level] - 1)
 					System.out.print(", ");
 			}
@@ -344,7 +846,7 @@ public class Tensor {
 		for (int i = 0; i < rowCount; i++) {
 			sb.append(" [");
 			for (int j = 0; j < cols; j++) {
-				sb.append(String.format("%6.2f", data[i * cols + j]));
+				sb.append(String.format("%6.2f", at(i * cols + j)));
 				if (j < cols - 1)
 					sb.append(", ");
 			}
@@ -371,12 +873,213 @@ public class Tensor {
 	 * 
 	 * @param shape the tensor shape as an array of dimension sizes
 	 * @return the product of all dimension sizes (total number of elements)
+	 * @throws IllegalArgumentException if the product exceeds {@code Integer.MAX_VALUE};
+	 *         such shapes need a {@link BigTensor}
 	 */
 	private static int getLenFromShape(int... shape) {
-		int size = 1;
-		for (int d : shape)
+		long size = 1;
+		for (int d : shape) {
 			size *= d;
-		return size;
+			// 곱이 int 범위를 넘으면 조용히 넘치지 않고 거부
+			if (size > Integer.MAX_VALUE || size < Integer.MIN_VALUE)
+				throw new IllegalArgumentException("shape " + Arrays.toString(shape)
+						+ " exceeds 2^31 - 1 elements; use BigTensor");
+		}
+		return (int) size;
+	}
+
+	/**
+	 * Wraps an array as a tensor without copying it; the tensor takes ownership.
+	 *
+	 * <ul>
+	 *   <li>Unlike {@link #Tensor(float[], int...)} the array is not cloned, so later
+	 *       writes to {@code data} are visible through the tensor.</li>
+	 *   <li>{@code data.length} must equal the product of {@code shape}.</li>
+	 * </ul>
+	 *
+	 * @param data  the flat data array, adopted as the tensor's storage
+	 * @param shape the tensor shape
+	 * @return a tensor backed by {@code data}
+	 * @throws IllegalArgumentException if the length does not match the shape
+	 * @since v1.5
+	 */
+	public static Tensor wrap(float[] data, int... shape) {
+		int n = getLenFromShape(shape);
+		if (n != data.length)
+			throw new IllegalArgumentException("wrap size mismatch: " + data.length + " values, shape needs " + n);
+
+		Tensor t = new Tensor();
+		t.shape = shape.clone();
+		t.len = n;
+		t.data = data;
+		return t;
+	}
+
+	/**
+	 * Adopts an engine result whose array the caller solely owns, so that
+	 * {@link #release()} may recycle it, and registers it with the open
+	 * {@link TensorPool.Scope}.
+	 */
+	static Tensor pooled(float[] data, int... shape) {
+		Tensor t = wrap(data, shape);
+		t.pooled = true;
+		TensorPool.track(t);
+		return t;
+	}
+
+	/**
+	 * Wraps caller-owned off-heap memory as a tensor, without copying.
+	 *
+	 * <ul>
+	 *   <li>{@code buffer} must be direct and hold at least {@code 4 * product(shape)}
+	 *       bytes from its position; the values are read in native byte order.</li>
+	 *   <li>The memory stays owned by the caller: it is neither copied nor freed here,
+	 *       so it must outlive every use of the tensor.</li>
+	 *   <li>A {@code MemorySegment} from an arena the caller controls can be passed as
+	 *       {@code segment.asByteBuffer()}.</li>
+	 * </ul>
+	 *
+	 * @param buffer direct buffer holding the values
+	 * @param shape  the tensor shape
+	 * @return an off-heap tensor sharing {@code buffer}'s memory
+	 * @throws IllegalArgumentException if {@code buffer} is not direct or too small
+	 * @since v1.5
+	 */
+	public static Tensor wrap(ByteBuffer buffer, int... shape) {
+		int n = getLenFromShape(shape);
+		if (!buffer.isDirect())
+			throw new IllegalArgumentException("buffer must be direct");
+		if (buffer.remaining() < 4L * n)
+			throw new IllegalArgumentException("buffer holds " + buffer.remaining() / 4 + " floats, shape needs " + n);
+
+		Tensor t = new Tensor();
+		t.shape = shape.clone();
+		t.len = n;
+		t.direct = buffer.slice(buffer.position(), 4 * n).order(ByteOrder.nativeOrder()).asFloatBuffer();
+		return t;
+	}
+
+	/**
+	 * Creates a zero-filled off-heap tensor in a newly allocated direct buffer.
+	 * The memory is released when the tensor becomes unreachable; use
+	 * {@link #wrap(ByteBuffer, int...)} to control it explicitly.
+	 *
+	 * @param shape the tensor shape
+	 * @return an off-heap tensor
+	 * @since v1.5
+	 */
+	public static Tensor direct(int... shape) {
+		return wrap(ByteBuffer.allocateDirect(Math.multiplyExact(4, getLenFromShape(shape))), shape);
+	}
+
+	/**
+	 * Wraps 16-bit patterns as a half-precision tensor without copying them; the
+	 * tensor takes ownership.
+	 *
+	 * @param bits  FP16 or BF16 bit patterns, one per element
+	 * @param dtype {@link DType#FLOAT16} or {@link DType#BFLOAT16}
+	 * @param shape the tensor shape
+	 * @return a tensor backed by {@code bits}
+	 * @throws IllegalArgumentException if {@code dtype} is not a half type or the
+	 *                                  length does not match the shape
+	 * @since v1.5
+	 */
+	public static Tensor wrap(short[] bits, DType dtype, int... shape) {
+		if (!dtype.isHalf())
+			throw new IllegalArgumentException("wrap(short[]) needs FLOAT16 or BFLOAT16, got " + dtype);
+		int n = getLenFromShape(shape);
+		if (n != bits.length)
+			throw new IllegalArgumentException("wrap size mismatch: " + bits.length + " values, shape needs " + n);
+
+		Tensor t = new Tensor();
+		t.shape = shape.clone();
+		t.len = n;
+		t.half = bits;
+		t.dtype = dtype;
+		return t;
+	}
+
+	/**
+	 * Wraps a double array as a FLOAT64 tensor without copying it; the tensor
+	 * takes ownership.
+	 *
+	 * @param data  the flat data array, adopted as the tensor's storage
+	 * @param shape the tensor shape
+	 * @return a FLOAT64 tensor backed by {@code data}
+	 * @throws IllegalArgumentException if the length does not match the shape
+	 * @since v1.5
+	 */
+	public static Tensor wrap(double[] data, int... shape) {
+		int n = getLenFromShape(shape);
+		if (n != data.length)
+			throw new IllegalArgumentException("wrap size mismatch: " + data.length + " values, shape needs " + n);
+
+		Tensor t = new Tensor();
+		t.shape = shape.clone();
+		t.len = n;
+		t.doubles = data;
+		t.dtype = DType.FLOAT64;
+		return t;
+	}
+
+	/**
+	 * Wraps packed bits as a BOOL tensor without copying them; the tensor takes
+	 * ownership.
+	 *
+	 * @param bits  {@code ceil(product(shape) / 64)} words; element {@code i} is
+	 *              bit {@code i % 64} of word {@code i / 64}
+	 * @param shape the tensor shape
+	 * @return a BOOL tensor backed by {@code bits}
+	 * @throws IllegalArgumentException if the length does not match the shape
+	 * @since v1.5
+	 */
+	public static Tensor wrap(long[] bits, int... shape) {
+		int n = getLenFromShape(shape);
+		if (bits.length != CpuMask.words(n))
+			throw new IllegalArgumentException("wrap size mismatch: " + bits.length + " words, shape needs "
+					+ CpuMask.words(n));
+		// 마지막 워드의 남는 비트는 항상 0 으로 유지
+		if ((n & 63) != 0)
+			bits[bits.length - 1] &= -1L >>> (64 - (n & 63));
+
+		Tensor t = new Tensor();
+		t.shape = shape.clone();
+		t.len = n;
+		t.bits = bits;
+		t.dtype = DType.BOOL;
+		return t;
+	}
+
+	/**
+	 * Converts a tensor to another storage type.
+	 * <ul>
+	 * <li>Narrowing to {@link DType#FLOAT16}/{@link DType#BFLOAT16} rounds to the
+	 * nearest representable value (ties to even); FP16 overflows to infinity
+	 * beyond ±65504.</li>
+	 * <li>Widening to {@link DType#FLOAT32} or {@link DType#FLOAT64} is exact, and
+	 * narrowing from FLOAT64 rounds to nearest. The result is a dense heap
+	 * tensor.</li>
+	 * <li>Converting to {@link DType#BOOL} sets every non-zero value (NaN
+	 * included); a BOOL tensor converts to 0/1.</li>
+	 * <li>If {@code src} already has {@code dtype} it is returned as is.</li>
+	 * </ul>
+	 *
+	 * @param src   the tensor to convert
+	 * @param dtype the target storage type
+	 * @return a tensor of type {@code dtype} with the same shape
+	 * @since v1.5
+	 */
+	public static Tensor astype(Tensor src, DType dtype) {
+		if (src.dtype == dtype)
+			return src;
+		if (dtype == DType.FLOAT32)
+			return wrap(src.toArray(), src.shape);
+		if (dtype == DType.FLOAT64)
+			return wrap(src.toDoubleArray(), src.shape);
+		if (dtype == DType.BOOL)
+			return wrap(src.doubles != null ? CpuMask.nonZero(src.toDoubleArray()) : CpuMask.nonZero(src.toArray()),
+					src.shape);
+		return wrap(CpuHalf.narrow(src.toArray(), dtype), dtype, src.shape);
 	}
 
 	/**
@@ -562,7 +1265,9 @@ public class Tensor {
 	}
 
 	/**
-	 * Reshapes a given tensor into a new shape.
+	 * Reshapes a given tensor into a new shape. An off-heap tensor keeps sharing
+	 * its memory with {@code src}; a non-contiguous view is gathered into new
+	 * storage first.
 	 *
 	 * @param src      the original tensor
 	 * @param newShape the new desired shape
@@ -574,8 +1279,29 @@ public class Tensor {
 		if (newLen != src.len)
 			throw new IllegalArgumentException("reshape size mismatch");
 
+		// 연속이 아닌 뷰는 행 우선 순서로 새 저장소에 모은 뒤 모양만 바꿈
+		if (src.strides != null) {
+			Tensor t = contiguous(src);
+			t.shape = newShape.clone();
+			return t;
+		}
+
 		Tensor t = new Tensor();
-		t.data = src.data.clone();
+		// 오프힙 메모리는 호출자 소유이므로 복사하지 않고 공유
+		if (src.half != null) {
+			t.half = Arrays.copyOfRange(src.half, src.offset, src.offset + src.len);
+			t.dtype = src.dtype;
+		} else if (src.doubles != null) {
+			t.doubles = src.toDoubleArray();
+			t.dtype = src.dtype;
+		} else if (src.bits != null) {
+			long[] b = src.toBitArray();
+			t.bits = b == src.bits ? b.clone() : b;
+			t.dtype = src.dtype;
+		} else if (src.direct != null)
+			t.direct = src.storage();
+		else
+			t.data = src.toArray();
 		t.shape = newShape.clone();
 		t.len = src.len;
 		return t;
@@ -591,6 +1317,166 @@ public class Tensor {
 		return reshape(src, src.getSize());
 	}
 
+	/**
+	 * Returns a row-major tensor with the values of {@code src}. A contiguous
+	 * tensor is returned as is; a non-contiguous view is gathered into new
+	 * storage of the same kind (heap or off-heap).
+	 *
+	 * @param src the tensor or view
+	 * @return {@code src}, or a dense copy of it
+	 * @since v1.5
+	 */
+	public static Tensor contiguous(Tensor src) {
+		if (src.strides == null)
+			return src;
+		if (src.half != null)
+			return wrap(src.toHalfArray(), src.dtype, src.shape);
+		if (src.doubles != null)
+			return wrap(src.toDoubleArray(), src.shape);
+		if (src.bits != null)
+			return wrap(src.toBitArray(), src.shape);
+		if (src.direct == null)
+			return wrap(src.toArray(), src.shape);
+
+		Tensor t = direct(src.shape);
+		t.direct.put(0, src.toArray());
+		return t;
+	}
+
+	/**
+	 * Returns a view of the range {@code [start, end)} of one axis, sharing storage
+	 * with {@code src}.
+	 * <p>
+	 * Full parameter: {@code slice(Tensor src, int axis, int start, int end, int step)}<br>
+	 * This version:
+	 * <ul>
+	 * <li>step = 1</li>
+	 * </ul>
+	 * </p>
+	 *
+	 * @param src   the source tensor
+	 * @param axis  the axis to cut
+	 * @param start first index, negative counts from the end
+	 * @param end   index past the last, negative counts from the end
+	 * @return a view of the range
+	 * @since v1.5
+	 */
+	public static Tensor slice(Tensor src, int axis, int start, int end) {
+		return slice(src, axis, start, end, 1);
+	}
+
+	/**
+	 * Returns a view of every {@code step}-th index in {@code [start, end)} of one
+	 * axis, sharing storage with {@code src}. Writes through either tensor are
+	 * visible in the other.
+	 * <ul>
+	 * <li>Negative {@code start}/{@code end} count from the end of the axis.</li>
+	 * <li>Out-of-range bounds are clipped, so the view may be empty.</li>
+	 * </ul>
+	 *
+	 * @param src   the source tensor
+	 * @param axis  the axis to cut
+	 * @param start first index, negative counts from the end
+	 * @param end   index past the last, negative counts from the end
+	 * @param step  distance between taken indices (≥ 1)
+	 * @return a view of the range
+	 * @throws IllegalArgumentException if {@code axis} or {@code step} is invalid
+	 * @since v1.5
+	 */
+	public static Tensor slice(Tensor src, int axis, int start, int end, int step) {
+		checkAxis(src, axis);
+		if (step < 1)
+			throw new IllegalArgumentException("slice step must be positive: " + step);
+
+		int n = src.shape[axis];
+		start = Math.max(0, Math.min(n, start < 0 ? start + n : start));
+		end = Math.max(start, Math.min(n, end < 0 ? end + n : end));
+
+		int[] st = src.getStrides();
+		int[] shape = src.shape.clone();
+		shape[axis] = (end - start + step - 1) / step;
+		int off = src.offset + (shape[axis] == 0 ? 0 : start * st[axis]);
+		st[axis] *= step;
+		return view(src, off, shape, st);
+	}
+
+	/**
+	 * Returns a view of {@code length} consecutive indices of one axis, starting
+	 * at {@code start}, sharing storage with {@code src}.
+	 *
+	 * @param src    the source tensor
+	 * @param axis   the axis to cut
+	 * @param start  first index (≥ 0)
+	 * @param length number of indices kept
+	 * @return a view of the range
+	 * @throws IllegalArgumentException if the range falls outside the axis
+	 * @since v1.5
+	 */
+	public static Tensor narrow(Tensor src, int axis, int start, int length) {
+		checkAxis(src, axis);
+		if (start < 0 || length < 0 || start + length > src.shape[axis])
+			throw new IllegalArgumentException("narrow range [" + start + ", " + (start + length)
+					+ ") outside axis " + axis + " of size " + src.shape[axis]);
+		return slice(src, axis, start, start + length, 1);
+	}
+
+	/**
+	 * Returns the view at one index of an axis, with that axis removed, sharing
+	 * storage with {@code src}. Selecting from a 1D tensor gives shape {@code [1]}.
+	 *
+	 * @param src   the source tensor
+	 * @param axis  the axis to index
+	 * @param index the index, negative counts from the end
+	 * @return a view one rank lower
+	 * @throws IllegalArgumentException if {@code axis} or {@code index} is out of range
+	 * @since v1.5
+	 */
+	public static Tensor select(Tensor src, int axis, int index) {
+		checkAxis(src, axis);
+		int n = src.shape[axis];
+		if (index < -n || index >= n)
+			throw new IllegalArgumentException("select index " + index + " outside axis " + axis + " of size " + n);
+		if (index < 0)
+			index += n;
+
+		int[] st = src.getStrides();
+		int off = src.offset + index * st[axis];
+		if (src.shape.length == 1)
+			return view(src, off, new int[] { 1 }, new int[] { 1 });
+
+		int[] shape = new int[src.shape.length - 1], s = new int[shape.length];
+		for (int d = 0, k = 0; d < src.shape.length; d++)
+			if (d != axis) {
+				shape[k] = src.shape[d];
+				s[k++] = st[d];
+			}
+		return view(src, off, shape, s);
+	}
+
+	private static void checkAxis(Tensor src, int axis) {
+		if (axis < 0 || axis >= src.shape.length)
+			throw new IllegalArgumentException("axis " + axis + " out of range for rank " + src.shape.length);
+	}
+
+	/**
+	 * A tensor sharing the storage of {@code src}; the strides are dropped when
+	 * they describe a row-major layout.
+	 */
+	private static Tensor view(Tensor src, int offset, int[] shape, int[] strides) {
+		Tensor t = new Tensor();
+		t.data = src.data;
+		t.direct = src.direct;
+		t.half = src.half;
+		t.doubles = src.doubles;
+		t.bits = src.bits;
+		t.dtype = src.dtype;
+		t.offset = offset;
+		t.shape = shape;
+		t.len = getLenFromShape(shape);
+		t.strides = CpuStrided.isContiguous(shape, strides) ? null : strides;
+		return t;
+	}
+
 	// rand, randn
 
 }
@@ -0,0 +1,517 @@
+package CuBridge;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * TensorFile: A tensor stored in the CuBridge binary format, opened by memory
+ * mapping.
+ *
+ * <p>
+ * A tensor file is a header followed by the raw values, all little-endian:
+ * </p>
+ * <pre>
+ * offset  size      field
+ *  0      8         magic "CBTENSOR"
+ *  8      4         format version (1)
+ * 12      4         dtype: 0 FLOAT32, 1 FLOAT16, 2 BFLOAT16, 3 FLOAT64, 4 BOOL
+ * 16      4         rank
+ * 20      4         alignment of the data (64)
+ * 24      8         data offset, a multiple of the alignment
+ * 32      8         data length in bytes
+ * 40      8 * rank  shape, one long per axis
+ *  ...              zero padding up to the data offset
+ * </pre>
+ * <p>
+ * The data holds the values in row-major order: floats, FP16/BF16 bit patterns
+ * or doubles, or for BOOL the packed words described in {@link DType#BOOL}.
+ * </p>
+ * <ul>
+ *   <li>{@link #open(String)} reads the header and maps the data; no value is
+ *       read until it is touched, and the operating system pages the file in
+ *       (and out again) as it is used, so a file of any size opens in about the
+ *       same time.</li>
+ *   <li>The data is mapped in segments of whole slabs of axis 0, each at most
+ *       2 GB ({@code -Dcubridge.segment} bytes). A float32 tensor inside one
+ *       segment is returned as an off-heap {@link Tensor} over the mapping
+ *       itself, which {@link CuBridge#put(Tensor)} reads straight from the page
+ *       cache into the engine.</li>
+ *   <li>Mappings are private: writes to a loaded tensor never reach the file (on
+ *       a read-only file the mapping, and the tensor, are read-only). The
+ *       reverse does not hold: a loaded tensor reads the file's current pages,
+ *       so the file must not be modified in place while it is mapped. A mapping
+ *       is released once no tensor uses it any more.</li>
+ *   <li>Saving never writes into an existing file: the data goes to a temporary
+ *       file in the same directory, which then replaces the target. Tensors
+ *       loaded from the old file keep reading it, and
+ *       {@code Tensor.save(Tensor.load(p), p)} is safe. Where a mapped file
+ *       cannot be replaced (Windows), the save fails with an
+ *       {@link IOException} instead.</li>
+ * </ul>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * Tensor.save(Tensor.randn(1024, 512), "w.cbt");
+ * cb.put(Tensor.load("w.cbt"), "W");             // no heap copy
+ *
+ * TensorFile f = TensorFile.open("embeddings.cbt"); // e.g. 10 GB, [80M, 32]
+ * cb.put(f.rows(1_000_000, 4096), "batch");
+ * }</pre>
+ *
+ * @since v1.5
+ */
+public final class TensorFile {
+
+	static final byte[] MAGIC = "CBTENSOR".getBytes(StandardCharsets.US_ASCII);
+	static final int VERSION = 1;
+	/** Alignment of the data written by {@link #write}, in bytes. */
+	static final int ALIGN = 64;
+	/** Bytes of the header before the shape. */
+	private static final int HEADER = 40;
+	/** Largest mapping, in bytes. */
+	static final int SEGMENT = Math.max(8, Integer.getInteger("cubridge.segment", Integer.MAX_VALUE) & ~7);
+
+	/** The dtypes by their code in the header; the codes never change. */
+	private static final DType[] CODES = { DType.FLOAT32, DType.FLOAT16, DType.BFLOAT16, DType.FLOAT64, DType.BOOL };
+
+	private final String path;
+	private final DType dtype;
+	private final long[] shape;
+	private final long size;
+	/** Stored values per segment (words for BOOL); the last segment may hold fewer. */
+	private final long perSegment;
+	/** Stored values in all (elements, or words for BOOL). */
+	private final long units;
+	/** The data, little-endian, one mapping per segment. */
+	private final ByteBuffer[] segments;
+	/** Typed views of {@link #segments}, read with absolute indices only. */
+	private final Buffer[] views;
+
+	private TensorFile(String path, DType dtype, long[] shape, long size, FileChannel ch, long offset,
+			FileChannel.MapMode mode) throws IOException {
+		this.path = path;
+		this.dtype = dtype;
+		this.shape = shape;
+		this.size = size;
+		this.units = units(dtype, size);
+
+		int w = width(dtype);
+		long slab = 1;
+		for (int d = 1; d < shape.length; d++)
+			slab *= shape[d];
+		if (dtype == DType.BOOL || size == 0) {
+			// 비트는 행 경계와 맞지 않으므로 통째로 한 매핑
+			if (units * w > SEGMENT)
+				throw new IOException(path + ": a BOOL tensor of " + size + " elements exceeds one mapping");
+			perSegment = Math.max(1, units);
+		} else {
+			if (slab * w > SEGMENT)
+				throw new IOException(path + ": one index of axis 0 of " + Arrays.toString(shape) + " exceeds "
+						+ SEGMENT + " bytes; put the long axis first");
+			perSegment = SEGMENT / (slab * w) * slab;
+		}
+
+		segments = new ByteBuffer[(int) ((units + perSegment - 1) / perSegment)];
+		views = new Buffer[segments.length];
+		for (int s = 0; s < segments.length; s++) {
+			segments[s] = ch.map(mode, offset + s * perSegment * w, segmentLength(s) * w)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			views[s] = view(segments[s], dtype);
+		}
+	}
+
+	// ===================== 열기 =====================
+
+	/**
+	 * Opens a tensor file: reads and checks the header and maps the data.
+	 *
+	 * @param path file path
+	 * @return the opened file; it holds no open file handle
+	 * @throws IOException if the file cannot be read, is not a tensor file, has
+	 *                     an unknown version or dtype, or is shorter than its
+	 *                     header says
+	 */
+	public static TensorFile open(String path) throws IOException {
+		Path p = Paths.get(path);
+		// PRIVATE 매핑은 쓰기 가능한 채널이 있어야 함 (파일에는 쓰지 않음)
+		boolean writable = Files.isWritable(p);
+		FileChannel.MapMode mode = writable ? FileChannel.MapMode.PRIVATE : FileChannel.MapMode.READ_ONLY;
+		try (FileChannel ch = writable ? FileChannel.open(p, StandardOpenOption.READ, StandardOpenOption.WRITE)
+				: FileChannel.open(p, StandardOpenOption.READ)) {
+			ByteBuffer head = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(ch, head, 0, path);
+			byte[] magic = new byte[MAGIC.length];
+			head.get(0, magic);
+			if (!Arrays.equals(magic, MAGIC))
+				throw new IOException(path + " is not a CuBridge tensor file");
+			int version = head.getInt(8);
+			if (version != VERSION)
+				throw new IOException(path + ": unsupported format version " + version);
+			int code = head.getInt(12);
+			if (code < 0 || code >= CODES.length)
+				throw new IOException(path + ": unknown dtype code " + code);
+			DType dtype = CODES[code];
+			int rank = head.getInt(16);
+			long offset = head.getLong(24), bytes = head.getLong(32);
+			if (rank < 1 || rank > 64)
+				throw new IOException(path + ": bad rank " + rank);
+
+			ByteBuffer dims = ByteBuffer.allocate(8 * rank).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(ch, dims, HEADER, path);
+			long[] shape = new long[rank];
+			long size = 1;
+			for (int d = 0; d < rank; d++) {
+				shape[d] = dims.getLong(8 * d);
+				if (shape[d] < 0)
+					throw new IOException(path + ": negative dimension in " + Arrays.toString(shape));
+				try {
+					size = Math.multiplyExact(size, shape[d]);
+				} catch (ArithmeticException e) {
+					throw new IOException(path + ": shape overflows a long size");
+				}
+			}
+			long expected = units(dtype, size) * width(dtype);
+			if (bytes != expected || offset < HEADER + 8L * rank)
+				throw new IOException(path + ": header does not match shape " + Arrays.toString(shape));
+			if (offset + bytes > ch.size())
+				throw new IOException(path + ": truncated, " + ch.size() + " bytes, header needs " + (offset + bytes));
+
+			return new TensorFile(path, dtype, shape, size, ch, offset, mode);
+		}
+	}
+
+	private static void readFully(FileChannel ch, ByteBuffer into, long at, String path) throws IOException {
+		while (into.hasRemaining()) {
+			int n = ch.read(into, at + into.position());
+			if (n < 0)
+				throw new EOFException(path + ": truncated header");
+		}
+	}
+
+	// ===================== 구조 =====================
+
+	/**
+	 * Returns the storage type of the values.
+	 *
+	 * @return the dtype recorded in the header
+	 */
+	public DType getDType() {
+		return dtype;
+	}
+
+	/**
+	 * Returns the shape of the tensor.
+	 *
+	 * @return cloned array representing tensor dimensions
+	 */
+	public long[] getShape() {
+		return shape.clone();
+	}
+
+	/**
+	 * Returns the total number of elements.
+	 *
+	 * @return the product of the shape
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns a string representation of the file.
+	 *
+	 * @return the path, dtype, shape and number of mappings
+	 */
+	@Override
+	public String toString() {
+		return path + ": " + dtype + " shape = " + Arrays.toString(shape) + " (" + segments.length + " mappings)";
+	}
+
+	// ===================== 읽기 =====================
+
+	/**
+	 * Returns the whole tensor.
+	 * <ul>
+	 * <li>A float32 tensor inside one mapping (up to 2 GB of data) is an off-heap
+	 * tensor over the mapping: nothing is read until it is used.</li>
+	 * <li>Any other tensor is copied into the heap, in parallel.</li>
+	 * </ul>
+	 *
+	 * @return the tensor, of the file's dtype
+	 * @throws IllegalStateException if it does not fit in a {@link Tensor}; use
+	 *                               {@link #rows(long, int)} or
+	 *                               {@link BigTensor#load(String)}
+	 */
+	public Tensor tensor() {
+		if (size > BigTensor.MAX_ARRAY)
+			throw new IllegalStateException(this + " does not fit in a Tensor");
+		int[] s = new int[shape.length];
+		for (int d = 0; d < s.length; d++) {
+			if (shape[d] > Integer.MAX_VALUE)
+				throw new IllegalStateException(this + " does not fit in a Tensor");
+			s[d] = (int) shape[d];
+		}
+		if (segments.length == 1 && mapsDirectly())
+			return Tensor.wrap(segments[0], s);
+		return copy(0, (int) size, s);
+	}
+
+	/**
+	 * Returns {@code count} consecutive indices of axis 0 as a {@link Tensor} of
+	 * shape {@code [count, shape[1], ...]}. Float32 rows inside one mapping are
+	 * an off-heap view of it; other rows are copied.
+	 *
+	 * @param start first index of axis 0
+	 * @param count number of indices
+	 * @return the rows, of the file's dtype
+	 * @throws IllegalArgumentException if the range is outside axis 0 or the rows
+	 *                                  do not fit in a Tensor
+	 */
+	public Tensor rows(long start, int count) {
+		if (start < 0 || count < 1 || start + count > shape[0])
+			throw new IllegalArgumentException("rows [" + start + ", " + (start + count) + ") outside axis 0 of size "
+					+ shape[0]);
+		long slab = shape[0] == 0 ? 0 : size / shape[0];
+		if (count * slab > BigTensor.MAX_ARRAY)
+			throw new IllegalArgumentException(count + " rows exceed the largest Tensor");
+		int[] s = new int[shape.length];
+		s[0] = count;
+		for (int d = 1; d < s.length; d++)
+			s[d] = (int) shape[d];
+		if (dtype == DType.BOOL)
+			return Tensor.contiguous(Tensor.narrow(tensor(), 0, (int) start, count));
+
+		long first = start * slab;
+		int seg = (int) (first / perSegment);
+		long at = first - seg * perSegment;
+		if (mapsDirectly() && at + count * slab <= segmentLength(seg))
+			return Tensor.wrap(segments[seg].slice((int) (at * 4), (int) (count * slab * 4)), s);
+		return copy(first, (int) (count * slab), s);
+	}
+
+	/** Whether a mapping can back an off-heap tensor as is. */
+	private boolean mapsDirectly() {
+		return dtype == DType.FLOAT32 && ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+	}
+
+	/** {@code n} elements from element {@code first} on, copied into a heap tensor of shape {@code s}. */
+	private Tensor copy(long first, int n, int[] s) {
+		switch (dtype) {
+		case FLOAT32: {
+			float[] out = new float[n];
+			read(first, FloatBuffer.wrap(out), n);
+			return Tensor.wrap(out, s);
+		}
+		case FLOAT16:
+		case BFLOAT16: {
+			short[] out = new short[n];
+			read(first, ShortBuffer.wrap(out), n);
+			return Tensor.wrap(out, dtype, s);
+		}
+		case FLOAT64: {
+			double[] out = new double[n];
+			read(first, DoubleBuffer.wrap(out), n);
+			return Tensor.wrap(out, s);
+		}
+		default: {
+			long[] out = new long[CpuMask.words(n)];
+			read(0, LongBuffer.wrap(out), out.length);
+			return Tensor.wrap(out, s);
+		}
+		}
+	}
+
+	/** Copies the float32 elements from {@code first} on into {@code out}. */
+	void read(long first, float[] out) {
+		read(first, FloatBuffer.wrap(out), out.length);
+	}
+
+	/**
+	 * Copies {@code n} stored values from {@code first} on into {@code out}
+	 * (from its index 0), segment by segment, in parallel.
+	 */
+	private void read(long first, Buffer out, int n) {
+		for (int done = 0; done < n;) {
+			long i = first + done;
+			int s = (int) (i / perSegment);
+			int at = (int) (i - s * perSegment);
+			int len = (int) Math.min(n - done, segmentLength(s) - at);
+			Buffer v = views[s];
+			int o = done;
+			CpuParallel.forRange(len, (from, to) -> copy(v, at + from, out, o + from, to - from));
+			done += len;
+		}
+	}
+
+	/**
+	 * Copies the {@code n} float32 elements from {@code first} on, which lie in
+	 * one mapping (e.g. whole slabs of axis 0), into {@code dst} at {@code at},
+	 * on the calling thread and without allocating.
+	 */
+	void gather(long first, FloatBuffer dst, int at, int n) {
+		int s = (int) (first / perSegment);
+		dst.put(at, (FloatBuffer) views[s], (int) (first - s * perSegment), n);
+	}
+
+	private long segmentLength(int s) {
+		return Math.min(perSegment, units - s * perSegment);
+	}
+
+	// ===================== 쓰기 =====================
+
+	/**
+	 * Copies {@code n} stored values, from value {@code first} of the source on,
+	 * into {@code dst} at index {@code at}.
+	 */
+	interface Source {
+		void copy(long first, Buffer dst, int at, int n);
+	}
+
+	/** Writes a tensor file: the header, then {@code t}'s values through the source buffer. */
+	static void write(Tensor t, String path) throws IOException {
+		int n = t.getSize();
+		Buffer src;
+		switch (t.getDType()) {
+		case FLOAT32:
+			src = t.isContiguous() ? t.storage() : FloatBuffer.wrap(t.toArray());
+			break;
+		case FLOAT16:
+		case BFLOAT16:
+			src = ShortBuffer.wrap(t.toHalfArray());
+			break;
+		case FLOAT64:
+			src = t.isContiguous() ? DoubleBuffer.wrap(t.doubleArray(), t.getOffset(), n).slice()
+					: DoubleBuffer.wrap(t.toDoubleArray());
+			break;
+		default:
+			src = LongBuffer.wrap(t.toBitArray());
+			break;
+		}
+		int[] s = t.getShape();
+		long[] shape = new long[s.length];
+		for (int d = 0; d < s.length; d++)
+			shape[d] = s[d];
+		write(path, t.getDType(), shape, (first, dst, at, k) -> copy(src, (int) first, dst, at, k));
+	}
+
+	/** Writes a float32 tensor file of a {@link BigTensor}, chunk by chunk. */
+	static void write(BigTensor t, String path) throws IOException {
+		write(path, DType.FLOAT32, t.getShape(), (first, dst, at, n) -> {
+			for (int done = 0; done < n;) {
+				long i = first + done;
+				int c = t.chunkOf(i);
+				int off = (int) (i - t.chunkStart(c));
+				int k = Math.min(n - done, t.chunkLength(c) - off);
+				((FloatBuffer) dst).put(at + done, t.getChunk(c), off, k);
+				done += k;
+			}
+		});
+	}
+
+	/**
+	 * Writes the header, then maps the data a segment at a time and fills it from
+	 * {@code src} in parallel.
+	 */
+	static void write(String path, DType dtype, long[] shape, Source src) throws IOException {
+		long units = units(dtype, BigTensor.sizeOf(shape));
+		int w = width(dtype);
+		long offset = (HEADER + 8L * shape.length + ALIGN - 1) / ALIGN * ALIGN;
+
+		ByteBuffer head = ByteBuffer.allocate((int) offset).order(ByteOrder.LITTLE_ENDIAN);
+		head.put(MAGIC).putInt(VERSION).putInt(Arrays.asList(CODES).indexOf(dtype)).putInt(shape.length).putInt(ALIGN)
+				.putLong(offset).putLong(units * w);
+		for (long d : shape)
+			head.putLong(d);
+		head.position(0);
+
+		// 기존 파일은 매핑된 텐서가 읽고 있을 수 있으므로 임시 파일에 쓰고 교체
+		Path target = Paths.get(path), tmp = temporary(target);
+		try {
+			try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				while (head.hasRemaining())
+					ch.write(head, head.position());
+
+				long per = SEGMENT / w;
+				for (long first = 0; first < units; first += per) {
+					int len = (int) Math.min(per, units - first);
+					ByteBuffer m = ch.map(FileChannel.MapMode.READ_WRITE, offset + first * w, (long) len * w)
+							.order(ByteOrder.LITTLE_ENDIAN);
+					Buffer v = view(m, dtype);
+					long f = first;
+					CpuParallel.forRange(len, (from, to) -> src.copy(f + from, v, from, to - from));
+				}
+			}
+			replace(tmp, target);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	/** A new empty file beside {@code target}, to be moved over it by {@link #replace}. */
+	static Path temporary(Path target) throws IOException {
+		Path dir = target.toAbsolutePath().getParent();
+		return Files.createTempFile(dir, "." + target.getFileName(), ".tmp");
+	}
+
+	/**
+	 * Moves {@code tmp} over {@code target}, atomically where the file system
+	 * allows it. An existing target is unlinked, not rewritten, so mappings of
+	 * it keep the old contents.
+	 */
+	static void replace(Path tmp, Path target) throws IOException {
+		try {
+			Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	// ===================== 공통 =====================
+
+	/** Stored values of {@code size} elements: the elements, or the words of a BOOL tensor. */
+	private static long units(DType dtype, long size) {
+		return dtype == DType.BOOL ? (size + 63) >>> 6 : size;
+	}
+
+	/** Bytes per stored value. */
+	private static int width(DType dtype) {
+		return dtype == DType.BOOL ? 8 : dtype.bytes();
+	}
+
+	/** The typed view of little-endian bytes that holds {@code dtype}'s stored values. */
+	private static Buffer view(ByteBuffer b, DType dtype) {
+		switch (dtype) {
+		case FLOAT32:
+			return b.asFloatBuffer();
+		case FLOAT16:
+		case BFLOAT16:
+			return b.asShortBuffer();
+		case FLOAT64:
+			return b.asDoubleBuffer();
+		default:
+			return b.asLongBuffer();
+		}
+	}
+
+	/** Copies {@code n} values from {@code src} at {@code i} to {@code dst} at {@code j}; both of the same type. */
+	private static void copy(Buffer src, int i, Buffer dst, int j, int n) {
+		if (dst instanceof FloatBuffer)
+			((FloatBuffer) dst).put(j, (FloatBuffer) src, i, n);
+		else if (dst instanceof ShortBuffer)
+			((ShortBuffer) dst).put(j, (ShortBuffer) src, i, n);
+		else if (dst instanceof DoubleBuffer)
+			((DoubleBuffer) dst).put(j, (DoubleBuffer) src, i, n);
+		else
+			((LongBuffer) dst).put(j, (LongBuffer) src, i, n);
+	}
+}
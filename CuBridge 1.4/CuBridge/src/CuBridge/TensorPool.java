@@ -0,0 +1,189 @@
+package CuBridge;
+
+import java.util.*;
+
+/**
+ * TensorPool: Per-thread free lists of result arrays for the immediate-mode
+ * ({@code xxxI}) API.
+ *
+ * <p>
+ * A loop that calls {@code addI}, {@code expI} or {@code dotI} with the same
+ * shapes would otherwise allocate every operand copy and every result anew.
+ * Instead, arrays are recycled through the calling thread's pool:
+ * </p>
+ * <ul>
+ *   <li>The CPU engine draws operand copies and unary, binary and GEMM results
+ *       from the pool, and gives back the arrays of operands it has used up.</li>
+ *   <li>A tensor returned by {@link CuBridge#get(String)} (and so by every
+ *       {@code xxxI} call) gives its array back with {@link Tensor#release()}.</li>
+ *   <li>A {@link Scope} releases every such tensor obtained while it is open:
+ *       <pre>{@code
+ * try (TensorPool.Scope s = TensorPool.scope()) {
+ *     Tensor y = cb.expI(cb.addI(x, b));
+ * } // y and the intermediate sum are released here
+ * }</pre></li>
+ * </ul>
+ * <p>
+ * Each size class holds arrays of exactly one element count, because the
+ * engine uses an array's length as the tensor's size; a loop with fixed shapes
+ * therefore always hits. The pool keeps at most {@code -Dcubridge.pool.mb}
+ * megabytes per thread (default 256, 0 disables pooling) and
+ * {@value #PER_CLASS} arrays per class.
+ * </p>
+ *
+ * @since v1.5
+ */
+public final class TensorPool {
+
+	/** Arrays kept per size class. */
+	static final int PER_CLASS = 8;
+
+	private static final long LIMIT = Long.getLong("cubridge.pool.mb", 256) << 20;
+
+	private static final ThreadLocal<TensorPool> LOCAL = ThreadLocal.withInitial(TensorPool::new);
+
+	private final HashMap<Integer, ArrayDeque<float[]>> free = new HashMap<>();
+	private long bytes;
+	private Scope scope;
+
+	private TensorPool() {
+	}
+
+	/**
+	 * Opens a scope on the calling thread. Results obtained through
+	 * {@link CuBridge} until it is closed are released by {@link Scope#close()}.
+	 * Scopes nest; closing one releases only its own tensors and those of any
+	 * scope left open inside it.
+	 *
+	 * @return the new scope
+	 */
+	public static Scope scope() {
+		TensorPool p = LOCAL.get();
+		return p.scope = new Scope(p, p.scope);
+	}
+
+	/**
+	 * Returns the number of bytes held by the calling thread's pool.
+	 *
+	 * @return pooled bytes
+	 */
+	public static long pooledBytes() {
+		return LOCAL.get().bytes;
+	}
+
+	/**
+	 * Drops every array held by the calling thread's pool.
+	 */
+	public static void clear() {
+		TensorPool p = LOCAL.get();
+		p.free.clear();
+		p.bytes = 0;
+	}
+
+	/**
+	 * An array of exactly {@code n} elements with unspecified contents: a pooled
+	 * one if available, a new one otherwise.
+	 */
+	static float[] take(int n) {
+		float[] a = LOCAL.get().poll(n);
+		return a != null ? a : new float[n];
+	}
+
+	/**
+	 * Like {@link #take(int)}, but the array is zero-filled.
+	 */
+	static float[] takeZeroed(int n) {
+		float[] a = LOCAL.get().poll(n);
+		if (a == null)
+			return new float[n];
+		Arrays.fill(a, 0f);
+		return a;
+	}
+
+	/**
+	 * Hands {@code a} to the calling thread's pool. The caller must hold the
+	 * only reference to it.
+	 */
+	static void give(float[] a) {
+		if (a == null || a.length == 0)
+			return;
+		TensorPool p = LOCAL.get();
+		long size = 4L * a.length;
+		if (p.bytes + size > LIMIT)
+			return;
+
+		ArrayDeque<float[]> list = p.free.computeIfAbsent(a.length, k -> new ArrayDeque<>());
+		if (list.size() >= PER_CLASS)
+			return;
+		list.push(a);
+		p.bytes += size;
+	}
+
+	/**
+	 * Registers a result with the innermost open scope of the calling thread.
+	 */
+	static void track(Tensor t) {
+		Scope s = LOCAL.get().scope;
+		if (s != null)
+			s.owned.add(t);
+	}
+
+	private float[] poll(int n) {
+		ArrayDeque<float[]> list = free.get(n);
+		float[] a = list == null ? null : list.poll();
+		if (a != null)
+			bytes -= 4L * n;
+		return a;
+	}
+
+	/**
+	 * A region of code whose {@link CuBridge} results are released together.
+	 * Must be closed on the thread that opened it.
+	 */
+	public static final class Scope implements AutoCloseable {
+		private final TensorPool pool;
+		private final Scope parent;
+		private final ArrayList<Tensor> owned = new ArrayList<>();
+		private boolean closed;
+
+		private Scope(TensorPool pool, Scope parent) {
+			this.pool = pool;
+			this.parent = parent;
+		}
+
+		/**
+		 * Keeps {@code t} out of this scope, so closing it does not release
+		 * {@code t}; the tensor moves to the enclosing scope, if any.
+		 *
+		 * @param t a result obtained in this scope
+		 * @return {@code t}
+		 */
+		public Tensor keep(Tensor t) {
+			if (owned.remove(t) && parent != null)
+				parent.owned.add(t);
+			return t;
+		}
+
+		/**
+		 * Releases every result obtained in this scope and not kept. Scopes
+		 * opened inside this one and left open are closed first.
+		 */
+		@Override
+		public void close() {
+			if (closed)
+				return;
+			// 닫히지 않은 안쪽 스코프를 먼저 닫고 이 스코프 바깥으로 복귀
+			for (Scope s = pool.scope; s != null; s = s.parent)
+				if (s == this) {
+					while (pool.scope != this)
+						pool.scope.close();
+					pool.scope = parent;
+					break;
+				}
+			closed = true;
+			for (Tensor t : owned)
+				t.release();
+			owned.clear();
+		}
+	}
+}